@@ -56,7 +56,7 @@ public class BufrCdmIndex {
 
   public static final String MAGIC_START = "BufrCdmIndex";
   public static final String NCX_IDX = ".ncx";
-  private static final int version = 1;
+  private static final int version = 2;  // version 2 adds the BufrMessageIndex; version 1 is still read
 
   public static File calcIndexFile(String bufrFilename ) {
     File bufrFile = new File(bufrFilename);
@@ -78,14 +78,40 @@ public class BufrCdmIndex {
     return new BufrCdmIndex().writeIndex2(bufrFilename, config, idxFile);
   }
 
+  /**
+   * Read an index file. The result is kept in a small cache, and reused while the index file is unchanged,
+   * eg as the files of a collection are opened again.
+   */
   public static BufrCdmIndex readIndex(String indexFilename) throws IOException {
+    long lastModified = new File(indexFilename).lastModified();
+    synchronized (indexCache) {
+      BufrCdmIndex cached = indexCache.get(indexFilename);
+      if (cached != null && cached.idxLastModified == lastModified)
+        return cached;
+    }
+
     BufrCdmIndex index =  new BufrCdmIndex();
+    boolean ok;
     try (RandomAccessFile raf = RandomAccessFile.acquire(indexFilename)) {
-       index.readIndex(raf);
+      ok = index.readIndex(raf);
+    }
+    index.idxLastModified = lastModified;
+    if (ok && lastModified > 0) {
+      synchronized (indexCache) {
+        indexCache.put(indexFilename, index);
+      }
     }
     return index;
   }
 
+  private static final int INDEX_CACHE_SIZE = 100;
+  private static final Map<String, BufrCdmIndex> indexCache = new LinkedHashMap<String, BufrCdmIndex>(INDEX_CACHE_SIZE, .75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, BufrCdmIndex> eldest) {
+      return size() > INDEX_CACHE_SIZE;
+    }
+  };
+
   /////////////////////////////////////////////////////////////////////////////////
 
   /*
@@ -93,6 +119,8 @@ public class BufrCdmIndex {
    version
    sizeIndex
    BufrCdmIndexProto (sizeIndex bytes)
+   sizeMessageIndex        (version 2)
+   BufrMessageIndex (sizeMessageIndex bytes)
   */
   private boolean writeIndex2(String bufrFilename, BufrConfig config, File indexFile) throws IOException {
     if (indexFile.exists()) {
@@ -100,6 +128,9 @@ public class BufrCdmIndex {
         log.warn(" BufrCdmIndex cant delete index file {}", indexFile.getPath());
     }
     log.debug(" createIndex for {}", indexFile.getPath());
+    synchronized (indexCache) {
+      indexCache.remove(indexFile.getPath());
+    }
 
     try (RandomAccessFile raf = new RandomAccessFile(indexFile.getPath(), "rw")) {
       raf.order(RandomAccessFile.BIG_ENDIAN);
@@ -116,12 +147,14 @@ public class BufrCdmIndex {
       indexBuilder.setEnd(config.getEnd());
       indexBuilder.setNobs(config.getNobs());
 
+      List<String> stationNames = new ArrayList<>();
       Map<String,BufrConfig.BufrStation> smaps = config.getStationMap();
       if (smaps != null) {
         List<BufrConfig.BufrStation> stations = new ArrayList<BufrConfig.BufrStation>(smaps.values());
         Collections.sort(stations);
         for (BufrConfig.BufrStation s : stations) {
           indexBuilder.addStations(buildStation(s));
+          stationNames.add(s.getName());
         }
       }
 
@@ -131,6 +164,9 @@ public class BufrCdmIndex {
       NcStream.writeVInt(raf, b.length); // message size
       raf.write(b);  // message  - all in one gulp
 
+      messageIndex = new BufrMessageIndex(config, stationNames);
+      writeMessageIndex(raf, messageIndex);
+
       log.debug("  file size =  %d bytes", raf.length());
       return true;
     }
@@ -142,6 +178,9 @@ public class BufrCdmIndex {
         log.warn(" BufrCdmIndex cant delete index file {}", indexFile.getPath());
     }
     log.debug(" createIndex for {}", indexFile.getPath());
+    synchronized (indexCache) {
+      indexCache.remove(indexFile.getPath());
+    }
 
     try (RandomAccessFile raf = new RandomAccessFile(indexFile.getPath(), "rw")) {
       raf.order(RandomAccessFile.BIG_ENDIAN);
@@ -170,6 +209,7 @@ public class BufrCdmIndex {
       NcStream.writeVInt(raf, b.length); // message size
       raf.write(b);  // message  - all in one gulp
       log.debug("  write BufrCdmIndexProto= {} bytes", b.length);
+      writeMessageIndex(raf, index.messageIndex);
 
       //System.out.printf("  write BufrCdmIndexProto= %d bytes", b.length);
       //showProtoRoot(rootf);
@@ -179,6 +219,13 @@ public class BufrCdmIndex {
     }
   }
 
+  // an empty message index means none
+  private static void writeMessageIndex(RandomAccessFile raf, BufrMessageIndex messageIndex) throws IOException {
+    byte[] b = (messageIndex == null) ? new byte[0] : messageIndex.encode();
+    NcStream.writeVInt(raf, b.length);
+    raf.write(b);
+  }
+
   private BufrCdmIndexProto.Station buildStation(BufrConfig.BufrStation s) {
     BufrCdmIndexProto.Station.Builder builder = BufrCdmIndexProto.Station.newBuilder();
 
@@ -239,6 +286,8 @@ public class BufrCdmIndex {
   public List<BufrCdmIndexProto.Station> stations;
   public long start, end;
   public long nobs;
+  public BufrMessageIndex messageIndex; // null if not in the index
+  private long idxLastModified;
 
   protected boolean readIndex(RandomAccessFile raf) throws IOException {
     this.idxFilename = raf.getLocation();
@@ -254,7 +303,7 @@ public class BufrCdmIndex {
       }
 
       int indexVersion = raf.readInt();
-      boolean versionOk = (indexVersion == version);
+      boolean versionOk = (indexVersion == version) || (indexVersion == 1);
       if (!versionOk) {
         log.warn("BufrCdmIndex {}: index found version={}, want version= {}", raf.getLocation(), indexVersion, version);
         return false;
@@ -277,6 +326,15 @@ public class BufrCdmIndex {
       end = proto.getEnd();
       nobs = proto.getNobs();
 
+      if (indexVersion >= 2) {
+        int sizeMessages = NcStream.readVInt(raf);
+        if (sizeMessages > 0) {
+          byte[] mi = new byte[sizeMessages];
+          raf.readFully(mi);
+          messageIndex = BufrMessageIndex.decode(mi);
+        }
+      }
+
       //showProtoRoot(root);
 
     } catch (Throwable t) {
@@ -308,6 +366,8 @@ public class BufrCdmIndex {
         count += s.getCount();
       f.format("  # stations obs=%d%n", count);
     }
+    if (messageIndex != null)
+      messageIndex.show(f);
 
   }
 
@@ -4160,6 +4160,1589 @@ public final class BufrCdmIndexProto {
 
   }
 
+  public interface MessageEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MessageEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint64 pos = 1;</code>
+     *
+     * <pre>
+     * file position of the data message
+     * </pre>
+     */
+    long getPos();
+
+    /**
+     * <code>optional uint32 nobs = 2;</code>
+     */
+    int getNobs();
+
+    /**
+     * <code>optional sint64 start = 3;</code>
+     *
+     * <pre>
+     * msecs since epoch, earliest obs; missing if the obs have no time
+     * </pre>
+     */
+    long getStart();
+
+    /**
+     * <code>optional sint64 end = 4;</code>
+     */
+    long getEnd();
+
+    /**
+     * <code>repeated uint32 stations = 5;</code>
+     *
+     * <pre>
+     * index into BufrIndex.stations
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getStationsList();
+    /**
+     * <code>repeated uint32 stations = 5;</code>
+     *
+     * <pre>
+     * index into BufrIndex.stations
+     * </pre>
+     */
+    int getStationsCount();
+    /**
+     * <code>repeated uint32 stations = 5;</code>
+     *
+     * <pre>
+     * index into BufrIndex.stations
+     * </pre>
+     */
+    int getStations(int index);
+  }
+  /**
+   * Protobuf type {@code MessageEntry}
+   *
+   * <pre>
+   * version 2 index: follows BufrIndex in the ncx file.
+   * </pre>
+   */
+  public  static final class MessageEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:MessageEntry)
+      MessageEntryOrBuilder {
+    // Use MessageEntry.newBuilder() to construct.
+    private MessageEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private MessageEntry() {
+      pos_ = 0L;
+      nobs_ = 0;
+      start_ = 0L;
+      end_ = 0L;
+      stations_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private MessageEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              pos_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+
+              nobs_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+
+              start_ = input.readSInt64();
+              break;
+            }
+            case 32: {
+
+              end_ = input.readSInt64();
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                stations_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              stations_.add(input.readUInt32());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                stations_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                stations_.add(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          stations_ = java.util.Collections.unmodifiableList(stations_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.class, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POS_FIELD_NUMBER = 1;
+    private long pos_;
+    /**
+     * <code>optional uint64 pos = 1;</code>
+     *
+     * <pre>
+     * file position of the data message
+     * </pre>
+     */
+    public long getPos() {
+      return pos_;
+    }
+
+    public static final int NOBS_FIELD_NUMBER = 2;
+    private int nobs_;
+    /**
+     * <code>optional uint32 nobs = 2;</code>
+     */
+    public int getNobs() {
+      return nobs_;
+    }
+
+    public static final int START_FIELD_NUMBER = 3;
+    private long start_;
+    /**
+     * <code>optional sint64 start = 3;</code>
+     *
+     * <pre>
+     * msecs since epoch, earliest obs; missing if the obs have no time
+     * </pre>
+     */
+    public long getStart() {
+      return start_;
+    }
+
+    public static final int END_FIELD_NUMBER = 4;
+    private long end_;
+    /**
+     * <code>optional sint64 end = 4;</code>
+     */
+    public long getEnd() {
+      return end_;
+    }
+
+    public static final int STATIONS_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Integer> stations_;
+    /**
+     * <code>repeated uint32 stations = 5;</code>
+     *
+     * <pre>
+     * index into BufrIndex.stations
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getStationsList() {
+      return stations_;
+    }
+    /**
+     * <code>repeated uint32 stations = 5;</code>
+     *
+     * <pre>
+     * index into BufrIndex.stations
+     * </pre>
+     */
+    public int getStationsCount() {
+      return stations_.size();
+    }
+    /**
+     * <code>repeated uint32 stations = 5;</code>
+     *
+     * <pre>
+     * index into BufrIndex.stations
+     * </pre>
+     */
+    public int getStations(int index) {
+      return stations_.get(index);
+    }
+    private int stationsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (pos_ != 0L) {
+        output.writeUInt64(1, pos_);
+      }
+      if (nobs_ != 0) {
+        output.writeUInt32(2, nobs_);
+      }
+      if (start_ != 0L) {
+        output.writeSInt64(3, start_);
+      }
+      if (end_ != 0L) {
+        output.writeSInt64(4, end_);
+      }
+      if (getStationsList().size() > 0) {
+        output.writeRawVarint32(42);
+        output.writeRawVarint32(stationsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < stations_.size(); i++) {
+        output.writeUInt32NoTag(stations_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (pos_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, pos_);
+      }
+      if (nobs_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, nobs_);
+      }
+      if (start_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(3, start_);
+      }
+      if (end_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(4, end_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < stations_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(stations_.get(i));
+        }
+        size += dataSize;
+        if (!getStationsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        stationsMemoizedSerializedSize = dataSize;
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code MessageEntry}
+     *
+     * <pre>
+     * version 2 index: follows BufrIndex in the ncx file.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:MessageEntry)
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.class, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        pos_ = 0L;
+
+        nobs_ = 0;
+
+        start_ = 0L;
+
+        end_ = 0L;
+
+        stations_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageEntry_descriptor;
+      }
+
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry getDefaultInstanceForType() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry build() {
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry buildPartial() {
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry result = new ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.pos_ = pos_;
+        result.nobs_ = nobs_;
+        result.start_ = start_;
+        result.end_ = end_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          stations_ = java.util.Collections.unmodifiableList(stations_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.stations_ = stations_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry) {
+          return mergeFrom((ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry other) {
+        if (other == ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.getDefaultInstance()) return this;
+        if (other.getPos() != 0L) {
+          setPos(other.getPos());
+        }
+        if (other.getNobs() != 0) {
+          setNobs(other.getNobs());
+        }
+        if (other.getStart() != 0L) {
+          setStart(other.getStart());
+        }
+        if (other.getEnd() != 0L) {
+          setEnd(other.getEnd());
+        }
+        if (!other.stations_.isEmpty()) {
+          if (stations_.isEmpty()) {
+            stations_ = other.stations_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureStationsIsMutable();
+            stations_.addAll(other.stations_);
+          }
+          onChanged();
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long pos_ ;
+      /**
+       * <code>optional uint64 pos = 1;</code>
+       *
+       * <pre>
+       * file position of the data message
+       * </pre>
+       */
+      public long getPos() {
+        return pos_;
+      }
+      /**
+       * <code>optional uint64 pos = 1;</code>
+       *
+       * <pre>
+       * file position of the data message
+       * </pre>
+       */
+      public Builder setPos(long value) {
+        
+        pos_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 pos = 1;</code>
+       *
+       * <pre>
+       * file position of the data message
+       * </pre>
+       */
+      public Builder clearPos() {
+        
+        pos_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int nobs_ ;
+      /**
+       * <code>optional uint32 nobs = 2;</code>
+       */
+      public int getNobs() {
+        return nobs_;
+      }
+      /**
+       * <code>optional uint32 nobs = 2;</code>
+       */
+      public Builder setNobs(int value) {
+        
+        nobs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 nobs = 2;</code>
+       */
+      public Builder clearNobs() {
+        
+        nobs_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long start_ ;
+      /**
+       * <code>optional sint64 start = 3;</code>
+       *
+       * <pre>
+       * msecs since epoch, earliest obs; missing if the obs have no time
+       * </pre>
+       */
+      public long getStart() {
+        return start_;
+      }
+      /**
+       * <code>optional sint64 start = 3;</code>
+       *
+       * <pre>
+       * msecs since epoch, earliest obs; missing if the obs have no time
+       * </pre>
+       */
+      public Builder setStart(long value) {
+        
+        start_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint64 start = 3;</code>
+       *
+       * <pre>
+       * msecs since epoch, earliest obs; missing if the obs have no time
+       * </pre>
+       */
+      public Builder clearStart() {
+        
+        start_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long end_ ;
+      /**
+       * <code>optional sint64 end = 4;</code>
+       */
+      public long getEnd() {
+        return end_;
+      }
+      /**
+       * <code>optional sint64 end = 4;</code>
+       */
+      public Builder setEnd(long value) {
+        
+        end_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint64 end = 4;</code>
+       */
+      public Builder clearEnd() {
+        
+        end_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> stations_ = java.util.Collections.emptyList();
+      private void ensureStationsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          stations_ = new java.util.ArrayList<java.lang.Integer>(stations_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated uint32 stations = 5;</code>
+       *
+       * <pre>
+       * index into BufrIndex.stations
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getStationsList() {
+        return java.util.Collections.unmodifiableList(stations_);
+      }
+      /**
+       * <code>repeated uint32 stations = 5;</code>
+       *
+       * <pre>
+       * index into BufrIndex.stations
+       * </pre>
+       */
+      public int getStationsCount() {
+        return stations_.size();
+      }
+      /**
+       * <code>repeated uint32 stations = 5;</code>
+       *
+       * <pre>
+       * index into BufrIndex.stations
+       * </pre>
+       */
+      public int getStations(int index) {
+        return stations_.get(index);
+      }
+      /**
+       * <code>repeated uint32 stations = 5;</code>
+       *
+       * <pre>
+       * index into BufrIndex.stations
+       * </pre>
+       */
+      public Builder setStations(
+          int index, int value) {
+        ensureStationsIsMutable();
+        stations_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 stations = 5;</code>
+       *
+       * <pre>
+       * index into BufrIndex.stations
+       * </pre>
+       */
+      public Builder addStations(int value) {
+        ensureStationsIsMutable();
+        stations_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 stations = 5;</code>
+       *
+       * <pre>
+       * index into BufrIndex.stations
+       * </pre>
+       */
+      public Builder addAllStations(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureStationsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, stations_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 stations = 5;</code>
+       *
+       * <pre>
+       * index into BufrIndex.stations
+       * </pre>
+       */
+      public Builder clearStations() {
+        stations_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:MessageEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:MessageEntry)
+    private static final ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry();
+    }
+
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MessageEntry>
+        PARSER = new com.google.protobuf.AbstractParser<MessageEntry>() {
+      public MessageEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new MessageEntry(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<MessageEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MessageEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MessageIndexOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MessageIndex)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    java.util.List<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry> 
+        getMessagesList();
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry getMessages(int index);
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    int getMessagesCount();
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    java.util.List<? extends ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder> 
+        getMessagesOrBuilderList();
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder getMessagesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool hasTableMessages = 2;</code>
+     *
+     * <pre>
+     * messages cant be read by seeking
+     * </pre>
+     */
+    boolean getHasTableMessages();
+  }
+  /**
+   * Protobuf type {@code MessageIndex}
+   */
+  public  static final class MessageIndex extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:MessageIndex)
+      MessageIndexOrBuilder {
+    // Use MessageIndex.newBuilder() to construct.
+    private MessageIndex(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private MessageIndex() {
+      messages_ = java.util.Collections.emptyList();
+      hasTableMessages_ = false;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private MessageIndex(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                messages_ = new java.util.ArrayList<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              messages_.add(input.readMessage(ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+
+              hasTableMessages_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          messages_ = java.util.Collections.unmodifiableList(messages_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageIndex_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageIndex_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex.class, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int MESSAGES_FIELD_NUMBER = 1;
+    private java.util.List<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry> messages_;
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    public java.util.List<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry> getMessagesList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    public java.util.List<? extends ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder> 
+        getMessagesOrBuilderList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    public int getMessagesCount() {
+      return messages_.size();
+    }
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry getMessages(int index) {
+      return messages_.get(index);
+    }
+    /**
+     * <code>repeated .MessageEntry messages = 1;</code>
+     */
+    public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder getMessagesOrBuilder(
+        int index) {
+      return messages_.get(index);
+    }
+
+    public static final int HASTABLEMESSAGES_FIELD_NUMBER = 2;
+    private boolean hasTableMessages_;
+    /**
+     * <code>optional bool hasTableMessages = 2;</code>
+     *
+     * <pre>
+     * messages cant be read by seeking
+     * </pre>
+     */
+    public boolean getHasTableMessages() {
+      return hasTableMessages_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < messages_.size(); i++) {
+        output.writeMessage(1, messages_.get(i));
+      }
+      if (hasTableMessages_ != false) {
+        output.writeBool(2, hasTableMessages_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < messages_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, messages_.get(i));
+      }
+      if (hasTableMessages_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, hasTableMessages_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code MessageIndex}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:MessageIndex)
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndexOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageIndex_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageIndex_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex.class, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getMessagesFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          messagesBuilder_.clear();
+        }
+        hasTableMessages_ = false;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.internal_static_MessageIndex_descriptor;
+      }
+
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex getDefaultInstanceForType() {
+        return ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex build() {
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex buildPartial() {
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex result = new ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (messagesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            messages_ = java.util.Collections.unmodifiableList(messages_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.messages_ = messages_;
+        } else {
+          result.messages_ = messagesBuilder_.build();
+        }
+        result.hasTableMessages_ = hasTableMessages_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex) {
+          return mergeFrom((ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex other) {
+        if (other == ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex.getDefaultInstance()) return this;
+        if (messagesBuilder_ == null) {
+          if (!other.messages_.isEmpty()) {
+            if (messages_.isEmpty()) {
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureMessagesIsMutable();
+              messages_.addAll(other.messages_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.messages_.isEmpty()) {
+            if (messagesBuilder_.isEmpty()) {
+              messagesBuilder_.dispose();
+              messagesBuilder_ = null;
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              messagesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMessagesFieldBuilder() : null;
+            } else {
+              messagesBuilder_.addAllMessages(other.messages_);
+            }
+          }
+        }
+        if (other.getHasTableMessages() != false) {
+          setHasTableMessages(other.getHasTableMessages());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry> messages_ =
+        java.util.Collections.emptyList();
+      private void ensureMessagesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          messages_ = new java.util.ArrayList<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry>(messages_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder> messagesBuilder_;
+
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public java.util.List<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry> getMessagesList() {
+        if (messagesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(messages_);
+        } else {
+          return messagesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public int getMessagesCount() {
+        if (messagesBuilder_ == null) {
+          return messages_.size();
+        } else {
+          return messagesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry getMessages(int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);
+        } else {
+          return messagesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder setMessages(
+          int index, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.set(index, value);
+          onChanged();
+        } else {
+          messagesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder setMessages(
+          int index, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder addMessages(ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.add(value);
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder addMessages(
+          int index, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.add(index, value);
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder addMessages(
+          ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder addMessages(
+          int index, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder addAllMessages(
+          java.lang.Iterable<? extends ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry> values) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, messages_);
+          onChanged();
+        } else {
+          messagesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder clearMessages() {
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          messagesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public Builder removeMessages(int index) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.remove(index);
+          onChanged();
+        } else {
+          messagesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder getMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder getMessagesOrBuilder(
+          int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);  } else {
+          return messagesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public java.util.List<? extends ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder> 
+           getMessagesOrBuilderList() {
+        if (messagesBuilder_ != null) {
+          return messagesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(messages_);
+        }
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder addMessagesBuilder() {
+        return getMessagesFieldBuilder().addBuilder(
+            ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder addMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().addBuilder(
+            index, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MessageEntry messages = 1;</code>
+       */
+      public java.util.List<ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder> 
+           getMessagesBuilderList() {
+        return getMessagesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder> 
+          getMessagesFieldBuilder() {
+        if (messagesBuilder_ == null) {
+          messagesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntry.Builder, ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageEntryOrBuilder>(
+                  messages_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          messages_ = null;
+        }
+        return messagesBuilder_;
+      }
+
+      private boolean hasTableMessages_ ;
+      /**
+       * <code>optional bool hasTableMessages = 2;</code>
+       *
+       * <pre>
+       * messages cant be read by seeking
+       * </pre>
+       */
+      public boolean getHasTableMessages() {
+        return hasTableMessages_;
+      }
+      /**
+       * <code>optional bool hasTableMessages = 2;</code>
+       *
+       * <pre>
+       * messages cant be read by seeking
+       * </pre>
+       */
+      public Builder setHasTableMessages(boolean value) {
+        
+        hasTableMessages_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool hasTableMessages = 2;</code>
+       *
+       * <pre>
+       * messages cant be read by seeking
+       * </pre>
+       */
+      public Builder clearHasTableMessages() {
+        
+        hasTableMessages_ = false;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:MessageIndex)
+    }
+
+    // @@protoc_insertion_point(class_scope:MessageIndex)
+    private static final ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex();
+    }
+
+    public static ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MessageIndex>
+        PARSER = new com.google.protobuf.AbstractParser<MessageIndex>() {
+      public MessageIndex parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new MessageIndex(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<MessageIndex> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MessageIndex> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.point.bufr.BufrCdmIndexProto.MessageIndex getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_Station_descriptor;
   private static
@@ -4175,6 +5758,16 @@ public final class BufrCdmIndexProto {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_BufrIndex_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_MessageEntry_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_MessageEntry_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_MessageIndex_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_MessageIndex_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -4196,16 +5789,20 @@ public final class BufrCdmIndexProto {
       "h\030\014 \001(\005\"y\n\tBufrIndex\022\020\n\010filename\030\001 \001(\t\022\032",
       "\n\010stations\030\002 \003(\0132\010.Station\022\024\n\004root\030\003 \001(\013" +
       "2\006.Field\022\r\n\005start\030\004 \001(\004\022\013\n\003end\030\005 \001(\004\022\014\n\004" +
-      "nobs\030\006 \001(\004*S\n\tFldAction\022\010\n\004defa\020\000\022\010\n\004non" +
-      "e\020\001\022\n\n\006remove\020\002\022\r\n\tasMissing\020\003\022\013\n\007asArra" +
-      "y\020\004\022\n\n\006concat\020\005*\365\001\n\007FldType\022\007\n\003def\020\000\022\007\n\003" +
-      "lat\020\001\022\007\n\003lon\020\002\022\n\n\006height\020\003\022\026\n\022heightAbov" +
-      "eStation\020\004\022\023\n\017heightOfStation\020\005\022\r\n\tstati" +
-      "onId\020\n\022\017\n\013stationDesc\020\013\022\t\n\005wmoId\020\014\022\014\n\010wm" +
-      "oBlock\020\r\022\010\n\004year\020\017\022\t\n\005month\020\020\022\007\n\003day\020\021\022\010" +
-      "\n\004hour\020\022\022\n\n\006minute\020\023\022\007\n\003sec\020\024\022\007\n\003doy\020\025\022\014",
-      "\n\010timeIncr\020\026\022\t\n\005incrS\020\027B+\n\026ucar.nc2.ft.p" +
-      "oint.bufrB\021BufrCdmIndexProtob\006proto3"
+      "nobs\030\006 \001(\004\"W\n\014MessageEntry\022\013\n\003pos\030\001 \001(\004\022" +
+      "\014\n\004nobs\030\002 \001(\r\022\r\n\005start\030\003 \001(\022\022\013\n\003end\030\004 \001(" +
+      "\022\022\020\n\010stations\030\005 \003(\r\"I\n\014MessageIndex\022\037\n\010m" +
+      "essages\030\001 \003(\0132\r.MessageEntry\022\030\n\020hasTable" +
+      "Messages\030\002 \001(\010*S\n\tFldAction\022\010\n\004defa\020\000\022\010\n" +
+      "\004none\020\001\022\n\n\006remove\020\002\022\r\n\tasMissing\020\003\022\013\n\007as" +
+      "Array\020\004\022\n\n\006concat\020\005*\365\001\n\007FldType\022\007\n\003def\020\000" +
+      "\022\007\n\003lat\020\001\022\007\n\003lon\020\002\022\n\n\006height\020\003\022\026\n\022height",
+      "AboveStation\020\004\022\023\n\017heightOfStation\020\005\022\r\n\ts" +
+      "tationId\020\n\022\017\n\013stationDesc\020\013\022\t\n\005wmoId\020\014\022\014" +
+      "\n\010wmoBlock\020\r\022\010\n\004year\020\017\022\t\n\005month\020\020\022\007\n\003day" +
+      "\020\021\022\010\n\004hour\020\022\022\n\n\006minute\020\023\022\007\n\003sec\020\024\022\007\n\003doy" +
+      "\020\025\022\014\n\010timeIncr\020\026\022\t\n\005incrS\020\027B+\n\026ucar.nc2." +
+      "ft.point.bufrB\021BufrCdmIndexProtob\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -4237,6 +5834,18 @@ public final class BufrCdmIndexProto {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_BufrIndex_descriptor,
         new java.lang.String[] { "Filename", "Stations", "Root", "Start", "End", "Nobs", });
+    internal_static_MessageEntry_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_MessageEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_MessageEntry_descriptor,
+        new java.lang.String[] { "Pos", "Nobs", "Start", "End", "Stations", });
+    internal_static_MessageIndex_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_MessageIndex_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_MessageIndex_descriptor,
+        new java.lang.String[] { "Messages", "HasTableMessages", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -36,6 +36,8 @@ package ucar.nc2.ft.point.bufr;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Formatter;
 import java.util.HashMap;
 import java.util.List;
@@ -75,6 +77,7 @@ import ucar.nc2.util.CancelTask;
 import ucar.nc2.util.Indent;
 import ucar.unidata.geoloc.EarthLocation;
 import ucar.unidata.geoloc.LatLonRect;
+import ucar.unidata.geoloc.Station;
 
 /**
  * Use BufrConfig to make BUFR files into PointFeatureDataset
@@ -158,10 +161,16 @@ public class BufrFeatureDatasetFactory implements FeatureDatasetFactory {
     private Munge munger;
     private BufrCdmIndex index;
     private SequenceDS obs;
+    private BufrIosp2 iosp;
+    private Map<String, Integer> stationIndex; // station id -> index in index.stations
 
     private BufrStationDataset(NetcdfDataset ncfile, BufrCdmIndex index) {
       super(ncfile, FeatureType.STATION);
       this.index = index;
+      this.iosp = (BufrIosp2) ncfile.getIosp();
+      this.stationIndex = new HashMap<>(2 * index.stations.size());
+      for (int i = 0; i < index.stations.size(); i++)
+        stationIndex.put(index.stations.get(i).getId(), i);
 
        // create the list of data variables
       munger = new Munge();
@@ -180,6 +189,27 @@ public class BufrFeatureDatasetFactory implements FeatureDatasetFactory {
       return FeatureType.STATION;
     }
 
+    /*
+     * Iterate over the obs, reading only the messages that may have obs for these stations and dates.
+     * Without a message index, all messages are read, and the caller must still check each obs.
+     */
+    private StructureDataIterator getObsIterator(List<? extends Station> wantStations, CalendarDateRange dateRange) throws IOException {
+      BufrMessageIndex messageIndex = index.messageIndex;
+      if (messageIndex == null || !messageIndex.isSeekable() || (wantStations == null && dateRange == null))
+        return obs.getStructureIterator();
+
+      BitSet want = null;
+      if (wantStations != null) {
+        want = new BitSet(index.stations.size());
+        for (Station s : wantStations) {
+          Integer idx = stationIndex.get(s.getName());
+          if (idx != null) want.set(idx);
+        }
+      }
+      long[] messagePos = messageIndex.findMessages(want, dateRange);
+      return obs.getStructureIterator(iosp.getStructureIterator(messagePos));
+    }
+
     @Override
     public void getDetailInfo(java.util.Formatter sf) {
       super.getDetailInfo(sf);
@@ -223,7 +253,7 @@ public class BufrFeatureDatasetFactory implements FeatureDatasetFactory {
 
         @Override
         public PointFeatureIterator getPointFeatureIterator() throws IOException {
-          return new BufrStationIterator(obs.getStructureIterator(), null);
+          return new BufrStationIterator(getObsIterator(Collections.singletonList(this), null), null);
         }
 
         @Nonnull
@@ -287,9 +317,13 @@ public class BufrFeatureDatasetFactory implements FeatureDatasetFactory {
       private class BufrPointFeatureCollection extends PointCollectionImpl {
         StationHelper stationsWanted;
         PointFeatureIterator.Filter filter;
+        LatLonRect wantBB;           // null means all
+        CalendarDateRange wantDates; // null means all
 
         BufrPointFeatureCollection(LatLonRect boundingBox, CalendarDateRange dateRange) throws IOException {
           super("BufrPointFeatureCollection", bufrDateUnits, bufrAltUnits);
+          this.wantBB = boundingBox;
+          this.wantDates = dateRange;
           setBoundingBox(boundingBox);
           if (dateRange != null) {
             getInfo();
@@ -302,7 +336,8 @@ public class BufrFeatureDatasetFactory implements FeatureDatasetFactory {
 
         @Override
         public PointFeatureIterator getPointFeatureIterator() throws IOException {
-          return new BufrRecordIterator(obs.getStructureIterator(), filter);
+          List<Station> wantStations = (wantBB == null) ? null : stationsWanted.getStations();
+          return new BufrRecordIterator(getObsIterator(wantStations, wantDates), filter);
         }
 
         // iterates once over all the records
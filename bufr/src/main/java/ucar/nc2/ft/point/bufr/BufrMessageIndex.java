@@ -0,0 +1,170 @@
+/* Copyright */
+package ucar.nc2.ft.point.bufr;
+
+import net.jcip.annotations.Immutable;
+import ucar.nc2.iosp.bufr.BufrConfig;
+import ucar.nc2.time.CalendarDateRange;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Per-message index of a BUFR file: the file position, number of obs, time range and stations of each data message.
+ * Stored in the ncx file after the BufrIndex message, so point queries only read messages that may have wanted obs.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Immutable
+public class BufrMessageIndex {
+  static private final long NO_TIME = Long.MIN_VALUE;
+
+  private final long[] pos;
+  private final int[] nobs;
+  private final long[] start, end;   // msecs, NO_TIME if not known
+  private final int[][] stations;    // index into BufrCdmIndex.stations, sorted; empty if not known
+  private final boolean hasTableMessages;
+
+  /**
+   * Make from what BufrConfig.scanEntireFile() found.
+   *
+   * @param config       from scanEntireFile()
+   * @param stationNames station ids in the order they are stored in the index
+   */
+  public BufrMessageIndex(BufrConfig config, List<String> stationNames) {
+    Map<String, Integer> stationIndex = new HashMap<>(2 * stationNames.size());
+    for (int i = 0; i < stationNames.size(); i++)
+      stationIndex.put(stationNames.get(i), i);
+
+    List<BufrConfig.MessageInfo> messages = config.getMessages();
+    int n = messages.size();
+    pos = new long[n];
+    nobs = new int[n];
+    start = new long[n];
+    end = new long[n];
+    stations = new int[n][];
+    for (int i = 0; i < n; i++) {
+      BufrConfig.MessageInfo info = messages.get(i);
+      pos[i] = info.pos;
+      nobs[i] = info.nobs;
+      boolean hasTime = info.start <= info.end;
+      start[i] = hasTime ? info.start : NO_TIME;
+      end[i] = hasTime ? info.end : NO_TIME;
+
+      int[] idx = new int[info.stations.size()];
+      int count = 0;
+      for (String name : info.stations) {
+        Integer want = stationIndex.get(name);
+        if (want != null) idx[count++] = want;
+      }
+      stations[i] = Arrays.copyOf(idx, count);
+      Arrays.sort(stations[i]);
+    }
+    hasTableMessages = config.hasTableMessages();
+  }
+
+  private BufrMessageIndex(long[] pos, int[] nobs, long[] start, long[] end, int[][] stations, boolean hasTableMessages) {
+    this.pos = pos;
+    this.nobs = nobs;
+    this.start = start;
+    this.end = end;
+    this.stations = stations;
+    this.hasTableMessages = hasTableMessages;
+  }
+
+  public int getNumberOfMessages() {
+    return pos.length;
+  }
+
+  /**
+   * Can messages be read by seeking to their position?
+   * Not if the file has embedded BUFR tables, which must be read first.
+   */
+  public boolean isSeekable() {
+    return !hasTableMessages;
+  }
+
+  /**
+   * Find the data messages that may contain obs for these stations in this date range.
+   *
+   * @param wantStations indices into BufrCdmIndex.stations, or null for all stations
+   * @param dateRange    only this date range, or null for all times
+   * @return file positions of the messages, in file order
+   */
+  public long[] findMessages(BitSet wantStations, CalendarDateRange dateRange) {
+    long wantStart = (dateRange == null) ? 0 : dateRange.getStart().getMillis();
+    long wantEnd = (dateRange == null) ? 0 : dateRange.getEnd().getMillis();
+
+    long[] result = new long[pos.length];
+    int count = 0;
+    for (int i = 0; i < pos.length; i++) {
+      if (dateRange != null && start[i] != NO_TIME && (end[i] < wantStart || start[i] > wantEnd))
+        continue;
+      if (wantStations != null && stations[i].length > 0 && !intersects(stations[i], wantStations))
+        continue;
+      result[count++] = pos[i];
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  private boolean intersects(int[] have, BitSet want) {
+    for (int idx : have)
+      if (want.get(idx)) return true;
+    return false;
+  }
+
+  public void show(Formatter f) {
+    long total = 0;
+    for (int n : nobs) total += n;
+    f.format("  # messages=%d nobs=%d seekable=%s%n", pos.length, total, isSeekable());
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////
+  // MessageIndex in bufrCdmIndex.proto
+
+  public byte[] encode() {
+    BufrCdmIndexProto.MessageIndex.Builder builder = BufrCdmIndexProto.MessageIndex.newBuilder();
+    for (int i = 0; i < pos.length; i++)
+      builder.addMessages(encodeEntry(i));
+    builder.setHasTableMessages(hasTableMessages);
+    return builder.build().toByteArray();
+  }
+
+  private BufrCdmIndexProto.MessageEntry encodeEntry(int i) {
+    BufrCdmIndexProto.MessageEntry.Builder builder = BufrCdmIndexProto.MessageEntry.newBuilder();
+    builder.setPos(pos[i]);
+    builder.setNobs(nobs[i]);
+    if (start[i] != NO_TIME) {
+      builder.setStart(start[i]);
+      builder.setEnd(end[i]);
+    }
+    for (int idx : stations[i])
+      builder.addStations(idx);
+    return builder.build();
+  }
+
+  static public BufrMessageIndex decode(byte[] b) throws IOException {
+    BufrCdmIndexProto.MessageIndex proto = BufrCdmIndexProto.MessageIndex.parseFrom(b);
+
+    int n = proto.getMessagesCount();
+    long[] pos = new long[n];
+    int[] nobs = new int[n];
+    long[] start = new long[n];
+    long[] end = new long[n];
+    int[][] stations = new int[n][];
+    for (int i = 0; i < n; i++) {
+      BufrCdmIndexProto.MessageEntry entry = proto.getMessages(i);
+      pos[i] = entry.getPos();
+      nobs[i] = entry.getNobs();
+      // proto3 cant tell a missing time from 0; LOOK a message with all obs at 1970-01-01T00:00 is never filtered by time
+      boolean hasTime = entry.getStart() != 0 || entry.getEnd() != 0;
+      start[i] = hasTime ? entry.getStart() : NO_TIME;
+      end[i] = hasTime ? entry.getEnd() : NO_TIME;
+      stations[i] = new int[entry.getStationsCount()];
+      for (int j = 0; j < stations[i].length; j++)
+        stations[i][j] = entry.getStations(j);
+    }
+    return new BufrMessageIndex(pos, nobs, start, end, stations, proto.getHasTableMessages());
+  }
+
+}
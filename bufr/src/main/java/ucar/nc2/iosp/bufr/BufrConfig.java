@@ -155,6 +155,36 @@ public class BufrConfig {
     return countObs;
   }
 
+  /**
+   * The data messages found by scanEntireFile(), in file order.
+   */
+  public List<MessageInfo> getMessages() {
+    return messages;
+  }
+
+  /**
+   * True if scanEntireFile() found messages containing BUFR tables.
+   * Then messages cant be read by seeking to them, since the tables must be read first.
+   */
+  public boolean hasTableMessages() {
+    return hasTableMessages;
+  }
+
+  /**
+   * What scanEntireFile() found in one data message.
+   */
+  static public class MessageInfo {
+    public final long pos;    // Message.getStartPos()
+    public int nobs;
+    public long start = Long.MAX_VALUE;  // msecs, if the obs have a time
+    public long end = Long.MIN_VALUE;
+    public final Set<String> stations = new HashSet<>(); // station ids, if the obs have stations
+
+    MessageInfo(long pos) {
+      this.pos = pos;
+    }
+  }
+
   ////////////////////////////////////////////////////////////////////////////
 
   private void merge(Element iospParam) {
@@ -222,6 +252,10 @@ public class BufrConfig {
   private boolean hasStations = false;
   private boolean hasDate = false;
   private int countObs = 0;
+  private List<MessageInfo> messages = new ArrayList<>();
+  private MessageInfo currentMessage;
+  private boolean hasTableMessages = false;
+
   private void scanBufrFile(RandomAccessFile raf) throws Exception {
     NetcdfFile ncd = null;
     countObs = 0;
@@ -250,8 +284,25 @@ public class BufrConfig {
       Sequence seq = (Sequence) ncd.findVariable(null, BufrIosp2.obsRecord);
       extract = new StandardFields.StandardFieldsFromStructure(center, seq);
 
-      StructureDataIterator iter = seq.getStructureIterator();
-      processSeq( iter, rootConverter, true);
+      // read each data message, tracking what it contains
+      BufrIosp2 iosp = (BufrIosp2) ncd.getIosp();
+      MessageScanner dataScanner = new MessageScanner(raf);
+      while (dataScanner.hasNext()) {
+        Message m = dataScanner.next();
+        if (m == null) continue;
+        if (m.containsBufrTable()) {
+          hasTableMessages = true;
+          continue;
+        }
+        if (!protoMessage.equals(m)) continue; // mixed messages are skipped, as in BufrIosp2
+
+        currentMessage = new MessageInfo(m.getStartPos());
+        ArrayStructure as = iosp.readMessage(m);
+        processSeq(as.getStructureDataIterator(), rootConverter, true);
+        if (currentMessage.nobs > 0)
+          messages.add(currentMessage);
+      }
+      currentMessage = null;
 
       setStandardActions(rootConverter);
 
@@ -286,7 +337,11 @@ public class BufrConfig {
            countObs++;
            if (debug && countObs % 100 == 0) System.out.printf("%d ", countObs);
 
-           if (hasStations) processStations(parent, sdata);
+           if (currentMessage != null) currentMessage.nobs++;
+           if (hasStations) {
+             String stationId = processStations(parent, sdata);
+             if (stationId != null && currentMessage != null) currentMessage.stations.add(stationId);
+           }
            if (hasDate) {
              extract.extract(sdata);
              CalendarDate date = extract.makeCalendarDate();
@@ -302,6 +357,10 @@ public class BufrConfig {
                this.end = msecs;
                //System.out.printf("new end %s%n", date);
              }
+             if (currentMessage != null) {
+               currentMessage.start = Math.min(currentMessage.start, msecs);
+               currentMessage.end = Math.max(currentMessage.end, msecs);
+             }
            }
          }
 
@@ -322,13 +381,14 @@ public class BufrConfig {
      }
    }
 
-   private void processStations(FieldConverter parent, StructureData sdata) {
+   // return the station id, or null if none
+   private String processStations(FieldConverter parent, StructureData sdata) {
      BufrStation station = new BufrStation();
      station.read(parent, sdata);
 
      if (station.getName() == null) {
        log.warn("bad station name: "+station);
-       return;
+       return null;
      }
 
      BufrStation check = map.get(station.getName());
@@ -339,6 +399,7 @@ public class BufrConfig {
        if (!station.equals(check))
          log.warn("bad station doesnt equal "+station+" != "+check);
      }
+     return station.getName();
    }
 
   public class BufrStation extends StationImpl {
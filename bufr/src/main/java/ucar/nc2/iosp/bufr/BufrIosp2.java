@@ -149,25 +149,63 @@ public class BufrIosp2 extends AbstractIOServiceProvider {
   @Override
   public Array readData(Variable v2, Section section) throws IOException, InvalidRangeException {
     //return new ArraySequence(obsStructure.makeStructureMembers(), getStructureIterator(null, -1), nelems);
-    return new ArraySequence(obsStructure.makeStructureMembers(), new SeqIter(), nelems);
+    return new ArraySequence(obsStructure.makeStructureMembers(), new SeqIter(null), nelems);
   }
 
   @Override
   public StructureDataIterator getStructureIterator(Structure s, int bufferSize) throws java.io.IOException {
-    return isSingle ? new SeqIterSingle() : new SeqIter();
+    return isSingle ? new SeqIterSingle() : new SeqIter(null);
+  }
+
+  /**
+   * Iterate over the observations in just the data messages starting at these file positions,
+   * eg those found in a BufrCdmIndex. Messages are read in the given order.
+   * The StructureData are not enhanced; use SequenceDS.getStructureIterator(StructureDataIterator) for that.
+   *
+   * @param messagePos starting positions of the messages, from Message.getStartPos()
+   * @return iterator over the observations in those messages
+   */
+  public StructureDataIterator getStructureIterator(long[] messagePos) {
+    return new SeqIter(messagePos);
+  }
+
+  // read all the obs in a data message from this file
+  ArrayStructure readMessage(Message m) throws IOException {
+    return readMessage(obsStructure, protoMessage, m, raf);
+  }
+
+  static private ArrayStructure readMessage(Structure obsStructure, Message protoMessage, Message m, RandomAccessFile raf) throws IOException {
+    if (m.dds.isCompressed()) {
+      MessageCompressedDataReader reader = new MessageCompressedDataReader();
+      return reader.readEntireMessage(obsStructure, protoMessage, m, raf, null);
+    } else {
+      MessageUncompressedDataReader reader = new MessageUncompressedDataReader();
+      return reader.readEntireMessage(obsStructure, protoMessage, m, raf, null);
+    }
   }
 
   private class SeqIter implements StructureDataIterator {
     StructureDataIterator currIter;
     int recnum = 0;
-
-    SeqIter() {
+    final long[] messagePos; // only read these messages; null means all
+    int nextMessage;
+    final MessageScanner scanner;
+
+    SeqIter(long[] messagePos) {
+      this.messagePos = messagePos;
+      try {
+        // each positioned iterator has its own scanner, since it may be used while another iterator is active
+        this.scanner = (messagePos == null) ? BufrIosp2.this.scanner : new MessageScanner(raf);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
       reset();
     }
 
     @Override
     public StructureDataIterator reset() {
       recnum = 0;
+      nextMessage = 0;
       currIter = null;
       scanner.reset();
       return this;
@@ -178,7 +216,7 @@ public class BufrIosp2 extends AbstractIOServiceProvider {
       if (currIter == null) {
         currIter = readNextMessage();
         if (currIter == null) {
-          nelems = recnum;
+          if (messagePos == null) nelems = recnum;
           return false;
         }
       }
@@ -198,6 +236,10 @@ public class BufrIosp2 extends AbstractIOServiceProvider {
     }
 
     private StructureDataIterator readNextMessage() throws IOException {
+      if (messagePos != null) {
+        if (nextMessage >= messagePos.length) return null;
+        scanner.seek(messagePos[nextMessage++]);
+      }
       if (!scanner.hasNext()) return null;
       Message m = scanner.next();
       if (m == null) {
@@ -217,22 +259,10 @@ public class BufrIosp2 extends AbstractIOServiceProvider {
         return readNextMessage();
       }
 
-      ArrayStructure as = readMessage(m);
+      ArrayStructure as = readMessage(obsStructure, protoMessage, m, raf);
       return as.getStructureDataIterator();
     }
 
-    private ArrayStructure readMessage(Message m) throws IOException {
-      ArrayStructure as;
-      if (m.dds.isCompressed()) {
-        MessageCompressedDataReader reader = new MessageCompressedDataReader();
-        as = reader.readEntireMessage(obsStructure, protoMessage, m, raf, null);
-      } else {
-        MessageUncompressedDataReader reader = new MessageUncompressedDataReader();
-        as = reader.readEntireMessage(obsStructure, protoMessage, m, raf, null);
-      }
-      return as;
-    }
-
     @Override
     public int getCurrentRecno() {
       return recnum - 1;
@@ -281,16 +311,7 @@ public class BufrIosp2 extends AbstractIOServiceProvider {
     }
 
     private StructureDataIterator readProtoMessage() throws IOException {
-      Message m = protoMessage;
-      ArrayStructure as;
-      if (m.dds.isCompressed()) {
-        MessageCompressedDataReader reader = new MessageCompressedDataReader();
-        as = reader.readEntireMessage(obsStructure, protoMessage, m, raf, null);
-      } else {
-        MessageUncompressedDataReader reader = new MessageUncompressedDataReader();
-        as = reader.readEntireMessage(obsStructure, protoMessage, m, raf, null);
-      }
-
+      ArrayStructure as = readMessage(obsStructure, protoMessage, protoMessage, raf);
       return as.getStructureDataIterator();
     }
 
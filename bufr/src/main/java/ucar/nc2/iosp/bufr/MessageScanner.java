@@ -111,6 +111,16 @@ public class MessageScanner {
     lastPos = 0;
   }
 
+  /**
+   * The next message found will be the first one starting at or after pos.
+   * Embedded tables before pos are not seen, so only use this when there are none.
+   *
+   * @param pos file position, eg from Message.getStartPos()
+   */
+  public void seek(long pos) {
+    lastPos = pos;
+  }
+
   public boolean hasNext() throws IOException {
     if (lastPos >= raf.length()) return false;
     raf.seek(lastPos);
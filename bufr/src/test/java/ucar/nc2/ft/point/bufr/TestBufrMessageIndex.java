@@ -0,0 +1,383 @@
+/* Copyright */
+package ucar.nc2.ft.point.bufr;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.ma2.StructureData;
+import ucar.ma2.StructureDataIterator;
+import ucar.ma2.StructureMembers;
+import ucar.nc2.constants.FeatureType;
+import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.dataset.SequenceDS;
+import ucar.nc2.ft.*;
+import ucar.nc2.ft.point.StationFeature;
+import ucar.nc2.ft.point.StationFeatureHas;
+import ucar.nc2.ft.point.StationPointFeature;
+import ucar.nc2.iosp.bufr.BufrConfig;
+import ucar.nc2.iosp.bufr.BufrIosp2;
+import ucar.nc2.iosp.bufr.tables.BufrTables;
+import ucar.nc2.iosp.bufr.tables.TableB;
+import ucar.nc2.time.CalendarDate;
+import ucar.nc2.time.CalendarDateRange;
+import ucar.unidata.geoloc.LatLonPointImpl;
+import ucar.unidata.geoloc.LatLonRect;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Test the per-message index of BUFR station files: BufrMessageIndex, BufrCdmIndex, and the station and time
+ * subsets of BufrFeatureDatasetFactory that use it.
+ * The BUFR file is written here, with messages that each have a few stations and a few hours.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestBufrMessageIndex {
+  static private final int masterTableVersion = 19;
+  static private final int nmessages = 4;
+  static private final int nstations = 5;
+  static private final int obsPerMessage = 3;
+  static private final short[] fxys = {
+          fxy(1, 1), fxy(1, 2),                                         // wmo block, station
+          fxy(4, 1), fxy(4, 2), fxy(4, 3), fxy(4, 4), fxy(4, 5),        // year, month, day, hour, minute
+          fxy(5, 2), fxy(6, 2),                                         // lat, lon (coarse accuracy)
+          fxy(12, 101)};                                                // temperature
+
+  static private short fxy(int x, int y) {
+    return (short) ((x << 8) + y);
+  }
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private File bufrFile;
+  private File indexFile;
+  private List<Obs> allObs = new ArrayList<>();
+  private long[] messagePos = new long[nmessages];
+
+  private static class Obs {
+    final int station;
+    final int hour;
+    final CalendarDate date;
+    final double temp;
+
+    Obs(int station, int hour, double temp) {
+      this.station = station;
+      this.hour = hour;
+      this.date = CalendarDate.of(null, 2016, 9, 7, hour, 0, 0);
+      this.temp = temp;
+    }
+
+    double getLat() {
+      return 30 + station;
+    }
+
+    double getLon() {
+      return -100 + 2 * station;
+    }
+  }
+
+  @Before
+  public void writeBufrFile() throws IOException {
+    TableB tableB = BufrTables.getWmoTableB(masterTableVersion);
+    Assert.assertNotNull(tableB);
+
+    // message i has obs for stations i+1 and i+2, at hours 6i to 6i+2
+    bufrFile = tempFolder.newFile("stations.bufr");
+    try (FileOutputStream out = new FileOutputStream(bufrFile)) {
+      long pos = 0;
+      for (int i = 0; i < nmessages; i++) {
+        List<Obs> obs = new ArrayList<>();
+        for (int j = 0; j < obsPerMessage; j++) {
+          int station = (j == 1) ? i + 2 : i + 1;
+          obs.add(new Obs(station, 6 * i + j, 280.0 + i + j / 10.0));
+        }
+        allObs.addAll(obs);
+        byte[] message = makeMessage(tableB, obs);
+        messagePos[i] = pos;
+        out.write(message);
+        pos += message.length;
+      }
+    }
+
+    try (RandomAccessFile raf = new RandomAccessFile(bufrFile.getPath(), "r")) {
+      BufrConfig config = BufrConfig.scanEntireFile(raf);
+      indexFile = new File(bufrFile.getPath() + BufrCdmIndex.NCX_IDX);
+      Assert.assertTrue(BufrCdmIndex.writeIndex(bufrFile.getPath(), config, indexFile));
+    }
+  }
+
+  // an uncompressed BUFR edition 4 message, one subset per obs
+  private byte[] makeMessage(TableB tableB, List<Obs> obs) throws IOException {
+    BitWriter data = new BitWriter();
+    for (Obs ob : obs) {
+      double[] values = {72, ob.station, 2016, 9, 7, ob.hour, 0, ob.getLat(), ob.getLon(), ob.temp};
+      for (int k = 0; k < fxys.length; k++) {
+        TableB.Descriptor d = tableB.getDescriptor(fxys[k]);
+        Assert.assertNotNull(Integer.toHexString(fxys[k]), d);
+        long raw = Math.round(values[k] * Math.pow(10, d.getScale())) - d.getRefVal();
+        data.write(raw, d.getDataWidth());
+      }
+    }
+    byte[] dataBytes = data.toByteArray();
+
+    ByteArrayOutputStream sections = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(sections);
+    // section 1
+    write3(out, 22);
+    out.writeByte(0);                  // master table
+    out.writeShort(0);                 // center
+    out.writeShort(0);                 // subcenter
+    out.writeByte(0);                  // update sequence
+    out.writeByte(0);                  // no optional section
+    out.writeByte(0);                  // category: surface data - land
+    out.writeByte(0);
+    out.writeByte(0);
+    out.writeByte(masterTableVersion);
+    out.writeByte(0);                  // local table version
+    out.writeShort(2016);
+    out.writeByte(9);
+    out.writeByte(7);
+    out.writeByte(0);
+    out.writeByte(0);
+    out.writeByte(0);
+    // section 3
+    write3(out, 7 + 2 * fxys.length);
+    out.writeByte(0);
+    out.writeShort(obs.size());
+    out.writeByte(0x80);               // observed, not compressed
+    for (short fxy : fxys)
+      out.writeShort(fxy);
+    // section 4
+    write3(out, 4 + dataBytes.length);
+    out.writeByte(0);
+    out.write(dataBytes);
+    out.flush();
+
+    ByteArrayOutputStream message = new ByteArrayOutputStream();
+    DataOutputStream mout = new DataOutputStream(message);
+    mout.writeBytes("BUFR");
+    write3(mout, 8 + sections.size() + 4);
+    mout.writeByte(4);                 // edition
+    sections.writeTo(mout);
+    mout.writeBytes("7777");
+    mout.flush();
+    return message.toByteArray();
+  }
+
+  private void write3(DataOutputStream out, int n) throws IOException {
+    out.writeByte((n >> 16) & 0xff);
+    out.writeByte((n >> 8) & 0xff);
+    out.writeByte(n & 0xff);
+  }
+
+  private static class BitWriter {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private int current, nbits;
+
+    void write(long value, int width) {
+      for (int i = width - 1; i >= 0; i--) {
+        current = (current << 1) | (int) ((value >> i) & 1);
+        if (++nbits == 8) {
+          bytes.write(current);
+          current = 0;
+          nbits = 0;
+        }
+      }
+    }
+
+    byte[] toByteArray() {
+      if (nbits > 0) bytes.write(current << (8 - nbits));
+      if (bytes.size() % 2 != 0) bytes.write(0); // even length
+      return bytes.toByteArray();
+    }
+  }
+
+  //////////////////////////////////////////////////////////////////////
+
+  @Test
+  public void testIndex() throws IOException {
+    BufrCdmIndex index = BufrCdmIndex.readIndex(indexFile.getPath());
+    Assert.assertEquals(nstations, index.stations.size());
+    Assert.assertEquals(allObs.size(), index.nobs);
+    Assert.assertNotNull(index.messageIndex);
+    Assert.assertEquals(nmessages, index.messageIndex.getNumberOfMessages());
+    Assert.assertTrue(index.messageIndex.isSeekable());
+
+    // all messages
+    Assert.assertArrayEquals(messagePos, index.messageIndex.findMessages(null, null));
+
+    // encode and decode
+    BufrMessageIndex decoded = BufrMessageIndex.decode(index.messageIndex.encode());
+    Assert.assertEquals(nmessages, decoded.getNumberOfMessages());
+    Assert.assertArrayEquals(messagePos, decoded.findMessages(null, null));
+    for (int s = 0; s < nstations; s++) {
+      BitSet want = new BitSet();
+      want.set(s);
+      Assert.assertArrayEquals(index.messageIndex.findMessages(want, null), decoded.findMessages(want, null));
+    }
+
+    // by station: station i+1 is in messages i-1 and i
+    for (int s = 0; s < nstations; s++) {
+      BitSet want = new BitSet();
+      want.set(findStation(index, "72/" + (s + 1)));
+      Assert.assertArrayEquals("station " + (s + 1), expectedMessages(s + 1, null), index.messageIndex.findMessages(want, null));
+    }
+
+    // by time
+    CalendarDateRange range = makeRange();
+    Assert.assertArrayEquals(expectedMessages(-1, range), index.messageIndex.findMessages(null, range));
+    Assert.assertEquals(2, index.messageIndex.findMessages(null, range).length);
+
+    // by station and time
+    BitSet want = new BitSet();
+    want.set(findStation(index, "72/2"));
+    Assert.assertArrayEquals(expectedMessages(2, range), index.messageIndex.findMessages(want, range));
+  }
+
+  // hours 7, 8 in message 1 and 12 in message 2
+  private CalendarDateRange makeRange() {
+    return CalendarDateRange.of(CalendarDate.of(null, 2016, 9, 7, 7, 0, 0), CalendarDate.of(null, 2016, 9, 7, 12, 30, 0));
+  }
+
+  private int findStation(BufrCdmIndex index, String id) {
+    for (int i = 0; i < index.stations.size(); i++)
+      if (index.stations.get(i).getId().equals(id)) return i;
+    Assert.fail("no station " + id);
+    return -1;
+  }
+
+  // positions of the messages that have obs of this station (-1 = any) in this date range (null = any)
+  private long[] expectedMessages(int station, CalendarDateRange range) {
+    List<Long> result = new ArrayList<>();
+    for (int i = 0; i < nmessages; i++) {
+      for (Obs ob : allObs.subList(i * obsPerMessage, (i + 1) * obsPerMessage)) {
+        if (station >= 0 && ob.station != station) continue;
+        if (range != null && !range.includes(ob.date)) continue;
+        result.add(messagePos[i]);
+        break;
+      }
+    }
+    long[] pos = new long[result.size()];
+    for (int i = 0; i < pos.length; i++) pos[i] = result.get(i);
+    return pos;
+  }
+
+  @Test
+  public void testIndexCache() throws IOException {
+    BufrCdmIndex index = BufrCdmIndex.readIndex(indexFile.getPath());
+    Assert.assertSame(index, BufrCdmIndex.readIndex(indexFile.getPath()));
+
+    // a changed index file replaces the cached one
+    Assert.assertTrue(indexFile.setLastModified(indexFile.lastModified() + 10 * 1000));
+    BufrCdmIndex index2 = BufrCdmIndex.readIndex(indexFile.getPath());
+    Assert.assertNotSame(index, index2);
+    Assert.assertSame(index2, BufrCdmIndex.readIndex(indexFile.getPath()));
+  }
+
+  @Test
+  public void testSeekIterator() throws IOException {
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(bufrFile.getPath())) {
+      BufrIosp2 iosp = (BufrIosp2) ncd.getIosp();
+      SequenceDS obs = (SequenceDS) ncd.findVariable(BufrIosp2.obsRecord);
+
+      // messages are read in the given order, so the last message first
+      long[] want = {messagePos[3], messagePos[1]};
+      List<Double> temps = new ArrayList<>();
+      StructureDataIterator iter = obs.getStructureIterator(iosp.getStructureIterator(want)); // enhanced
+      try {
+        while (iter.hasNext()) {
+          StructureData sdata = iter.next();
+          temps.add(getTemperature(sdata));
+        }
+      } finally {
+        iter.close();
+      }
+
+      Assert.assertEquals(2 * obsPerMessage, temps.size());
+      for (int j = 0; j < obsPerMessage; j++) {
+        Assert.assertEquals(allObs.get(3 * obsPerMessage + j).temp, temps.get(j), 1.0e-3);
+        Assert.assertEquals(allObs.get(obsPerMessage + j).temp, temps.get(obsPerMessage + j), 1.0e-3);
+      }
+    }
+  }
+
+  @Test
+  public void testSubsetsMatchFullScan() throws IOException {
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(bufrFile.getPath())) {
+      FeatureDatasetPoint fd = (FeatureDatasetPoint) new BufrFeatureDatasetFactory().open(FeatureType.STATION, ncd, null, null, new Formatter());
+      Assert.assertNotNull(fd);
+      StationTimeSeriesFeatureCollection sfc = (StationTimeSeriesFeatureCollection) fd.getPointFeatureCollectionList().get(0);
+
+      List<String> all = read(sfc.flatten(null, (CalendarDateRange) null).getPointFeatureIterator());
+      Assert.assertEquals(allObs.size(), all.size());
+
+      // each station
+      Assert.assertEquals(nstations, sfc.getStationFeatures().size());
+      for (StationFeature s : sfc.getStationFeatures()) {
+        List<String> expected = filter(all, s.getName(), null);
+        Assert.assertFalse(s.getName(), expected.isEmpty());
+        Assert.assertEquals(s.getName(), expected, read(((StationTimeSeriesFeature) s).getPointFeatureIterator()));
+      }
+
+      // time range
+      CalendarDateRange range = makeRange();
+      List<String> expected = filter(all, null, range);
+      Assert.assertEquals(3, expected.size());
+      Assert.assertEquals(expected, read(sfc.flatten(null, range).getPointFeatureIterator()));
+
+      // bounding box containing stations 1 and 2, and time range
+      LatLonRect bb = new LatLonRect(new LatLonPointImpl(30.5, -99), new LatLonPointImpl(32.5, -95));
+      List<String> expectedBB = new ArrayList<>(filter(expected, "72/1", null));
+      expectedBB.addAll(filter(expected, "72/2", null));
+      Collections.sort(expectedBB);
+      List<String> gotBB = read(sfc.flatten(bb, range).getPointFeatureIterator());
+      Collections.sort(gotBB);
+      Assert.assertEquals(expectedBB, gotBB);
+    }
+  }
+
+  // station id, time, temperature of each obs
+  private List<String> read(PointFeatureIterator iter) throws IOException {
+    List<String> result = new ArrayList<>();
+    try {
+      while (iter.hasNext()) {
+        PointFeature pf = iter.next();
+        StructureData sdata = pf.getDataAll();
+        double temp = getTemperature(sdata);
+        String id = (pf instanceof StationPointFeature) ? ((StationPointFeature) pf).getStation().getName() :
+                ((StationFeatureHas) pf).getStationFeature().getName();
+        result.add(String.format("%s %s %.1f", id, pf.getObservationTimeAsCalendarDate(), temp));
+      }
+    } finally {
+      iter.close();
+    }
+    return result;
+  }
+
+  private double getTemperature(StructureData sdata) {
+    for (StructureMembers.Member m : sdata.getMembers()) {
+      if (m.getName().toLowerCase().contains("temperature"))
+        return sdata.convertScalarDouble(m);
+    }
+    Assert.fail("no temperature in " + sdata.getStructureMembers().getMemberNames());
+    return Double.NaN;
+  }
+
+  private List<String> filter(List<String> all, String station, CalendarDateRange range) {
+    List<String> result = new ArrayList<>();
+    for (String ob : all) {
+      String[] tokens = ob.split(" ");
+      if (station != null && !tokens[0].equals(station)) continue;
+      if (range != null && !range.includes(CalendarDate.parseISOformat(null, tokens[1]))) continue;
+      result.add(ob);
+    }
+    return result;
+  }
+
+}
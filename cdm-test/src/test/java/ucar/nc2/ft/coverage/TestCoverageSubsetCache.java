@@ -0,0 +1,107 @@
+/* Copyright */
+package ucar.nc2.ft.coverage;
+
+import org.junit.Assert;
+import org.junit.Test;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.MAMath;
+import ucar.nc2.constants.FeatureType;
+import ucar.nc2.ft2.coverage.*;
+import ucar.nc2.time.CalendarDate;
+import ucar.unidata.util.test.TestDir;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test that a CoordSysSubsetCache is used by data requests, and that its subsets can be used after
+ * the collection they were made from is closed.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestCoverageSubsetCache {
+  static private final String endpoint = TestDir.cdmLocalTestDataDir + "ncml/fmrc/GFS_Puerto_Rico_191km_20090729_0000.nc";
+
+  static private class MapCache implements CoordSysSubsetCache {
+    final Map<String, CoverageCoordSys> map = new HashMap<>();
+    int hits;
+
+    public CoverageCoordSys get(String coordSysName, String params) {
+      CoverageCoordSys result = map.get(coordSysName + "?" + params);
+      if (result != null) hits++;
+      return result;
+    }
+
+    public void put(String coordSysName, String params, CoverageCoordSys subset) {
+      map.put(coordSysName + "?" + params, subset);
+    }
+  }
+
+  private GeoReferencedArray read(CoordSysSubsetCache cache, SubsetParams params) throws IOException, InvalidRangeException {
+    try (FeatureDatasetCoverage cc = CoverageDatasetFactory.open(endpoint)) {
+      Assert.assertNotNull(endpoint, cc);
+      CoverageCollection gcs = cc.findCoverageDataset(FeatureType.GRID);
+      Assert.assertNotNull(endpoint, gcs);
+      gcs.setSubsetCache(cache);
+      Coverage cover = findCoverageWithTime(gcs);
+      return cover.readData(params);
+    }
+  }
+
+  private Coverage findCoverageWithTime(CoverageCollection gcs) {
+    for (Coverage cover : gcs.getCoverages()) {
+      if (cover.getCoordSys().getTimeAxis() != null && cover.getCoordSys().getZAxis() != null) return cover;
+    }
+    Assert.fail("no coverage with time and vertical axes in " + endpoint);
+    return null;
+  }
+
+  private CalendarDate getSecondTime() throws IOException {
+    try (FeatureDatasetCoverage cc = CoverageDatasetFactory.open(endpoint)) {
+      CoverageCollection gcs = cc.findCoverageDataset(FeatureType.GRID);
+      CoverageCoordAxis timeAxis = findCoverageWithTime(gcs).getCoordSys().getTimeAxis();
+      return timeAxis.makeDate(((CoverageCoordAxis1D) timeAxis).getCoordMidpoint(1));
+    }
+  }
+
+  @Test
+  public void testSubsetCache() throws IOException, InvalidRangeException {
+    SubsetParams params = new SubsetParams().setTime(getSecondTime()).setHorizStride(2);
+    GeoReferencedArray expected = read(null, params);
+
+    MapCache cache = new MapCache();
+    GeoReferencedArray first = read(cache, params);
+    Assert.assertEquals(1, cache.map.size());
+    Assert.assertEquals(0, cache.hits);
+
+    // the cached subset was made from a collection that is now closed
+    GeoReferencedArray second = read(cache, params);
+    Assert.assertEquals(1, cache.map.size());
+    Assert.assertEquals(1, cache.hits);
+    Assert.assertSame(first.getCoordSysForData(), second.getCoordSysForData());
+
+    Assert.assertArrayEquals(expected.getData().getShape(), second.getData().getShape());
+    Assert.assertTrue(MAMath.equals(expected.getData(), second.getData()));
+    for (CoverageCoordAxis axis : expected.getCoordSysForData().getAxes()) {
+      CoverageCoordAxis cachedAxis = second.getCoordSysForData().getAxis(axis.getName());
+      Assert.assertNotNull(axis.getName(), cachedAxis);
+      Assert.assertEquals(axis.getName(), axis.getNcoords(), cachedAxis.getNcoords());
+      Assert.assertTrue(axis.getName(), MAMath.equals(axis.getCoordsAsArray(), cachedAxis.getCoordsAsArray()));
+    }
+
+    // different params make a different subset
+    read(cache, new SubsetParams().setTime(getSecondTime()).setHorizStride(3));
+    Assert.assertEquals(2, cache.map.size());
+    Assert.assertEquals(1, cache.hits);
+  }
+
+  @Test
+  public void testTimePresentNotCached() throws IOException, InvalidRangeException {
+    MapCache cache = new MapCache();
+    read(cache, new SubsetParams().setTimePresent());
+    Assert.assertEquals(0, cache.map.size());
+  }
+
+}
@@ -0,0 +1,52 @@
+/* Copyright */
+package ucar.nc2.ft.fmrc;
+
+import org.junit.Assert;
+import org.junit.Test;
+import ucar.nc2.dt.grid.GridDataset;
+import ucar.nc2.time.CalendarDate;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * Round trip GridDatasetInv through its protobuf encoding.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestGridDatasetInvProto {
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    checkRoundTrip("../grib/src/test/data/cosmo-eu.grib2");  // vertical coordinates
+    checkRoundTrip("../grib/src/test/data/rap-native.grib2");
+  }
+
+  private void checkRoundTrip(String filename) throws IOException {
+    try (GridDataset gds = GridDataset.open(filename)) {
+      GridDatasetInv inv = new GridDatasetInv(gds, null);
+      Date lastModified = new Date(1234567890000L);
+      byte[] bytes = inv.writeProto(lastModified);
+      GridDatasetInv inv2 = GridDatasetInv.readProto(bytes);
+
+      Assert.assertEquals(lastModified.getTime(), inv2.getLastModified());
+      Assert.assertEquals(inv.getLocation(), inv2.getLocation());
+      Assert.assertEquals(inv.getRunDate(), inv2.getRunDate());
+      Assert.assertEquals(inv.getTimeCoords().size(), inv2.getTimeCoords().size());
+      Assert.assertTrue(inv.getTimeCoords().size() > 0);
+      Assert.assertEquals(inv.writeXML(lastModified), inv2.writeXML(lastModified));
+    }
+  }
+
+  @Test
+  public void testRunDate() throws IOException {
+    try (GridDataset gds = GridDataset.open("../grib/src/test/data/cosmo-eu.grib2")) {
+      CalendarDate runDate = CalendarDate.parseISOformat(null, "2016-01-01T12:00:00Z");
+      GridDatasetInv inv2 = GridDatasetInv.readProto(new GridDatasetInv(gds, runDate).writeProto(null));
+      Assert.assertEquals(runDate, inv2.getRunDate());
+      Assert.assertEquals(0, inv2.getLastModified());
+    }
+  }
+
+}
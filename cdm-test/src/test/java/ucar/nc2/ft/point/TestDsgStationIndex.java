@@ -0,0 +1,109 @@
+/* Copyright */
+package ucar.nc2.ft.point;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import ucar.nc2.constants.FeatureType;
+import ucar.nc2.ft.*;
+import ucar.nc2.ft.point.standard.DsgStationIndex;
+import ucar.nc2.time.CalendarDate;
+import ucar.nc2.time.CalendarDateRange;
+import ucar.nc2.util.DiskCache2;
+import ucar.unidata.util.test.TestDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Formatter;
+import java.util.List;
+
+/**
+ * Time subsets of ragged array station files give the same obs with and without the DsgStationIndex.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@RunWith(Parameterized.class)
+public class TestDsgStationIndex {
+
+  @Parameterized.Parameters(name = "{0}")
+  public static List<Object[]> getTestParameters() {
+    List<Object[]> result = new ArrayList<>();
+    // obs times are 0, 3, 6, 9, 12, 15 days since 1970
+    result.add(new Object[]{"stationRaggedContig.ncml", new int[]{0, 2, 1}});  // obs per station: 1, 2, 3
+    result.add(new Object[]{"stationRaggedIndex.ncml", new int[]{2, 1, 0}});   // obs per station: 3, 2, 1
+    return result;
+  }
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private final String location;
+  private final int[] expected;
+
+  public TestDsgStationIndex(String filename, int[] expected) {
+    this.location = TestDir.cdmLocalTestDataDir + "point/" + filename;
+    this.expected = expected;
+  }
+
+  @After
+  public void resetCache() {
+    DsgStationIndex.setDiskCache(null);
+  }
+
+  // days 2 through 10 inclusive: obs at 3, 6, 9
+  private CalendarDateRange makeDateRange() {
+    CalendarDate base = CalendarDate.parseISOformat(null, "1970-01-01T00:00:00Z");
+    return CalendarDateRange.of(base.add(2, ucar.nc2.time.CalendarPeriod.Field.Day), base.add(10, ucar.nc2.time.CalendarPeriod.Field.Day));
+  }
+
+  private int[] countObs(CalendarDateRange dateRange) throws IOException {
+    Formatter errlog = new Formatter();
+    try (FeatureDatasetPoint fdp = (FeatureDatasetPoint) FeatureDatasetFactoryManager.open(FeatureType.STATION, location, null, errlog)) {
+      Assert.assertNotNull(errlog.toString(), fdp);
+      StationTimeSeriesFeatureCollection sc = (StationTimeSeriesFeatureCollection) fdp.getPointFeatureCollectionList().get(0);
+      List<StationFeature> stations = sc.getStationFeatures();
+      int[] result = new int[stations.size()];
+      int count = 0;
+      for (StationFeature s : stations) {
+        StationTimeSeriesFeature stsf = sc.getStationTimeSeriesFeature(s).subset(dateRange);
+        for (PointFeature pf : stsf) {
+          Assert.assertTrue(dateRange.includes(pf.getObservationTimeAsCalendarDate()));
+          result[count]++;
+        }
+        count++;
+      }
+      return result;
+    }
+  }
+
+  @Test
+  public void testTimeSubset() throws IOException {
+    CalendarDateRange dateRange = makeDateRange();
+    int[] noIndex = countObs(dateRange);
+    Assert.assertArrayEquals(expected, noIndex);
+
+    File cacheDir = tempFolder.newFolder();
+    DiskCache2 dc = new DiskCache2(cacheDir.getPath(), false, 0, 0);
+    dc.setAlwaysUseCache(true);
+    DsgStationIndex.setDiskCache(dc);
+
+    // builds and writes the index
+    int[] withIndex = countObs(dateRange);
+    Assert.assertArrayEquals(Arrays.toString(withIndex), noIndex, withIndex);
+    File idxFile = dc.getCacheFile(location + ".dsgx");
+    Assert.assertTrue(idxFile.getPath(), idxFile.exists());
+
+    // reads the index
+    long lastModified = idxFile.lastModified();
+    withIndex = countObs(dateRange);
+    Assert.assertArrayEquals(noIndex, withIndex);
+    Assert.assertEquals(lastModified, idxFile.lastModified());
+  }
+}
@@ -0,0 +1,131 @@
+/* Copyright */
+package ucar.nc2.ft.point.writer;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import ucar.ma2.Array;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFileWriter;
+import ucar.nc2.Structure;
+import ucar.nc2.Variable;
+import ucar.nc2.constants.FeatureType;
+import ucar.nc2.ft.*;
+import ucar.nc2.ft.point.TestCFPointDatasets;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Formatter;
+import java.util.List;
+
+/**
+ * The obs written one at a time, a batch at a time with different batch sizes, and streamed to an OutputStream, are the same.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@RunWith(Parameterized.class)
+public class TestCFPointWriterStream {
+
+  @Parameterized.Parameters(name = "{0}")
+  public static List<Object[]> getTestParameters() {
+    List<Object[]> result = new ArrayList<>();
+    result.addAll(TestCFPointDatasets.getPointDatasets());
+    result.addAll(TestCFPointDatasets.getStationDatasets());
+    return result;
+  }
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private final String location;
+  private final FeatureType ftype;
+  private final int countExpected;
+
+  public TestCFPointWriterStream(String location, FeatureType ftype, int countExpected) {
+    this.location = location;
+    this.ftype = ftype;
+    this.countExpected = countExpected;
+  }
+
+  private int write(File fileOut, CFPointWriterConfig config) throws IOException {
+    Formatter errlog = new Formatter();
+    try (FeatureDatasetPoint fdpoint = (FeatureDatasetPoint) FeatureDatasetFactoryManager.open(ftype, location, null, errlog)) {
+      Assert.assertNotNull(errlog.toString(), fdpoint);
+      return CFPointWriter.writeFeatureCollection(fdpoint, fileOut.getPath(), config);
+    }
+  }
+
+  private void compareData(File expected, File actual) throws IOException {
+    try (NetcdfFile ncExpected = NetcdfFile.open(expected.getPath());
+         NetcdfFile ncActual = NetcdfFile.open(actual.getPath())) {
+      for (Variable v : ncExpected.getVariables()) {
+        if (v instanceof Structure) continue;
+        Variable va = ncActual.findVariable(v.getFullNameEscaped());
+        Assert.assertNotNull(v.getFullName(), va);
+        Array want = v.read();
+        Array got = va.read();
+        Assert.assertArrayEquals(v.getFullName(), want.getShape(), got.getShape());
+        Assert.assertTrue(v.getFullName(), Arrays.deepEquals(new Object[]{want.get1DJavaArray(want.getDataType())},
+                new Object[]{got.get1DJavaArray(got.getDataType())}));
+      }
+    }
+  }
+
+  @Test
+  public void testBatchSize() throws IOException {
+    File filePerRecord = tempFolder.newFile("perRecord.nc");
+    Assert.assertEquals(countExpected, write(filePerRecord, new CFPointWriterConfig(NetcdfFileWriter.Version.netcdf3).setRecordBufferSize(0)));
+
+    File fileOut = tempFolder.newFile("default.nc");
+    Assert.assertEquals(countExpected, write(fileOut, new CFPointWriterConfig(NetcdfFileWriter.Version.netcdf3)));
+    compareData(filePerRecord, fileOut);
+
+    File fileOne = tempFolder.newFile("one.nc");
+    Assert.assertEquals(countExpected, write(fileOne, new CFPointWriterConfig(NetcdfFileWriter.Version.netcdf3).setRecordBufferSize(1)));
+    compareData(filePerRecord, fileOne);
+
+    File fileTwo = tempFolder.newFile("two.nc");
+    Assert.assertEquals(countExpected, write(fileTwo, new CFPointWriterConfig(NetcdfFileWriter.Version.netcdf3).setRecordBufferSize(2)));
+    compareData(filePerRecord, fileTwo);
+  }
+
+  @Test
+  public void testStream() throws IOException {
+    File fileOut = tempFolder.newFile("file.nc");
+    Assert.assertEquals(countExpected, write(fileOut, new CFPointWriterConfig(NetcdfFileWriter.Version.netcdf3).setRecordBufferSize(0)));
+
+    File fileTemp = tempFolder.newFile("temp.nc");
+    File fileStream = tempFolder.newFile("stream.nc");
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(fileStream))) {
+      CFPointWriterConfig config = new CFPointWriterConfig(NetcdfFileWriter.Version.netcdf3).setRecordBufferSize(2).setStreamOut(out);
+      Assert.assertEquals(countExpected, write(fileTemp, config));
+    }
+    Assert.assertTrue(fileTemp.length() < fileStream.length()); // the records were not written to the file
+
+    compareData(fileOut, fileStream);
+
+    // the streamed file is a readable point dataset
+    Formatter errlog = new Formatter();
+    try (FeatureDatasetPoint fdpoint = (FeatureDatasetPoint) FeatureDatasetFactoryManager.open(ftype, fileStream.getPath(), null, errlog)) {
+      Assert.assertNotNull(errlog.toString(), fdpoint);
+      int count = 0;
+      for (PointFeature pf : flatten(fdpoint)) {
+        Assert.assertNotNull(pf.getDataAll());
+        count++;
+      }
+      Assert.assertEquals(countExpected, count);
+    }
+  }
+
+  private Iterable<PointFeature> flatten(FeatureDatasetPoint fdpoint) throws IOException {
+    DsgFeatureCollection fc = fdpoint.getPointFeatureCollectionList().get(0);
+    if (fc instanceof StationTimeSeriesFeatureCollection)
+      return ((StationTimeSeriesFeatureCollection) fc).flatten(null, null, null);
+    return (PointFeatureCollection) fc;
+  }
+}
@@ -0,0 +1,162 @@
+/* Copyright */
+package ucar.nc2.geotiff;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.ma2.Index;
+import ucar.ma2.IsMissingEvaluator;
+import ucar.unidata.geoloc.projection.LatLonProjection;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * GeotiffTiledWriter with synthetic data.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestGeotiffTiledWriter {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  static private final double MISSING = -999.0;
+
+  private IsMissingEvaluator missing = new IsMissingEvaluator() {
+    public boolean hasMissing() {
+      return true;
+    }
+
+    public boolean isMissing(double val) {
+      return val == MISSING;
+    }
+  };
+
+  private Array makeData(int ny, int nx) {
+    Array data = Array.factory(DataType.FLOAT, new int[]{ny, nx});
+    Index ima = data.getIndex();
+    for (int y = 0; y < ny; y++)
+      for (int x = 0; x < nx; x++)
+        data.setDouble(ima.set(y, x), (x == y) ? MISSING : y * 0.5 + x);
+    return data;
+  }
+
+  private File write(Array data, boolean greyScale, GeotiffTiledWriter.Compression compression) throws IOException {
+    File file = tempFolder.newFile();
+    try (OutputStream out = new FileOutputStream(file);
+         GeotiffTiledWriter writer = new GeotiffTiledWriter(out)) {
+      writer.setTileSize(64).setCompression(compression);
+      writer.writeGrid(data, missing, greyScale, -180, -90, 0.5, 0.5, new LatLonProjection());
+      Assert.assertEquals(file.length(), writer.getBytesWritten());
+    }
+    return file;
+  }
+
+  // count the IFDs in the file
+  private int countIFDs(File file) throws IOException {
+    ByteBuffer bb = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+    int count = 0;
+    int next = bb.getInt(4);
+    while (next != 0) {
+      count++;
+      int nentries = bb.getShort(next);
+      next = bb.getInt(next + 2 + 12 * nentries);
+    }
+    return count;
+  }
+
+  private byte[] inflate(byte[] compressed, int size) throws DataFormatException {
+    Inflater inflater = new Inflater();
+    inflater.setInput(compressed);
+    byte[] result = new byte[size];
+    int n = inflater.inflate(result);
+    inflater.end();
+    Assert.assertEquals(size, n);
+    return result;
+  }
+
+  @Test
+  public void testFloat() throws IOException, DataFormatException {
+    Array data = makeData(150, 200);
+    File file = write(data, false, GeotiffTiledWriter.Compression.deflate);
+
+    // 200x150, 100x75, 50x38
+    Assert.assertEquals(3, countIFDs(file));
+
+    GeoTiff geotiff = new GeoTiff(file.getPath());
+    try {
+      geotiff.read();
+      Assert.assertEquals(200, geotiff.findTag(Tag.ImageWidth).value[0]);
+      Assert.assertEquals(150, geotiff.findTag(Tag.ImageLength).value[0]);
+      Assert.assertEquals(64, geotiff.findTag(Tag.TileWidth).value[0]);
+      Assert.assertEquals(8, geotiff.findTag(Tag.Compression).value[0]);
+      Assert.assertNotNull(geotiff.findTag(Tag.GeoKeyDirectoryTag));
+
+      IFDEntry offsets = geotiff.findTag(Tag.TileOffsets);
+      IFDEntry counts = geotiff.findTag(Tag.TileByteCounts);
+      Assert.assertEquals(4 * 3, offsets.count);
+
+      // the lower right tile: x 192-199, y 128-149, the rest is padding
+      int tile = 4 * 3 - 1;
+      ByteBuffer bb = geotiff.testReadData(offsets.value[tile], counts.value[tile]);
+      byte[] raw = inflate(bb.array(), 64 * 64 * 4);
+      ByteBuffer values = ByteBuffer.wrap(raw);
+      float fill = values.getFloat(4 * (64 * 63 + 63));
+      Index ima = data.getIndex();
+      for (int y = 0; y < 64; y++) {
+        for (int x = 0; x < 64; x++) {
+          float v = values.getFloat(4 * (64 * y + x));
+          if (128 + y < 150 && 192 + x < 200)
+            Assert.assertEquals(data.getFloat(ima.set(128 + y, 192 + x)), v, 0.0);
+          else
+            Assert.assertEquals(fill, v, 0.0);
+        }
+      }
+
+    } finally {
+      geotiff.close();
+    }
+  }
+
+  @Test
+  public void testGreyScaleUncompressed() throws IOException {
+    Array data = makeData(64, 64);
+    File file = write(data, true, GeotiffTiledWriter.Compression.none);
+
+    // fits in one tile, no overviews
+    Assert.assertEquals(1, countIFDs(file));
+
+    GeoTiff geotiff = new GeoTiff(file.getPath());
+    try {
+      geotiff.read();
+      Assert.assertEquals(8, geotiff.findTag(Tag.BitsPerSample).value[0]);
+      Assert.assertEquals(1, geotiff.findTag(Tag.Compression).value[0]);
+      IFDEntry offsets = geotiff.findTag(Tag.TileOffsets);
+      IFDEntry counts = geotiff.findTag(Tag.TileByteCounts);
+      Assert.assertEquals(64 * 64, counts.value[0]);
+
+      ByteBuffer bb = geotiff.testReadData(offsets.value[0], counts.value[0]);
+      Assert.assertEquals(0, bb.get(0));                     // missing
+      Assert.assertEquals(1, bb.get(64) & 0xff);             // min at y=1, x=0
+      Assert.assertEquals(255, bb.get(64 * 62 + 63) & 0xff); // max at y=62, x=63
+    } finally {
+      geotiff.close();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBadTileSize() {
+    new GeotiffTiledWriter(null).setTileSize(100);
+  }
+}
@@ -0,0 +1,124 @@
+/* Copyright */
+package ucar.nc2.iosp.nexrad2;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Test reading a bzip2 compressed Level II file through the in-memory decompressed blocks.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestLevel2BlockRandomAccessFile {
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @After
+  public void turnOff() {
+    Level2BlockRandomAccessFile.setCacheSize(0);
+  }
+
+  @Test
+  public void testRead() throws IOException {
+    byte[] expected = makeUncompressed(new int[]{2432 * 13, 2432 * 120, 1000, 2432 * 120, 77});
+    File compressed = makeCompressed(expected, new int[]{2432 * 13, 2432 * 120, 1000, 2432 * 120, 77});
+
+    Level2BlockRandomAccessFile.setCacheSize(100 * 1000 * 1000);
+    checkContents(compressed, expected);
+  }
+
+  @Test
+  public void testEvicted() throws IOException {
+    byte[] expected = makeUncompressed(new int[]{5000, 7000, 9000});
+    File compressed = makeCompressed(expected, new int[]{5000, 7000, 9000});
+
+    Level2BlockRandomAccessFile.setCacheSize(1); // every block must be decompressed again
+    checkContents(compressed, expected);
+  }
+
+  @Test
+  public void testPersist() throws IOException, InterruptedException {
+    byte[] expected = makeUncompressed(new int[]{5000, 7000});
+    File compressed = makeCompressed(expected, new int[]{5000, 7000});
+    File ufile = new File(tempFolder.getRoot(), "test.uncompress");
+
+    Level2BlockRandomAccessFile.setCacheSize(100 * 1000 * 1000);
+    try (Level2BlockRandomAccessFile raf = new Level2BlockRandomAccessFile(new RandomAccessFile(compressed.getPath(), "r"))) {
+      raf.writeUncompressedInBackground(ufile.getPath());
+    }
+
+    for (int i = 0; i < 100 && ufile.length() < expected.length; i++)
+      Thread.sleep(50);
+    Assert.assertArrayEquals(expected, Files.readAllBytes(ufile.toPath()));
+  }
+
+  private void checkContents(File compressed, byte[] expected) throws IOException {
+    try (Level2BlockRandomAccessFile raf = new Level2BlockRandomAccessFile(new RandomAccessFile(compressed.getPath(), "r"))) {
+      Assert.assertEquals(expected.length, raf.length());
+
+      // sequential
+      byte[] result = new byte[expected.length];
+      raf.seek(0);
+      raf.readFully(result);
+      Assert.assertArrayEquals(expected, result);
+
+      // random access, crossing block boundaries
+      Random random = new Random(17);
+      for (int i = 0; i < 100; i++) {
+        int pos = random.nextInt(expected.length);
+        int len = Math.min(random.nextInt(20000), expected.length - pos);
+        byte[] part = new byte[len];
+        raf.seek(pos);
+        raf.readFully(part);
+        for (int j = 0; j < len; j++)
+          Assert.assertEquals(expected[pos + j], part[j]);
+      }
+
+      raf.seek(expected.length);
+      Assert.assertEquals(-1, raf.read());
+    }
+  }
+
+  private byte[] makeUncompressed(int[] blockSizes) {
+    int total = Level2Record.FILE_HEADER_SIZE;
+    for (int size : blockSizes) total += size;
+    byte[] result = new byte[total];
+    new Random(42).nextBytes(result);
+    System.arraycopy("AR2V0006".getBytes(), 0, result, 0, 8);
+    return result;
+  }
+
+  // each LDM block is a separate bzip2 stream, preceded by its length, negated for the last block
+  private File makeCompressed(byte[] uncompressed, int[] blockSizes) throws IOException {
+    File file = tempFolder.newFile();
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      out.write(uncompressed, 0, Level2Record.FILE_HEADER_SIZE);
+      int start = Level2Record.FILE_HEADER_SIZE;
+      for (int i = 0; i < blockSizes.length; i++) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (BZip2CompressorOutputStream bz = new BZip2CompressorOutputStream(bos)) {
+          bz.write(uncompressed, start, blockSizes[i]);
+        }
+        start += blockSizes[i];
+        out.writeInt(i == blockSizes.length - 1 ? -bos.size() : bos.size());
+        bos.writeTo(out);
+      }
+    }
+    return file;
+  }
+
+}
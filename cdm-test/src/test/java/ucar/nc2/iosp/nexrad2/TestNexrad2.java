@@ -37,6 +37,7 @@ import org.junit.experimental.categories.Category;
 import ucar.ma2.Array;
 import ucar.ma2.IndexIterator;
 import ucar.ma2.InvalidRangeException;
+import ucar.ma2.MAMath;
 import ucar.nc2.Dimension;
 import ucar.nc2.NetcdfFile;
 import ucar.nc2.Variable;
@@ -161,6 +162,23 @@ public class TestNexrad2 {
     }
   }
 
+  @Test
+  public void testBlockCache() throws IOException {
+    String filename = TestDir.cdmUnitTestDir + "formats/nexrad/level2/Level2_KYUX_20060527_2335.ar2v";
+    Array expected;
+    try (NetcdfFile ncfile = NetcdfFile.open(filename)) {
+      expected = ncfile.findVariable("Reflectivity").read();
+    }
+
+    Level2VolumeScan.setBlockCache(200 * 1000 * 1000, false);
+    try (NetcdfFile ncfile = NetcdfFile.open(filename)) {
+      Array data = ncfile.findVariable("Reflectivity").read();
+      assert MAMath.equals(expected, data);
+    } finally {
+      Level2VolumeScan.setBlockCache(0, true);
+    }
+  }
+
   @Test
   public void testBzipProblem() throws IOException, InvalidRangeException {
     // file where there was an error unzipping the file
@@ -111,9 +111,11 @@ public abstract class CollectionManagerAbstract extends CollectionAbstract imple
     storeFactory = _storeFactory;
   }
 
-  private StoreKeyValue store;
+  private volatile StoreKeyValue store;
 
-  private void initMM() {
+  // may be called from multiple threads, eg Fmrc.makeFmrcInv
+  private synchronized void initMM() {
+    if (store != null) return;
     if (getCollectionName() == null) return; // eg no scan in ncml
     try {
     	if (storeFactory != null)
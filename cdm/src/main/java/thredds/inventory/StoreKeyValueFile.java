@@ -0,0 +1,218 @@
+/* Copyright */
+package thredds.inventory;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A StoreKeyValue that keeps all the entries of a collection in a single file.
+ * The file is read with one sequential read when opened, and held in memory; new entries are appended.
+ * <p>
+ * The file is a sequence of length-delimited protobuf messages:
+ * <pre>
+ *   message StoreEntry {
+ *     string key = 1;
+ *     bytes value = 2;
+ *   }
+ * </pre>
+ * A later entry replaces an earlier one with the same key. When the collection is closed, the file is
+ * rewritten if more than half of it is replaced entries.
+ * Instances are shared by all users of the same collection, and are thread-safe.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class StoreKeyValueFile implements StoreKeyValue {
+  static private org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(StoreKeyValueFile.class);
+  static private final Map<String, StoreKeyValueFile> openFiles = new HashMap<>(); // key = file path
+
+  /**
+   * Get a factory that keeps the store files in the given directory.
+   *
+   * @param dir directory of the store files, created if needed
+   * @return the factory
+   */
+  static public StoreKeyValue.Factory getFactory(String dir) {
+    return name -> {
+      try {
+        return open(new File(dir), name);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  static synchronized StoreKeyValueFile open(File dir, String collectionName) throws IOException {
+    if (!dir.exists() && !dir.mkdirs())
+      throw new IOException("StoreKeyValueFile cant make directory " + dir.getPath());
+    File file = new File(dir, makeFilename(collectionName));  // LOOK different names could map to the same file
+    StoreKeyValueFile store = openFiles.get(file.getPath());
+    if (store == null) {
+      store = new StoreKeyValueFile(file);
+      openFiles.put(file.getPath(), store);
+    }
+    store.refCount++;
+    return store;
+  }
+
+  static private String makeFilename(String collectionName) {
+    return collectionName.replaceAll("[^\\w.\\-]", "_") + ".store";
+  }
+
+  static private synchronized void release(StoreKeyValueFile store) {
+    if (--store.refCount > 0) return;
+    openFiles.remove(store.file.getPath());
+    store.closeFile();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+
+  private final File file;
+  private final Map<String, byte[]> map = new HashMap<>();
+  private OutputStream out;  // append, opened lazily
+  private long liveBytes, staleBytes;
+  private int refCount;
+
+  private StoreKeyValueFile(File file) throws IOException {
+    this.file = file;
+    if (file.exists())
+      readFile();
+  }
+
+  private void readFile() throws IOException {
+    byte[] bytes = Files.readAllBytes(file.toPath());
+    int pos = 0;
+    while (pos < bytes.length) {
+      // varint length prefix
+      int len = 0, shift = 0, start = pos;
+      while (pos < bytes.length && shift < 32) {
+        byte b = bytes[pos++];
+        len |= (b & 0x7f) << shift;
+        if ((b & 0x80) == 0) break;
+        shift += 7;
+      }
+      if (pos >= bytes.length || len < 0 || pos + len > bytes.length) { // incomplete last write
+        log.warn("StoreKeyValueFile {} truncated at {}, dropping {} bytes", file.getPath(), start, bytes.length - start);
+        try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(file, "rw")) {
+          raf.setLength(start);
+        }
+        break;
+      }
+      readEntry(CodedInputStream.newInstance(bytes, pos, len), len + (pos - start));
+      pos += len;
+    }
+    if (log.isDebugEnabled()) log.debug("StoreKeyValueFile {} read {} entries from {} bytes", file.getPath(), map.size(), bytes.length);
+  }
+
+  private void readEntry(CodedInputStream in, int nbytes) throws IOException {
+    String key = null;
+    byte[] value = null;
+    int tag;
+    while ((tag = in.readTag()) != 0) {
+      switch (WireFormat.getTagFieldNumber(tag)) {
+        case 1:
+          key = in.readString();
+          break;
+        case 2:
+          value = in.readByteArray();
+          break;
+        default:
+          in.skipField(tag);
+      }
+    }
+    if (key != null && value != null)
+      addToMap(key, value, nbytes);
+  }
+
+  private void addToMap(String key, byte[] value, int nbytes) {
+    byte[] old = map.put(key, value);
+    if (old != null) {
+      int oldBytes = entrySize(key, old);
+      liveBytes -= oldBytes;
+      staleBytes += oldBytes;
+    }
+    liveBytes += nbytes;
+  }
+
+  static private byte[] makeEntry(String key, byte[] value) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(key.length() + value.length + 20);
+    CodedOutputStream cos = CodedOutputStream.newInstance(bos);
+    cos.writeRawVarint32(CodedOutputStream.computeStringSize(1, key) + CodedOutputStream.computeByteArraySize(2, value));
+    cos.writeString(1, key);
+    cos.writeByteArray(2, value);
+    cos.flush();
+    return bos.toByteArray();
+  }
+
+  static private int entrySize(String key, byte[] value) {
+    int size = CodedOutputStream.computeStringSize(1, key) + CodedOutputStream.computeByteArraySize(2, value);
+    return size + CodedOutputStream.computeRawVarint32Size(size);
+  }
+
+  @Override
+  public synchronized byte[] getBytes(String key) {
+    return map.get(key);
+  }
+
+  @Override
+  public synchronized void put(String key, byte[] value) {
+    try {
+      byte[] entry = makeEntry(key, value);
+      if (out == null)
+        out = new FileOutputStream(file, true);
+      out.write(entry);
+      out.flush();
+      addToMap(key, value, entry.length);
+    } catch (IOException e) {
+      log.error("StoreKeyValueFile failed to write " + file.getPath(), e);
+      map.put(key, value); // still useful while open
+    }
+  }
+
+  @Override
+  public void close() {
+    release(this);
+  }
+
+  private synchronized void closeFile() {
+    try {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+      if (staleBytes > liveBytes)
+        compact();
+    } catch (IOException e) {
+      log.error("StoreKeyValueFile failed to close " + file.getPath(), e);
+    }
+  }
+
+  // rewrite with only the current entries
+  private void compact() throws IOException {
+    File tmp = new File(file.getPath() + ".tmp");
+    try (OutputStream os = new java.io.BufferedOutputStream(new FileOutputStream(tmp))) {
+      for (Map.Entry<String, byte[]> entry : map.entrySet())
+        os.write(makeEntry(entry.getKey(), entry.getValue()));
+    }
+    Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    if (log.isDebugEnabled()) log.debug("StoreKeyValueFile {} compacted {} -> {} bytes", file.getPath(), liveBytes + staleBytes, liveBytes);
+    staleBytes = 0;
+  }
+
+  @Override
+  public String toString() {
+    return "StoreKeyValueFile{" + file.getPath() + ", nentries=" + map.size() + '}';
+  }
+
+}
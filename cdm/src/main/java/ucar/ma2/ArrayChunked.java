@@ -0,0 +1,420 @@
+/* Copyright */
+package ucar.ma2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A multidimensional array with a long index, that may be larger than a single Array can hold (2^31 elements).
+ * The data is stored in a list of ordinary Arrays ("chunks"), each a contiguous piece of the whole in canonical order.
+ * Each chunk has the shape [1, ..., 1, n, shape[k], ..., shape[rank-1]], see computeChunkSections().
+ * <p>
+ * Elements are addressed by their long index in canonical order, or iterated with getIndexIterator().
+ * Most processing should be done one chunk at a time, using the usual Array methods on getChunk(i).
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class ArrayChunked {
+  /** the default maximum number of elements in a chunk, limited by the size of a java array */
+  static public final long MAX_CHUNK_ELEMS = Integer.MAX_VALUE - 8;
+
+  /**
+   * Divide an array of the given shape into contiguous sections, each with no more than maxChunkElems elements.
+   * The rightmost dimensions that fit are kept whole, the next one is split, and any dimensions to the left of that have length 1.
+   *
+   * @param shape         shape of the whole array
+   * @param maxChunkElems maximum number of elements in a section, must be > 0
+   * @return list of sections, in canonical order
+   */
+  static public List<Section> computeChunkSections(int[] shape, long maxChunkElems) {
+    if (maxChunkElems <= 0)
+      throw new IllegalArgumentException("maxChunkElems must be > 0");
+
+    // find the rightmost dimensions that fit together
+    int rank = shape.length;
+    int k = rank;
+    long inner = 1;
+    while (k > 0 && inner * shape[k - 1] <= maxChunkElems) {
+      inner *= shape[k - 1];
+      k--;
+    }
+    if (k == 0)
+      return Collections.singletonList(new Section(shape));
+
+    // split dimension k-1 into pieces of nrows, iterate over dimensions 0..k-2
+    int split = k - 1;
+    int nrows = (int) Math.min(shape[split], maxChunkElems / inner);
+    List<Section> result = new ArrayList<>();
+    int[] origin = new int[rank];
+    int[] chunkShape = new int[rank];
+    Arrays.fill(chunkShape, 1);
+    System.arraycopy(shape, k, chunkShape, k, rank - k);
+
+    try {
+      while (true) {
+        for (int start = 0; start < shape[split]; start += nrows) {
+          origin[split] = start;
+          chunkShape[split] = Math.min(nrows, shape[split] - start);
+          result.add(new Section(origin.clone(), chunkShape.clone()));
+        }
+        // increment the outer counter
+        int dim = split - 1;
+        while (dim >= 0) {
+          origin[dim]++;
+          if (origin[dim] < shape[dim]) break;
+          origin[dim] = 0;
+          dim--;
+        }
+        if (dim < 0) break;
+      }
+    } catch (InvalidRangeException e) {
+      throw new IllegalStateException(e); // cant happen
+    }
+    return result;
+  }
+
+  /**
+   * Create an ArrayChunked and allocate the chunks.
+   *
+   * @param dataType data type
+   * @param shape    shape of the whole array
+   * @return new ArrayChunked, with all values zero
+   */
+  static public ArrayChunked factory(DataType dataType, int[] shape) {
+    return factory(dataType, shape, MAX_CHUNK_ELEMS);
+  }
+
+  /**
+   * Create an ArrayChunked and allocate the chunks.
+   *
+   * @param dataType      data type
+   * @param shape         shape of the whole array
+   * @param maxChunkElems maximum number of elements in a chunk
+   * @return new ArrayChunked, with all values zero
+   */
+  static public ArrayChunked factory(DataType dataType, int[] shape, long maxChunkElems) {
+    ArrayChunked result = new ArrayChunked(dataType, shape, maxChunkElems);
+    for (int i = 0; i < result.chunks.length; i++)
+      result.chunks[i] = Array.factory(dataType, result.chunkSections.get(i).getShape());
+    return result;
+  }
+
+  ////////////////////////////////////////////////////////////////////
+
+  private final DataType dataType;
+  private final int[] shape;
+  private final List<Section> chunkSections;
+  private final Array[] chunks;
+  private final long[] chunkStart;  // index of the first element in each chunk; last entry is the total size
+
+  /**
+   * Create an ArrayChunked, chunks must be added with setChunk().
+   *
+   * @param dataType      data type
+   * @param shape         shape of the whole array
+   * @param maxChunkElems maximum number of elements in a chunk
+   */
+  public ArrayChunked(DataType dataType, int[] shape, long maxChunkElems) {
+    this.dataType = dataType;
+    this.shape = shape.clone();
+    this.chunkSections = computeChunkSections(shape, maxChunkElems);
+    this.chunks = new Array[chunkSections.size()];
+    this.chunkStart = new long[chunks.length + 1];
+    for (int i = 0; i < chunks.length; i++)
+      chunkStart[i + 1] = chunkStart[i] + chunkSections.get(i).computeSize();
+  }
+
+  public DataType getDataType() {
+    return dataType;
+  }
+
+  public int[] getShape() {
+    return shape.clone();
+  }
+
+  public int getRank() {
+    return shape.length;
+  }
+
+  /**
+   * Get the total number of elements in the array.
+   * @return total number of elements in the array.
+   */
+  public long getSize() {
+    return chunkStart[chunks.length];
+  }
+
+  /**
+   * Get the total number of bytes in the array.
+   * @return total number of bytes in the array, or -1 if the element size is not known
+   */
+  public long getSizeBytes() {
+    int elemSize = dataType.getSize();
+    return (elemSize <= 0) ? -1 : getSize() * elemSize;
+  }
+
+  public int getChunkCount() {
+    return chunks.length;
+  }
+
+  /**
+   * Get the section of the whole array held by the ith chunk.
+   * @param i which chunk
+   * @return section, reletive to this array
+   */
+  public Section getChunkSection(int i) {
+    return chunkSections.get(i);
+  }
+
+  /**
+   * Get the ith chunk.
+   * @param i which chunk
+   * @return the chunk, with the shape of getChunkSection(i)
+   */
+  public Array getChunk(int i) {
+    Array chunk = chunks[i];
+    if (chunk == null)
+      throw new IllegalStateException("ArrayChunked chunk " + i + " has not been set");
+    return chunk;
+  }
+
+  /**
+   * Set the data for the ith chunk.
+   * @param i    which chunk
+   * @param data must have the same number of elements as getChunkSection(i). It is used directly if in canonical order, else copied.
+   */
+  public void setChunk(int i, Array data) {
+    Section section = chunkSections.get(i);
+    if (data.getSize() != section.computeSize())
+      throw new IllegalArgumentException("ArrayChunked chunk " + i + " must have size " + section.computeSize() + " not " + data.getSize());
+    if (!data.indexCalc.isFastIterator())
+      data = data.copy();
+    int[] chunkShape = section.getShape();
+    chunks[i] = Arrays.equals(data.getShape(), chunkShape) ? data : data.reshapeNoCopy(chunkShape);
+  }
+
+  /**
+   * Find the chunk holding an element.
+   * @param elem index in canonical order
+   * @return chunk number
+   */
+  public int findChunk(long elem) {
+    if (elem < 0 || elem >= getSize())
+      throw new ArrayIndexOutOfBoundsException("ArrayChunked index " + elem + " size " + getSize());
+    int idx = Arrays.binarySearch(chunkStart, elem);
+    if (idx < 0) idx = -idx - 2;  // insertion point - 1
+    while (chunkStart[idx + 1] <= elem) idx++; // skip empty chunks
+    return idx;
+  }
+
+  /**
+   * Get the index of the first element of the ith chunk.
+   * @param i which chunk
+   * @return index in canonical order
+   */
+  public long getChunkStart(int i) {
+    return chunkStart[i];
+  }
+
+  /**
+   * Copy values from a 1D java primitive array, which may span several chunks.
+   * Only for chunks allocated by factory(), or otherwise backed by a primitive array.
+   *
+   * @param destElem  starting element in this array
+   * @param javaArray primitive array of the same type as the data
+   * @param srcPos    starting position in javaArray
+   * @param nelems    number of elements to copy
+   */
+  public void copyFrom1DJavaArray(long destElem, Object javaArray, int srcPos, int nelems) {
+    while (nelems > 0) {
+      int i = findChunk(destElem);
+      int offset = (int) (destElem - chunkStart[i]);
+      int n = (int) Math.min(nelems, chunkStart[i + 1] - destElem);
+      System.arraycopy(javaArray, srcPos, getChunk(i).getStorage(), offset, n);
+      destElem += n;
+      srcPos += n;
+      nelems -= n;
+    }
+  }
+
+  /**
+   * Get an iterator over all of the elements, in canonical order.
+   * @return an iterator, crossing chunk boundaries as needed.
+   */
+  public IndexIterator getIndexIterator() {
+    return new ChunkedIterator();
+  }
+
+  //////////////////////////////////////////////////////////////
+  // element access by long index
+
+  public double getDouble(long elem) {
+    int i = findChunk(elem);
+    return getChunk(i).getDouble((int) (elem - chunkStart[i]));
+  }
+
+  public void setDouble(long elem, double value) {
+    int i = findChunk(elem);
+    getChunk(i).setDouble((int) (elem - chunkStart[i]), value);
+  }
+
+  public float getFloat(long elem) {
+    int i = findChunk(elem);
+    return getChunk(i).getFloat((int) (elem - chunkStart[i]));
+  }
+
+  public void setFloat(long elem, float value) {
+    int i = findChunk(elem);
+    getChunk(i).setFloat((int) (elem - chunkStart[i]), value);
+  }
+
+  public long getLong(long elem) {
+    int i = findChunk(elem);
+    return getChunk(i).getLong((int) (elem - chunkStart[i]));
+  }
+
+  public void setLong(long elem, long value) {
+    int i = findChunk(elem);
+    getChunk(i).setLong((int) (elem - chunkStart[i]), value);
+  }
+
+  public int getInt(long elem) {
+    int i = findChunk(elem);
+    return getChunk(i).getInt((int) (elem - chunkStart[i]));
+  }
+
+  public void setInt(long elem, int value) {
+    int i = findChunk(elem);
+    getChunk(i).setInt((int) (elem - chunkStart[i]), value);
+  }
+
+  public short getShort(long elem) {
+    int i = findChunk(elem);
+    return getChunk(i).getShort((int) (elem - chunkStart[i]));
+  }
+
+  public void setShort(long elem, short value) {
+    int i = findChunk(elem);
+    getChunk(i).setShort((int) (elem - chunkStart[i]), value);
+  }
+
+  public byte getByte(long elem) {
+    int i = findChunk(elem);
+    return getChunk(i).getByte((int) (elem - chunkStart[i]));
+  }
+
+  public void setByte(long elem, byte value) {
+    int i = findChunk(elem);
+    getChunk(i).setByte((int) (elem - chunkStart[i]), value);
+  }
+
+  public Object getObject(long elem) {
+    int i = findChunk(elem);
+    return getChunk(i).getObject((int) (elem - chunkStart[i]));
+  }
+
+  public void setObject(long elem, Object value) {
+    int i = findChunk(elem);
+    getChunk(i).setObject((int) (elem - chunkStart[i]), value);
+  }
+
+  @Override
+  public String toString() {
+    return "ArrayChunked{" + dataType + " " + Arrays.toString(shape) + ", nchunks=" + chunks.length + '}';
+  }
+
+  //////////////////////////////////////////////////////////////
+
+  // iterate over each chunk in turn
+  private class ChunkedIterator implements IndexIterator {
+    private int chunkno = -1;
+    private IndexIterator curr;
+
+    // move to the chunk with the next element
+    private IndexIterator nextChunk() {
+      while (curr == null || !curr.hasNext()) {
+        chunkno++;
+        if (chunkno >= chunks.length)
+          throw new ArrayIndexOutOfBoundsException("ArrayChunked iterator past the end");
+        curr = getChunk(chunkno).getIndexIterator();
+      }
+      return curr;
+    }
+
+    private IndexIterator current() {
+      if (curr == null)
+        throw new IllegalStateException("ArrayChunked iterator: call next() first");
+      return curr;
+    }
+
+    public boolean hasNext() {
+      if (curr != null && curr.hasNext()) return true;
+      long currEnd = (chunkno < 0) ? 0 : chunkStart[chunkno + 1];
+      return currEnd < getSize();
+    }
+
+    public double getDoubleNext() { return nextChunk().getDoubleNext(); }
+    public void setDoubleNext(double val) { nextChunk().setDoubleNext(val); }
+    public double getDoubleCurrent() { return current().getDoubleCurrent(); }
+    public void setDoubleCurrent(double val) { current().setDoubleCurrent(val); }
+
+    public float getFloatNext() { return nextChunk().getFloatNext(); }
+    public void setFloatNext(float val) { nextChunk().setFloatNext(val); }
+    public float getFloatCurrent() { return current().getFloatCurrent(); }
+    public void setFloatCurrent(float val) { current().setFloatCurrent(val); }
+
+    public long getLongNext() { return nextChunk().getLongNext(); }
+    public void setLongNext(long val) { nextChunk().setLongNext(val); }
+    public long getLongCurrent() { return current().getLongCurrent(); }
+    public void setLongCurrent(long val) { current().setLongCurrent(val); }
+
+    public int getIntNext() { return nextChunk().getIntNext(); }
+    public void setIntNext(int val) { nextChunk().setIntNext(val); }
+    public int getIntCurrent() { return current().getIntCurrent(); }
+    public void setIntCurrent(int val) { current().setIntCurrent(val); }
+
+    public short getShortNext() { return nextChunk().getShortNext(); }
+    public void setShortNext(short val) { nextChunk().setShortNext(val); }
+    public short getShortCurrent() { return current().getShortCurrent(); }
+    public void setShortCurrent(short val) { current().setShortCurrent(val); }
+
+    public byte getByteNext() { return nextChunk().getByteNext(); }
+    public void setByteNext(byte val) { nextChunk().setByteNext(val); }
+    public byte getByteCurrent() { return current().getByteCurrent(); }
+    public void setByteCurrent(byte val) { current().setByteCurrent(val); }
+
+    public char getCharNext() { return nextChunk().getCharNext(); }
+    public void setCharNext(char val) { nextChunk().setCharNext(val); }
+    public char getCharCurrent() { return current().getCharCurrent(); }
+    public void setCharCurrent(char val) { current().setCharCurrent(val); }
+
+    public boolean getBooleanNext() { return nextChunk().getBooleanNext(); }
+    public void setBooleanNext(boolean val) { nextChunk().setBooleanNext(val); }
+    public boolean getBooleanCurrent() { return current().getBooleanCurrent(); }
+    public void setBooleanCurrent(boolean val) { current().setBooleanCurrent(val); }
+
+    public Object getObjectNext() { return nextChunk().getObjectNext(); }
+    public void setObjectNext(Object val) { nextChunk().setObjectNext(val); }
+    public Object getObjectCurrent() { return current().getObjectCurrent(); }
+    public void setObjectCurrent(Object val) { current().setObjectCurrent(val); }
+
+    public Object next() { return nextChunk().next(); }
+
+    public int[] getCurrentCounter() {
+      int[] counter = current().getCurrentCounter();
+      int[] origin = chunkSections.get(chunkno).getOrigin();
+      for (int i = 0; i < counter.length; i++)
+        counter[i] += origin[i];
+      return counter;
+    }
+
+    @Override
+    public String toString() {
+      return "ArrayChunked iterator chunk " + chunkno + ": " + curr;
+    }
+  }
+
+}
@@ -34,6 +34,8 @@ package ucar.ma2;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import ucar.nc2.util.Misc;
 
 /**
@@ -273,6 +275,7 @@ public class MAMath {
   public static void copyDouble(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -293,6 +296,7 @@ public class MAMath {
   public static void copyFloat(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -313,6 +317,7 @@ public class MAMath {
   public static void copyLong(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -333,6 +338,7 @@ public class MAMath {
   public static void copyInt(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -353,6 +359,7 @@ public class MAMath {
   public static void copyShort(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -373,6 +380,7 @@ public class MAMath {
   public static void copyChar(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -394,6 +402,7 @@ public class MAMath {
   public static void copyByte(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -413,6 +422,7 @@ public class MAMath {
   public static void copyBoolean(Array result, Array a) throws IllegalArgumentException {
     if (!conformable(a, result))
       throw new IllegalArgumentException("copy arrays are not conformable");
+    if (StridedCopy.copy(result, a)) return;
 
     IndexIterator iterA = a.getIndexIterator();
     IndexIterator iterR = result.getIndexIterator();
@@ -485,16 +495,23 @@ public class MAMath {
    * @return MinMax
    */
   public static MAMath.MinMax getMinMax(Array a) {
-    IndexIterator iter = a.getIndexIterator();
+    Accum accum = accumulate(a, null, true);
+    return new MinMax(accum.min, accum.max);
+  }
+
+  /**
+   * Find min and max value in a chunked array, getting values as doubles. Skip Double.NaN.
+   *
+   * @param a the array.
+   * @return MinMax
+   */
+  public static MAMath.MinMax getMinMax(ArrayChunked a) {
     double max = -Double.MAX_VALUE;
     double min = Double.MAX_VALUE;
-    while (iter.hasNext()) {
-      double val = iter.getDoubleNext();
-      if (Double.isNaN(val)) continue;
-      if (val > max)
-        max = val;
-      if (val < min)
-        min = val;
+    for (int i = 0; i < a.getChunkCount(); i++) {
+      MinMax mm = getMinMax(a.getChunk(i));
+      min = Math.min(min, mm.min);
+      max = Math.max(max, mm.max);
     }
     return new MinMax(min, max);
   }
@@ -503,19 +520,8 @@ public class MAMath {
     if (eval == null || !eval.hasMissing())
       return MAMath.getMinMax(a);
 
-    IndexIterator iter = a.getIndexIterator();
-    double max = -Double.MAX_VALUE;
-    double min = Double.MAX_VALUE;
-    while (iter.hasNext()) {
-      double val = iter.getDoubleNext();
-      if (eval.isMissing(val))
-        continue;
-      if (val > max)
-        max = val;
-      if (val < min)
-        min = val;
-    }
-    return new MAMath.MinMax(min, max);
+    Accum accum = accumulate(a, eval, false);
+    return new MAMath.MinMax(accum.min, accum.max);
   }
 
 
@@ -542,19 +548,8 @@ public class MAMath {
   }
 
   public static MAMath.MinMax getMinMaxSkipMissingData(Array a, double missingValue) {
-    IndexIterator iter = a.getIndexIterator();
-    double max = -Double.MAX_VALUE;
-    double min = Double.MAX_VALUE;
-    while (iter.hasNext()) {
-      double val = iter.getDoubleNext();
-      if (val == missingValue)
-        continue;
-      if (val > max)
-        max = val;
-      if (val < min)
-        min = val;
-    }
-    return new MinMax(min, max);
+    Accum accum = accumulate(a, new MissingValue(missingValue), false);
+    return new MinMax(accum.min, accum.max);
   }
 
 
@@ -579,11 +574,18 @@ public class MAMath {
    * @return sum of elements
    */
   public static double sumDouble(Array a) {
+    return accumulate(a, null, false).sum;
+  }
+
+  /**
+   * sum all of the elements of a chunked array as doubles.
+   * @param a read values from this ArrayChunked
+   * @return sum of elements
+   */
+  public static double sumDouble(ArrayChunked a) {
     double sum = 0;
-    IndexIterator iterA = a.getIndexIterator();
-    while (iterA.hasNext()) {
-      sum += iterA.getDoubleNext();
-    }
+    for (int i = 0; i < a.getChunkCount(); i++)
+      sum += sumDouble(a.getChunk(i));
     return sum;
   }
 
@@ -595,15 +597,178 @@ public class MAMath {
    * @return sum of elements
    */
   public static double sumDoubleSkipMissingData(Array a, double missingValue) {
-    double sum = 0;
-    IndexIterator iterA = a.getIndexIterator();
-    while (iterA.hasNext()) {
-      double val = iterA.getDoubleNext();
-      if ((val == missingValue) || Double.isNaN(val))
-        continue;
+    return accumulate(a, new MissingValue(missingValue), true).sum;
+  }
+
+  /**
+   * Calculate min, max, sum, mean and the number of valid and missing values, in one pass.
+   *
+   * @param a    the array
+   * @param eval decides which values are missing, may be null. NaNs are always missing.
+   * @return Stats
+   */
+  public static Stats calcStats(Array a, IsMissingEvaluator eval) {
+    if (eval != null && !eval.hasMissing()) eval = null;
+    Accum accum = accumulate(a, eval, true);
+    return new Stats(accum.count, accum.missing, accum.min, accum.max, accum.sum);
+  }
+
+  /**
+   * Calculate min, max, sum, mean and the number of valid and missing values, in one pass.
+   *
+   * @param a            the array
+   * @param missingValue skip values equal to this, or which are NaNs
+   * @return Stats
+   */
+  public static Stats calcStats(Array a, double missingValue) {
+    Accum accum = accumulate(a, new MissingValue(missingValue), true);
+    return new Stats(accum.count, accum.missing, accum.min, accum.max, accum.sum);
+  }
+
+  /**
+   * Holds the result of calcStats().
+   */
+  public static class Stats {
+    public final long count, missing;  // number of valid and missing values
+    public final double min, max, sum; // of the valid values
+
+    public Stats(long count, long missing, double min, double max, double sum) {
+      this.count = count;
+      this.missing = missing;
+      this.min = min;
+      this.max = max;
+      this.sum = sum;
+    }
+
+    /** @return mean of the valid values, or NaN if there are none */
+    public double getMean() {
+      return (count == 0) ? Double.NaN : sum / count;
+    }
+
+    @Override
+    public String toString() {
+      return "Stats{" +
+              "count=" + count +
+              ", missing=" + missing +
+              ", min=" + min +
+              ", max=" + max +
+              ", mean=" + getMean() +
+              '}';
+    }
+  }
+
+  //////////////////////////////////////////////////////////////////
+  // reductions, done in parallel over the backing storage for large arrays in canonical order
+
+  static private long parallelThreshold = 1000 * 1000;
+  static private final int minChunkSize = 100 * 1000;
+
+  /**
+   * Set the number of elements at which reductions (getMinMax, sumDouble, calcStats, etc) are done in parallel,
+   * using the common ForkJoinPool. Sums may then differ from the sequential result in the last bits.
+   *
+   * @param nelems parallel if the array has at least this many elements; Long.MAX_VALUE to turn off.
+   */
+  public static void setParallelThreshold(long nelems) {
+    parallelThreshold = nelems;
+  }
+
+  static private class MissingValue implements IsMissingEvaluator {
+    private final double missingValue;
+
+    MissingValue(double missingValue) {
+      this.missingValue = missingValue;
+    }
+
+    public boolean hasMissing() {
+      return true;
+    }
+
+    public boolean isMissing(double val) {
+      return val == missingValue || Double.isNaN(val);
+    }
+  }
+
+  // per-chunk result, combined at the end
+  static private class Accum {
+    private final IsMissingEvaluator eval; // may be null
+    private final boolean skipNaN;
+    double min = Double.MAX_VALUE;
+    double max = -Double.MAX_VALUE;
+    double sum;
+    long count, missing;
+
+    Accum(IsMissingEvaluator eval, boolean skipNaN) {
+      this.eval = eval;
+      this.skipNaN = skipNaN;
+    }
+
+    void add(double val) {
+      if ((skipNaN && Double.isNaN(val)) || (eval != null && eval.isMissing(val))) {
+        missing++;
+        return;
+      }
+      count++;
       sum += val;
+      if (val > max)
+        max = val;
+      if (val < min)
+        min = val;
+    }
+
+    Accum combine(Accum other) {
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+      sum += other.sum;
+      count += other.count;
+      missing += other.missing;
+      return this;
+    }
+  }
+
+  static private Accum accumulate(Array a, IsMissingEvaluator eval, boolean skipNaN) {
+    long size = a.getSize();
+    // canonical order: element i of the storage is the ith value
+    boolean direct = a.getClass().getPackage() == MAMath.class.getPackage() && a.indexCalc.isFastIterator();
+    if (!direct || size < parallelThreshold || size < 2 * minChunkSize) {
+      Accum accum = new Accum(eval, skipNaN);
+      if (direct) {
+        accumulate(a, 0, (int) size, accum);
+      } else {
+        IndexIterator iter = a.getIndexIterator();
+        while (iter.hasNext())
+          accum.add(iter.getDoubleNext());
+      }
+      return accum;
+    }
+
+    int nchunks = (int) Math.min(size / minChunkSize, 4L * ForkJoinPool.getCommonPoolParallelism());
+    nchunks = Math.max(nchunks, 1);
+    long chunkSize = (size + nchunks - 1) / nchunks;
+    return IntStream.range(0, nchunks).parallel().mapToObj(i -> {
+      Accum accum = new Accum(eval, skipNaN);
+      int start = (int) (i * chunkSize);
+      int end = (int) Math.min(size, start + chunkSize);
+      accumulate(a, start, end, accum);
+      return accum;
+    }).reduce(Accum::combine).get();
+  }
+
+  // storage elements start <= i < end
+  static private void accumulate(Array a, int start, int end, Accum accum) {
+    Object storage = a.getStorage();
+    if (storage instanceof double[]) {
+      double[] pa = (double[]) storage;
+      for (int i = start; i < end; i++)
+        accum.add(pa[i]);
+    } else if (storage instanceof float[]) {
+      float[] pa = (float[]) storage;
+      for (int i = start; i < end; i++)
+        accum.add(pa[i]);
+    } else {
+      for (int i = start; i < end; i++)
+        accum.add(a.getDouble(i));  // handles unsigned
     }
-    return sum;
   }
 
   /**
@@ -0,0 +1,172 @@
+/* Copyright */
+package ucar.ma2;
+
+/**
+ * Bulk copy between Arrays of the same element type, using the Index strides directly instead of IndexIterators.
+ * Source and destination are decomposed into the longest runs that are regular in both;
+ * contiguous runs use System.arraycopy(), others a strided loop specialized for the primitive type.
+ * Used by MAMath.copy() and so by Array.copy(), and the materialization of section views.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+class StridedCopy {
+
+  /**
+   * Copy a into result, if possible.
+   *
+   * @param result copy to here
+   * @param a      copy from here
+   * @return false if these Arrays cant be handled here, and nothing was done; caller must copy some other way.
+   */
+  static boolean copy(Array result, Array a) {
+    if (a.getElementType() != result.getElementType()) return false;
+    if (!isOurs(a) || !isOurs(result)) return false;
+    Object src = a.getStorage();
+    Object dst = result.getStorage();
+    if (!isPrimitiveArray(src) || !isPrimitiveArray(dst)) return false;
+
+    Index srcIndex = a.indexCalc;
+    Index dstIndex = result.indexCalc;
+    if (!isLinear(srcIndex) || !isLinear(dstIndex)) return false;
+
+    // drop dimensions of length 1 (their stride doesnt matter), then both must have the same shape
+    int[] shape = reduce(srcIndex.shape, srcIndex.shape);
+    int[] srcStride = reduce(srcIndex.shape, srcIndex.stride);
+    int[] dstShape = reduce(dstIndex.shape, dstIndex.shape);
+    int[] dstStride = reduce(dstIndex.shape, dstIndex.stride);
+    if (!java.util.Arrays.equals(shape, dstShape)) return false;
+    if (a.getSize() == 0) return true;
+
+    // merge adjacent dimensions that are contiguous with each other in both arrays
+    int rank = shape.length;
+    int n = 0;
+    for (int dim = 0; dim < rank; dim++) {
+      if (n > 0 && srcStride[n - 1] == srcStride[dim] * shape[dim] && dstStride[n - 1] == dstStride[dim] * shape[dim]) {
+        shape[n - 1] *= shape[dim];
+        srcStride[n - 1] = srcStride[dim];
+        dstStride[n - 1] = dstStride[dim];
+      } else {
+        shape[n] = shape[dim];
+        srcStride[n] = srcStride[dim];
+        dstStride[n] = dstStride[dim];
+        n++;
+      }
+    }
+
+    if (n == 0) { // scalar
+      copyRun(src, srcIndex.offset, 1, dst, dstIndex.offset, 1, 1);
+      return true;
+    }
+
+    // the innermost dimension is a run; iterate over the outer dimensions with an odometer
+    int inner = n - 1;
+    int runLen = shape[inner];
+    int runSrcStride = srcStride[inner];
+    int runDstStride = dstStride[inner];
+    int[] counter = new int[inner];
+    int srcPos = srcIndex.offset;
+    int dstPos = dstIndex.offset;
+    while (true) {
+      copyRun(src, srcPos, runSrcStride, dst, dstPos, runDstStride, runLen);
+
+      int dim = inner - 1;
+      while (dim >= 0) {
+        counter[dim]++;
+        srcPos += srcStride[dim];
+        dstPos += dstStride[dim];
+        if (counter[dim] < shape[dim]) break;
+        srcPos -= srcStride[dim] * shape[dim];
+        dstPos -= dstStride[dim] * shape[dim];
+        counter[dim] = 0;
+        dim--;
+      }
+      if (dim < 0) break;
+    }
+    return true;
+  }
+
+  // element = offset + sum(stride * counter)
+  static private boolean isLinear(Index index) {
+    if (index instanceof IndexConstant || index.hasvlen) return false;
+    return index.getClass().getPackage() == Index.class.getPackage(); // subclasses elsewhere may override currentElement()
+  }
+
+  // subclasses elsewhere may not keep their data in getStorage()
+  static private boolean isOurs(Array a) {
+    return a.getClass().getPackage() == Array.class.getPackage();
+  }
+
+  static private boolean isPrimitiveArray(Object storage) {
+    return storage != null && storage.getClass().isArray() && storage.getClass().getComponentType().isPrimitive();
+  }
+
+  static private int[] reduce(int[] shape, int[] values) {
+    int count = 0;
+    for (int len : shape)
+      if (len != 1) count++;
+    int[] result = new int[count];
+    count = 0;
+    for (int i = 0; i < shape.length; i++)
+      if (shape[i] != 1) result[count++] = values[i];
+    return result;
+  }
+
+  static private void copyRun(Object src, int srcPos, int srcStride, Object dst, int dstPos, int dstStride, int n) {
+    if (srcStride == 1 && dstStride == 1) {
+      System.arraycopy(src, srcPos, dst, dstPos, n);
+
+    } else if (src instanceof double[]) {
+      double[] s = (double[]) src;
+      double[] d = (double[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else if (src instanceof float[]) {
+      float[] s = (float[]) src;
+      float[] d = (float[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else if (src instanceof long[]) {
+      long[] s = (long[]) src;
+      long[] d = (long[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else if (src instanceof int[]) {
+      int[] s = (int[]) src;
+      int[] d = (int[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else if (src instanceof short[]) {
+      short[] s = (short[]) src;
+      short[] d = (short[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else if (src instanceof char[]) {
+      char[] s = (char[]) src;
+      char[] d = (char[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else if (src instanceof byte[]) {
+      byte[] s = (byte[]) src;
+      byte[] d = (byte[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else if (src instanceof boolean[]) {
+      boolean[] s = (boolean[]) src;
+      boolean[] d = (boolean[]) dst;
+      for (int i = 0; i < n; i++, srcPos += srcStride, dstPos += dstStride)
+        d[dstPos] = s[srcPos];
+
+    } else {
+      throw new IllegalStateException("StridedCopy unknown storage " + src.getClass().getName());
+    }
+  }
+
+}
@@ -38,6 +38,7 @@ import ucar.nc2.iosp.IOServiceProviderWriter;
 import ucar.nc2.iosp.hdf5.H5header;
 import ucar.nc2.iosp.netcdf3.N3header;
 import ucar.nc2.iosp.netcdf3.N3iosp;
+import ucar.nc2.iosp.hdf5.H5iospWriter;
 import ucar.nc2.iosp.netcdf3.N3raf;
 import ucar.nc2.write.Nc4Chunking;
 
@@ -211,13 +212,19 @@ public class NetcdfFileWriter implements Closeable {
     this.version = version;
     this.location = location;
 
-    if (version.useJniIosp()) {
+    if (version.isNetdf4format() && !isExisting && !isClibraryPresent()) {
+      // pure java writer; does not handle the full extended model
+      H5iospWriter spi = new H5iospWriter(version);
+      spi.setChunker(chunker);
+      spiw = spi;
+
+    } else if (version.useJniIosp()) {
       IOServiceProviderWriter spi;
       try {
         //  Nc4Iosp.setLibraryAndPath(path, name);
-        Class iospClass = this.getClass().getClassLoader().loadClass("ucar.nc2.jni.netcdf.Nc4Iosp");
-        Constructor<IOServiceProviderWriter> ctor = iospClass.getConstructor(Version.class);
-        spi = ctor.newInstance(version);
+        Class<?> iospClass = this.getClass().getClassLoader().loadClass("ucar.nc2.jni.netcdf.Nc4Iosp");
+        Constructor<?> ctor = iospClass.getConstructor(Version.class);
+        spi = (IOServiceProviderWriter) ctor.newInstance(version);
 
         Method method = iospClass.getMethod("setChunker", Nc4Chunking.class);
         method.invoke(spi, chunker);
@@ -237,6 +244,17 @@ public class NetcdfFileWriter implements Closeable {
       defineMode = true;
   }
 
+  // is the netcdf-4 C library available through ucar.nc2.jni.netcdf.Nc4Iosp ?
+  static private boolean isClibraryPresent() {
+    try {
+      Class<?> iospClass = NetcdfFileWriter.class.getClassLoader().loadClass("ucar.nc2.jni.netcdf.Nc4Iosp");
+      Method method = iospClass.getMethod("isClibraryPresent");
+      return (Boolean) method.invoke(null);
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
   /**
    * Set the fill flag: call before calling create() or doing any data writing. Only used by netcdf-3 (?).
    * If true, the data is first written with fill values.
@@ -686,6 +686,36 @@ public class Variable extends CDMNode implements VariableIF, ProxyReader, Attrib
     return _read();
   }
 
+  /**
+   * Read a section of the data for this Variable, which may be larger than a single Array can hold.
+   * The data is read one chunk at a time, using read(Section).
+   *
+   * @param section the section of data to read. If null, read all the data.
+   * @return the requested data in a memory-resident ArrayChunked, with the shape of the section
+   * @throws IOException           if error
+   * @throws InvalidRangeException if section is invalid
+   */
+  public ArrayChunked readChunked(Section section) throws IOException, InvalidRangeException {
+    return readChunked(section, ArrayChunked.MAX_CHUNK_ELEMS);
+  }
+
+  /**
+   * Read a section of the data for this Variable, which may be larger than a single Array can hold.
+   *
+   * @param section       the section of data to read. If null, read all the data.
+   * @param maxChunkElems maximum number of elements to read at once
+   * @return the requested data in a memory-resident ArrayChunked, with the shape of the section
+   * @throws IOException           if error
+   * @throws InvalidRangeException if section is invalid
+   */
+  public ArrayChunked readChunked(Section section, long maxChunkElems) throws IOException, InvalidRangeException {
+    Section want = (section == null) ? getShapeAsSection() : Section.fill(section, shape);
+    ArrayChunked result = new ArrayChunked(getDataType(), want.getShape(), maxChunkElems);
+    for (int i = 0; i < result.getChunkCount(); i++)
+      result.setChunk(i, read(want.compose(result.getChunkSection(i))));
+    return result;
+  }
+
   /**
    * *********************************************************************
    */
@@ -0,0 +1,208 @@
+/* Copyright */
+package ucar.nc2.dataset;
+
+import ucar.nc2.Variable;
+import ucar.nc2.constants.AxisType;
+import ucar.nc2.util.CancelTask;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Writes the coordinate systems of a NetcdfDataset to a HeaderSnapshot, and restores them without a CoordSysBuilder.
+ * The coordinate axes, systems and the variables that use them are written by name. A coordinate transform is
+ * written as the name of its Coordinate Transform Variable, and remade from that variable's attributes.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class CoordSysSnapshot {
+
+  private CoordSysSnapshot() {
+  }
+
+  /**
+   * Can the coordinate systems of this dataset be written and restored ?
+   * Only if they were made by a CoordSysBuilder, there was no other enhancement, each coordinate axis is of the
+   * class that CoordinateAxis.factory() makes, and each coordinate transform is remade the same from its
+   * Coordinate Transform Variable.
+   *
+   * @param ds opened with only Enhance.CoordSystems
+   * @return true if write() can be used
+   */
+  static public boolean canSnapshot(NetcdfDataset ds) {
+    if (!ds.getEnhanceMode().equals(EnumSet.of(NetcdfDataset.Enhance.CoordSystems))) return false;
+    for (Variable v : ds.getVariables()) {
+      if (!(v instanceof VariableDS)) return false;
+      EnumSet<NetcdfDataset.Enhance> mode = ((VariableDS) v).getEnhanceMode();
+      if (mode != null && !mode.isEmpty()) return false; // eg NcML enhance="true"
+    }
+    for (CoordinateAxis axis : ds.getCoordinateAxes()) {
+      if (axis.isMemberOfStructure() || CoordinateAxis.factory(ds, axis).getClass() != axis.getClass()) return false;
+    }
+    for (CoordinateTransform ct : ds.getCoordinateTransforms()) {
+      Variable ctv = findTransformVariable(ds, ct);
+      if (ctv == null || !isSame(ct, CoordTransBuilder.makeCoordinateTransform(ds, ctv, new Formatter(), new Formatter())))
+        return false;
+    }
+    return true;
+  }
+
+  // the Coordinate Transform Variable has the name of the transform
+  static private Variable findTransformVariable(NetcdfDataset ds, CoordinateTransform ct) {
+    for (Variable v : ds.getVariables()) {
+      if (v.getShortName().equals(ct.getName())) return v;
+    }
+    return null;
+  }
+
+  static private boolean isSame(CoordinateTransform ct, CoordinateTransform remade) {
+    if (remade == null || remade.getClass() != ct.getClass() || !ct.equals(remade)) return false;
+    if (!ct.getParameters().equals(remade.getParameters())) return false;
+    if (ct instanceof ProjectionCT)
+      return ((ProjectionCT) ct).getProjection().equals(((ProjectionCT) remade).getProjection());
+    if (ct instanceof VerticalCT)
+      return ((VerticalCT) ct).getVerticalTransformType() == ((VerticalCT) remade).getVerticalTransformType();
+    return true;
+  }
+
+  /**
+   * Write the coordinate systems of the dataset.
+   *
+   * @param ds  canSnapshot(ds) must be true
+   * @param out write to this
+   * @throws IOException on write error
+   */
+  static public void write(NetcdfDataset ds, DataOutputStream out) throws IOException {
+    out.writeUTF(nonNull(ds.getConventionUsed()));
+
+    out.writeInt(ds.getCoordinateAxes().size());
+    for (CoordinateAxis axis : ds.getCoordinateAxes()) {
+      out.writeUTF(axis.getFullNameEscaped());
+      out.writeUTF(axis.getAxisType() == null ? "" : axis.getAxisType().name());
+      out.writeUTF(nonNull(axis.getPositive()));
+      out.writeUTF(nonNull(axis.getBoundaryRef()));
+    }
+
+    out.writeInt(ds.getCoordinateTransforms().size());
+    for (CoordinateTransform ct : ds.getCoordinateTransforms())
+      out.writeUTF(findTransformVariable(ds, ct).getFullNameEscaped());
+
+    out.writeInt(ds.getCoordinateSystems().size());
+    for (CoordinateSystem cs : ds.getCoordinateSystems()) {
+      out.writeBoolean(cs.isImplicit());
+      out.writeInt(cs.getCoordinateAxes().size());
+      for (CoordinateAxis axis : cs.getCoordinateAxes())
+        out.writeUTF(axis.getFullNameEscaped());
+      out.writeInt(cs.getCoordinateTransforms().size());
+      for (CoordinateTransform ct : cs.getCoordinateTransforms())
+        out.writeUTF(ct.getName());
+    }
+
+    List<VariableEnhanced> withCoordSys = new ArrayList<>();
+    for (Variable v : ds.getVariables()) {
+      if (!((VariableEnhanced) v).getCoordinateSystems().isEmpty())
+        withCoordSys.add((VariableEnhanced) v);
+    }
+    out.writeInt(withCoordSys.size());
+    for (VariableEnhanced ve : withCoordSys) {
+      out.writeUTF(((Variable) ve).getFullNameEscaped());
+      out.writeInt(ve.getCoordinateSystems().size());
+      for (CoordinateSystem cs : ve.getCoordinateSystems())
+        out.writeUTF(cs.getName());
+    }
+  }
+
+  static private String nonNull(String s) {
+    return (s == null) ? "" : s;
+  }
+
+  /**
+   * Restore the coordinate systems written by write(), then do the other enhancements in mode.
+   *
+   * @param ds         wraps the NetcdfFile read from the snapshot, not enhanced
+   * @param in         read from this
+   * @param mode       enhance mode; CoordSystems is already done
+   * @param cancelTask allow task to be cancelled; may be null.
+   * @throws IOException on read error, or if the snapshot does not match the dataset
+   */
+  static public void restore(NetcdfDataset ds, DataInputStream in, Set<NetcdfDataset.Enhance> mode, CancelTask cancelTask) throws IOException {
+    String convUsed = in.readUTF();
+
+    int n = in.readInt();
+    for (int i = 0; i < n; i++) {
+      String name = in.readUTF();
+      String axisType = in.readUTF();
+      String positive = in.readUTF();
+      String boundaryRef = in.readUTF();
+      CoordinateAxis axis = ds.addCoordinateAxis(findVariableDS(ds, name));
+      if (!axisType.isEmpty()) axis.setAxisType(AxisType.valueOf(axisType));
+      if (!positive.isEmpty()) axis.setPositive(positive);
+      if (!boundaryRef.isEmpty()) axis.setBoundaryRef(boundaryRef);
+    }
+
+    Map<String, CoordinateTransform> transforms = new HashMap<>();
+    n = in.readInt();
+    for (int i = 0; i < n; i++) {
+      Variable ctv = findVariableDS(ds, in.readUTF());
+      CoordinateTransform ct = CoordTransBuilder.makeCoordinateTransform(ds, ctv, new Formatter(), new Formatter());
+      if (ct == null)
+        throw new IOException("Cant make coordinate transform from " + ctv.getFullName());
+      ds.addCoordinateTransform(ct);
+      transforms.put(ct.getName(), ct);
+    }
+
+    Map<String, CoordinateSystem> coordSys = new HashMap<>();
+    n = in.readInt();
+    for (int i = 0; i < n; i++) {
+      boolean isImplicit = in.readBoolean();
+      List<CoordinateAxis> axes = new ArrayList<>();
+      int nvars = in.readInt();
+      for (int j = 0; j < nvars; j++) {
+        String name = in.readUTF();
+        Variable axis = ds.findVariable(name);
+        if (!(axis instanceof CoordinateAxis))
+          throw new IOException("Cant find coordinate axis " + name);
+        axes.add((CoordinateAxis) axis);
+      }
+      List<CoordinateTransform> cts = new ArrayList<>();
+      int nct = in.readInt();
+      for (int j = 0; j < nct; j++) {
+        String name = in.readUTF();
+        CoordinateTransform ct = transforms.get(name);
+        if (ct == null)
+          throw new IOException("Cant find coordinate transform " + name);
+        cts.add(ct);
+      }
+      CoordinateSystem cs = new CoordinateSystem(ds, axes, cts);
+      cs.setImplicit(isImplicit);
+      ds.addCoordinateSystem(cs);
+      coordSys.put(cs.getName(), cs);
+    }
+
+    n = in.readInt();
+    for (int i = 0; i < n; i++) {
+      VariableEnhanced ve = findVariableDS(ds, in.readUTF());
+      int ncs = in.readInt();
+      for (int j = 0; j < ncs; j++) {
+        String name = in.readUTF();
+        CoordinateSystem cs = coordSys.get(name);
+        if (cs == null)
+          throw new IOException("Cant find coordinate system " + name);
+        ve.addCoordinateSystem(cs);
+      }
+    }
+
+    ds.enhanceRestored(convUsed.isEmpty() ? null : convUsed, mode, cancelTask);
+  }
+
+  static private VariableDS findVariableDS(NetcdfDataset ds, String fullNameEscaped) throws IOException {
+    Variable v = ds.findVariable(fullNameEscaped);
+    if (!(v instanceof VariableDS))
+      throw new IOException("Cant find variable " + fullNameEscaped);
+    return (VariableDS) v;
+  }
+
+}
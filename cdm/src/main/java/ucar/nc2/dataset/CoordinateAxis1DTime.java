@@ -77,7 +77,7 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
 
   ////////////////////////////////////////////////////////////////
   private final CoordinateAxisTimeHelper helper;
-  private List<CalendarDate> cdates = null;
+  private CalendarDateArray cdates = null; // millisecs, CalendarDates are made on demand
 
   // for section and slice
   @Override
@@ -95,13 +95,7 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
   @Override
   public CoordinateAxis1DTime section(Range r) throws InvalidRangeException {
     CoordinateAxis1DTime s = (CoordinateAxis1DTime) super.section(r);
-    List<CalendarDate> cdates = getCalendarDates();
-
-    List<CalendarDate> cdateSection = new ArrayList<>(cdates.size());
-    for (int idx : r)
-      cdateSection.add(cdates.get( idx));
-
-    s.cdates = cdateSection;
+    s.cdates = cdates.subset(r);
     return s;
   }
 
@@ -111,8 +105,7 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
    * @return the ith CalendarDate
    */
    public CalendarDate getCalendarDate (int idx) {
-     List<CalendarDate> cdates = getCalendarDates();  // in case we want to lazily evaluate
-     return cdates.get(idx);
+     return cdates.getCalendarDate(idx);
    }
 
   /**
@@ -120,9 +113,7 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
    * @return calendar date range
    */
   public CalendarDateRange getCalendarDateRange() {
-    List<CalendarDate> cd = getCalendarDates();
-    int last = cd.size();
-    return (last > 0) ? CalendarDateRange.of(cd.get(0), cd.get(last-1)) : null;
+    return cdates.getCalendarDateRange();
   }
 
   @Override
@@ -162,14 +153,7 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
    * @throws UnsupportedOperationException is no time axis or isDate() false
    */
   public int findTimeIndexFromCalendarDate(CalendarDate d) {
-    List<CalendarDate> cdates = getCalendarDates();         // LOOK linear search, switch to binary
-    int index = 0;
-    while (index < cdates.size()) {
-      if (d.compareTo(cdates.get(index)) < 0)
-        break;
-      index++;
-    }
-    return Math.max(0, index - 1);
+    return cdates.findIndex(d);
   }
 
   /**
@@ -179,19 +163,23 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
    * @return true if equals a coordinate
    */
   public boolean hasCalendarDate(CalendarDate date) {
-    List<CalendarDate> cdates = getCalendarDates();
-    for (CalendarDate cd : cdates) {   // LOOK linear search, switch to binary
-      if (date.equals(cd))
-        return true;
-    }
-    return false;
+    return cdates.indexOf(date) >= 0;
   }
 
   /**
    * Get the list of datetimes in this coordinate as CalendarDate objects.
+   * The CalendarDates are made on demand, use getCalendarDateArray() to work with the millisecs.
    * @return list of CalendarDates.
    */
   public List<CalendarDate> getCalendarDates() {
+     return cdates.asList();
+  }
+
+  /**
+   * Get the datetimes in this coordinate as millisecs since the epoch.
+   * @return CalendarDateArray
+   */
+  public CalendarDateArray getCalendarDateArray() {
      return cdates;
   }
 
@@ -232,9 +220,9 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
     this.helper = new CoordinateAxisTimeHelper(getCalendarFromAttribute(), null);
 
     if (org.getDataType() == DataType.CHAR)
-      cdates = makeTimesFromChar(org, errMessages);
+      cdates = CalendarDateArray.of(makeTimesFromChar(org, errMessages));
     else
-      cdates = makeTimesFromStrings(org, errMessages);
+      cdates = CalendarDateArray.of(makeTimesFromStrings(org, errMessages));
 
     List<Attribute> atts = org.getAttributes();
     for (Attribute att : atts) {
@@ -305,18 +293,10 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
 
     // make the coordinates
     int ncoords = (int) org.getSize();
-    List<CalendarDate> result = new ArrayList<>(ncoords);
-
     Array data = org.read();
-
-    int count = 0;
-    IndexIterator ii = data.getIndexIterator();
-    for (int i = 0; i < ncoords; i++) {
-      double val = ii.getDoubleNext();
-      if (Double.isNaN(val)) continue;  // WTF ??
-      result.add( helper.makeCalendarDateFromOffset(val));
-      count++;
-    }
+    double[] offsets = (double[]) data.get1DJavaArray(DataType.DOUBLE);
+    CalendarDateArray result = CalendarDateArray.fromOffsets(helper.getCalendarDateUnit(), offsets); // skips NaNs  WTF ??
+    int count = result.size();
 
     // if we encountered NaNs, shorten it up
     if (count != ncoords) {
@@ -327,7 +307,7 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
       Array shortData = Array.factory(data.getDataType(), new int[]{count});
       Index ima = shortData.getIndex();
       int count2 = 0;
-      ii = data.getIndexIterator();
+      IndexIterator ii = data.getIndexIterator();
       for (int i = 0; i < ncoords; i++) {
         double val = ii.getDoubleNext();
         if (Double.isNaN(val)) continue;
@@ -350,11 +330,9 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
    * @deprecated use getCalendarDates() to correctly interpret calendars
    */
   public java.util.Date[] getTimeDates() {
-    List<CalendarDate> cdates = getCalendarDates();
     Date[] timeDates = new Date[cdates.size()];
-    int index = 0;
-    for (CalendarDate cd : cdates)
-      timeDates[index++] = cd.toDate();
+    for (int i = 0; i < timeDates.length; i++)
+      timeDates[i] = new Date(cdates.getMillis(i));
     return timeDates;
   }
 
@@ -388,9 +366,9 @@ public class CoordinateAxis1DTime extends CoordinateAxis1D {
    * @deprecated  use hasCalendarDate
    */
   public boolean hasTime(Date date) {
-    List<CalendarDate> cdates = getCalendarDates();
-    for (CalendarDate cd : cdates) {
-      if (date.equals(cd.toDate()))
+    long want = date.getTime();
+    for (int i = 0; i < cdates.size(); i++) {
+      if (want == cdates.getMillis(i))
         return true;
     }
     return false;
@@ -69,4 +69,8 @@ public class CoordinateAxisTimeHelper {
     return dateUnit.makeOffsetFromRefDate(date);
   }
 
+  public CalendarDateUnit getCalendarDateUnit() {
+    return dateUnit;
+  }
+
 }
@@ -44,6 +44,7 @@ import ucar.nc2.iosp.IOServiceProvider;
 import ucar.nc2.ncml.NcMLReader;
 import ucar.nc2.ncml.NcMLWriter;
 import ucar.nc2.stream.CdmRemote;
+import ucar.nc2.stream.HeaderSnapshot;
 import ucar.nc2.util.CancelTask;
 import ucar.nc2.util.CancelTaskImpl;
 import ucar.nc2.util.cache.FileCache;
@@ -54,6 +55,7 @@ import java.io.PrintWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * NetcdfDataset extends the netCDF API, adding standard attribute parsing such as
@@ -156,6 +158,66 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
     defaultEnhanceMode = Collections.unmodifiableSet(mode);
   }
 
+  static private boolean deferCoordSystems = false;
+
+  /**
+   * Set whether Enhance.CoordSystems builds the coordinate systems when the dataset is opened, or on first use.
+   * When deferred, the convention's augmentDataset() is still done at open, but the coordinate axes, systems and
+   * transforms are only made when first asked for, through the coordinate system methods of the dataset or its
+   * variables, getVariables(), or enhance(). Reading a variable found with findVariable() does not make them.
+   * LOOK: until then, coordinate axes are plain VariableDS, not CoordinateAxis.
+   *
+   * @param b true to defer building coordinate systems; default false
+   */
+  static public void setDeferCoordSystems(boolean b) {
+    deferCoordSystems = b;
+  }
+
+  static public boolean getDeferCoordSystems() {
+    return deferCoordSystems;
+  }
+
+  // time spent in each enhancement phase, nanosecs
+  static private final AtomicLong enhanceCount = new AtomicLong();
+  static private final AtomicLong conventionNanos = new AtomicLong();
+  static private final AtomicLong augmentNanos = new AtomicLong();
+  static private final AtomicLong scaleMissingNanos = new AtomicLong();
+  static private final AtomicLong coordSysCount = new AtomicLong();
+  static private final AtomicLong coordSysNanos = new AtomicLong();
+
+  /**
+   * Show the number of datasets enhanced, and the time spent in each phase of the enhancement.
+   *
+   * @param f show here
+   */
+  static public void showEnhanceStats(Formatter f) {
+    long n = enhanceCount.get();
+    f.format("NetcdfDataset enhance: %d datasets, deferCoordSystems=%s%n", n, deferCoordSystems);
+    showPhase(f, "find convention", n, conventionNanos.get());
+    showPhase(f, "augmentDataset", n, augmentNanos.get());
+    showPhase(f, "scale/missing/enums", n, scaleMissingNanos.get());
+    showPhase(f, "coordinate systems", coordSysCount.get(), coordSysNanos.get());
+  }
+
+  static private void showPhase(Formatter f, String name, long count, long nanos) {
+    double msecs = nanos / 1000.0 / 1000.0;
+    f.format("  %-20s count=%8d total=%10.1f msecs avg=%8.3f msecs%n", name, count, msecs, (count == 0) ? 0.0 : msecs / count);
+  }
+
+  // number of datasets whose coordinate systems were built
+  static long getCoordSysCount() {
+    return coordSysCount.get();
+  }
+
+  static public void resetEnhanceStats() {
+    enhanceCount.set(0);
+    conventionNanos.set(0);
+    augmentNanos.set(0);
+    scaleMissingNanos.set(0);
+    coordSysCount.set(0);
+    coordSysNanos.set(0);
+  }
+
   /**
    * Find the set of Enhancements that matches the String. For backwards compatibility, 'true' = All.
    *
@@ -398,6 +460,9 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    */
   static public NetcdfDataset openDataset(DatasetUrl location, Set<Enhance> enhanceMode, int buffer_size,
                                           ucar.nc2.util.CancelTask cancelTask, Object spiObject) throws IOException {
+    NetcdfDataset snapshot = HeaderSnapshot.openDataset(location, enhanceMode, buffer_size, cancelTask, spiObject);
+    if (snapshot != null) return snapshot;
+
     // do not acquire
     NetcdfFile ncfile = openOrAcquireFile(null, null, null, location, buffer_size, cancelTask, spiObject);
     NetcdfDataset ds;
@@ -426,11 +491,19 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
     //if (ds.isEnhanceProcessed) return;
     if (mode == null) return null;
 
+    // coordinate systems were deferred, and are wanted now
+    if (mode.contains(Enhance.CoordSystems) && ds.deferredBuilder != null)
+      ds.ensureCoordSystems();
+
     // CoordSysBuilder may enhance dataset: add new variables, attributes, etc
     CoordSysBuilderIF builder = null;
     if (mode.contains(Enhance.CoordSystems) && !ds.enhanceMode.contains(Enhance.CoordSystems)) {
+      long start = System.nanoTime();
       builder = ucar.nc2.dataset.CoordSysBuilder.factory(ds, cancelTask);
+      long took = System.nanoTime();
+      conventionNanos.addAndGet(took - start);
       builder.augmentDataset(ds, cancelTask);
+      augmentNanos.addAndGet(System.nanoTime() - took);
       ds.convUsed = builder.getConventionUsed();
     }
 
@@ -438,16 +511,22 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
     if ((mode.contains(Enhance.ConvertEnums) && !ds.enhanceMode.contains(Enhance.ConvertEnums))
             || (mode.contains(Enhance.ScaleMissing) && !ds.enhanceMode.contains(Enhance.ScaleMissing))
             || (mode.contains(Enhance.ScaleMissingDefer) && !ds.enhanceMode.contains(Enhance.ScaleMissingDefer))) {
+      long start = System.nanoTime();
       for (Variable v : ds.getVariables()) {
         VariableEnhanced ve = (VariableEnhanced) v;
         ve.enhance(mode);
         if ((cancelTask != null) && cancelTask.isCancel()) return null;
       }
+      scaleMissingNanos.addAndGet(System.nanoTime() - start);
     }
+    enhanceCount.incrementAndGet();
 
     // now find coord systems which may change some Variables to axes, etc
     if (builder != null) {
-      builder.buildCoordinateSystems(ds);
+      if (deferCoordSystems)
+        ds.deferredBuilder = builder;
+      else
+        buildCoordinateSystems(ds, builder);
     }
 
     /* timeTaxis must be CoordinateAxis1DTime
@@ -462,6 +541,23 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
     return builder;
   }
 
+  /*
+   * The coordinate systems were restored from a HeaderSnapshot instead of by a CoordSysBuilder,
+   * now do the other enhancements.
+   */
+  void enhanceRestored(String convUsed, Set<Enhance> mode, CancelTask cancelTask) throws IOException {
+    this.convUsed = convUsed;
+    this.enhanceMode.add(Enhance.CoordSystems);
+    enhance(this, mode, cancelTask);
+  }
+
+  static private void buildCoordinateSystems(NetcdfDataset ds, CoordSysBuilderIF builder) {
+    long start = System.nanoTime();
+    builder.buildCoordinateSystems(ds);
+    coordSysNanos.addAndGet(System.nanoTime() - start);
+    coordSysCount.incrementAndGet();
+  }
+
   /**
    * Same as openDataset, but file is acquired through the File Cache, with defaultEnhanceMode.
    * You still close with NetcdfDataset.close(), the release is handled automatically.
@@ -694,8 +790,8 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
       return (NetcdfFile) cache.acquire(factory, hashKey, durl, buffer_size, cancelTask, spiObject);
     }
 
-    // Last resort: try to open as a file or remote file
-    return NetcdfFile.open(durl.trueurl, buffer_size, cancelTask, spiObject);
+    // Last resort: try to open as a file or remote file, from its header snapshot if there is one
+    return HeaderSnapshot.open(durl.trueurl, buffer_size, cancelTask, spiObject);
   }
 
   ////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -849,6 +945,31 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
 
   private EnumSet<Enhance> enhanceMode = EnumSet.noneOf(Enhance.class); // enhancement mode for this specific dataset
 
+  // when coordinate systems are deferred, the builder to use on first use
+  private volatile CoordSysBuilderIF deferredBuilder;
+  private boolean buildingCoordSys;
+  private final Object coordSysLock = new Object();
+
+  /**
+   * Build the coordinate systems, if they were deferred and have not been built yet.
+   * Returns right away if called while they are being built (by the same thread).
+   */
+  void ensureCoordSystems() {
+    if (deferredBuilder == null) return;
+    synchronized (coordSysLock) {
+      CoordSysBuilderIF builder = deferredBuilder;
+      if (builder == null || buildingCoordSys) return;
+      buildingCoordSys = true;
+      try {
+        buildCoordinateSystems(this, builder);
+        finish(); // recalc the global lists
+      } finally {
+        deferredBuilder = null;
+        buildingCoordSys = false;
+      }
+    }
+  }
+
   // If its an aggregation
   private ucar.nc2.ncml.Aggregation agg = null;
 
@@ -877,6 +998,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * @return list of type CoordinateSystem; may be empty, not null.
    */
   public List<CoordinateSystem> getCoordinateSystems() {
+    ensureCoordSystems();
     return coordSys;
   }
 
@@ -904,6 +1026,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * @return list of type CoordinateTransform; may be empty, not null.
    */
   public List<CoordinateTransform> getCoordinateTransforms() {
+    ensureCoordSystems();
     return coordTransforms;
   }
 
@@ -913,6 +1036,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * @return list of type CoordinateAxis; may be empty, not null.
    */
   public List<CoordinateAxis> getCoordinateAxes() {
+    ensureCoordSystems();
     return coordAxes;
   }
 
@@ -920,6 +1044,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * Clear Coordinate System metadata, to allow them to be redone
    */
   public void clearCoordinateSystems() {
+    deferredBuilder = null;
     coordSys = new ArrayList<>();
     coordAxes = new ArrayList<>();
     coordTransforms = new ArrayList<>();
@@ -948,6 +1073,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * @return the first CoordinateAxis that has that type, or null if not found
    */
   public CoordinateAxis findCoordinateAxis(AxisType type) {
+    ensureCoordSystems();
     if (type == null) return null;
     for (CoordinateAxis v : coordAxes) {
       if (type == v.getAxisType())
@@ -963,6 +1089,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * @return the CoordinateAxis, or null if not found
    */
   public CoordinateAxis findCoordinateAxis(String fullName) {
+    ensureCoordSystems();
     if (fullName == null) return null;
     for (CoordinateAxis v : coordAxes) {
       if (fullName.equals(v.getFullName()))
@@ -978,6 +1105,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * @return the CoordinateSystem, or null if not found
    */
   public CoordinateSystem findCoordinateSystem(String name) {
+    ensureCoordSystems();
     if (name == null) return null;
     for (CoordinateSystem v : coordSys) {
       if (name.equals(v.getName()))
@@ -993,6 +1121,7 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
    * @return the CoordinateSystem, or null if not found
    */
   public CoordinateTransform findCoordinateTransform(String name) {
+    ensureCoordSystems();
     if (name == null) return null;
     for (CoordinateTransform v : coordTransforms) {
       if (name.equals(v.getName()))
@@ -1350,6 +1479,15 @@ public class NetcdfDataset extends ucar.nc2.NetcdfFile {
     return ca;
   }
 
+  /**
+   * Builds the coordinate systems first, if they were deferred, since that may change some Variables to axes.
+   */
+  @Override
+  public java.util.List<Variable> getVariables() {
+    ensureCoordSystems();
+    return super.getVariables();
+  }
+
   @Override
   public Variable addVariable(Group g, Variable v) {
     if (!(v instanceof VariableDS) && !(v instanceof StructureDS))
@@ -58,6 +58,17 @@ public class SequenceDS extends StructureDS {
     return new StructureDataConverter(this, orgSeq.getStructureIterator(bufferSize));
   }
 
+  /**
+   * Enhance the StructureData from an iterator over the original sequence,
+   * eg one from the IOSP that reads only some of the records.
+   *
+   * @param orgIter iterator over the original sequence
+   * @return iterator over the enhanced StructureData
+   */
+  public StructureDataIterator getStructureIterator(StructureDataIterator orgIter) {
+    return new StructureDataConverter(this, orgIter);
+  }
+
   private static class StructureDataConverter implements StructureDataIterator {
     private StructureDataIterator orgIter;
     private SequenceDS newStruct;
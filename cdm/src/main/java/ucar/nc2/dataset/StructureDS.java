@@ -679,6 +679,9 @@ private class Iterator implements StructureDataIterator {
   }
 
   public java.util.List<CoordinateSystem> getCoordinateSystems() {
+    NetcdfFile ds = (getParentGroup() == null) ? null : getParentGroup().getNetcdfFile();
+    if (ds instanceof NetcdfDataset)
+      ((NetcdfDataset) ds).ensureCoordSystems(); // may have been deferred
     return proxy.getCoordinateSystems();
   }
 
@@ -320,6 +320,9 @@ public class VariableDS extends ucar.nc2.Variable implements VariableEnhanced, E
   }
 
   public java.util.List<CoordinateSystem> getCoordinateSystems() {
+    NetcdfFile ds = (getParentGroup() == null) ? null : getParentGroup().getNetcdfFile();
+    if (ds instanceof NetcdfDataset)
+      ((NetcdfDataset) ds).ensureCoordSystems(); // may have been deferred
     return enhanceProxy.getCoordinateSystems();
   }
 
@@ -44,6 +44,10 @@ import ucar.nc2.time.CalendarDateRange;
 
 import java.io.Closeable;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.io.IOException;
 
 /**
@@ -63,6 +67,22 @@ import java.io.IOException;
 @ThreadSafe
 public class Fmrc implements Closeable {
   static private org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(Fmrc.class);
+  static private final int nthreads = Math.min(8, Runtime.getRuntime().availableProcessors());
+
+  // opens the files of a collection to get their inventory, shared by all Fmrcs.
+  // file i/o, so not the common ForkJoinPool
+  static private ExecutorService inventoryService;
+
+  static private synchronized ExecutorService getInventoryService() {
+    if (inventoryService == null) {
+      inventoryService = Executors.newFixedThreadPool(nthreads, r -> {
+        Thread t = new Thread(r, "Fmrc-inventory");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return inventoryService;
+  }
 
   /**
    * Factory method
@@ -274,15 +294,31 @@ public class Fmrc implements Closeable {
       Map<CalendarDate, FmrInv> fmrMap = new HashMap<>(); // all files are grouped by run date in an FmrInv
       List<FmrInv> fmrList = new ArrayList<>(); // an fmrc is a collection of fmr
 
-      // get the inventory, sorted by path
+      // get the inventory, sorted by path. the files are opened in parallel, but kept in order
+      List<MFile> files = new ArrayList<>();
+      List<Future<GridDatasetInv>> futures = new ArrayList<>();
+      ExecutorService service = getInventoryService();
       for (MFile f : manager.getFilesSorted()) {
+        files.add(f);
+        futures.add(service.submit(() -> {
+          try {
+            return GridDatasetInv.open(manager, f, config.innerNcml); // inventory is discovered for each GDS
+          } catch (IOException ioe) {
+            logger.warn("Error opening " + f.getPath() + "(skipped)", ioe);
+            return null; // skip
+          }
+        }));
+      }
+
+      for (int i = 0; i < files.size(); i++) {
+        MFile f = files.get(i);
         GridDatasetInv inv;
         try {
-          inv = GridDatasetInv.open(manager, f, config.innerNcml); // inventory is discovered for each GDS
-        } catch (IOException ioe) {
-          logger.warn("Error opening " + f.getPath() + "(skipped)", ioe);
-          continue; // skip
+          inv = futures.get(i).get();
+        } catch (ExecutionException e) {
+          throw new RuntimeException(e.getCause());
         }
+        if (inv == null) continue;
 
         CalendarDate runDate = inv.getRunDate();
         if (debug != null) debug.format("  opened %s rundate = %s%n", f.getPath(), inv.getRunDateString());
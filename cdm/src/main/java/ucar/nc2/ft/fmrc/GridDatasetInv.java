@@ -65,7 +65,7 @@ import thredds.inventory.MFile;
  * The data inventory of one GridDataset.
  * Track grids, time, vert, ens coordinates.
  * Grids are grouped by the time coordinated that they use.
- * Provides serialization to/from XML.
+ * Provides serialization to/from XML and protobuf.
  * Uses dense time, vert coordinates - just the ones that are in the file.
  *
  * This replaces the older ucar.nc2.dt.fmrc.ForecastModelRunInventory, gets rid of the definition files.
@@ -88,28 +88,30 @@ public class GridDatasetInv {
 
   public static GridDatasetInv open(MCollection cm, MFile mfile, Element ncml) throws IOException {
     // do we already have it ?
-    byte[] xmlBytes = ((CollectionManagerAbstract)cm).getMetadata(mfile, "fmrInv.xml");  // LOOK should we keep this functionality ??
-    if (xmlBytes != null) {
-      if (logger.isDebugEnabled()) logger.debug(" got xmlFile in cache ="+ mfile.getPath()+ " size = "+xmlBytes.length);
-      if (xmlBytes.length < 300) {
-        logger.warn(" xmlFile in cache only has nbytes ="+ xmlBytes.length+"; will reread");
-        // drop through and regenerate
-      } else {
-        GridDatasetInv inv = readXML(xmlBytes);
-
-        // check if version required regen
-        if (inv.version >= REQ_VERSION) {
-          // check if file has changed
-          long fileModifiedSecs = mfile.getLastModified() / 1000; // ignore msecs
-          long xmlModifiedSecs = inv.getLastModified() / 1000; // ignore msecs
-          if (xmlModifiedSecs >= fileModifiedSecs) { // LOOK if fileDate is -1, will always succeed
-            if (logger.isDebugEnabled()) logger.debug(" cache ok "+new Date(inv.getLastModified())+" >= "+new Date(mfile.getLastModified())+" for " + mfile.getName());
-            return inv; // ok, use it
-          } else {
-            if (logger.isInfoEnabled()) logger.info(" cache out of date "+new Date(inv.getLastModified())+" < "+new Date(mfile.getLastModified())+" for " + mfile.getName());
-          }
+    CollectionManagerAbstract cma = (CollectionManagerAbstract) cm;
+    byte[] protoBytes = cma.getMetadata(mfile, "fmrInv.pb");
+    if (protoBytes != null) {
+      if (logger.isDebugEnabled()) logger.debug(" got fmrInv.pb in cache ="+ mfile.getPath()+ " size = "+protoBytes.length);
+      try {
+        GridDatasetInv inv = readProto(protoBytes);
+        if (isCurrent(inv, mfile)) return inv; // ok, use it
+      } catch (IOException ioe) {
+        logger.warn(" fmrInv.pb in cache for "+ mfile.getPath()+" is bad; will reread", ioe);
+      }
+
+    } else {
+      byte[] xmlBytes = cma.getMetadata(mfile, "fmrInv.xml");  // older caches
+      if (xmlBytes != null) {
+        if (logger.isDebugEnabled()) logger.debug(" got xmlFile in cache ="+ mfile.getPath()+ " size = "+xmlBytes.length);
+        if (xmlBytes.length < 300) {
+          logger.warn(" xmlFile in cache only has nbytes ="+ xmlBytes.length+"; will reread");
+          // drop through and regenerate
         } else {
-          if (logger.isInfoEnabled()) logger.info(" version needs upgrade "+inv.version+" < "+REQ_VERSION +" for " + mfile.getName());
+          GridDatasetInv inv = readXML(xmlBytes);
+          if (isCurrent(inv, mfile)) {
+            cma.putMetadata(mfile, "fmrInv.pb", inv.writeProto(new Date(inv.getLastModified()))); // upgrade
+            return inv;
+          }
         }
       }
     }
@@ -130,17 +132,31 @@ public class GridDatasetInv {
       // System.out.println("gds dataset= "+ gds.getNetcdfDataset());
 
       GridDatasetInv inv = new GridDatasetInv(gds, cm.extractDate(mfile));
-      String xmlString = inv.writeXML( new Date(mfile.getLastModified()));
-      ((CollectionManagerAbstract)cm).putMetadata(mfile, "fmrInv.xml", xmlString.getBytes(CDM.utf8Charset));
-      if (logger.isDebugEnabled()) logger.debug(" added xmlFile "+ mfile.getPath()+".fmrInv.xml to cache");
-      if (debug) System.out.printf(" added xmlFile %s.fmrInv.xml to cache%n", mfile.getPath());
-      // System.out.println("new xmlBytes= "+ xmlString);
+      cma.putMetadata(mfile, "fmrInv.pb", inv.writeProto(new Date(mfile.getLastModified())));
+      if (logger.isDebugEnabled()) logger.debug(" added "+ mfile.getPath()+".fmrInv.pb to cache");
+      if (debug) System.out.printf(" added %s.fmrInv.pb to cache%n", mfile.getPath());
       return inv;
     } finally {
       if (gds != null) gds.close();
     }
   }
 
+  // check if version required regen, or if file has changed
+  private static boolean isCurrent(GridDatasetInv inv, MFile mfile) {
+    if (inv.version < REQ_VERSION) {
+      if (logger.isInfoEnabled()) logger.info(" version needs upgrade "+inv.version+" < "+REQ_VERSION +" for " + mfile.getName());
+      return false;
+    }
+    long fileModifiedSecs = mfile.getLastModified() / 1000; // ignore msecs
+    long xmlModifiedSecs = inv.getLastModified() / 1000; // ignore msecs
+    if (xmlModifiedSecs >= fileModifiedSecs) { // LOOK if fileDate is -1, will always succeed
+      if (logger.isDebugEnabled()) logger.debug(" cache ok "+new Date(inv.getLastModified())+" >= "+new Date(mfile.getLastModified())+" for " + mfile.getName());
+      return true;
+    }
+    if (logger.isInfoEnabled()) logger.info(" cache out of date "+new Date(inv.getLastModified())+" < "+new Date(mfile.getLastModified())+" for " + mfile.getName());
+    return false;
+  }
+
   /////////////////////////////////////////////////////////////////////////////////////
 
   private String location;
@@ -230,7 +246,7 @@ public class GridDatasetInv {
   }
 
   public long getLastModified() {
-    return lastModified.getTime();
+    return (lastModified == null) ? 0 : lastModified.getTime();
   }
 
   /**
@@ -672,6 +688,146 @@ public class GridDatasetInv {
     return fmr;
   }
 
+  //////////////////////////////////////////////////////////////
+  // protobuf encoding, see gridDatasetInv.proto
+
+  /**
+   * Write the binary (protobuf) representation.
+   *
+   * @param lastModified last modified date of the file
+   * @return the encoded bytes
+   * @throws IOException on error
+   */
+  public byte[] writeProto(Date lastModified) throws IOException {
+    GridDatasetInvProto.GridInventory.Builder builder = GridDatasetInvProto.GridInventory.newBuilder();
+    builder.setVersion(CURR_VERSION);
+    builder.setLocation(location);
+    builder.setRunTime(runTimeString);
+    if (lastModified != null)
+      builder.setLastModified(lastModified.getTime());
+
+    // same ids as writeDocument()
+    Collections.sort(vaxes);
+    int count = 0;
+    for (VertCoord vc : vaxes) {
+      vc.setId(count++);
+      builder.addVertCoords(writeVertCoord(vc));
+    }
+
+    count = 0;
+    for (TimeCoord tc : times) {
+      tc.setId(count++);
+      builder.addTimeCoords(writeTimeCoord(tc));
+    }
+
+    return builder.build().toByteArray();
+  }
+
+  private GridDatasetInvProto.VertCoord writeVertCoord(VertCoord vc) {
+    GridDatasetInvProto.VertCoord.Builder builder = GridDatasetInvProto.VertCoord.newBuilder();
+    builder.setId(vc.getId());
+    builder.setName(vc.getName());
+    if (vc.getUnits() != null)
+      builder.setUnits(vc.getUnits());
+    if (vc.getValues1() != null)
+      for (double val : vc.getValues1()) builder.addValues1(val);
+    if (vc.getValues2() != null)
+      for (double val : vc.getValues2()) builder.addValues2(val);
+    return builder.build();
+  }
+
+  private GridDatasetInvProto.TimeCoord writeTimeCoord(TimeCoord tc) {
+    GridDatasetInvProto.TimeCoord.Builder builder = GridDatasetInvProto.TimeCoord.newBuilder();
+    builder.setId(tc.getId());
+    if (tc.isInterval()) {
+      builder.setIsInterval(true);
+      if (tc.getBound1() != null)
+        for (double val : tc.getBound1()) builder.addBound1(val);
+      if (tc.getBound2() != null)
+        for (double val : tc.getBound2()) builder.addBound2(val);
+    } else if (tc.getOffsetTimes() != null) {
+      for (double val : tc.getOffsetTimes()) builder.addOffsets(val);
+    }
+
+    List<GridDatasetInv.Grid> vars = tc.getGridInventory();
+    Collections.sort(vars);
+    for (Grid grid : vars) {
+      GridDatasetInvProto.Grid.Builder gridBuilder = GridDatasetInvProto.Grid.newBuilder();
+      gridBuilder.setName(grid.name);
+      if (grid.vc != null)
+        gridBuilder.setVertId(grid.vc.getId() + 1);
+      if (grid.ec != null)
+        gridBuilder.setEnsId(grid.ec.getId() + 1);
+      builder.addGrids(gridBuilder);
+    }
+    return builder.build();
+  }
+
+  static private double[] toArray(List<Double> list) {
+    double[] result = new double[list.size()];
+    for (int i = 0; i < result.length; i++)
+      result[i] = list.get(i);
+    return result;
+  }
+
+  /**
+   * Construct a GridDatasetInv from its binary (protobuf) representation
+   *
+   * @param bytes from writeProto()
+   * @return GridDatasetInv
+   * @throws IOException on read error
+   */
+  static GridDatasetInv readProto(byte[] bytes) throws IOException {
+    GridDatasetInvProto.GridInventory proto = GridDatasetInvProto.GridInventory.parseFrom(bytes);
+    GridDatasetInv fmr = new GridDatasetInv();
+    fmr.version = proto.getVersion();
+    fmr.location = proto.getLocation();
+    fmr.runTimeString = proto.getRunTime();
+    if (proto.getLastModified() != 0)
+      fmr.lastModified = new Date(proto.getLastModified());
+    for (GridDatasetInvProto.VertCoord vcp : proto.getVertCoordsList())
+      fmr.vaxes.add(readVertCoord(vcp));
+    if (fmr.version < REQ_VERSION) return fmr;
+
+    fmr.runDate = DateUnit.parseCalendarDate(fmr.runTimeString);
+    for (GridDatasetInvProto.TimeCoord tcp : proto.getTimeCoordsList())  // need the runDate and vert coords first
+      fmr.times.add(fmr.readTimeCoord(tcp));
+    return fmr;
+  }
+
+  static private VertCoord readVertCoord(GridDatasetInvProto.VertCoord proto) {
+    VertCoord vc = new VertCoord();
+    vc.setId(proto.getId());
+    vc.setName(proto.getName());
+    if (proto.getUnits().length() > 0)
+      vc.setUnits(proto.getUnits());
+    if (proto.getValues1Count() > 0)
+      vc.setValues1(toArray(proto.getValues1List()));
+    if (proto.getValues2Count() > 0)
+      vc.setValues2(toArray(proto.getValues2List()));
+    return vc;
+  }
+
+  private TimeCoord readTimeCoord(GridDatasetInvProto.TimeCoord proto) {
+    TimeCoord tc = new TimeCoord(runDate);
+    tc.setId(proto.getId());
+    if (proto.getOffsetsCount() > 0)
+      tc.setOffsetTimes(toArray(proto.getOffsetsList()));
+    if (proto.getBound1Count() > 0 && proto.getBound2Count() > 0)
+      tc.setBounds(toArray(proto.getBound1List()), toArray(proto.getBound2List()));
+    for (GridDatasetInvProto.Grid gp : proto.getGridsList())
+      readGrid(gp, tc);
+    return tc;
+  }
+
+  private void readGrid(GridDatasetInvProto.Grid proto, TimeCoord tc) {
+    Grid grid = makeGrid(proto.getName());
+    grid.vc = getVertCoordinate(proto.getVertId() - 1);
+    grid.ec = getEnsCoordinate(proto.getEnsId() - 1);
+    tc.addGridInventory(grid);
+    grid.tc = tc;
+  }
+
   public static void main(String[] args) {
     String values = "1,2,3,4";
     String[] value = values.split("[,]");
@@ -0,0 +1,4646 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ucar/nc2/ft/fmrc/gridDatasetInv.proto
+
+package ucar.nc2.ft.fmrc;
+
+public final class GridDatasetInvProto {
+  private GridDatasetInvProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  public interface VertCoordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:VertCoord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 id = 1;</code>
+     */
+    int getId();
+
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional string units = 3;</code>
+     *
+     * <pre>
+     * optional
+     * </pre>
+     */
+    java.lang.String getUnits();
+    /**
+     * <code>optional string units = 3;</code>
+     *
+     * <pre>
+     * optional
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getUnitsBytes();
+
+    /**
+     * <code>repeated double values1 = 4;</code>
+     */
+    java.util.List<java.lang.Double> getValues1List();
+    /**
+     * <code>repeated double values1 = 4;</code>
+     */
+    int getValues1Count();
+    /**
+     * <code>repeated double values1 = 4;</code>
+     */
+    double getValues1(int index);
+
+    /**
+     * <code>repeated double values2 = 5;</code>
+     *
+     * <pre>
+     * optional, for layers
+     * </pre>
+     */
+    java.util.List<java.lang.Double> getValues2List();
+    /**
+     * <code>repeated double values2 = 5;</code>
+     *
+     * <pre>
+     * optional, for layers
+     * </pre>
+     */
+    int getValues2Count();
+    /**
+     * <code>repeated double values2 = 5;</code>
+     *
+     * <pre>
+     * optional, for layers
+     * </pre>
+     */
+    double getValues2(int index);
+  }
+  /**
+   * Protobuf type {@code VertCoord}
+   */
+  public  static final class VertCoord extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:VertCoord)
+      VertCoordOrBuilder {
+    // Use VertCoord.newBuilder() to construct.
+    private VertCoord(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private VertCoord() {
+      id_ = 0;
+      name_ = "";
+      units_ = "";
+      values1_ = java.util.Collections.emptyList();
+      values2_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private VertCoord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              id_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 26: {
+              String s = input.readStringRequireUtf8();
+
+              units_ = s;
+              break;
+            }
+            case 33: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                values1_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              values1_.add(input.readDouble());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                values1_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                values1_.add(input.readDouble());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 41: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                values2_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              values2_.add(input.readDouble());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                values2_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                values2_.add(input.readDouble());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          values1_ = java.util.Collections.unmodifiableList(values1_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          values2_ = java.util.Collections.unmodifiableList(values2_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_VertCoord_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_VertCoord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_;
+    /**
+     * <code>optional uint32 id = 1;</code>
+     */
+    public int getId() {
+      return id_;
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int UNITS_FIELD_NUMBER = 3;
+    private volatile java.lang.Object units_;
+    /**
+     * <code>optional string units = 3;</code>
+     *
+     * <pre>
+     * optional
+     * </pre>
+     */
+    public java.lang.String getUnits() {
+      java.lang.Object ref = units_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        units_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string units = 3;</code>
+     *
+     * <pre>
+     * optional
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getUnitsBytes() {
+      java.lang.Object ref = units_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        units_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUES1_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Double> values1_;
+    /**
+     * <code>repeated double values1 = 4;</code>
+     */
+    public java.util.List<java.lang.Double>
+        getValues1List() {
+      return values1_;
+    }
+    /**
+     * <code>repeated double values1 = 4;</code>
+     */
+    public int getValues1Count() {
+      return values1_.size();
+    }
+    /**
+     * <code>repeated double values1 = 4;</code>
+     */
+    public double getValues1(int index) {
+      return values1_.get(index);
+    }
+    private int values1MemoizedSerializedSize = -1;
+
+    public static final int VALUES2_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Double> values2_;
+    /**
+     * <code>repeated double values2 = 5;</code>
+     *
+     * <pre>
+     * optional, for layers
+     * </pre>
+     */
+    public java.util.List<java.lang.Double>
+        getValues2List() {
+      return values2_;
+    }
+    /**
+     * <code>repeated double values2 = 5;</code>
+     *
+     * <pre>
+     * optional, for layers
+     * </pre>
+     */
+    public int getValues2Count() {
+      return values2_.size();
+    }
+    /**
+     * <code>repeated double values2 = 5;</code>
+     *
+     * <pre>
+     * optional, for layers
+     * </pre>
+     */
+    public double getValues2(int index) {
+      return values2_.get(index);
+    }
+    private int values2MemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (id_ != 0) {
+        output.writeUInt32(1, id_);
+      }
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, name_);
+      }
+      if (!getUnitsBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, units_);
+      }
+      if (getValues1List().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(values1MemoizedSerializedSize);
+      }
+      for (int i = 0; i < values1_.size(); i++) {
+        output.writeDoubleNoTag(values1_.get(i));
+      }
+      if (getValues2List().size() > 0) {
+        output.writeRawVarint32(42);
+        output.writeRawVarint32(values2MemoizedSerializedSize);
+      }
+      for (int i = 0; i < values2_.size(); i++) {
+        output.writeDoubleNoTag(values2_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, id_);
+      }
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, name_);
+      }
+      if (!getUnitsBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, units_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getValues1List().size();
+        size += dataSize;
+        if (!getValues1List().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        values1MemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getValues2List().size();
+        size += dataSize;
+        if (!getValues2List().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        values2MemoizedSerializedSize = dataSize;
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code VertCoord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:VertCoord)
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_VertCoord_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_VertCoord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        id_ = 0;
+
+        name_ = "";
+
+        units_ = "";
+
+        values1_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        values2_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_VertCoord_descriptor;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord getDefaultInstanceForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord build() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord buildPartial() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord result = new ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.id_ = id_;
+        result.name_ = name_;
+        result.units_ = units_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          values1_ = java.util.Collections.unmodifiableList(values1_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.values1_ = values1_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          values2_ = java.util.Collections.unmodifiableList(values2_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.values2_ = values2_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord) {
+          return mergeFrom((ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord other) {
+        if (other == ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (!other.getUnits().isEmpty()) {
+          units_ = other.units_;
+          onChanged();
+        }
+        if (!other.values1_.isEmpty()) {
+          if (values1_.isEmpty()) {
+            values1_ = other.values1_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureValues1IsMutable();
+            values1_.addAll(other.values1_);
+          }
+          onChanged();
+        }
+        if (!other.values2_.isEmpty()) {
+          if (values2_.isEmpty()) {
+            values2_ = other.values2_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureValues2IsMutable();
+            values2_.addAll(other.values2_);
+          }
+          onChanged();
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int id_ ;
+      /**
+       * <code>optional uint32 id = 1;</code>
+       */
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>optional uint32 id = 1;</code>
+       */
+      public Builder setId(int value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 id = 1;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object units_ = "";
+      /**
+       * <code>optional string units = 3;</code>
+       *
+       * <pre>
+       * optional
+       * </pre>
+       */
+      public java.lang.String getUnits() {
+        java.lang.Object ref = units_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          units_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string units = 3;</code>
+       *
+       * <pre>
+       * optional
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getUnitsBytes() {
+        java.lang.Object ref = units_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          units_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string units = 3;</code>
+       *
+       * <pre>
+       * optional
+       * </pre>
+       */
+      public Builder setUnits(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        units_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string units = 3;</code>
+       *
+       * <pre>
+       * optional
+       * </pre>
+       */
+      public Builder clearUnits() {
+        
+        units_ = getDefaultInstance().getUnits();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string units = 3;</code>
+       *
+       * <pre>
+       * optional
+       * </pre>
+       */
+      public Builder setUnitsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        units_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Double> values1_ = java.util.Collections.emptyList();
+      private void ensureValues1IsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          values1_ = new java.util.ArrayList<java.lang.Double>(values1_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated double values1 = 4;</code>
+       */
+      public java.util.List<java.lang.Double>
+          getValues1List() {
+        return java.util.Collections.unmodifiableList(values1_);
+      }
+      /**
+       * <code>repeated double values1 = 4;</code>
+       */
+      public int getValues1Count() {
+        return values1_.size();
+      }
+      /**
+       * <code>repeated double values1 = 4;</code>
+       */
+      public double getValues1(int index) {
+        return values1_.get(index);
+      }
+      /**
+       * <code>repeated double values1 = 4;</code>
+       */
+      public Builder setValues1(
+          int index, double value) {
+        ensureValues1IsMutable();
+        values1_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values1 = 4;</code>
+       */
+      public Builder addValues1(double value) {
+        ensureValues1IsMutable();
+        values1_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values1 = 4;</code>
+       */
+      public Builder addAllValues1(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureValues1IsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, values1_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values1 = 4;</code>
+       */
+      public Builder clearValues1() {
+        values1_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Double> values2_ = java.util.Collections.emptyList();
+      private void ensureValues2IsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          values2_ = new java.util.ArrayList<java.lang.Double>(values2_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated double values2 = 5;</code>
+       *
+       * <pre>
+       * optional, for layers
+       * </pre>
+       */
+      public java.util.List<java.lang.Double>
+          getValues2List() {
+        return java.util.Collections.unmodifiableList(values2_);
+      }
+      /**
+       * <code>repeated double values2 = 5;</code>
+       *
+       * <pre>
+       * optional, for layers
+       * </pre>
+       */
+      public int getValues2Count() {
+        return values2_.size();
+      }
+      /**
+       * <code>repeated double values2 = 5;</code>
+       *
+       * <pre>
+       * optional, for layers
+       * </pre>
+       */
+      public double getValues2(int index) {
+        return values2_.get(index);
+      }
+      /**
+       * <code>repeated double values2 = 5;</code>
+       *
+       * <pre>
+       * optional, for layers
+       * </pre>
+       */
+      public Builder setValues2(
+          int index, double value) {
+        ensureValues2IsMutable();
+        values2_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values2 = 5;</code>
+       *
+       * <pre>
+       * optional, for layers
+       * </pre>
+       */
+      public Builder addValues2(double value) {
+        ensureValues2IsMutable();
+        values2_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values2 = 5;</code>
+       *
+       * <pre>
+       * optional, for layers
+       * </pre>
+       */
+      public Builder addAllValues2(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureValues2IsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, values2_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values2 = 5;</code>
+       *
+       * <pre>
+       * optional, for layers
+       * </pre>
+       */
+      public Builder clearValues2() {
+        values2_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:VertCoord)
+    }
+
+    // @@protoc_insertion_point(class_scope:VertCoord)
+    private static final ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord();
+    }
+
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VertCoord>
+        PARSER = new com.google.protobuf.AbstractParser<VertCoord>() {
+      public VertCoord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new VertCoord(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<VertCoord> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VertCoord> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GridOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Grid)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional uint32 vertId = 2;</code>
+     *
+     * <pre>
+     * VertCoord id + 1; 0 = none
+     * </pre>
+     */
+    int getVertId();
+
+    /**
+     * <code>optional uint32 ensId = 3;</code>
+     *
+     * <pre>
+     * EnsCoord id + 1; 0 = none
+     * </pre>
+     */
+    int getEnsId();
+  }
+  /**
+   * Protobuf type {@code Grid}
+   */
+  public  static final class Grid extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Grid)
+      GridOrBuilder {
+    // Use Grid.newBuilder() to construct.
+    private Grid(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Grid() {
+      name_ = "";
+      vertId_ = 0;
+      ensId_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Grid(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 16: {
+
+              vertId_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+
+              ensId_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_Grid_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_Grid_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERTID_FIELD_NUMBER = 2;
+    private int vertId_;
+    /**
+     * <code>optional uint32 vertId = 2;</code>
+     *
+     * <pre>
+     * VertCoord id + 1; 0 = none
+     * </pre>
+     */
+    public int getVertId() {
+      return vertId_;
+    }
+
+    public static final int ENSID_FIELD_NUMBER = 3;
+    private int ensId_;
+    /**
+     * <code>optional uint32 ensId = 3;</code>
+     *
+     * <pre>
+     * EnsCoord id + 1; 0 = none
+     * </pre>
+     */
+    public int getEnsId() {
+      return ensId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, name_);
+      }
+      if (vertId_ != 0) {
+        output.writeUInt32(2, vertId_);
+      }
+      if (ensId_ != 0) {
+        output.writeUInt32(3, ensId_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, name_);
+      }
+      if (vertId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, vertId_);
+      }
+      if (ensId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, ensId_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Grid}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Grid)
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_Grid_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_Grid_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        vertId_ = 0;
+
+        ensId_ = 0;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_Grid_descriptor;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid getDefaultInstanceForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid build() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid buildPartial() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid result = new ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid(this);
+        result.name_ = name_;
+        result.vertId_ = vertId_;
+        result.ensId_ = ensId_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid) {
+          return mergeFrom((ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid other) {
+        if (other == ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.getVertId() != 0) {
+          setVertId(other.getVertId());
+        }
+        if (other.getEnsId() != 0) {
+          setEnsId(other.getEnsId());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int vertId_ ;
+      /**
+       * <code>optional uint32 vertId = 2;</code>
+       *
+       * <pre>
+       * VertCoord id + 1; 0 = none
+       * </pre>
+       */
+      public int getVertId() {
+        return vertId_;
+      }
+      /**
+       * <code>optional uint32 vertId = 2;</code>
+       *
+       * <pre>
+       * VertCoord id + 1; 0 = none
+       * </pre>
+       */
+      public Builder setVertId(int value) {
+        
+        vertId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 vertId = 2;</code>
+       *
+       * <pre>
+       * VertCoord id + 1; 0 = none
+       * </pre>
+       */
+      public Builder clearVertId() {
+        
+        vertId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int ensId_ ;
+      /**
+       * <code>optional uint32 ensId = 3;</code>
+       *
+       * <pre>
+       * EnsCoord id + 1; 0 = none
+       * </pre>
+       */
+      public int getEnsId() {
+        return ensId_;
+      }
+      /**
+       * <code>optional uint32 ensId = 3;</code>
+       *
+       * <pre>
+       * EnsCoord id + 1; 0 = none
+       * </pre>
+       */
+      public Builder setEnsId(int value) {
+        
+        ensId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 ensId = 3;</code>
+       *
+       * <pre>
+       * EnsCoord id + 1; 0 = none
+       * </pre>
+       */
+      public Builder clearEnsId() {
+        
+        ensId_ = 0;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Grid)
+    }
+
+    // @@protoc_insertion_point(class_scope:Grid)
+    private static final ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid();
+    }
+
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Grid>
+        PARSER = new com.google.protobuf.AbstractParser<Grid>() {
+      public Grid parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new Grid(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<Grid> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Grid> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TimeCoordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TimeCoord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 id = 1;</code>
+     */
+    int getId();
+
+    /**
+     * <code>optional bool isInterval = 2;</code>
+     */
+    boolean getIsInterval();
+
+    /**
+     * <code>repeated double offsets = 3;</code>
+     *
+     * <pre>
+     * if not interval
+     * </pre>
+     */
+    java.util.List<java.lang.Double> getOffsetsList();
+    /**
+     * <code>repeated double offsets = 3;</code>
+     *
+     * <pre>
+     * if not interval
+     * </pre>
+     */
+    int getOffsetsCount();
+    /**
+     * <code>repeated double offsets = 3;</code>
+     *
+     * <pre>
+     * if not interval
+     * </pre>
+     */
+    double getOffsets(int index);
+
+    /**
+     * <code>repeated double bound1 = 4;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    java.util.List<java.lang.Double> getBound1List();
+    /**
+     * <code>repeated double bound1 = 4;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    int getBound1Count();
+    /**
+     * <code>repeated double bound1 = 4;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    double getBound1(int index);
+
+    /**
+     * <code>repeated double bound2 = 5;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    java.util.List<java.lang.Double> getBound2List();
+    /**
+     * <code>repeated double bound2 = 5;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    int getBound2Count();
+    /**
+     * <code>repeated double bound2 = 5;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    double getBound2(int index);
+
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid> 
+        getGridsList();
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid getGrids(int index);
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    int getGridsCount();
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder> 
+        getGridsOrBuilderList();
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder getGridsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code TimeCoord}
+   */
+  public  static final class TimeCoord extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:TimeCoord)
+      TimeCoordOrBuilder {
+    // Use TimeCoord.newBuilder() to construct.
+    private TimeCoord(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private TimeCoord() {
+      id_ = 0;
+      isInterval_ = false;
+      offsets_ = java.util.Collections.emptyList();
+      bound1_ = java.util.Collections.emptyList();
+      bound2_ = java.util.Collections.emptyList();
+      grids_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private TimeCoord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              id_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+
+              isInterval_ = input.readBool();
+              break;
+            }
+            case 25: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                offsets_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              offsets_.add(input.readDouble());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                offsets_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                offsets_.add(input.readDouble());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 33: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                bound1_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              bound1_.add(input.readDouble());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                bound1_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                bound1_.add(input.readDouble());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 41: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                bound2_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              bound2_.add(input.readDouble());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                bound2_ = new java.util.ArrayList<java.lang.Double>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                bound2_.add(input.readDouble());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                grids_ = new java.util.ArrayList<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              grids_.add(input.readMessage(ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          offsets_ = java.util.Collections.unmodifiableList(offsets_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          bound1_ = java.util.Collections.unmodifiableList(bound1_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          bound2_ = java.util.Collections.unmodifiableList(bound2_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          grids_ = java.util.Collections.unmodifiableList(grids_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_TimeCoord_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_TimeCoord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_;
+    /**
+     * <code>optional uint32 id = 1;</code>
+     */
+    public int getId() {
+      return id_;
+    }
+
+    public static final int ISINTERVAL_FIELD_NUMBER = 2;
+    private boolean isInterval_;
+    /**
+     * <code>optional bool isInterval = 2;</code>
+     */
+    public boolean getIsInterval() {
+      return isInterval_;
+    }
+
+    public static final int OFFSETS_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Double> offsets_;
+    /**
+     * <code>repeated double offsets = 3;</code>
+     *
+     * <pre>
+     * if not interval
+     * </pre>
+     */
+    public java.util.List<java.lang.Double>
+        getOffsetsList() {
+      return offsets_;
+    }
+    /**
+     * <code>repeated double offsets = 3;</code>
+     *
+     * <pre>
+     * if not interval
+     * </pre>
+     */
+    public int getOffsetsCount() {
+      return offsets_.size();
+    }
+    /**
+     * <code>repeated double offsets = 3;</code>
+     *
+     * <pre>
+     * if not interval
+     * </pre>
+     */
+    public double getOffsets(int index) {
+      return offsets_.get(index);
+    }
+    private int offsetsMemoizedSerializedSize = -1;
+
+    public static final int BOUND1_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Double> bound1_;
+    /**
+     * <code>repeated double bound1 = 4;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    public java.util.List<java.lang.Double>
+        getBound1List() {
+      return bound1_;
+    }
+    /**
+     * <code>repeated double bound1 = 4;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    public int getBound1Count() {
+      return bound1_.size();
+    }
+    /**
+     * <code>repeated double bound1 = 4;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    public double getBound1(int index) {
+      return bound1_.get(index);
+    }
+    private int bound1MemoizedSerializedSize = -1;
+
+    public static final int BOUND2_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Double> bound2_;
+    /**
+     * <code>repeated double bound2 = 5;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    public java.util.List<java.lang.Double>
+        getBound2List() {
+      return bound2_;
+    }
+    /**
+     * <code>repeated double bound2 = 5;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    public int getBound2Count() {
+      return bound2_.size();
+    }
+    /**
+     * <code>repeated double bound2 = 5;</code>
+     *
+     * <pre>
+     * if interval
+     * </pre>
+     */
+    public double getBound2(int index) {
+      return bound2_.get(index);
+    }
+    private int bound2MemoizedSerializedSize = -1;
+
+    public static final int GRIDS_FIELD_NUMBER = 6;
+    private java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid> grids_;
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid> getGridsList() {
+      return grids_;
+    }
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    public java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder> 
+        getGridsOrBuilderList() {
+      return grids_;
+    }
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    public int getGridsCount() {
+      return grids_.size();
+    }
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid getGrids(int index) {
+      return grids_.get(index);
+    }
+    /**
+     * <code>repeated .Grid grids = 6;</code>
+     */
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder getGridsOrBuilder(
+        int index) {
+      return grids_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (id_ != 0) {
+        output.writeUInt32(1, id_);
+      }
+      if (isInterval_ != false) {
+        output.writeBool(2, isInterval_);
+      }
+      if (getOffsetsList().size() > 0) {
+        output.writeRawVarint32(26);
+        output.writeRawVarint32(offsetsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < offsets_.size(); i++) {
+        output.writeDoubleNoTag(offsets_.get(i));
+      }
+      if (getBound1List().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(bound1MemoizedSerializedSize);
+      }
+      for (int i = 0; i < bound1_.size(); i++) {
+        output.writeDoubleNoTag(bound1_.get(i));
+      }
+      if (getBound2List().size() > 0) {
+        output.writeRawVarint32(42);
+        output.writeRawVarint32(bound2MemoizedSerializedSize);
+      }
+      for (int i = 0; i < bound2_.size(); i++) {
+        output.writeDoubleNoTag(bound2_.get(i));
+      }
+      for (int i = 0; i < grids_.size(); i++) {
+        output.writeMessage(6, grids_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, id_);
+      }
+      if (isInterval_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, isInterval_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getOffsetsList().size();
+        size += dataSize;
+        if (!getOffsetsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        offsetsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getBound1List().size();
+        size += dataSize;
+        if (!getBound1List().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        bound1MemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getBound2List().size();
+        size += dataSize;
+        if (!getBound2List().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        bound2MemoizedSerializedSize = dataSize;
+      }
+      for (int i = 0; i < grids_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, grids_.get(i));
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TimeCoord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TimeCoord)
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_TimeCoord_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_TimeCoord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getGridsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        id_ = 0;
+
+        isInterval_ = false;
+
+        offsets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        bound1_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        bound2_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (gridsBuilder_ == null) {
+          grids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          gridsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_TimeCoord_descriptor;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord getDefaultInstanceForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord build() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord buildPartial() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord result = new ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.id_ = id_;
+        result.isInterval_ = isInterval_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          offsets_ = java.util.Collections.unmodifiableList(offsets_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.offsets_ = offsets_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          bound1_ = java.util.Collections.unmodifiableList(bound1_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.bound1_ = bound1_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          bound2_ = java.util.Collections.unmodifiableList(bound2_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.bound2_ = bound2_;
+        if (gridsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            grids_ = java.util.Collections.unmodifiableList(grids_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.grids_ = grids_;
+        } else {
+          result.grids_ = gridsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord) {
+          return mergeFrom((ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord other) {
+        if (other == ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (other.getIsInterval() != false) {
+          setIsInterval(other.getIsInterval());
+        }
+        if (!other.offsets_.isEmpty()) {
+          if (offsets_.isEmpty()) {
+            offsets_ = other.offsets_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureOffsetsIsMutable();
+            offsets_.addAll(other.offsets_);
+          }
+          onChanged();
+        }
+        if (!other.bound1_.isEmpty()) {
+          if (bound1_.isEmpty()) {
+            bound1_ = other.bound1_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureBound1IsMutable();
+            bound1_.addAll(other.bound1_);
+          }
+          onChanged();
+        }
+        if (!other.bound2_.isEmpty()) {
+          if (bound2_.isEmpty()) {
+            bound2_ = other.bound2_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureBound2IsMutable();
+            bound2_.addAll(other.bound2_);
+          }
+          onChanged();
+        }
+        if (gridsBuilder_ == null) {
+          if (!other.grids_.isEmpty()) {
+            if (grids_.isEmpty()) {
+              grids_ = other.grids_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureGridsIsMutable();
+              grids_.addAll(other.grids_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.grids_.isEmpty()) {
+            if (gridsBuilder_.isEmpty()) {
+              gridsBuilder_.dispose();
+              gridsBuilder_ = null;
+              grids_ = other.grids_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              gridsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getGridsFieldBuilder() : null;
+            } else {
+              gridsBuilder_.addAllMessages(other.grids_);
+            }
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int id_ ;
+      /**
+       * <code>optional uint32 id = 1;</code>
+       */
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>optional uint32 id = 1;</code>
+       */
+      public Builder setId(int value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 id = 1;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean isInterval_ ;
+      /**
+       * <code>optional bool isInterval = 2;</code>
+       */
+      public boolean getIsInterval() {
+        return isInterval_;
+      }
+      /**
+       * <code>optional bool isInterval = 2;</code>
+       */
+      public Builder setIsInterval(boolean value) {
+        
+        isInterval_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool isInterval = 2;</code>
+       */
+      public Builder clearIsInterval() {
+        
+        isInterval_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Double> offsets_ = java.util.Collections.emptyList();
+      private void ensureOffsetsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          offsets_ = new java.util.ArrayList<java.lang.Double>(offsets_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated double offsets = 3;</code>
+       *
+       * <pre>
+       * if not interval
+       * </pre>
+       */
+      public java.util.List<java.lang.Double>
+          getOffsetsList() {
+        return java.util.Collections.unmodifiableList(offsets_);
+      }
+      /**
+       * <code>repeated double offsets = 3;</code>
+       *
+       * <pre>
+       * if not interval
+       * </pre>
+       */
+      public int getOffsetsCount() {
+        return offsets_.size();
+      }
+      /**
+       * <code>repeated double offsets = 3;</code>
+       *
+       * <pre>
+       * if not interval
+       * </pre>
+       */
+      public double getOffsets(int index) {
+        return offsets_.get(index);
+      }
+      /**
+       * <code>repeated double offsets = 3;</code>
+       *
+       * <pre>
+       * if not interval
+       * </pre>
+       */
+      public Builder setOffsets(
+          int index, double value) {
+        ensureOffsetsIsMutable();
+        offsets_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double offsets = 3;</code>
+       *
+       * <pre>
+       * if not interval
+       * </pre>
+       */
+      public Builder addOffsets(double value) {
+        ensureOffsetsIsMutable();
+        offsets_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double offsets = 3;</code>
+       *
+       * <pre>
+       * if not interval
+       * </pre>
+       */
+      public Builder addAllOffsets(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureOffsetsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, offsets_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double offsets = 3;</code>
+       *
+       * <pre>
+       * if not interval
+       * </pre>
+       */
+      public Builder clearOffsets() {
+        offsets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Double> bound1_ = java.util.Collections.emptyList();
+      private void ensureBound1IsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          bound1_ = new java.util.ArrayList<java.lang.Double>(bound1_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated double bound1 = 4;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public java.util.List<java.lang.Double>
+          getBound1List() {
+        return java.util.Collections.unmodifiableList(bound1_);
+      }
+      /**
+       * <code>repeated double bound1 = 4;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public int getBound1Count() {
+        return bound1_.size();
+      }
+      /**
+       * <code>repeated double bound1 = 4;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public double getBound1(int index) {
+        return bound1_.get(index);
+      }
+      /**
+       * <code>repeated double bound1 = 4;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder setBound1(
+          int index, double value) {
+        ensureBound1IsMutable();
+        bound1_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bound1 = 4;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder addBound1(double value) {
+        ensureBound1IsMutable();
+        bound1_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bound1 = 4;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder addAllBound1(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureBound1IsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, bound1_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bound1 = 4;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder clearBound1() {
+        bound1_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Double> bound2_ = java.util.Collections.emptyList();
+      private void ensureBound2IsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          bound2_ = new java.util.ArrayList<java.lang.Double>(bound2_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated double bound2 = 5;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public java.util.List<java.lang.Double>
+          getBound2List() {
+        return java.util.Collections.unmodifiableList(bound2_);
+      }
+      /**
+       * <code>repeated double bound2 = 5;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public int getBound2Count() {
+        return bound2_.size();
+      }
+      /**
+       * <code>repeated double bound2 = 5;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public double getBound2(int index) {
+        return bound2_.get(index);
+      }
+      /**
+       * <code>repeated double bound2 = 5;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder setBound2(
+          int index, double value) {
+        ensureBound2IsMutable();
+        bound2_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bound2 = 5;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder addBound2(double value) {
+        ensureBound2IsMutable();
+        bound2_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bound2 = 5;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder addAllBound2(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureBound2IsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, bound2_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bound2 = 5;</code>
+       *
+       * <pre>
+       * if interval
+       * </pre>
+       */
+      public Builder clearBound2() {
+        bound2_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid> grids_ =
+        java.util.Collections.emptyList();
+      private void ensureGridsIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          grids_ = new java.util.ArrayList<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid>(grids_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder> gridsBuilder_;
+
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid> getGridsList() {
+        if (gridsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(grids_);
+        } else {
+          return gridsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public int getGridsCount() {
+        if (gridsBuilder_ == null) {
+          return grids_.size();
+        } else {
+          return gridsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid getGrids(int index) {
+        if (gridsBuilder_ == null) {
+          return grids_.get(index);
+        } else {
+          return gridsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder setGrids(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid value) {
+        if (gridsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureGridsIsMutable();
+          grids_.set(index, value);
+          onChanged();
+        } else {
+          gridsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder setGrids(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder builderForValue) {
+        if (gridsBuilder_ == null) {
+          ensureGridsIsMutable();
+          grids_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          gridsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder addGrids(ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid value) {
+        if (gridsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureGridsIsMutable();
+          grids_.add(value);
+          onChanged();
+        } else {
+          gridsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder addGrids(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid value) {
+        if (gridsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureGridsIsMutable();
+          grids_.add(index, value);
+          onChanged();
+        } else {
+          gridsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder addGrids(
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder builderForValue) {
+        if (gridsBuilder_ == null) {
+          ensureGridsIsMutable();
+          grids_.add(builderForValue.build());
+          onChanged();
+        } else {
+          gridsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder addGrids(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder builderForValue) {
+        if (gridsBuilder_ == null) {
+          ensureGridsIsMutable();
+          grids_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          gridsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder addAllGrids(
+          java.lang.Iterable<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid> values) {
+        if (gridsBuilder_ == null) {
+          ensureGridsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, grids_);
+          onChanged();
+        } else {
+          gridsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder clearGrids() {
+        if (gridsBuilder_ == null) {
+          grids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          gridsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public Builder removeGrids(int index) {
+        if (gridsBuilder_ == null) {
+          ensureGridsIsMutable();
+          grids_.remove(index);
+          onChanged();
+        } else {
+          gridsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder getGridsBuilder(
+          int index) {
+        return getGridsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder getGridsOrBuilder(
+          int index) {
+        if (gridsBuilder_ == null) {
+          return grids_.get(index);  } else {
+          return gridsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder> 
+           getGridsOrBuilderList() {
+        if (gridsBuilder_ != null) {
+          return gridsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(grids_);
+        }
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder addGridsBuilder() {
+        return getGridsFieldBuilder().addBuilder(
+            ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder addGridsBuilder(
+          int index) {
+        return getGridsFieldBuilder().addBuilder(
+            index, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Grid grids = 6;</code>
+       */
+      public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder> 
+           getGridsBuilderList() {
+        return getGridsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder> 
+          getGridsFieldBuilder() {
+        if (gridsBuilder_ == null) {
+          gridsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid, ucar.nc2.ft.fmrc.GridDatasetInvProto.Grid.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.GridOrBuilder>(
+                  grids_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          grids_ = null;
+        }
+        return gridsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TimeCoord)
+    }
+
+    // @@protoc_insertion_point(class_scope:TimeCoord)
+    private static final ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord();
+    }
+
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TimeCoord>
+        PARSER = new com.google.protobuf.AbstractParser<TimeCoord>() {
+      public TimeCoord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new TimeCoord(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<TimeCoord> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TimeCoord> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GridInventoryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GridInventory)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 version = 1;</code>
+     */
+    int getVersion();
+
+    /**
+     * <code>optional string location = 2;</code>
+     */
+    java.lang.String getLocation();
+    /**
+     * <code>optional string location = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getLocationBytes();
+
+    /**
+     * <code>optional string runTime = 3;</code>
+     */
+    java.lang.String getRunTime();
+    /**
+     * <code>optional string runTime = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getRunTimeBytes();
+
+    /**
+     * <code>optional uint64 lastModified = 4;</code>
+     *
+     * <pre>
+     * msecs since epoch
+     * </pre>
+     */
+    long getLastModified();
+
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord> 
+        getVertCoordsList();
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord getVertCoords(int index);
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    int getVertCoordsCount();
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder> 
+        getVertCoordsOrBuilderList();
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder getVertCoordsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord> 
+        getTimeCoordsList();
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord getTimeCoords(int index);
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    int getTimeCoordsCount();
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder> 
+        getTimeCoordsOrBuilderList();
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder getTimeCoordsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code GridInventory}
+   */
+  public  static final class GridInventory extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:GridInventory)
+      GridInventoryOrBuilder {
+    // Use GridInventory.newBuilder() to construct.
+    private GridInventory(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private GridInventory() {
+      version_ = 0;
+      location_ = "";
+      runTime_ = "";
+      lastModified_ = 0L;
+      vertCoords_ = java.util.Collections.emptyList();
+      timeCoords_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private GridInventory(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              version_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              location_ = s;
+              break;
+            }
+            case 26: {
+              String s = input.readStringRequireUtf8();
+
+              runTime_ = s;
+              break;
+            }
+            case 32: {
+
+              lastModified_ = input.readUInt64();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                vertCoords_ = new java.util.ArrayList<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              vertCoords_.add(input.readMessage(ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.parser(), extensionRegistry));
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                timeCoords_ = new java.util.ArrayList<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              timeCoords_.add(input.readMessage(ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          vertCoords_ = java.util.Collections.unmodifiableList(vertCoords_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          timeCoords_ = java.util.Collections.unmodifiableList(timeCoords_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_GridInventory_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_GridInventory_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private int version_;
+    /**
+     * <code>optional uint32 version = 1;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    public static final int LOCATION_FIELD_NUMBER = 2;
+    private volatile java.lang.Object location_;
+    /**
+     * <code>optional string location = 2;</code>
+     */
+    public java.lang.String getLocation() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        location_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string location = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLocationBytes() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        location_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RUNTIME_FIELD_NUMBER = 3;
+    private volatile java.lang.Object runTime_;
+    /**
+     * <code>optional string runTime = 3;</code>
+     */
+    public java.lang.String getRunTime() {
+      java.lang.Object ref = runTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        runTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string runTime = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRunTimeBytes() {
+      java.lang.Object ref = runTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        runTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LASTMODIFIED_FIELD_NUMBER = 4;
+    private long lastModified_;
+    /**
+     * <code>optional uint64 lastModified = 4;</code>
+     *
+     * <pre>
+     * msecs since epoch
+     * </pre>
+     */
+    public long getLastModified() {
+      return lastModified_;
+    }
+
+    public static final int VERTCOORDS_FIELD_NUMBER = 5;
+    private java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord> vertCoords_;
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord> getVertCoordsList() {
+      return vertCoords_;
+    }
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    public java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder> 
+        getVertCoordsOrBuilderList() {
+      return vertCoords_;
+    }
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    public int getVertCoordsCount() {
+      return vertCoords_.size();
+    }
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord getVertCoords(int index) {
+      return vertCoords_.get(index);
+    }
+    /**
+     * <code>repeated .VertCoord vertCoords = 5;</code>
+     */
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder getVertCoordsOrBuilder(
+        int index) {
+      return vertCoords_.get(index);
+    }
+
+    public static final int TIMECOORDS_FIELD_NUMBER = 6;
+    private java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord> timeCoords_;
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord> getTimeCoordsList() {
+      return timeCoords_;
+    }
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    public java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder> 
+        getTimeCoordsOrBuilderList() {
+      return timeCoords_;
+    }
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    public int getTimeCoordsCount() {
+      return timeCoords_.size();
+    }
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord getTimeCoords(int index) {
+      return timeCoords_.get(index);
+    }
+    /**
+     * <code>repeated .TimeCoord timeCoords = 6;</code>
+     */
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder getTimeCoordsOrBuilder(
+        int index) {
+      return timeCoords_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (version_ != 0) {
+        output.writeUInt32(1, version_);
+      }
+      if (!getLocationBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, location_);
+      }
+      if (!getRunTimeBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, runTime_);
+      }
+      if (lastModified_ != 0L) {
+        output.writeUInt64(4, lastModified_);
+      }
+      for (int i = 0; i < vertCoords_.size(); i++) {
+        output.writeMessage(5, vertCoords_.get(i));
+      }
+      for (int i = 0; i < timeCoords_.size(); i++) {
+        output.writeMessage(6, timeCoords_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (version_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, version_);
+      }
+      if (!getLocationBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, location_);
+      }
+      if (!getRunTimeBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, runTime_);
+      }
+      if (lastModified_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, lastModified_);
+      }
+      for (int i = 0; i < vertCoords_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, vertCoords_.get(i));
+      }
+      for (int i = 0; i < timeCoords_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, timeCoords_.get(i));
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GridInventory}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GridInventory)
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventoryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_GridInventory_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_GridInventory_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory.class, ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getVertCoordsFieldBuilder();
+          getTimeCoordsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+
+        location_ = "";
+
+        runTime_ = "";
+
+        lastModified_ = 0L;
+
+        if (vertCoordsBuilder_ == null) {
+          vertCoords_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          vertCoordsBuilder_.clear();
+        }
+        if (timeCoordsBuilder_ == null) {
+          timeCoords_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          timeCoordsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.internal_static_GridInventory_descriptor;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory getDefaultInstanceForType() {
+        return ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory build() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory buildPartial() {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory result = new ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.version_ = version_;
+        result.location_ = location_;
+        result.runTime_ = runTime_;
+        result.lastModified_ = lastModified_;
+        if (vertCoordsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            vertCoords_ = java.util.Collections.unmodifiableList(vertCoords_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.vertCoords_ = vertCoords_;
+        } else {
+          result.vertCoords_ = vertCoordsBuilder_.build();
+        }
+        if (timeCoordsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            timeCoords_ = java.util.Collections.unmodifiableList(timeCoords_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.timeCoords_ = timeCoords_;
+        } else {
+          result.timeCoords_ = timeCoordsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory) {
+          return mergeFrom((ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory other) {
+        if (other == ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory.getDefaultInstance()) return this;
+        if (other.getVersion() != 0) {
+          setVersion(other.getVersion());
+        }
+        if (!other.getLocation().isEmpty()) {
+          location_ = other.location_;
+          onChanged();
+        }
+        if (!other.getRunTime().isEmpty()) {
+          runTime_ = other.runTime_;
+          onChanged();
+        }
+        if (other.getLastModified() != 0L) {
+          setLastModified(other.getLastModified());
+        }
+        if (vertCoordsBuilder_ == null) {
+          if (!other.vertCoords_.isEmpty()) {
+            if (vertCoords_.isEmpty()) {
+              vertCoords_ = other.vertCoords_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureVertCoordsIsMutable();
+              vertCoords_.addAll(other.vertCoords_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.vertCoords_.isEmpty()) {
+            if (vertCoordsBuilder_.isEmpty()) {
+              vertCoordsBuilder_.dispose();
+              vertCoordsBuilder_ = null;
+              vertCoords_ = other.vertCoords_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              vertCoordsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getVertCoordsFieldBuilder() : null;
+            } else {
+              vertCoordsBuilder_.addAllMessages(other.vertCoords_);
+            }
+          }
+        }
+        if (timeCoordsBuilder_ == null) {
+          if (!other.timeCoords_.isEmpty()) {
+            if (timeCoords_.isEmpty()) {
+              timeCoords_ = other.timeCoords_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureTimeCoordsIsMutable();
+              timeCoords_.addAll(other.timeCoords_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.timeCoords_.isEmpty()) {
+            if (timeCoordsBuilder_.isEmpty()) {
+              timeCoordsBuilder_.dispose();
+              timeCoordsBuilder_ = null;
+              timeCoords_ = other.timeCoords_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              timeCoordsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTimeCoordsFieldBuilder() : null;
+            } else {
+              timeCoordsBuilder_.addAllMessages(other.timeCoords_);
+            }
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int version_ ;
+      /**
+       * <code>optional uint32 version = 1;</code>
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>optional uint32 version = 1;</code>
+       */
+      public Builder setVersion(int value) {
+        
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 version = 1;</code>
+       */
+      public Builder clearVersion() {
+        
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object location_ = "";
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      public java.lang.String getLocation() {
+        java.lang.Object ref = location_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          location_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLocationBytes() {
+        java.lang.Object ref = location_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          location_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      public Builder setLocation(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        location_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      public Builder clearLocation() {
+        
+        location_ = getDefaultInstance().getLocation();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      public Builder setLocationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        location_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object runTime_ = "";
+      /**
+       * <code>optional string runTime = 3;</code>
+       */
+      public java.lang.String getRunTime() {
+        java.lang.Object ref = runTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          runTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string runTime = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRunTimeBytes() {
+        java.lang.Object ref = runTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          runTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string runTime = 3;</code>
+       */
+      public Builder setRunTime(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        runTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string runTime = 3;</code>
+       */
+      public Builder clearRunTime() {
+        
+        runTime_ = getDefaultInstance().getRunTime();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string runTime = 3;</code>
+       */
+      public Builder setRunTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        runTime_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long lastModified_ ;
+      /**
+       * <code>optional uint64 lastModified = 4;</code>
+       *
+       * <pre>
+       * msecs since epoch
+       * </pre>
+       */
+      public long getLastModified() {
+        return lastModified_;
+      }
+      /**
+       * <code>optional uint64 lastModified = 4;</code>
+       *
+       * <pre>
+       * msecs since epoch
+       * </pre>
+       */
+      public Builder setLastModified(long value) {
+        
+        lastModified_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 lastModified = 4;</code>
+       *
+       * <pre>
+       * msecs since epoch
+       * </pre>
+       */
+      public Builder clearLastModified() {
+        
+        lastModified_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord> vertCoords_ =
+        java.util.Collections.emptyList();
+      private void ensureVertCoordsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          vertCoords_ = new java.util.ArrayList<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord>(vertCoords_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder> vertCoordsBuilder_;
+
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord> getVertCoordsList() {
+        if (vertCoordsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(vertCoords_);
+        } else {
+          return vertCoordsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public int getVertCoordsCount() {
+        if (vertCoordsBuilder_ == null) {
+          return vertCoords_.size();
+        } else {
+          return vertCoordsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord getVertCoords(int index) {
+        if (vertCoordsBuilder_ == null) {
+          return vertCoords_.get(index);
+        } else {
+          return vertCoordsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder setVertCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord value) {
+        if (vertCoordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVertCoordsIsMutable();
+          vertCoords_.set(index, value);
+          onChanged();
+        } else {
+          vertCoordsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder setVertCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder builderForValue) {
+        if (vertCoordsBuilder_ == null) {
+          ensureVertCoordsIsMutable();
+          vertCoords_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          vertCoordsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder addVertCoords(ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord value) {
+        if (vertCoordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVertCoordsIsMutable();
+          vertCoords_.add(value);
+          onChanged();
+        } else {
+          vertCoordsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder addVertCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord value) {
+        if (vertCoordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVertCoordsIsMutable();
+          vertCoords_.add(index, value);
+          onChanged();
+        } else {
+          vertCoordsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder addVertCoords(
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder builderForValue) {
+        if (vertCoordsBuilder_ == null) {
+          ensureVertCoordsIsMutable();
+          vertCoords_.add(builderForValue.build());
+          onChanged();
+        } else {
+          vertCoordsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder addVertCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder builderForValue) {
+        if (vertCoordsBuilder_ == null) {
+          ensureVertCoordsIsMutable();
+          vertCoords_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          vertCoordsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder addAllVertCoords(
+          java.lang.Iterable<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord> values) {
+        if (vertCoordsBuilder_ == null) {
+          ensureVertCoordsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, vertCoords_);
+          onChanged();
+        } else {
+          vertCoordsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder clearVertCoords() {
+        if (vertCoordsBuilder_ == null) {
+          vertCoords_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          vertCoordsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public Builder removeVertCoords(int index) {
+        if (vertCoordsBuilder_ == null) {
+          ensureVertCoordsIsMutable();
+          vertCoords_.remove(index);
+          onChanged();
+        } else {
+          vertCoordsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder getVertCoordsBuilder(
+          int index) {
+        return getVertCoordsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder getVertCoordsOrBuilder(
+          int index) {
+        if (vertCoordsBuilder_ == null) {
+          return vertCoords_.get(index);  } else {
+          return vertCoordsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder> 
+           getVertCoordsOrBuilderList() {
+        if (vertCoordsBuilder_ != null) {
+          return vertCoordsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(vertCoords_);
+        }
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder addVertCoordsBuilder() {
+        return getVertCoordsFieldBuilder().addBuilder(
+            ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder addVertCoordsBuilder(
+          int index) {
+        return getVertCoordsFieldBuilder().addBuilder(
+            index, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .VertCoord vertCoords = 5;</code>
+       */
+      public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder> 
+           getVertCoordsBuilderList() {
+        return getVertCoordsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder> 
+          getVertCoordsFieldBuilder() {
+        if (vertCoordsBuilder_ == null) {
+          vertCoordsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoord.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.VertCoordOrBuilder>(
+                  vertCoords_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          vertCoords_ = null;
+        }
+        return vertCoordsBuilder_;
+      }
+
+      private java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord> timeCoords_ =
+        java.util.Collections.emptyList();
+      private void ensureTimeCoordsIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          timeCoords_ = new java.util.ArrayList<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord>(timeCoords_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder> timeCoordsBuilder_;
+
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord> getTimeCoordsList() {
+        if (timeCoordsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(timeCoords_);
+        } else {
+          return timeCoordsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public int getTimeCoordsCount() {
+        if (timeCoordsBuilder_ == null) {
+          return timeCoords_.size();
+        } else {
+          return timeCoordsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord getTimeCoords(int index) {
+        if (timeCoordsBuilder_ == null) {
+          return timeCoords_.get(index);
+        } else {
+          return timeCoordsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder setTimeCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord value) {
+        if (timeCoordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTimeCoordsIsMutable();
+          timeCoords_.set(index, value);
+          onChanged();
+        } else {
+          timeCoordsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder setTimeCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder builderForValue) {
+        if (timeCoordsBuilder_ == null) {
+          ensureTimeCoordsIsMutable();
+          timeCoords_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          timeCoordsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder addTimeCoords(ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord value) {
+        if (timeCoordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTimeCoordsIsMutable();
+          timeCoords_.add(value);
+          onChanged();
+        } else {
+          timeCoordsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder addTimeCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord value) {
+        if (timeCoordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTimeCoordsIsMutable();
+          timeCoords_.add(index, value);
+          onChanged();
+        } else {
+          timeCoordsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder addTimeCoords(
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder builderForValue) {
+        if (timeCoordsBuilder_ == null) {
+          ensureTimeCoordsIsMutable();
+          timeCoords_.add(builderForValue.build());
+          onChanged();
+        } else {
+          timeCoordsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder addTimeCoords(
+          int index, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder builderForValue) {
+        if (timeCoordsBuilder_ == null) {
+          ensureTimeCoordsIsMutable();
+          timeCoords_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          timeCoordsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder addAllTimeCoords(
+          java.lang.Iterable<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord> values) {
+        if (timeCoordsBuilder_ == null) {
+          ensureTimeCoordsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, timeCoords_);
+          onChanged();
+        } else {
+          timeCoordsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder clearTimeCoords() {
+        if (timeCoordsBuilder_ == null) {
+          timeCoords_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          timeCoordsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public Builder removeTimeCoords(int index) {
+        if (timeCoordsBuilder_ == null) {
+          ensureTimeCoordsIsMutable();
+          timeCoords_.remove(index);
+          onChanged();
+        } else {
+          timeCoordsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder getTimeCoordsBuilder(
+          int index) {
+        return getTimeCoordsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder getTimeCoordsOrBuilder(
+          int index) {
+        if (timeCoordsBuilder_ == null) {
+          return timeCoords_.get(index);  } else {
+          return timeCoordsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public java.util.List<? extends ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder> 
+           getTimeCoordsOrBuilderList() {
+        if (timeCoordsBuilder_ != null) {
+          return timeCoordsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(timeCoords_);
+        }
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder addTimeCoordsBuilder() {
+        return getTimeCoordsFieldBuilder().addBuilder(
+            ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder addTimeCoordsBuilder(
+          int index) {
+        return getTimeCoordsFieldBuilder().addBuilder(
+            index, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TimeCoord timeCoords = 6;</code>
+       */
+      public java.util.List<ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder> 
+           getTimeCoordsBuilderList() {
+        return getTimeCoordsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder> 
+          getTimeCoordsFieldBuilder() {
+        if (timeCoordsBuilder_ == null) {
+          timeCoordsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoord.Builder, ucar.nc2.ft.fmrc.GridDatasetInvProto.TimeCoordOrBuilder>(
+                  timeCoords_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          timeCoords_ = null;
+        }
+        return timeCoordsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GridInventory)
+    }
+
+    // @@protoc_insertion_point(class_scope:GridInventory)
+    private static final ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory();
+    }
+
+    public static ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GridInventory>
+        PARSER = new com.google.protobuf.AbstractParser<GridInventory>() {
+      public GridInventory parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new GridInventory(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<GridInventory> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GridInventory> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.fmrc.GridDatasetInvProto.GridInventory getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_VertCoord_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_VertCoord_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_Grid_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Grid_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_TimeCoord_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_TimeCoord_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_GridInventory_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_GridInventory_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n%ucar/nc2/ft/fmrc/gridDatasetInv.proto\"" +
+      "V\n\tVertCoord\022\n\n\002id\030\001 \001(\r\022\014\n\004name\030\002 \001(\t\022\r" +
+      "\n\005units\030\003 \001(\t\022\017\n\007values1\030\004 \003(\001\022\017\n\007values" +
+      "2\030\005 \003(\001\"3\n\004Grid\022\014\n\004name\030\001 \001(\t\022\016\n\006vertId\030" +
+      "\002 \001(\r\022\r\n\005ensId\030\003 \001(\r\"r\n\tTimeCoord\022\n\n\002id\030" +
+      "\001 \001(\r\022\022\n\nisInterval\030\002 \001(\010\022\017\n\007offsets\030\003 \003" +
+      "(\001\022\016\n\006bound1\030\004 \003(\001\022\016\n\006bound2\030\005 \003(\001\022\024\n\005gr" +
+      "ids\030\006 \003(\0132\005.Grid\"\231\001\n\rGridInventory\022\017\n\007ve" +
+      "rsion\030\001 \001(\r\022\020\n\010location\030\002 \001(\t\022\017\n\007runTime" +
+      "\030\003 \001(\t\022\024\n\014lastModified\030\004 \001(\004\022\036\n\nvertCoor",
+      "ds\030\005 \003(\0132\n.VertCoord\022\036\n\ntimeCoords\030\006 \003(\013" +
+      "2\n.TimeCoordB\'\n\020ucar.nc2.ft.fmrcB\023GridDa" +
+      "tasetInvProtob\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_VertCoord_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_VertCoord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_VertCoord_descriptor,
+        new java.lang.String[] { "Id", "Name", "Units", "Values1", "Values2", });
+    internal_static_Grid_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Grid_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Grid_descriptor,
+        new java.lang.String[] { "Name", "VertId", "EnsId", });
+    internal_static_TimeCoord_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_TimeCoord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_TimeCoord_descriptor,
+        new java.lang.String[] { "Id", "IsInterval", "Offsets", "Bound1", "Bound2", "Grids", });
+    internal_static_GridInventory_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_GridInventory_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_GridInventory_descriptor,
+        new java.lang.String[] { "Version", "Location", "RunTime", "LastModified", "VertCoords", "TimeCoords", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -37,6 +37,7 @@ import java.io.IOException;
 import ucar.nc2.ft.PointFeature;
 import ucar.nc2.ft.PointFeatureCollection;
 import ucar.nc2.ft.PointFeatureIterator;
+import ucar.nc2.ft.StationTimeSeriesFeature;
 import ucar.nc2.time.CalendarDateRange;
 import ucar.nc2.util.IOIterator;
 import ucar.unidata.geoloc.LatLonRect;
@@ -51,6 +52,7 @@ import ucar.unidata.geoloc.LatLonRect;
 public class PointIteratorFlatten extends PointIteratorAbstract {
   private IOIterator<PointFeatureCollection> collectionIter;
   private Filter filter = null;
+  private CalendarDateRange filter_date;
 
   private PointFeatureCollection currCollection;
   private PointFeatureIterator pfiter; // iterator over the current PointFeatureCollection
@@ -66,6 +68,7 @@ public class PointIteratorFlatten extends PointIteratorAbstract {
    */
   PointIteratorFlatten(IOIterator<PointFeatureCollection> collectionIter, LatLonRect filter_bb, CalendarDateRange filter_date) {
     this.collectionIter = collectionIter;
+    this.filter_date = filter_date;
     if ((filter_bb != null) || (filter_date != null))
       this.filter = new PointIteratorFiltered.SpaceAndTimeFilter(filter_bb, filter_date);
   }
@@ -92,7 +95,11 @@ public class PointIteratorFlatten extends PointIteratorAbstract {
       }
 
       currCollection = feature;
-      pfiter = feature.getPointFeatureIterator();
+      // let the station subset the time range, it may be able to skip obs without reading them
+      if (filter_date != null && feature instanceof StationTimeSeriesFeature)
+        pfiter = ((StationTimeSeriesFeature) feature).subset(filter_date).getPointFeatureIterator();
+      else
+        pfiter = feature.getPointFeatureIterator();
       return hasNext();
 
     } catch (IOException ioe) {
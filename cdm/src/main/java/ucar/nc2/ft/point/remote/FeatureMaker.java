@@ -36,6 +36,9 @@ import ucar.nc2.ft.DsgFeatureCollection;
 import ucar.nc2.ft.PointFeature;
 import com.google.protobuf.InvalidProtocolBufferException;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Interface for deserializing a PointFeature.
  *
@@ -45,4 +48,14 @@ import com.google.protobuf.InvalidProtocolBufferException;
  */
 public interface FeatureMaker {
   PointFeature make(DsgFeatureCollection dsg, byte[] rawBytes) throws InvalidProtocolBufferException;
+
+  /**
+   * Deserialize a PointFeatureBatch message.
+   *
+   * @param dsg      the features belong to this collection
+   * @param rawBytes the message
+   * @return the features, in order
+   * @throws IOException on bad input
+   */
+  List<PointFeature> makeBatch(DsgFeatureCollection dsg, byte[] rawBytes) throws IOException;
 }
@@ -0,0 +1,397 @@
+/* Copyright */
+package ucar.nc2.ft.point.remote;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import ucar.ma2.Array;
+import ucar.ma2.ArrayStructureMA;
+import ucar.ma2.DataType;
+import ucar.ma2.IndexIterator;
+import ucar.ma2.StructureData;
+import ucar.ma2.StructureMembers;
+import ucar.nc2.ft.PointFeature;
+import ucar.unidata.geoloc.EarthLocation;
+
+/**
+ * Columnar encoding of a batch of PointFeatures, see PointFeatureBatch in pointStream.proto.
+ * The locations and times are sent as zigzag varint deltas of the raw IEEE bits, so they are lossless,
+ * and the member data as one big-endian primitive array per member, optionally deflated.
+ * Only members of fixed size numeric, CHAR or STRING type can be batched, see canEncode().
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+class PointFeatureBatch {
+
+  /**
+   * Can features with these members be batched?
+   *
+   * @param sm the members of the feature data
+   * @return true if all members are numeric, CHAR or STRING, and not nested or variable length
+   */
+  static boolean canEncode(StructureMembers sm) {
+    for (StructureMembers.Member m : sm.getMembers()) {
+      if (m.isVariableLength() || m.getStructureMembers() != null) return false;
+      switch (m.getDataType()) {
+        case BYTE:
+        case SHORT:
+        case INT:
+        case LONG:
+        case FLOAT:
+        case DOUBLE:
+        case CHAR:
+        case STRING:
+          break;
+        default:
+          return false;
+      }
+    }
+    return true;
+  }
+
+  // bytes per element in a Column
+  static private int elemSize(DataType dtype) {
+    return (dtype == DataType.CHAR) ? 1 : dtype.getSize();
+  }
+
+  /**
+   * Accumulates features column-wise, then encodes them as one PointFeatureBatch message.
+   * The feature data is copied when added, so the features may be reused by the iterator.
+   */
+  static class Encoder {
+    private final StructureMembers sm;
+    private final int batchSize;
+    private final boolean deflate;
+
+    private final double[] time, nomTime, lat, lon, alt;
+    private final ByteBuffer[] data;
+    private final List<List<String>> sdata = new ArrayList<>();
+    private int count = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param sm        the members of the feature data, must satisfy canEncode()
+     * @param batchSize maximum number of features in a batch
+     * @param deflate   deflate the columns
+     */
+    Encoder(StructureMembers sm, int batchSize, boolean deflate) {
+      this.sm = sm;
+      this.batchSize = batchSize;
+      this.deflate = deflate;
+      time = new double[batchSize];
+      nomTime = new double[batchSize];
+      lat = new double[batchSize];
+      lon = new double[batchSize];
+      alt = new double[batchSize];
+
+      List<StructureMembers.Member> members = sm.getMembers();
+      data = new ByteBuffer[members.size()];
+      for (int i = 0; i < members.size(); i++) {
+        StructureMembers.Member m = members.get(i);
+        if (m.getDataType() == DataType.STRING)
+          sdata.add(new ArrayList<String>(batchSize * m.getSize()));
+        else {
+          data[i] = ByteBuffer.allocate(batchSize * m.getSize() * elemSize(m.getDataType())); // big-endian
+          sdata.add(null);
+        }
+      }
+    }
+
+    int size() {
+      return count;
+    }
+
+    boolean isFull() {
+      return count >= batchSize;
+    }
+
+    void add(PointFeature pf) throws IOException {
+      time[count] = pf.getObservationTime();
+      nomTime[count] = pf.getNominalTime();
+      EarthLocation loc = pf.getLocation();
+      lat[count] = loc.getLatitude();
+      lon[count] = loc.getLongitude();
+      alt[count] = loc.getAltitude();
+
+      StructureData sdataAll = pf.getDataAll();
+      List<StructureMembers.Member> members = sm.getMembers();
+      for (int i = 0; i < members.size(); i++) {
+        StructureMembers.Member m = members.get(i);
+        StructureMembers.Member fm = sdataAll.findMember(m.getName());
+        if (fm == null)
+          throw new IllegalStateException("PointFeature is missing member " + m.getName());
+        Array a = sdataAll.getArray(fm);
+        if (a.getSize() != m.getSize())
+          throw new IllegalStateException("PointFeature member " + m.getName() + " has size " + a.getSize() + " expected " + m.getSize());
+        addValues(m.getDataType(), a.getIndexIterator(), data[i], sdata.get(i));
+      }
+      count++;
+    }
+
+    private void addValues(DataType dtype, IndexIterator ii, ByteBuffer bb, List<String> strings) {
+      switch (dtype) {
+        case BYTE:
+          while (ii.hasNext()) bb.put(ii.getByteNext());
+          break;
+        case SHORT:
+          while (ii.hasNext()) bb.putShort(ii.getShortNext());
+          break;
+        case INT:
+          while (ii.hasNext()) bb.putInt(ii.getIntNext());
+          break;
+        case LONG:
+          while (ii.hasNext()) bb.putLong(ii.getLongNext());
+          break;
+        case FLOAT:
+          while (ii.hasNext()) bb.putFloat(ii.getFloatNext());
+          break;
+        case DOUBLE:
+          while (ii.hasNext()) bb.putDouble(ii.getDoubleNext());
+          break;
+        case CHAR:
+          while (ii.hasNext()) bb.put((byte) ii.getCharNext());
+          break;
+        case STRING:
+          while (ii.hasNext()) {
+            Object s = ii.getObjectNext();
+            strings.add(s == null ? "" : s.toString());
+          }
+          break;
+      }
+    }
+
+    /**
+     * Encode the accumulated features as a PointFeatureBatch message, and start a new batch.
+     *
+     * @return the encoded message
+     * @throws IOException on error
+     */
+    byte[] encode() throws IOException {
+      PointStreamProto.PointFeatureColumns.Builder colBuilder = PointStreamProto.PointFeatureColumns.newBuilder();
+      long prevTime = 0, prevNomTime = 0, prevLat = 0, prevLon = 0, prevAlt = 0;
+      for (int i = 0; i < count; i++) {
+        colBuilder.addTime(delta(time[i], prevTime));
+        colBuilder.addNomTime(delta(nomTime[i], prevNomTime));
+        colBuilder.addLat(delta(lat[i], prevLat));
+        colBuilder.addLon(delta(lon[i], prevLon));
+        colBuilder.addAlt(delta(alt[i], prevAlt));
+        prevTime = Double.doubleToRawLongBits(time[i]);
+        prevNomTime = Double.doubleToRawLongBits(nomTime[i]);
+        prevLat = Double.doubleToRawLongBits(lat[i]);
+        prevLon = Double.doubleToRawLongBits(lon[i]);
+        prevAlt = Double.doubleToRawLongBits(alt[i]);
+      }
+
+      List<StructureMembers.Member> members = sm.getMembers();
+      for (int i = 0; i < members.size(); i++) {
+        PointStreamProto.Column.Builder builder = PointStreamProto.Column.newBuilder();
+        builder.setName(members.get(i).getName());
+        if (data[i] != null) {
+          builder.setData(ByteString.copyFrom(data[i].array(), 0, data[i].position()));
+          data[i].clear();
+        } else {
+          builder.addAllSdata(sdata.get(i));
+          sdata.get(i).clear();
+        }
+        colBuilder.addColumns(builder);
+      }
+      byte[] columns = colBuilder.build().toByteArray();
+
+      PointStreamProto.PointFeatureBatch.Builder builder = PointStreamProto.PointFeatureBatch.newBuilder();
+      builder.setCount(count);
+      if (deflate) {
+        builder.setDeflate(true);
+        builder.setUncompressedSize(columns.length);
+        builder.setColumns(ByteString.copyFrom(deflate(columns)));
+      } else {
+        builder.setColumns(ByteString.copyFrom(columns));
+      }
+
+      count = 0;
+      return builder.build().toByteArray();
+    }
+  }
+
+  // the delta from the previous raw bits
+  static private long delta(double value, long prev) {
+    return Double.doubleToRawLongBits(value) - prev;
+  }
+
+  static private double[] undelta(List<Long> deltas, int n) throws IOException {
+    if (deltas.size() != n)
+      throw new IOException("PointFeatureBatch has " + deltas.size() + " values, expected " + n);
+    double[] result = new double[n];
+    long prev = 0;
+    for (int i = 0; i < n; i++) {
+      prev += deltas.get(i);
+      result[i] = Double.longBitsToDouble(prev);
+    }
+    return result;
+  }
+
+  static private byte[] deflate(byte[] b) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(b);
+      deflater.finish();
+      ByteArrayOutputStream bos = new ByteArrayOutputStream(b.length / 2 + 64);
+      byte[] buff = new byte[8192];
+      while (!deflater.finished()) {
+        int n = deflater.deflate(buff);
+        bos.write(buff, 0, n);
+      }
+      return bos.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  static private byte[] inflate(byte[] b, int uncompressedSize) throws IOException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(b);
+      byte[] result = new byte[uncompressedSize];
+      int n = inflater.inflate(result);
+      if (n != uncompressedSize || !inflater.finished())
+        throw new IOException("PointFeatureBatch inflated size " + n + " expected " + uncompressedSize);
+      return result;
+    } catch (DataFormatException e) {
+      throw new IOException(e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////
+  // decoding
+
+  /**
+   * A decoded batch: the locations and times, and the feature data as an ArrayStructureMA.
+   */
+  static class Columns {
+    final int count;
+    double[] time, nomTime, lat, lon, alt;
+    ArrayStructureMA data;
+
+    Columns(int count) {
+      this.count = count;
+    }
+  }
+
+  /**
+   * Decode a PointFeatureBatch message.
+   *
+   * @param rawBytes the message
+   * @param sm       the members from the PointFeatureCollection message; not modified
+   * @return the decoded columns
+   * @throws IOException on bad input
+   */
+  static Columns decode(byte[] rawBytes, StructureMembers sm) throws IOException {
+    PointStreamProto.PointFeatureBatch proto = PointStreamProto.PointFeatureBatch.parseFrom(rawBytes);
+    int count = proto.getCount();
+    CodedInputStream in = proto.getDeflate() ?
+            CodedInputStream.newInstance(inflate(proto.getColumns().toByteArray(), proto.getUncompressedSize())) :
+            proto.getColumns().newCodedInput();
+    in.setSizeLimit(Integer.MAX_VALUE);
+    PointStreamProto.PointFeatureColumns colProto = PointStreamProto.PointFeatureColumns.parseFrom(in);
+
+    Columns result = new Columns(count);
+    result.time = (colProto.getTimeCount() > 0) ? undelta(colProto.getTimeList(), count) : new double[count];
+    result.nomTime = (colProto.getNomTimeCount() > 0) ? undelta(colProto.getNomTimeList(), count) : result.time;
+    result.lat = (colProto.getLatCount() > 0) ? undelta(colProto.getLatList(), count) : new double[count];
+    result.lon = (colProto.getLonCount() > 0) ? undelta(colProto.getLonList(), count) : new double[count];
+    result.alt = (colProto.getAltCount() > 0) ? undelta(colProto.getAltList(), count) : new double[count];
+
+    StructureMembers bsm = new StructureMembers(sm); // each batch has its own data arrays
+    result.data = new ArrayStructureMA(bsm, new int[]{count});
+    Map<String, Array> memberData = new HashMap<>();
+    for (PointStreamProto.Column column : colProto.getColumnsList())
+      readColumn(column, bsm, count, memberData);
+
+    for (StructureMembers.Member m : bsm.getMembers()) {
+      Array a = memberData.get(m.getName());
+      if (a == null)
+        throw new IOException("PointFeatureBatch is missing member " + m.getName());
+      result.data.setMemberArray(m.getName(), a);
+    }
+    return result;
+  }
+
+  static private void readColumn(PointStreamProto.Column column, StructureMembers sm, int count, Map<String, Array> memberData) throws IOException {
+    String name = column.getName();
+    List<String> strings = column.getSdataList();
+    byte[] data = column.getData().toByteArray();
+
+    StructureMembers.Member m = sm.findMember(name);
+    if (m == null) return; // LOOK unknown column, ignore
+    int n = count * m.getSize();
+    int[] mshape = m.getShape();
+    int[] shape = new int[mshape.length + 1];
+    shape[0] = count;
+    System.arraycopy(mshape, 0, shape, 1, mshape.length);
+
+    DataType dtype = m.getDataType();
+    if (dtype == DataType.STRING) {
+      if (strings.size() != n)
+        throw new IOException("PointFeatureBatch member " + name + " has " + strings.size() + " strings, expected " + n);
+      memberData.put(name, Array.factory(DataType.STRING, shape, strings.toArray(new String[n])));
+      return;
+    }
+
+    if (data.length != n * elemSize(dtype))
+      throw new IOException("PointFeatureBatch member " + name + " has wrong size");
+    ByteBuffer bb = ByteBuffer.wrap(data);
+    Object storage;
+    switch (dtype) {
+      case BYTE:
+        storage = data;
+        break;
+      case SHORT:
+        short[] sa = new short[n];
+        bb.asShortBuffer().get(sa);
+        storage = sa;
+        break;
+      case INT:
+        int[] ia = new int[n];
+        bb.asIntBuffer().get(ia);
+        storage = ia;
+        break;
+      case LONG:
+        long[] la = new long[n];
+        bb.asLongBuffer().get(la);
+        storage = la;
+        break;
+      case FLOAT:
+        float[] fa = new float[n];
+        bb.asFloatBuffer().get(fa);
+        storage = fa;
+        break;
+      case DOUBLE:
+        double[] da = new double[n];
+        bb.asDoubleBuffer().get(da);
+        storage = da;
+        break;
+      case CHAR:
+        char[] ca = new char[n];
+        for (int i = 0; i < n; i++)
+          ca[i] = (char) (data[i] & 0xff);
+        storage = ca;
+        break;
+      default:
+        throw new IOException("PointFeatureBatch member " + name + " has unsupported type " + dtype);
+    }
+    memberData.put(name, Array.factory(dtype, shape, storage));
+  }
+
+}
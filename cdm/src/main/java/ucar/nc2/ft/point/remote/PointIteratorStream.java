@@ -34,6 +34,7 @@ package ucar.nc2.ft.point.remote;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Iterator;
 import ucar.nc2.ft.DsgFeatureCollection;
 import ucar.nc2.ft.PointFeature;
 import ucar.nc2.ft.point.CollectionInfo;
@@ -43,7 +44,7 @@ import ucar.nc2.stream.NcStream;
 import ucar.nc2.stream.NcStreamProto;
 
 /**
- * Iterate through a stream of PointStream.MessageType.PointFeature until PointStream.MessageType.End
+ * Iterate through a stream of PointStream.MessageType.PointFeature or PointFeatureBatch until PointStream.MessageType.End
  *
  * @author caron
  * @since May 14, 2009
@@ -55,6 +56,7 @@ public class PointIteratorStream extends PointIteratorAbstract {
   private FeatureMaker featureMaker;
 
   private PointFeature pf;
+  private Iterator<PointFeature> batch; // the rest of the current PointFeatureBatch
   private boolean finished = false;
 
   PointIteratorStream(DsgCollectionImpl dsg, InputStream in, FeatureMaker featureMaker) throws IOException {
@@ -82,6 +84,10 @@ public class PointIteratorStream extends PointIteratorAbstract {
   @Override
   public boolean hasNext() {
     if (finished) return false;
+    if (batch != null && batch.hasNext()) {
+      pf = batch.next();
+      return true;
+    }
 
     try {
       PointStream.MessageType mtype = PointStream.readMagic(in);
@@ -94,6 +100,15 @@ public class PointIteratorStream extends PointIteratorAbstract {
         pf = featureMaker.make(dsg, b);
         return true;
 
+      } else if (mtype == PointStream.MessageType.PointFeatureBatch) {
+        int len = NcStream.readVInt(in);
+
+        byte[] b = new byte[len];
+        NcStream.readFully(in, b);
+
+        batch = featureMaker.makeBatch(dsg, b).iterator();
+        return hasNext(); // an empty batch is legal
+
       } else if (mtype == PointStream.MessageType.End) {
         pf = null;
         close();
@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -74,12 +75,13 @@ import ucar.unidata.geoloc.Station;
 public class PointStream {
   public enum MessageType {
     Start, Header, Data, End, Error, Eos,
-    StationList, PointFeatureCollection, PointFeature
+    StationList, PointFeatureCollection, PointFeature, PointFeatureBatch
   }
 
   static private final byte[] MAGIC_StationList = new byte[]{(byte) 0xfe, (byte) 0xfe, (byte) 0xef, (byte) 0xef};
   static private final byte[] MAGIC_PointFeatureCollection = new byte[]{(byte) 0xfa, (byte) 0xfa, (byte) 0xaf, (byte) 0xaf};
   static private final byte[] MAGIC_PointFeature = new byte[]{(byte) 0xf0, (byte) 0xf0, (byte) 0x0f, (byte) 0x0f};
+  static private final byte[] MAGIC_PointFeatureBatch = new byte[]{(byte) 0xf1, (byte) 0xf1, (byte) 0x1f, (byte) 0x1f};
 
   static private final boolean debug = false;
 
@@ -89,6 +91,7 @@ public class PointStream {
     if (done != 4) return MessageType.Eos;
 
     if (test(b, MAGIC_PointFeature)) return MessageType.PointFeature;
+    if (test(b, MAGIC_PointFeatureBatch)) return MessageType.PointFeatureBatch;
     if (test(b, MAGIC_PointFeatureCollection)) return MessageType.PointFeatureCollection;
     if (test(b, MAGIC_StationList)) return MessageType.StationList;
     if (test(b, NcStream.MAGIC_START)) return MessageType.Start;
@@ -103,6 +106,8 @@ public class PointStream {
     switch (type) {
       case PointFeature:
         return NcStream.writeBytes(out, PointStream.MAGIC_PointFeature);
+      case PointFeatureBatch:
+        return NcStream.writeBytes(out, PointStream.MAGIC_PointFeatureBatch);
       case PointFeatureCollection:
         return NcStream.writeBytes(out, PointStream.MAGIC_PointFeatureCollection);
       case StationList:
@@ -247,6 +252,43 @@ public class PointStream {
       return new MyPointFeature(dsg, location, locp.getTime(), locp.getNomTime(), dateUnit, pfp);
     }
 
+    @Override
+    public List<PointFeature> makeBatch(DsgFeatureCollection dsg, byte[] rawBytes) throws IOException {
+      PointFeatureBatch.Columns cols = PointFeatureBatch.decode(rawBytes, sm);
+      List<PointFeature> result = new ArrayList<>(cols.count);
+      for (int i = 0; i < cols.count; i++) {
+        EarthLocationImpl location = new EarthLocationImpl(cols.lat[i], cols.lon[i], cols.alt[i]);
+        result.add(new BatchPointFeature(dsg, location, cols.time[i], cols.nomTime[i], dateUnit, cols.data.getStructureData(i)));
+      }
+      return result;
+    }
+
+    // the feature data is a row of the batch ArrayStructure
+    private class BatchPointFeature extends PointFeatureImpl {
+      StructureData sdata;
+
+      BatchPointFeature(DsgFeatureCollection dsg, EarthLocation location, double obsTime, double nomTime, CalendarDateUnit timeUnit, StructureData sdata) {
+        super(dsg, location, obsTime, nomTime, timeUnit);
+        this.sdata = sdata;
+      }
+
+      @Nonnull
+      @Override
+      public StructureData getFeatureData() throws IOException {
+        return sdata;
+      }
+
+      @Nonnull
+      @Override
+      public StructureData getDataAll() throws IOException {
+        return sdata;
+      }
+
+      public String toString() {
+        return location + " obs=" + obsTime + " nom=" + nomTime;
+      }
+    }
+
     private class MyPointFeature extends PointFeatureImpl {
       PointStreamProto.PointFeature pfp;
 
@@ -295,7 +337,31 @@ public class PointStream {
   // Caller must iter.finish() and out.close().
   public static int write(OutputStream out, PointFeatureIterator pointFeatIter, String name, String timeUnitString,
           String altUnits) throws IOException {
+    return write(out, pointFeatIter, name, timeUnitString, altUnits, 0, false);
+  }
+
+  /**
+   * Write the point stream, optionally batching the features into PointFeatureBatch messages.
+   * Batching sends the features column-wise, batchSize at a time, which has much less per-feature overhead.
+   * Readers of this version handle either; older readers only understand the unbatched PointFeature messages.
+   * If the feature data has members that cant be batched (see PointFeatureBatch.canEncode()),
+   * the features are written one at a time.
+   * Caller must iter.finish() and out.close().
+   *
+   * @param out            write to here
+   * @param pointFeatIter  the features to write
+   * @param name           collection name
+   * @param timeUnitString time unit of the feature times
+   * @param altUnits       units of the altitude, may be null
+   * @param batchSize      maximum number of features in a PointFeatureBatch, or &lt;= 1 to write one PointFeature message per feature
+   * @param deflate        deflate the PointFeatureBatch messages
+   * @return number of features written
+   * @throws IOException on error
+   */
+  public static int write(OutputStream out, PointFeatureIterator pointFeatIter, String name, String timeUnitString,
+          String altUnits, int batchSize, boolean deflate) throws IOException {
     int numWritten = 0;
+    PointFeatureBatch.Encoder batch = null;
 
     while (pointFeatIter.hasNext()) {
       try {
@@ -309,14 +375,25 @@ public class PointStream {
           PointStream.writeMagic(out, MessageType.PointFeatureCollection);
           NcStream.writeVInt(out, data.length);
           out.write(data);
+
+          StructureMembers sm = pointFeat.getDataAll().getStructureMembers();
+          if (batchSize > 1 && PointFeatureBatch.canEncode(sm))
+            batch = new PointFeatureBatch.Encoder(sm, batchSize, deflate);
         }
 
-        PointStreamProto.PointFeature protoPointFeat = PointStream.encodePointFeature(pointFeat);
-        byte[] data = protoPointFeat.toByteArray();
+        if (batch != null) {
+          batch.add(pointFeat);
+          if (batch.isFull())
+            writeBatch(out, batch);
 
-        PointStream.writeMagic(out, MessageType.PointFeature);
-        NcStream.writeVInt(out, data.length);
-        out.write(data);
+        } else {
+          PointStreamProto.PointFeature protoPointFeat = PointStream.encodePointFeature(pointFeat);
+          byte[] data = protoPointFeat.toByteArray();
+
+          PointStream.writeMagic(out, MessageType.PointFeature);
+          NcStream.writeVInt(out, data.length);
+          out.write(data);
+        }
 
         ++numWritten;
       } catch (Throwable t) {
@@ -332,8 +409,17 @@ public class PointStream {
       }
     }
 
+    if (batch != null && batch.size() > 0)
+      writeBatch(out, batch);
     PointStream.writeMagic(out, PointStream.MessageType.End);
 
     return numWritten;
   }
+
+  private static void writeBatch(OutputStream out, PointFeatureBatch.Encoder batch) throws IOException {
+    byte[] data = batch.encode();
+    PointStream.writeMagic(out, MessageType.PointFeatureBatch);
+    NcStream.writeVInt(out, data.length);
+    out.write(data);
+  }
 }
@@ -9,7 +9,7 @@ public final class PointStreamProto {
       com.google.protobuf.ExtensionRegistry registry) {
   }
   public interface LocationOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Location)
+      // @@protoc_insertion_point(interface_extends:pointStream.Location)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -38,11 +38,11 @@ public final class PointStreamProto {
     double getNomTime();
   }
   /**
-   * Protobuf type {@code Location}
+   * Protobuf type {@code pointStream.Location}
    */
   public  static final class Location extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Location)
+      // @@protoc_insertion_point(message_implements:pointStream.Location)
       LocationOrBuilder {
     // Use Location.newBuilder() to construct.
     private Location(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
@@ -119,12 +119,12 @@ public final class PointStreamProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Location_descriptor;
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Location_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Location_fieldAccessorTable
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Location_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
               ucar.nc2.ft.point.remote.PointStreamProto.Location.class, ucar.nc2.ft.point.remote.PointStreamProto.Location.Builder.class);
     }
@@ -305,20 +305,20 @@ public final class PointStreamProto {
       return builder;
     }
     /**
-     * Protobuf type {@code Location}
+     * Protobuf type {@code pointStream.Location}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Location)
+        // @@protoc_insertion_point(builder_implements:pointStream.Location)
         ucar.nc2.ft.point.remote.PointStreamProto.LocationOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Location_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Location_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Location_fieldAccessorTable
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Location_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
                 ucar.nc2.ft.point.remote.PointStreamProto.Location.class, ucar.nc2.ft.point.remote.PointStreamProto.Location.Builder.class);
       }
@@ -354,7 +354,7 @@ public final class PointStreamProto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Location_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Location_descriptor;
       }
 
       public ucar.nc2.ft.point.remote.PointStreamProto.Location getDefaultInstanceForType() {
@@ -572,10 +572,10 @@ public final class PointStreamProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Location)
+      // @@protoc_insertion_point(builder_scope:pointStream.Location)
     }
 
-    // @@protoc_insertion_point(class_scope:Location)
+    // @@protoc_insertion_point(class_scope:pointStream.Location)
     private static final ucar.nc2.ft.point.remote.PointStreamProto.Location DEFAULT_INSTANCE;
     static {
       DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.Location();
@@ -620,19 +620,19 @@ public final class PointStreamProto {
   }
 
   public interface PointFeatureOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PointFeature)
+      // @@protoc_insertion_point(interface_extends:pointStream.PointFeature)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .Location loc = 1;</code>
+     * <code>optional .pointStream.Location loc = 1;</code>
      */
     boolean hasLoc();
     /**
-     * <code>optional .Location loc = 1;</code>
+     * <code>optional .pointStream.Location loc = 1;</code>
      */
     ucar.nc2.ft.point.remote.PointStreamProto.Location getLoc();
     /**
-     * <code>optional .Location loc = 1;</code>
+     * <code>optional .pointStream.Location loc = 1;</code>
      */
     ucar.nc2.ft.point.remote.PointStreamProto.LocationOrBuilder getLocOrBuilder();
 
@@ -640,7 +640,7 @@ public final class PointStreamProto {
      * <code>optional bytes data = 3;</code>
      *
      * <pre>
-     * fixed length data
+     * fixed length data
      * </pre>
      */
     com.google.protobuf.ByteString getData();
@@ -649,7 +649,7 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     com.google.protobuf.ProtocolStringList
@@ -658,7 +658,7 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     int getSdataCount();
@@ -666,7 +666,7 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     java.lang.String getSdata(int index);
@@ -674,18 +674,18 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     com.google.protobuf.ByteString
         getSdataBytes(int index);
   }
   /**
-   * Protobuf type {@code PointFeature}
+   * Protobuf type {@code pointStream.PointFeature}
    */
   public  static final class PointFeature extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:PointFeature)
+      // @@protoc_insertion_point(message_implements:pointStream.PointFeature)
       PointFeatureOrBuilder {
     // Use PointFeature.newBuilder() to construct.
     private PointFeature(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
@@ -764,12 +764,12 @@ public final class PointStreamProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeature_descriptor;
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeature_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeature_fieldAccessorTable
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeature_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
               ucar.nc2.ft.point.remote.PointStreamProto.PointFeature.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeature.Builder.class);
     }
@@ -778,19 +778,19 @@ public final class PointStreamProto {
     public static final int LOC_FIELD_NUMBER = 1;
     private ucar.nc2.ft.point.remote.PointStreamProto.Location loc_;
     /**
-     * <code>optional .Location loc = 1;</code>
+     * <code>optional .pointStream.Location loc = 1;</code>
      */
     public boolean hasLoc() {
       return loc_ != null;
     }
     /**
-     * <code>optional .Location loc = 1;</code>
+     * <code>optional .pointStream.Location loc = 1;</code>
      */
     public ucar.nc2.ft.point.remote.PointStreamProto.Location getLoc() {
       return loc_ == null ? ucar.nc2.ft.point.remote.PointStreamProto.Location.getDefaultInstance() : loc_;
     }
     /**
-     * <code>optional .Location loc = 1;</code>
+     * <code>optional .pointStream.Location loc = 1;</code>
      */
     public ucar.nc2.ft.point.remote.PointStreamProto.LocationOrBuilder getLocOrBuilder() {
       return getLoc();
@@ -802,7 +802,7 @@ public final class PointStreamProto {
      * <code>optional bytes data = 3;</code>
      *
      * <pre>
-     * fixed length data
+     * fixed length data
      * </pre>
      */
     public com.google.protobuf.ByteString getData() {
@@ -815,7 +815,7 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     public com.google.protobuf.ProtocolStringList
@@ -826,7 +826,7 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     public int getSdataCount() {
@@ -836,7 +836,7 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     public java.lang.String getSdata(int index) {
@@ -846,7 +846,7 @@ public final class PointStreamProto {
      * <code>repeated string sdata = 4;</code>
      *
      * <pre>
-     * Strings
+     * Strings
      * </pre>
      */
     public com.google.protobuf.ByteString
@@ -975,20 +975,20 @@ public final class PointStreamProto {
       return builder;
     }
     /**
-     * Protobuf type {@code PointFeature}
+     * Protobuf type {@code pointStream.PointFeature}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PointFeature)
+        // @@protoc_insertion_point(builder_implements:pointStream.PointFeature)
         ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeature_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeature_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeature_fieldAccessorTable
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeature_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
                 ucar.nc2.ft.point.remote.PointStreamProto.PointFeature.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeature.Builder.class);
       }
@@ -1024,7 +1024,7 @@ public final class PointStreamProto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeature_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeature_descriptor;
       }
 
       public ucar.nc2.ft.point.remote.PointStreamProto.PointFeature getDefaultInstanceForType() {
@@ -1117,13 +1117,13 @@ public final class PointStreamProto {
       private com.google.protobuf.SingleFieldBuilder<
           ucar.nc2.ft.point.remote.PointStreamProto.Location, ucar.nc2.ft.point.remote.PointStreamProto.Location.Builder, ucar.nc2.ft.point.remote.PointStreamProto.LocationOrBuilder> locBuilder_;
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public boolean hasLoc() {
         return locBuilder_ != null || loc_ != null;
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Location getLoc() {
         if (locBuilder_ == null) {
@@ -1133,7 +1133,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public Builder setLoc(ucar.nc2.ft.point.remote.PointStreamProto.Location value) {
         if (locBuilder_ == null) {
@@ -1149,7 +1149,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public Builder setLoc(
           ucar.nc2.ft.point.remote.PointStreamProto.Location.Builder builderForValue) {
@@ -1163,7 +1163,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public Builder mergeLoc(ucar.nc2.ft.point.remote.PointStreamProto.Location value) {
         if (locBuilder_ == null) {
@@ -1181,7 +1181,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public Builder clearLoc() {
         if (locBuilder_ == null) {
@@ -1195,7 +1195,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Location.Builder getLocBuilder() {
         
@@ -1203,7 +1203,7 @@ public final class PointStreamProto {
         return getLocFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.LocationOrBuilder getLocOrBuilder() {
         if (locBuilder_ != null) {
@@ -1214,7 +1214,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>optional .Location loc = 1;</code>
+       * <code>optional .pointStream.Location loc = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
           ucar.nc2.ft.point.remote.PointStreamProto.Location, ucar.nc2.ft.point.remote.PointStreamProto.Location.Builder, ucar.nc2.ft.point.remote.PointStreamProto.LocationOrBuilder> 
@@ -1235,7 +1235,7 @@ public final class PointStreamProto {
        * <code>optional bytes data = 3;</code>
        *
        * <pre>
-       * fixed length data
+       * fixed length data
        * </pre>
        */
       public com.google.protobuf.ByteString getData() {
@@ -1245,7 +1245,7 @@ public final class PointStreamProto {
        * <code>optional bytes data = 3;</code>
        *
        * <pre>
-       * fixed length data
+       * fixed length data
        * </pre>
        */
       public Builder setData(com.google.protobuf.ByteString value) {
@@ -1261,7 +1261,7 @@ public final class PointStreamProto {
        * <code>optional bytes data = 3;</code>
        *
        * <pre>
-       * fixed length data
+       * fixed length data
        * </pre>
        */
       public Builder clearData() {
@@ -1282,7 +1282,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public com.google.protobuf.ProtocolStringList
@@ -1293,7 +1293,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public int getSdataCount() {
@@ -1303,7 +1303,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public java.lang.String getSdata(int index) {
@@ -1313,7 +1313,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public com.google.protobuf.ByteString
@@ -1324,7 +1324,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public Builder setSdata(
@@ -1341,7 +1341,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public Builder addSdata(
@@ -1358,7 +1358,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public Builder addAllSdata(
@@ -1373,7 +1373,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public Builder clearSdata() {
@@ -1386,7 +1386,7 @@ public final class PointStreamProto {
        * <code>repeated string sdata = 4;</code>
        *
        * <pre>
-       * Strings
+       * Strings
        * </pre>
        */
       public Builder addSdataBytes(
@@ -1411,10 +1411,10 @@ public final class PointStreamProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:PointFeature)
+      // @@protoc_insertion_point(builder_scope:pointStream.PointFeature)
     }
 
-    // @@protoc_insertion_point(class_scope:PointFeature)
+    // @@protoc_insertion_point(class_scope:pointStream.PointFeature)
     private static final ucar.nc2.ft.point.remote.PointStreamProto.PointFeature DEFAULT_INSTANCE;
     static {
       DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.PointFeature();
@@ -1458,8 +1458,3142 @@ public final class PointStreamProto {
 
   }
 
+  public interface PointFeatureBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pointStream.PointFeatureBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 count = 1;</code>
+     *
+     * <pre>
+     * number of features
+     * </pre>
+     */
+    int getCount();
+
+    /**
+     * <code>optional bool deflate = 2;</code>
+     *
+     * <pre>
+     * columns are deflated
+     * </pre>
+     */
+    boolean getDeflate();
+
+    /**
+     * <code>optional uint32 uncompressedSize = 3;</code>
+     *
+     * <pre>
+     * size of the columns when deflated
+     * </pre>
+     */
+    int getUncompressedSize();
+
+    /**
+     * <code>optional bytes columns = 4;</code>
+     *
+     * <pre>
+     * PointFeatureColumns, possibly deflated
+     * </pre>
+     */
+    com.google.protobuf.ByteString getColumns();
+  }
+  /**
+   * Protobuf type {@code pointStream.PointFeatureBatch}
+   *
+   * <pre>
+   * A batch of PointFeatures, sent column-wise. Follows the PointFeatureCollection message.
+   * </pre>
+   */
+  public  static final class PointFeatureBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:pointStream.PointFeatureBatch)
+      PointFeatureBatchOrBuilder {
+    // Use PointFeatureBatch.newBuilder() to construct.
+    private PointFeatureBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PointFeatureBatch() {
+      count_ = 0;
+      deflate_ = false;
+      uncompressedSize_ = 0;
+      columns_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private PointFeatureBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              count_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+
+              deflate_ = input.readBool();
+              break;
+            }
+            case 24: {
+
+              uncompressedSize_ = input.readUInt32();
+              break;
+            }
+            case 34: {
+
+              columns_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch.Builder.class);
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 1;
+    private int count_;
+    /**
+     * <code>optional uint32 count = 1;</code>
+     *
+     * <pre>
+     * number of features
+     * </pre>
+     */
+    public int getCount() {
+      return count_;
+    }
+
+    public static final int DEFLATE_FIELD_NUMBER = 2;
+    private boolean deflate_;
+    /**
+     * <code>optional bool deflate = 2;</code>
+     *
+     * <pre>
+     * columns are deflated
+     * </pre>
+     */
+    public boolean getDeflate() {
+      return deflate_;
+    }
+
+    public static final int UNCOMPRESSEDSIZE_FIELD_NUMBER = 3;
+    private int uncompressedSize_;
+    /**
+     * <code>optional uint32 uncompressedSize = 3;</code>
+     *
+     * <pre>
+     * size of the columns when deflated
+     * </pre>
+     */
+    public int getUncompressedSize() {
+      return uncompressedSize_;
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString columns_;
+    /**
+     * <code>optional bytes columns = 4;</code>
+     *
+     * <pre>
+     * PointFeatureColumns, possibly deflated
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getColumns() {
+      return columns_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (count_ != 0) {
+        output.writeUInt32(1, count_);
+      }
+      if (deflate_ != false) {
+        output.writeBool(2, deflate_);
+      }
+      if (uncompressedSize_ != 0) {
+        output.writeUInt32(3, uncompressedSize_);
+      }
+      if (!columns_.isEmpty()) {
+        output.writeBytes(4, columns_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (count_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, count_);
+      }
+      if (deflate_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, deflate_);
+      }
+      if (uncompressedSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, uncompressedSize_);
+      }
+      if (!columns_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, columns_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pointStream.PointFeatureBatch}
+     *
+     * <pre>
+     * A batch of PointFeatures, sent column-wise. Follows the PointFeatureCollection message.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pointStream.PointFeatureBatch)
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        count_ = 0;
+
+        deflate_ = false;
+
+        uncompressedSize_ = 0;
+
+        columns_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureBatch_descriptor;
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch getDefaultInstanceForType() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch build() {
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch buildPartial() {
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch result = new ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch(this);
+        result.count_ = count_;
+        result.deflate_ = deflate_;
+        result.uncompressedSize_ = uncompressedSize_;
+        result.columns_ = columns_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch) {
+          return mergeFrom((ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch other) {
+        if (other == ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch.getDefaultInstance()) return this;
+        if (other.getCount() != 0) {
+          setCount(other.getCount());
+        }
+        if (other.getDeflate() != false) {
+          setDeflate(other.getDeflate());
+        }
+        if (other.getUncompressedSize() != 0) {
+          setUncompressedSize(other.getUncompressedSize());
+        }
+        if (other.getColumns() != com.google.protobuf.ByteString.EMPTY) {
+          setColumns(other.getColumns());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int count_ ;
+      /**
+       * <code>optional uint32 count = 1;</code>
+       *
+       * <pre>
+       * number of features
+       * </pre>
+       */
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <code>optional uint32 count = 1;</code>
+       *
+       * <pre>
+       * number of features
+       * </pre>
+       */
+      public Builder setCount(int value) {
+        
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 count = 1;</code>
+       *
+       * <pre>
+       * number of features
+       * </pre>
+       */
+      public Builder clearCount() {
+        
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean deflate_ ;
+      /**
+       * <code>optional bool deflate = 2;</code>
+       *
+       * <pre>
+       * columns are deflated
+       * </pre>
+       */
+      public boolean getDeflate() {
+        return deflate_;
+      }
+      /**
+       * <code>optional bool deflate = 2;</code>
+       *
+       * <pre>
+       * columns are deflated
+       * </pre>
+       */
+      public Builder setDeflate(boolean value) {
+        
+        deflate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool deflate = 2;</code>
+       *
+       * <pre>
+       * columns are deflated
+       * </pre>
+       */
+      public Builder clearDeflate() {
+        
+        deflate_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int uncompressedSize_ ;
+      /**
+       * <code>optional uint32 uncompressedSize = 3;</code>
+       *
+       * <pre>
+       * size of the columns when deflated
+       * </pre>
+       */
+      public int getUncompressedSize() {
+        return uncompressedSize_;
+      }
+      /**
+       * <code>optional uint32 uncompressedSize = 3;</code>
+       *
+       * <pre>
+       * size of the columns when deflated
+       * </pre>
+       */
+      public Builder setUncompressedSize(int value) {
+        
+        uncompressedSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 uncompressedSize = 3;</code>
+       *
+       * <pre>
+       * size of the columns when deflated
+       * </pre>
+       */
+      public Builder clearUncompressedSize() {
+        
+        uncompressedSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString columns_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes columns = 4;</code>
+       *
+       * <pre>
+       * PointFeatureColumns, possibly deflated
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getColumns() {
+        return columns_;
+      }
+      /**
+       * <code>optional bytes columns = 4;</code>
+       *
+       * <pre>
+       * PointFeatureColumns, possibly deflated
+       * </pre>
+       */
+      public Builder setColumns(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        columns_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes columns = 4;</code>
+       *
+       * <pre>
+       * PointFeatureColumns, possibly deflated
+       * </pre>
+       */
+      public Builder clearColumns() {
+        
+        columns_ = getDefaultInstance().getColumns();
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pointStream.PointFeatureBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:pointStream.PointFeatureBatch)
+    private static final ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch();
+    }
+
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PointFeatureBatch>
+        PARSER = new com.google.protobuf.AbstractParser<PointFeatureBatch>() {
+      public PointFeatureBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new PointFeatureBatch(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<PointFeatureBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PointFeatureBatch> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PointFeatureColumnsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pointStream.PointFeatureColumns)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated sint64 time = 1 [packed = true];</code>
+     *
+     * <pre>
+     * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getTimeList();
+    /**
+     * <code>repeated sint64 time = 1 [packed = true];</code>
+     *
+     * <pre>
+     * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+     * </pre>
+     */
+    int getTimeCount();
+    /**
+     * <code>repeated sint64 time = 1 [packed = true];</code>
+     *
+     * <pre>
+     * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+     * </pre>
+     */
+    long getTime(int index);
+
+    /**
+     * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getNomTimeList();
+    /**
+     * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+     */
+    int getNomTimeCount();
+    /**
+     * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+     */
+    long getNomTime(int index);
+
+    /**
+     * <code>repeated sint64 lat = 3 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getLatList();
+    /**
+     * <code>repeated sint64 lat = 3 [packed = true];</code>
+     */
+    int getLatCount();
+    /**
+     * <code>repeated sint64 lat = 3 [packed = true];</code>
+     */
+    long getLat(int index);
+
+    /**
+     * <code>repeated sint64 lon = 4 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getLonList();
+    /**
+     * <code>repeated sint64 lon = 4 [packed = true];</code>
+     */
+    int getLonCount();
+    /**
+     * <code>repeated sint64 lon = 4 [packed = true];</code>
+     */
+    long getLon(int index);
+
+    /**
+     * <code>repeated sint64 alt = 5 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getAltList();
+    /**
+     * <code>repeated sint64 alt = 5 [packed = true];</code>
+     */
+    int getAltCount();
+    /**
+     * <code>repeated sint64 alt = 5 [packed = true];</code>
+     */
+    long getAlt(int index);
+
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Column> 
+        getColumnsList();
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    ucar.nc2.ft.point.remote.PointStreamProto.Column getColumns(int index);
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    int getColumnsCount();
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder getColumnsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code pointStream.PointFeatureColumns}
+   */
+  public  static final class PointFeatureColumns extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:pointStream.PointFeatureColumns)
+      PointFeatureColumnsOrBuilder {
+    // Use PointFeatureColumns.newBuilder() to construct.
+    private PointFeatureColumns(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PointFeatureColumns() {
+      time_ = java.util.Collections.emptyList();
+      nomTime_ = java.util.Collections.emptyList();
+      lat_ = java.util.Collections.emptyList();
+      lon_ = java.util.Collections.emptyList();
+      alt_ = java.util.Collections.emptyList();
+      columns_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private PointFeatureColumns(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                time_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              time_.add(input.readSInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                time_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                time_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                nomTime_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              nomTime_.add(input.readSInt64());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                nomTime_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                nomTime_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                lat_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              lat_.add(input.readSInt64());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                lat_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                lat_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                lon_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              lon_.add(input.readSInt64());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                lon_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                lon_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                alt_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              alt_.add(input.readSInt64());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                alt_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                alt_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                columns_ = new java.util.ArrayList<ucar.nc2.ft.point.remote.PointStreamProto.Column>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              columns_.add(input.readMessage(ucar.nc2.ft.point.remote.PointStreamProto.Column.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          time_ = java.util.Collections.unmodifiableList(time_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          nomTime_ = java.util.Collections.unmodifiableList(nomTime_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          lat_ = java.util.Collections.unmodifiableList(lat_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          lon_ = java.util.Collections.unmodifiableList(lon_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          alt_ = java.util.Collections.unmodifiableList(alt_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          columns_ = java.util.Collections.unmodifiableList(columns_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureColumns_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureColumns_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns.Builder.class);
+    }
+
+    public static final int TIME_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Long> time_;
+    /**
+     * <code>repeated sint64 time = 1 [packed = true];</code>
+     *
+     * <pre>
+     * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getTimeList() {
+      return time_;
+    }
+    /**
+     * <code>repeated sint64 time = 1 [packed = true];</code>
+     *
+     * <pre>
+     * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+     * </pre>
+     */
+    public int getTimeCount() {
+      return time_.size();
+    }
+    /**
+     * <code>repeated sint64 time = 1 [packed = true];</code>
+     *
+     * <pre>
+     * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+     * </pre>
+     */
+    public long getTime(int index) {
+      return time_.get(index);
+    }
+    private int timeMemoizedSerializedSize = -1;
+
+    public static final int NOMTIME_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Long> nomTime_;
+    /**
+     * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getNomTimeList() {
+      return nomTime_;
+    }
+    /**
+     * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+     */
+    public int getNomTimeCount() {
+      return nomTime_.size();
+    }
+    /**
+     * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+     */
+    public long getNomTime(int index) {
+      return nomTime_.get(index);
+    }
+    private int nomTimeMemoizedSerializedSize = -1;
+
+    public static final int LAT_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Long> lat_;
+    /**
+     * <code>repeated sint64 lat = 3 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getLatList() {
+      return lat_;
+    }
+    /**
+     * <code>repeated sint64 lat = 3 [packed = true];</code>
+     */
+    public int getLatCount() {
+      return lat_.size();
+    }
+    /**
+     * <code>repeated sint64 lat = 3 [packed = true];</code>
+     */
+    public long getLat(int index) {
+      return lat_.get(index);
+    }
+    private int latMemoizedSerializedSize = -1;
+
+    public static final int LON_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Long> lon_;
+    /**
+     * <code>repeated sint64 lon = 4 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getLonList() {
+      return lon_;
+    }
+    /**
+     * <code>repeated sint64 lon = 4 [packed = true];</code>
+     */
+    public int getLonCount() {
+      return lon_.size();
+    }
+    /**
+     * <code>repeated sint64 lon = 4 [packed = true];</code>
+     */
+    public long getLon(int index) {
+      return lon_.get(index);
+    }
+    private int lonMemoizedSerializedSize = -1;
+
+    public static final int ALT_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Long> alt_;
+    /**
+     * <code>repeated sint64 alt = 5 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getAltList() {
+      return alt_;
+    }
+    /**
+     * <code>repeated sint64 alt = 5 [packed = true];</code>
+     */
+    public int getAltCount() {
+      return alt_.size();
+    }
+    /**
+     * <code>repeated sint64 alt = 5 [packed = true];</code>
+     */
+    public long getAlt(int index) {
+      return alt_.get(index);
+    }
+    private int altMemoizedSerializedSize = -1;
+
+    public static final int COLUMNS_FIELD_NUMBER = 6;
+    private java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Column> columns_;
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Column> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    public java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    public ucar.nc2.ft.point.remote.PointStreamProto.Column getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <code>repeated .pointStream.Column columns = 6;</code>
+     *
+     * <pre>
+     * one for each Member, in any order
+     * </pre>
+     */
+    public ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getTimeList().size() > 0) {
+        output.writeRawVarint32(10);
+        output.writeRawVarint32(timeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < time_.size(); i++) {
+        output.writeSInt64NoTag(time_.get(i));
+      }
+      if (getNomTimeList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(nomTimeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < nomTime_.size(); i++) {
+        output.writeSInt64NoTag(nomTime_.get(i));
+      }
+      if (getLatList().size() > 0) {
+        output.writeRawVarint32(26);
+        output.writeRawVarint32(latMemoizedSerializedSize);
+      }
+      for (int i = 0; i < lat_.size(); i++) {
+        output.writeSInt64NoTag(lat_.get(i));
+      }
+      if (getLonList().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(lonMemoizedSerializedSize);
+      }
+      for (int i = 0; i < lon_.size(); i++) {
+        output.writeSInt64NoTag(lon_.get(i));
+      }
+      if (getAltList().size() > 0) {
+        output.writeRawVarint32(42);
+        output.writeRawVarint32(altMemoizedSerializedSize);
+      }
+      for (int i = 0; i < alt_.size(); i++) {
+        output.writeSInt64NoTag(alt_.get(i));
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(6, columns_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < time_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(time_.get(i));
+        }
+        size += dataSize;
+        if (!getTimeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        timeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < nomTime_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(nomTime_.get(i));
+        }
+        size += dataSize;
+        if (!getNomTimeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        nomTimeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < lat_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(lat_.get(i));
+        }
+        size += dataSize;
+        if (!getLatList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        latMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < lon_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(lon_.get(i));
+        }
+        size += dataSize;
+        if (!getLonList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        lonMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < alt_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(alt_.get(i));
+        }
+        size += dataSize;
+        if (!getAltList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        altMemoizedSerializedSize = dataSize;
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, columns_.get(i));
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pointStream.PointFeatureColumns}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pointStream.PointFeatureColumns)
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumnsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureColumns_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureColumns_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getColumnsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        time_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        nomTime_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        lat_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lon_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        alt_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureColumns_descriptor;
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns getDefaultInstanceForType() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns build() {
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns buildPartial() {
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns result = new ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          time_ = java.util.Collections.unmodifiableList(time_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.time_ = time_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          nomTime_ = java.util.Collections.unmodifiableList(nomTime_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.nomTime_ = nomTime_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          lat_ = java.util.Collections.unmodifiableList(lat_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.lat_ = lat_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          lon_ = java.util.Collections.unmodifiableList(lon_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.lon_ = lon_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          alt_ = java.util.Collections.unmodifiableList(alt_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.alt_ = alt_;
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns) {
+          return mergeFrom((ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns other) {
+        if (other == ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns.getDefaultInstance()) return this;
+        if (!other.time_.isEmpty()) {
+          if (time_.isEmpty()) {
+            time_ = other.time_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureTimeIsMutable();
+            time_.addAll(other.time_);
+          }
+          onChanged();
+        }
+        if (!other.nomTime_.isEmpty()) {
+          if (nomTime_.isEmpty()) {
+            nomTime_ = other.nomTime_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureNomTimeIsMutable();
+            nomTime_.addAll(other.nomTime_);
+          }
+          onChanged();
+        }
+        if (!other.lat_.isEmpty()) {
+          if (lat_.isEmpty()) {
+            lat_ = other.lat_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureLatIsMutable();
+            lat_.addAll(other.lat_);
+          }
+          onChanged();
+        }
+        if (!other.lon_.isEmpty()) {
+          if (lon_.isEmpty()) {
+            lon_ = other.lon_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureLonIsMutable();
+            lon_.addAll(other.lon_);
+          }
+          onChanged();
+        }
+        if (!other.alt_.isEmpty()) {
+          if (alt_.isEmpty()) {
+            alt_ = other.alt_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureAltIsMutable();
+            alt_.addAll(other.alt_);
+          }
+          onChanged();
+        }
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<java.lang.Long> time_ = java.util.Collections.emptyList();
+      private void ensureTimeIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          time_ = new java.util.ArrayList<java.lang.Long>(time_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated sint64 time = 1 [packed = true];</code>
+       *
+       * <pre>
+       * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+       * </pre>
+       */
+      public java.util.List<java.lang.Long>
+          getTimeList() {
+        return java.util.Collections.unmodifiableList(time_);
+      }
+      /**
+       * <code>repeated sint64 time = 1 [packed = true];</code>
+       *
+       * <pre>
+       * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+       * </pre>
+       */
+      public int getTimeCount() {
+        return time_.size();
+      }
+      /**
+       * <code>repeated sint64 time = 1 [packed = true];</code>
+       *
+       * <pre>
+       * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+       * </pre>
+       */
+      public long getTime(int index) {
+        return time_.get(index);
+      }
+      /**
+       * <code>repeated sint64 time = 1 [packed = true];</code>
+       *
+       * <pre>
+       * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+       * </pre>
+       */
+      public Builder setTime(
+          int index, long value) {
+        ensureTimeIsMutable();
+        time_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 time = 1 [packed = true];</code>
+       *
+       * <pre>
+       * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+       * </pre>
+       */
+      public Builder addTime(long value) {
+        ensureTimeIsMutable();
+        time_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 time = 1 [packed = true];</code>
+       *
+       * <pre>
+       * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+       * </pre>
+       */
+      public Builder addAllTime(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureTimeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, time_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 time = 1 [packed = true];</code>
+       *
+       * <pre>
+       * the delta from the previous value of Double.doubleToRawLongBits(), starting from 0 (lossless)
+       * </pre>
+       */
+      public Builder clearTime() {
+        time_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> nomTime_ = java.util.Collections.emptyList();
+      private void ensureNomTimeIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          nomTime_ = new java.util.ArrayList<java.lang.Long>(nomTime_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getNomTimeList() {
+        return java.util.Collections.unmodifiableList(nomTime_);
+      }
+      /**
+       * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+       */
+      public int getNomTimeCount() {
+        return nomTime_.size();
+      }
+      /**
+       * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+       */
+      public long getNomTime(int index) {
+        return nomTime_.get(index);
+      }
+      /**
+       * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+       */
+      public Builder setNomTime(
+          int index, long value) {
+        ensureNomTimeIsMutable();
+        nomTime_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+       */
+      public Builder addNomTime(long value) {
+        ensureNomTimeIsMutable();
+        nomTime_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+       */
+      public Builder addAllNomTime(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureNomTimeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, nomTime_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 nomTime = 2 [packed = true];</code>
+       */
+      public Builder clearNomTime() {
+        nomTime_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> lat_ = java.util.Collections.emptyList();
+      private void ensureLatIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          lat_ = new java.util.ArrayList<java.lang.Long>(lat_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated sint64 lat = 3 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getLatList() {
+        return java.util.Collections.unmodifiableList(lat_);
+      }
+      /**
+       * <code>repeated sint64 lat = 3 [packed = true];</code>
+       */
+      public int getLatCount() {
+        return lat_.size();
+      }
+      /**
+       * <code>repeated sint64 lat = 3 [packed = true];</code>
+       */
+      public long getLat(int index) {
+        return lat_.get(index);
+      }
+      /**
+       * <code>repeated sint64 lat = 3 [packed = true];</code>
+       */
+      public Builder setLat(
+          int index, long value) {
+        ensureLatIsMutable();
+        lat_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 lat = 3 [packed = true];</code>
+       */
+      public Builder addLat(long value) {
+        ensureLatIsMutable();
+        lat_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 lat = 3 [packed = true];</code>
+       */
+      public Builder addAllLat(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureLatIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, lat_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 lat = 3 [packed = true];</code>
+       */
+      public Builder clearLat() {
+        lat_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> lon_ = java.util.Collections.emptyList();
+      private void ensureLonIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          lon_ = new java.util.ArrayList<java.lang.Long>(lon_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated sint64 lon = 4 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getLonList() {
+        return java.util.Collections.unmodifiableList(lon_);
+      }
+      /**
+       * <code>repeated sint64 lon = 4 [packed = true];</code>
+       */
+      public int getLonCount() {
+        return lon_.size();
+      }
+      /**
+       * <code>repeated sint64 lon = 4 [packed = true];</code>
+       */
+      public long getLon(int index) {
+        return lon_.get(index);
+      }
+      /**
+       * <code>repeated sint64 lon = 4 [packed = true];</code>
+       */
+      public Builder setLon(
+          int index, long value) {
+        ensureLonIsMutable();
+        lon_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 lon = 4 [packed = true];</code>
+       */
+      public Builder addLon(long value) {
+        ensureLonIsMutable();
+        lon_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 lon = 4 [packed = true];</code>
+       */
+      public Builder addAllLon(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureLonIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, lon_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 lon = 4 [packed = true];</code>
+       */
+      public Builder clearLon() {
+        lon_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> alt_ = java.util.Collections.emptyList();
+      private void ensureAltIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          alt_ = new java.util.ArrayList<java.lang.Long>(alt_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated sint64 alt = 5 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getAltList() {
+        return java.util.Collections.unmodifiableList(alt_);
+      }
+      /**
+       * <code>repeated sint64 alt = 5 [packed = true];</code>
+       */
+      public int getAltCount() {
+        return alt_.size();
+      }
+      /**
+       * <code>repeated sint64 alt = 5 [packed = true];</code>
+       */
+      public long getAlt(int index) {
+        return alt_.get(index);
+      }
+      /**
+       * <code>repeated sint64 alt = 5 [packed = true];</code>
+       */
+      public Builder setAlt(
+          int index, long value) {
+        ensureAltIsMutable();
+        alt_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 alt = 5 [packed = true];</code>
+       */
+      public Builder addAlt(long value) {
+        ensureAltIsMutable();
+        alt_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 alt = 5 [packed = true];</code>
+       */
+      public Builder addAllAlt(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureAltIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, alt_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 alt = 5 [packed = true];</code>
+       */
+      public Builder clearAlt() {
+        alt_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Column> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          columns_ = new java.util.ArrayList<ucar.nc2.ft.point.remote.PointStreamProto.Column>(columns_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.point.remote.PointStreamProto.Column, ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder, ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder> columnsBuilder_;
+
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Column> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public ucar.nc2.ft.point.remote.PointStreamProto.Column getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder setColumns(
+          int index, ucar.nc2.ft.point.remote.PointStreamProto.Column value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder setColumns(
+          int index, ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder addColumns(ucar.nc2.ft.point.remote.PointStreamProto.Column value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder addColumns(
+          int index, ucar.nc2.ft.point.remote.PointStreamProto.Column value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder addColumns(
+          ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder addColumns(
+          int index, ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends ucar.nc2.ft.point.remote.PointStreamProto.Column> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            ucar.nc2.ft.point.remote.PointStreamProto.Column.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, ucar.nc2.ft.point.remote.PointStreamProto.Column.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .pointStream.Column columns = 6;</code>
+       *
+       * <pre>
+       * one for each Member, in any order
+       * </pre>
+       */
+      public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ucar.nc2.ft.point.remote.PointStreamProto.Column, ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder, ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ucar.nc2.ft.point.remote.PointStreamProto.Column, ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder, ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pointStream.PointFeatureColumns)
+    }
+
+    // @@protoc_insertion_point(class_scope:pointStream.PointFeatureColumns)
+    private static final ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns();
+    }
+
+    public static ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PointFeatureColumns>
+        PARSER = new com.google.protobuf.AbstractParser<PointFeatureColumns>() {
+      public PointFeatureColumns parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new PointFeatureColumns(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<PointFeatureColumns> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PointFeatureColumns> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureColumns getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ColumnOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pointStream.Column)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * Member name
+     * </pre>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * Member name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional bytes data = 2;</code>
+     *
+     * <pre>
+     * count * member size values, big-endian; CHAR is 1 byte
+     * </pre>
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    com.google.protobuf.ProtocolStringList
+        getSdataList();
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    int getSdataCount();
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    java.lang.String getSdata(int index);
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getSdataBytes(int index);
+  }
+  /**
+   * Protobuf type {@code pointStream.Column}
+   */
+  public  static final class Column extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:pointStream.Column)
+      ColumnOrBuilder {
+    // Use Column.newBuilder() to construct.
+    private Column(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Column() {
+      name_ = "";
+      data_ = com.google.protobuf.ByteString.EMPTY;
+      sdata_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Column(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 18: {
+
+              data_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                sdata_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              sdata_.add(s);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          sdata_ = sdata_.getUnmodifiableView();
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Column_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Column_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ucar.nc2.ft.point.remote.PointStreamProto.Column.class, ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * Member name
+     * </pre>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * Member name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <code>optional bytes data = 2;</code>
+     *
+     * <pre>
+     * count * member size values, big-endian; CHAR is 1 byte
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int SDATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList sdata_;
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSdataList() {
+      return sdata_;
+    }
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    public int getSdataCount() {
+      return sdata_.size();
+    }
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    public java.lang.String getSdata(int index) {
+      return sdata_.get(index);
+    }
+    /**
+     * <code>repeated string sdata = 3;</code>
+     *
+     * <pre>
+     * count * member size values, for STRING
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getSdataBytes(int index) {
+      return sdata_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, name_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(2, data_);
+      }
+      for (int i = 0; i < sdata_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, sdata_.getRaw(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, name_);
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, data_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < sdata_.size(); i++) {
+          dataSize += computeStringSizeNoTag(sdata_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getSdataList().size();
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ucar.nc2.ft.point.remote.PointStreamProto.Column prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pointStream.Column}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pointStream.Column)
+        ucar.nc2.ft.point.remote.PointStreamProto.ColumnOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Column_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Column_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ucar.nc2.ft.point.remote.PointStreamProto.Column.class, ucar.nc2.ft.point.remote.PointStreamProto.Column.Builder.class);
+      }
+
+      // Construct using ucar.nc2.ft.point.remote.PointStreamProto.Column.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        data_ = com.google.protobuf.ByteString.EMPTY;
+
+        sdata_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Column_descriptor;
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.Column getDefaultInstanceForType() {
+        return ucar.nc2.ft.point.remote.PointStreamProto.Column.getDefaultInstance();
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.Column build() {
+        ucar.nc2.ft.point.remote.PointStreamProto.Column result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ucar.nc2.ft.point.remote.PointStreamProto.Column buildPartial() {
+        ucar.nc2.ft.point.remote.PointStreamProto.Column result = new ucar.nc2.ft.point.remote.PointStreamProto.Column(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.name_ = name_;
+        result.data_ = data_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          sdata_ = sdata_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.sdata_ = sdata_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ucar.nc2.ft.point.remote.PointStreamProto.Column) {
+          return mergeFrom((ucar.nc2.ft.point.remote.PointStreamProto.Column)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ucar.nc2.ft.point.remote.PointStreamProto.Column other) {
+        if (other == ucar.nc2.ft.point.remote.PointStreamProto.Column.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        if (!other.sdata_.isEmpty()) {
+          if (sdata_.isEmpty()) {
+            sdata_ = other.sdata_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureSdataIsMutable();
+            sdata_.addAll(other.sdata_);
+          }
+          onChanged();
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ucar.nc2.ft.point.remote.PointStreamProto.Column parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ucar.nc2.ft.point.remote.PointStreamProto.Column) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * Member name
+       * </pre>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * Member name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * Member name
+       * </pre>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * Member name
+       * </pre>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * Member name
+       * </pre>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes data = 2;</code>
+       *
+       * <pre>
+       * count * member size values, big-endian; CHAR is 1 byte
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>optional bytes data = 2;</code>
+       *
+       * <pre>
+       * count * member size values, big-endian; CHAR is 1 byte
+       * </pre>
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes data = 2;</code>
+       *
+       * <pre>
+       * count * member size values, big-endian; CHAR is 1 byte
+       * </pre>
+       */
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList sdata_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureSdataIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          sdata_ = new com.google.protobuf.LazyStringArrayList(sdata_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSdataList() {
+        return sdata_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public int getSdataCount() {
+        return sdata_.size();
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public java.lang.String getSdata(int index) {
+        return sdata_.get(index);
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getSdataBytes(int index) {
+        return sdata_.getByteString(index);
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public Builder setSdata(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSdataIsMutable();
+        sdata_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public Builder addSdata(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSdataIsMutable();
+        sdata_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public Builder addAllSdata(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSdataIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, sdata_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public Builder clearSdata() {
+        sdata_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sdata = 3;</code>
+       *
+       * <pre>
+       * count * member size values, for STRING
+       * </pre>
+       */
+      public Builder addSdataBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureSdataIsMutable();
+        sdata_.add(value);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pointStream.Column)
+    }
+
+    // @@protoc_insertion_point(class_scope:pointStream.Column)
+    private static final ucar.nc2.ft.point.remote.PointStreamProto.Column DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.Column();
+    }
+
+    public static ucar.nc2.ft.point.remote.PointStreamProto.Column getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Column>
+        PARSER = new com.google.protobuf.AbstractParser<Column>() {
+      public Column parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new Column(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<Column> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Column> getParserForType() {
+      return PARSER;
+    }
+
+    public ucar.nc2.ft.point.remote.PointStreamProto.Column getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   public interface MemberOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Member)
+      // @@protoc_insertion_point(interface_extends:pointStream.Member)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -1515,11 +4649,11 @@ public final class PointStreamProto {
     ucar.nc2.stream.NcStreamProto.SectionOrBuilder getSectionOrBuilder();
   }
   /**
-   * Protobuf type {@code Member}
+   * Protobuf type {@code pointStream.Member}
    */
   public  static final class Member extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Member)
+      // @@protoc_insertion_point(message_implements:pointStream.Member)
       MemberOrBuilder {
     // Use Member.newBuilder() to construct.
     private Member(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
@@ -1607,12 +4741,12 @@ public final class PointStreamProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Member_descriptor;
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Member_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Member_fieldAccessorTable
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Member_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
               ucar.nc2.ft.point.remote.PointStreamProto.Member.class, ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder.class);
     }
@@ -1884,20 +5018,20 @@ public final class PointStreamProto {
       return builder;
     }
     /**
-     * Protobuf type {@code Member}
+     * Protobuf type {@code pointStream.Member}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Member)
+        // @@protoc_insertion_point(builder_implements:pointStream.Member)
         ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Member_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Member_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Member_fieldAccessorTable
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Member_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
                 ucar.nc2.ft.point.remote.PointStreamProto.Member.class, ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder.class);
       }
@@ -1937,7 +5071,7 @@ public final class PointStreamProto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Member_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Member_descriptor;
       }
 
       public ucar.nc2.ft.point.remote.PointStreamProto.Member getDefaultInstanceForType() {
@@ -2400,10 +5534,10 @@ public final class PointStreamProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Member)
+      // @@protoc_insertion_point(builder_scope:pointStream.Member)
     }
 
-    // @@protoc_insertion_point(class_scope:Member)
+    // @@protoc_insertion_point(class_scope:pointStream.Member)
     private static final ucar.nc2.ft.point.remote.PointStreamProto.Member DEFAULT_INSTANCE;
     static {
       DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.Member();
@@ -2448,7 +5582,7 @@ public final class PointStreamProto {
   }
 
   public interface PointFeatureCollectionOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PointFeatureCollection)
+      // @@protoc_insertion_point(interface_extends:pointStream.PointFeatureCollection)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -2472,25 +5606,25 @@ public final class PointStreamProto {
         getTimeUnitBytes();
 
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Member> 
         getMembersList();
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     ucar.nc2.ft.point.remote.PointStreamProto.Member getMembers(int index);
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     int getMembersCount();
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder> 
         getMembersOrBuilderList();
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder getMembersOrBuilder(
         int index);
@@ -2506,11 +5640,11 @@ public final class PointStreamProto {
         getAltUnitBytes();
   }
   /**
-   * Protobuf type {@code PointFeatureCollection}
+   * Protobuf type {@code pointStream.PointFeatureCollection}
    */
   public  static final class PointFeatureCollection extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:PointFeatureCollection)
+      // @@protoc_insertion_point(message_implements:pointStream.PointFeatureCollection)
       PointFeatureCollectionOrBuilder {
     // Use PointFeatureCollection.newBuilder() to construct.
     private PointFeatureCollection(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
@@ -2590,12 +5724,12 @@ public final class PointStreamProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeatureCollection_descriptor;
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureCollection_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeatureCollection_fieldAccessorTable
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureCollection_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
               ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollection.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollection.Builder.class);
     }
@@ -2672,32 +5806,32 @@ public final class PointStreamProto {
     public static final int MEMBERS_FIELD_NUMBER = 3;
     private java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Member> members_;
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Member> getMembersList() {
       return members_;
     }
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     public java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder> 
         getMembersOrBuilderList() {
       return members_;
     }
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     public int getMembersCount() {
       return members_.size();
     }
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     public ucar.nc2.ft.point.remote.PointStreamProto.Member getMembers(int index) {
       return members_.get(index);
     }
     /**
-     * <code>repeated .Member members = 3;</code>
+     * <code>repeated .pointStream.Member members = 3;</code>
      */
     public ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder getMembersOrBuilder(
         int index) {
@@ -2859,20 +5993,20 @@ public final class PointStreamProto {
       return builder;
     }
     /**
-     * Protobuf type {@code PointFeatureCollection}
+     * Protobuf type {@code pointStream.PointFeatureCollection}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PointFeatureCollection)
+        // @@protoc_insertion_point(builder_implements:pointStream.PointFeatureCollection)
         ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollectionOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeatureCollection_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureCollection_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeatureCollection_fieldAccessorTable
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureCollection_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
                 ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollection.class, ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollection.Builder.class);
       }
@@ -2911,7 +6045,7 @@ public final class PointStreamProto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_PointFeatureCollection_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_PointFeatureCollection_descriptor;
       }
 
       public ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollection getDefaultInstanceForType() {
@@ -3174,7 +6308,7 @@ public final class PointStreamProto {
           ucar.nc2.ft.point.remote.PointStreamProto.Member, ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder, ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder> membersBuilder_;
 
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Member> getMembersList() {
         if (membersBuilder_ == null) {
@@ -3184,7 +6318,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public int getMembersCount() {
         if (membersBuilder_ == null) {
@@ -3194,7 +6328,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Member getMembers(int index) {
         if (membersBuilder_ == null) {
@@ -3204,7 +6338,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder setMembers(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Member value) {
@@ -3221,7 +6355,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder setMembers(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder builderForValue) {
@@ -3235,7 +6369,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder addMembers(ucar.nc2.ft.point.remote.PointStreamProto.Member value) {
         if (membersBuilder_ == null) {
@@ -3251,7 +6385,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder addMembers(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Member value) {
@@ -3268,7 +6402,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder addMembers(
           ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder builderForValue) {
@@ -3282,7 +6416,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder addMembers(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder builderForValue) {
@@ -3296,7 +6430,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder addAllMembers(
           java.lang.Iterable<? extends ucar.nc2.ft.point.remote.PointStreamProto.Member> values) {
@@ -3311,7 +6445,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder clearMembers() {
         if (membersBuilder_ == null) {
@@ -3324,7 +6458,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public Builder removeMembers(int index) {
         if (membersBuilder_ == null) {
@@ -3337,14 +6471,14 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder getMembersBuilder(
           int index) {
         return getMembersFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder getMembersOrBuilder(
           int index) {
@@ -3354,7 +6488,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.MemberOrBuilder> 
            getMembersOrBuilderList() {
@@ -3365,14 +6499,14 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder addMembersBuilder() {
         return getMembersFieldBuilder().addBuilder(
             ucar.nc2.ft.point.remote.PointStreamProto.Member.getDefaultInstance());
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder addMembersBuilder(
           int index) {
@@ -3380,7 +6514,7 @@ public final class PointStreamProto {
             index, ucar.nc2.ft.point.remote.PointStreamProto.Member.getDefaultInstance());
       }
       /**
-       * <code>repeated .Member members = 3;</code>
+       * <code>repeated .pointStream.Member members = 3;</code>
        */
       public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Member.Builder> 
            getMembersBuilderList() {
@@ -3480,10 +6614,10 @@ public final class PointStreamProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:PointFeatureCollection)
+      // @@protoc_insertion_point(builder_scope:pointStream.PointFeatureCollection)
     }
 
-    // @@protoc_insertion_point(class_scope:PointFeatureCollection)
+    // @@protoc_insertion_point(class_scope:pointStream.PointFeatureCollection)
     private static final ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollection DEFAULT_INSTANCE;
     static {
       DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.PointFeatureCollection();
@@ -3528,7 +6662,7 @@ public final class PointStreamProto {
   }
 
   public interface StationOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Station)
+      // @@protoc_insertion_point(interface_extends:pointStream.Station)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -3577,11 +6711,11 @@ public final class PointStreamProto {
         getWmoIdBytes();
   }
   /**
-   * Protobuf type {@code Station}
+   * Protobuf type {@code pointStream.Station}
    */
   public  static final class Station extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Station)
+      // @@protoc_insertion_point(message_implements:pointStream.Station)
       StationOrBuilder {
     // Use Station.newBuilder() to construct.
     private Station(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
@@ -3667,12 +6801,12 @@ public final class PointStreamProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Station_descriptor;
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Station_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Station_fieldAccessorTable
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Station_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
               ucar.nc2.ft.point.remote.PointStreamProto.Station.class, ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder.class);
     }
@@ -3941,20 +7075,20 @@ public final class PointStreamProto {
       return builder;
     }
     /**
-     * Protobuf type {@code Station}
+     * Protobuf type {@code pointStream.Station}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Station)
+        // @@protoc_insertion_point(builder_implements:pointStream.Station)
         ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Station_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Station_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Station_fieldAccessorTable
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Station_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
                 ucar.nc2.ft.point.remote.PointStreamProto.Station.class, ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder.class);
       }
@@ -3992,7 +7126,7 @@ public final class PointStreamProto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_Station_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_Station_descriptor;
       }
 
       public ucar.nc2.ft.point.remote.PointStreamProto.Station getDefaultInstanceForType() {
@@ -4372,10 +7506,10 @@ public final class PointStreamProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Station)
+      // @@protoc_insertion_point(builder_scope:pointStream.Station)
     }
 
-    // @@protoc_insertion_point(class_scope:Station)
+    // @@protoc_insertion_point(class_scope:pointStream.Station)
     private static final ucar.nc2.ft.point.remote.PointStreamProto.Station DEFAULT_INSTANCE;
     static {
       DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.Station();
@@ -4420,39 +7554,39 @@ public final class PointStreamProto {
   }
 
   public interface StationListOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:StationList)
+      // @@protoc_insertion_point(interface_extends:pointStream.StationList)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Station> 
         getStationsList();
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     ucar.nc2.ft.point.remote.PointStreamProto.Station getStations(int index);
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     int getStationsCount();
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder> 
         getStationsOrBuilderList();
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder getStationsOrBuilder(
         int index);
   }
   /**
-   * Protobuf type {@code StationList}
+   * Protobuf type {@code pointStream.StationList}
    */
   public  static final class StationList extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:StationList)
+      // @@protoc_insertion_point(message_implements:pointStream.StationList)
       StationListOrBuilder {
     // Use StationList.newBuilder() to construct.
     private StationList(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
@@ -4511,12 +7645,12 @@ public final class PointStreamProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_StationList_descriptor;
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_StationList_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_StationList_fieldAccessorTable
+      return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_StationList_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
               ucar.nc2.ft.point.remote.PointStreamProto.StationList.class, ucar.nc2.ft.point.remote.PointStreamProto.StationList.Builder.class);
     }
@@ -4524,32 +7658,32 @@ public final class PointStreamProto {
     public static final int STATIONS_FIELD_NUMBER = 1;
     private java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Station> stations_;
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Station> getStationsList() {
       return stations_;
     }
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     public java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder> 
         getStationsOrBuilderList() {
       return stations_;
     }
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     public int getStationsCount() {
       return stations_.size();
     }
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     public ucar.nc2.ft.point.remote.PointStreamProto.Station getStations(int index) {
       return stations_.get(index);
     }
     /**
-     * <code>repeated .Station stations = 1;</code>
+     * <code>repeated .pointStream.Station stations = 1;</code>
      */
     public ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder getStationsOrBuilder(
         int index) {
@@ -4659,20 +7793,20 @@ public final class PointStreamProto {
       return builder;
     }
     /**
-     * Protobuf type {@code StationList}
+     * Protobuf type {@code pointStream.StationList}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:StationList)
+        // @@protoc_insertion_point(builder_implements:pointStream.StationList)
         ucar.nc2.ft.point.remote.PointStreamProto.StationListOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_StationList_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_StationList_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_StationList_fieldAccessorTable
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_StationList_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
                 ucar.nc2.ft.point.remote.PointStreamProto.StationList.class, ucar.nc2.ft.point.remote.PointStreamProto.StationList.Builder.class);
       }
@@ -4705,7 +7839,7 @@ public final class PointStreamProto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_StationList_descriptor;
+        return ucar.nc2.ft.point.remote.PointStreamProto.internal_static_pointStream_StationList_descriptor;
       }
 
       public ucar.nc2.ft.point.remote.PointStreamProto.StationList getDefaultInstanceForType() {
@@ -4813,7 +7947,7 @@ public final class PointStreamProto {
           ucar.nc2.ft.point.remote.PointStreamProto.Station, ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder, ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder> stationsBuilder_;
 
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Station> getStationsList() {
         if (stationsBuilder_ == null) {
@@ -4823,7 +7957,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public int getStationsCount() {
         if (stationsBuilder_ == null) {
@@ -4833,7 +7967,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Station getStations(int index) {
         if (stationsBuilder_ == null) {
@@ -4843,7 +7977,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder setStations(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Station value) {
@@ -4860,7 +7994,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder setStations(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder builderForValue) {
@@ -4874,7 +8008,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder addStations(ucar.nc2.ft.point.remote.PointStreamProto.Station value) {
         if (stationsBuilder_ == null) {
@@ -4890,7 +8024,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder addStations(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Station value) {
@@ -4907,7 +8041,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder addStations(
           ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder builderForValue) {
@@ -4921,7 +8055,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder addStations(
           int index, ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder builderForValue) {
@@ -4935,7 +8069,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder addAllStations(
           java.lang.Iterable<? extends ucar.nc2.ft.point.remote.PointStreamProto.Station> values) {
@@ -4950,7 +8084,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder clearStations() {
         if (stationsBuilder_ == null) {
@@ -4963,7 +8097,7 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public Builder removeStations(int index) {
         if (stationsBuilder_ == null) {
@@ -4976,14 +8110,14 @@ public final class PointStreamProto {
         return this;
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder getStationsBuilder(
           int index) {
         return getStationsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder getStationsOrBuilder(
           int index) {
@@ -4993,7 +8127,7 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public java.util.List<? extends ucar.nc2.ft.point.remote.PointStreamProto.StationOrBuilder> 
            getStationsOrBuilderList() {
@@ -5004,14 +8138,14 @@ public final class PointStreamProto {
         }
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder addStationsBuilder() {
         return getStationsFieldBuilder().addBuilder(
             ucar.nc2.ft.point.remote.PointStreamProto.Station.getDefaultInstance());
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder addStationsBuilder(
           int index) {
@@ -5019,7 +8153,7 @@ public final class PointStreamProto {
             index, ucar.nc2.ft.point.remote.PointStreamProto.Station.getDefaultInstance());
       }
       /**
-       * <code>repeated .Station stations = 1;</code>
+       * <code>repeated .pointStream.Station stations = 1;</code>
        */
       public java.util.List<ucar.nc2.ft.point.remote.PointStreamProto.Station.Builder> 
            getStationsBuilderList() {
@@ -5050,10 +8184,10 @@ public final class PointStreamProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:StationList)
+      // @@protoc_insertion_point(builder_scope:pointStream.StationList)
     }
 
-    // @@protoc_insertion_point(class_scope:StationList)
+    // @@protoc_insertion_point(class_scope:pointStream.StationList)
     private static final ucar.nc2.ft.point.remote.PointStreamProto.StationList DEFAULT_INSTANCE;
     static {
       DEFAULT_INSTANCE = new ucar.nc2.ft.point.remote.PointStreamProto.StationList();
@@ -5098,35 +8232,50 @@ public final class PointStreamProto {
   }
 
   private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_Location_descriptor;
+    internal_static_pointStream_Location_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_pointStream_Location_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_pointStream_PointFeature_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_pointStream_PointFeature_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_pointStream_PointFeatureBatch_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_Location_fieldAccessorTable;
+      internal_static_pointStream_PointFeatureBatch_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_PointFeature_descriptor;
+    internal_static_pointStream_PointFeatureColumns_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_PointFeature_fieldAccessorTable;
+      internal_static_pointStream_PointFeatureColumns_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_Member_descriptor;
+    internal_static_pointStream_Column_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_Member_fieldAccessorTable;
+      internal_static_pointStream_Column_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_PointFeatureCollection_descriptor;
+    internal_static_pointStream_Member_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_PointFeatureCollection_fieldAccessorTable;
+      internal_static_pointStream_Member_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_Station_descriptor;
+    internal_static_pointStream_PointFeatureCollection_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_Station_fieldAccessorTable;
+      internal_static_pointStream_PointFeatureCollection_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_StationList_descriptor;
+    internal_static_pointStream_Station_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_StationList_fieldAccessorTable;
+      internal_static_pointStream_Station_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_pointStream_StationList_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_pointStream_StationList_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -5137,21 +8286,30 @@ public final class PointStreamProto {
   static {
     java.lang.String[] descriptorData = {
       "\n*ucar/nc2/ft/point/remote/pointStream.p" +
-      "roto\032\036ucar/nc2/stream/ncStream.proto\"P\n\010" +
-      "Location\022\014\n\004time\030\001 \001(\001\022\013\n\003lat\030\002 \001(\001\022\013\n\003l" +
-      "on\030\003 \001(\001\022\013\n\003alt\030\004 \001(\001\022\017\n\007nomTime\030\005 \001(\001\"C" +
-      "\n\014PointFeature\022\026\n\003loc\030\001 \001(\0132\t.Location\022\014" +
-      "\n\004data\030\003 \001(\014\022\r\n\005sdata\030\004 \003(\t\"k\n\006Member\022\014\n" +
-      "\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001(\t\022\r\n\005units\030\003 \001(\t" +
-      "\022\033\n\010dataType\030\004 \001(\0162\t.DataType\022\031\n\007section" +
-      "\030\005 \001(\0132\010.Section\"c\n\026PointFeatureCollecti" +
-      "on\022\014\n\004name\030\001 \001(\t\022\020\n\010timeUnit\030\002 \001(\t\022\030\n\007me",
-      "mbers\030\003 \003(\0132\007.Member\022\017\n\007altUnit\030\004 \001(\t\"Y\n" +
-      "\007Station\022\n\n\002id\030\001 \001(\t\022\013\n\003lat\030\002 \001(\001\022\013\n\003lon" +
-      "\030\003 \001(\001\022\013\n\003alt\030\004 \001(\001\022\014\n\004desc\030\005 \001(\t\022\r\n\005wmo" +
-      "Id\030\006 \001(\t\")\n\013StationList\022\032\n\010stations\030\001 \003(" +
-      "\0132\010.StationB,\n\030ucar.nc2.ft.point.remoteB" +
-      "\020PointStreamProtob\006proto3"
+      "roto\022\013pointStream\032\036ucar/nc2/stream/ncStr" +
+      "eam.proto\"P\n\010Location\022\014\n\004time\030\001 \001(\001\022\013\n\003l" +
+      "at\030\002 \001(\001\022\013\n\003lon\030\003 \001(\001\022\013\n\003alt\030\004 \001(\001\022\017\n\007no" +
+      "mTime\030\005 \001(\001\"O\n\014PointFeature\022\"\n\003loc\030\001 \001(\013" +
+      "2\025.pointStream.Location\022\014\n\004data\030\003 \001(\014\022\r\n" +
+      "\005sdata\030\004 \003(\t\"^\n\021PointFeatureBatch\022\r\n\005cou" +
+      "nt\030\001 \001(\r\022\017\n\007deflate\030\002 \001(\010\022\030\n\020uncompresse" +
+      "dSize\030\003 \001(\r\022\017\n\007columns\030\004 \001(\014\"\225\001\n\023PointFe" +
+      "atureColumns\022\020\n\004time\030\001 \003(\022B\002\020\001\022\023\n\007nomTim",
+      "e\030\002 \003(\022B\002\020\001\022\017\n\003lat\030\003 \003(\022B\002\020\001\022\017\n\003lon\030\004 \003(" +
+      "\022B\002\020\001\022\017\n\003alt\030\005 \003(\022B\002\020\001\022$\n\007columns\030\006 \003(\0132" +
+      "\023.pointStream.Column\"3\n\006Column\022\014\n\004name\030\001" +
+      " \001(\t\022\014\n\004data\030\002 \001(\014\022\r\n\005sdata\030\003 \003(\t\"k\n\006Mem" +
+      "ber\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001(\t\022\r\n\005units" +
+      "\030\003 \001(\t\022\033\n\010dataType\030\004 \001(\0162\t.DataType\022\031\n\007s" +
+      "ection\030\005 \001(\0132\010.Section\"o\n\026PointFeatureCo" +
+      "llection\022\014\n\004name\030\001 \001(\t\022\020\n\010timeUnit\030\002 \001(\t" +
+      "\022$\n\007members\030\003 \003(\0132\023.pointStream.Member\022\017" +
+      "\n\007altUnit\030\004 \001(\t\"Y\n\007Station\022\n\n\002id\030\001 \001(\t\022\013",
+      "\n\003lat\030\002 \001(\001\022\013\n\003lon\030\003 \001(\001\022\013\n\003alt\030\004 \001(\001\022\014\n" +
+      "\004desc\030\005 \001(\t\022\r\n\005wmoId\030\006 \001(\t\"5\n\013StationLis" +
+      "t\022&\n\010stations\030\001 \003(\0132\024.pointStream.Statio" +
+      "nB,\n\030ucar.nc2.ft.point.remoteB\020PointStre" +
+      "amProtob\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -5166,41 +8324,59 @@ public final class PointStreamProto {
         new com.google.protobuf.Descriptors.FileDescriptor[] {
           ucar.nc2.stream.NcStreamProto.getDescriptor(),
         }, assigner);
-    internal_static_Location_descriptor =
+    internal_static_pointStream_Location_descriptor =
       getDescriptor().getMessageTypes().get(0);
-    internal_static_Location_fieldAccessorTable = new
+    internal_static_pointStream_Location_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_Location_descriptor,
+        internal_static_pointStream_Location_descriptor,
         new java.lang.String[] { "Time", "Lat", "Lon", "Alt", "NomTime", });
-    internal_static_PointFeature_descriptor =
+    internal_static_pointStream_PointFeature_descriptor =
       getDescriptor().getMessageTypes().get(1);
-    internal_static_PointFeature_fieldAccessorTable = new
+    internal_static_pointStream_PointFeature_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_PointFeature_descriptor,
+        internal_static_pointStream_PointFeature_descriptor,
         new java.lang.String[] { "Loc", "Data", "Sdata", });
-    internal_static_Member_descriptor =
+    internal_static_pointStream_PointFeatureBatch_descriptor =
       getDescriptor().getMessageTypes().get(2);
-    internal_static_Member_fieldAccessorTable = new
+    internal_static_pointStream_PointFeatureBatch_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_Member_descriptor,
-        new java.lang.String[] { "Name", "Desc", "Units", "DataType", "Section", });
-    internal_static_PointFeatureCollection_descriptor =
+        internal_static_pointStream_PointFeatureBatch_descriptor,
+        new java.lang.String[] { "Count", "Deflate", "UncompressedSize", "Columns", });
+    internal_static_pointStream_PointFeatureColumns_descriptor =
       getDescriptor().getMessageTypes().get(3);
-    internal_static_PointFeatureCollection_fieldAccessorTable = new
+    internal_static_pointStream_PointFeatureColumns_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_PointFeatureCollection_descriptor,
-        new java.lang.String[] { "Name", "TimeUnit", "Members", "AltUnit", });
-    internal_static_Station_descriptor =
+        internal_static_pointStream_PointFeatureColumns_descriptor,
+        new java.lang.String[] { "Time", "NomTime", "Lat", "Lon", "Alt", "Columns", });
+    internal_static_pointStream_Column_descriptor =
       getDescriptor().getMessageTypes().get(4);
-    internal_static_Station_fieldAccessorTable = new
+    internal_static_pointStream_Column_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_Station_descriptor,
-        new java.lang.String[] { "Id", "Lat", "Lon", "Alt", "Desc", "WmoId", });
-    internal_static_StationList_descriptor =
+        internal_static_pointStream_Column_descriptor,
+        new java.lang.String[] { "Name", "Data", "Sdata", });
+    internal_static_pointStream_Member_descriptor =
       getDescriptor().getMessageTypes().get(5);
-    internal_static_StationList_fieldAccessorTable = new
+    internal_static_pointStream_Member_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_pointStream_Member_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Units", "DataType", "Section", });
+    internal_static_pointStream_PointFeatureCollection_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_pointStream_PointFeatureCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_pointStream_PointFeatureCollection_descriptor,
+        new java.lang.String[] { "Name", "TimeUnit", "Members", "AltUnit", });
+    internal_static_pointStream_Station_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_pointStream_Station_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_pointStream_Station_descriptor,
+        new java.lang.String[] { "Id", "Lat", "Lon", "Alt", "Desc", "WmoId", });
+    internal_static_pointStream_StationList_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_pointStream_StationList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_StationList_descriptor,
+        internal_static_pointStream_StationList_descriptor,
         new java.lang.String[] { "Stations", });
     ucar.nc2.stream.NcStreamProto.getDescriptor();
   }
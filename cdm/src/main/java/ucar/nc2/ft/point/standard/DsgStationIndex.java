@@ -0,0 +1,411 @@
+/* Copyright */
+package ucar.nc2.ft.point.standard;
+
+import net.jcip.annotations.Immutable;
+import ucar.ma2.Array;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.StructureData;
+import ucar.ma2.StructureDataIterator;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Structure;
+import ucar.nc2.Variable;
+import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.dataset.VariableDS;
+import ucar.nc2.time.CalendarDateRange;
+import ucar.nc2.time.CalendarDateUnit;
+import ucar.nc2.util.DiskCache2;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Formatter;
+import java.util.List;
+
+/**
+ * A sidecar index for CF DSG station (timeSeries) files stored as contiguous or indexed ragged arrays.
+ * The obs records of each station are kept in blocks of up to BLOCK_SIZE records, along with the time range of the block.
+ * A time subset of a station then only reads the records in the blocks that overlap the wanted time range,
+ * and a station with no obs in the time range is skipped without reading any records.
+ * <p>
+ * Built the first time a station is subset by time, by reading just the time and the parent index (or count) variables,
+ * and persisted in the DiskCache2 set by setDiskCache(). No index is used if that is not set.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Immutable
+public class DsgStationIndex {
+  static private final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(DsgStationIndex.class);
+
+  static private final int MAGIC = 0x44534758; // "DSGX"
+  static private final int VERSION = 1;
+  static private final String SUFFIX = ".dsgx";
+  static private final int READ_CHUNK = 100 * 1000; // read the time variable this many values at a time
+  static final int BLOCK_SIZE = 1000;
+
+  static private DiskCache2 diskCache;
+
+  /**
+   * Set the DiskCache2 where station indexes are persisted. If null (the default), no station index is used.
+   *
+   * @param dc put index files in this cache
+   */
+  static synchronized public void setDiskCache(DiskCache2 dc) {
+    diskCache = dc;
+  }
+
+  static synchronized public DiskCache2 getDiskCache() {
+    return diskCache;
+  }
+
+  /**
+   * Read the index for this dataset from the DiskCache2, or build and persist it if it doesnt exist or is out of date.
+   * The index is checked against the length and last modified date of the data file; for NcML that wraps a
+   * single file, the index must also be newer than the NcML file. It is not used if the number of obs has changed. No index is used for NcML aggregations,
+   * since the component files can change without the NcML file changing.
+   *
+   * @param ds        the dataset, must be a local file, or NcML that wraps one or has all the data
+   * @param leaf      the obs table, must implement readParentRecnums()
+   * @param timeVar   the obs time variable, dimensioned by the obs dimension
+   * @param timeUnit  units of timeVar
+   * @return the index, or null if there is no DiskCache2, or an index cant be made for this dataset
+   * @throws IOException on read error
+   */
+  static DsgStationIndex readOrCreate(NetcdfDataset ds, Table leaf, Variable timeVar, CalendarDateUnit timeUnit) throws IOException {
+    DiskCache2 dc = getDiskCache();
+    if (dc == null || ds.getLocation() == null) return null;
+    if (ds.getAggregation() != null) return null;
+
+    String location = stripFile(ds.getLocation());
+    File ncmlFile = new File(location);  // the same as dataFile unless its NcML
+    if (!ncmlFile.isFile()) return null;
+    NetcdfFile ref = ds.getReferencedFile();  // null if all the data is in the NcML
+    File dataFile = (ref == null || ref.getLocation() == null) ? ncmlFile : new File(stripFile(ref.getLocation()));
+    if (!dataFile.isFile()) return null;
+
+    File idxFile = dc.getCacheFile(location + SUFFIX);
+    if (idxFile == null) return null;
+
+    if (idxFile.exists() && idxFile.lastModified() >= ncmlFile.lastModified()) {
+      try {
+        DsgStationIndex index = read(idxFile, dataFile);
+        if (index != null && index.getNumberOfObs() == timeVar.getSize()) return index;
+      } catch (IOException e) {
+        logger.warn("DsgStationIndex: failed to read {}: {}", idxFile.getPath(), e.getMessage());
+      }
+    }
+
+    DsgStationIndex index = build(leaf, timeVar, timeUnit);
+    if (index != null) {
+      try {
+        index.write(idxFile, dataFile);
+      } catch (IOException e) {
+        logger.warn("DsgStationIndex: failed to write {}: {}", idxFile.getPath(), e.getMessage());
+      }
+    }
+    return index;
+  }
+
+  static private String stripFile(String location) {
+    return location.startsWith("file:") ? location.substring(5) : location;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////
+
+  private final int nobs;
+  private final int[] stationBlocks;  // blocks of station i are stationBlocks[i] until stationBlocks[i+1]
+  private final int[] blockFirst;     // first record of the block
+  private final int[] blockCount;     // number of records in the block
+  private final int[] blockOffset;    // where the records start in recnums; -1 if the records are contiguous
+  private final long[] blockStart, blockEnd; // time range of the block, msecs
+  private final int[] recnums;
+
+  private DsgStationIndex(int nobs, int[] stationBlocks, int[] blockFirst, int[] blockCount, int[] blockOffset,
+                          long[] blockStart, long[] blockEnd, int[] recnums) {
+    this.nobs = nobs;
+    this.stationBlocks = stationBlocks;
+    this.blockFirst = blockFirst;
+    this.blockCount = blockCount;
+    this.blockOffset = blockOffset;
+    this.blockStart = blockStart;
+    this.blockEnd = blockEnd;
+    this.recnums = recnums;
+  }
+
+  public int getNumberOfStations() {
+    return stationBlocks.length - 1;
+  }
+
+  public int getNumberOfObs() {
+    return nobs;
+  }
+
+  /**
+   * Count the records of this station that may have obs in the date range.
+   *
+   * @param station   station row number
+   * @param dateRange only this date range, or null for all
+   * @return number of records that would be read
+   */
+  public int countRecords(int station, CalendarDateRange dateRange) {
+    int count = 0;
+    for (int b : findBlocks(station, dateRange))
+      count += blockCount[b];
+    return count;
+  }
+
+  /**
+   * Iterate over the obs records of this station that may be in the date range.
+   * The caller must still filter by time, since a block may have obs outside the range.
+   *
+   * @param s         the obs structure
+   * @param station   station row number
+   * @param dateRange only this date range, or null for all
+   * @return iterator over the records, in record order within each block
+   */
+  public StructureDataIterator getStructureDataIterator(Structure s, int station, CalendarDateRange dateRange) {
+    return new BlockIterator(s, findBlocks(station, dateRange));
+  }
+
+  private int[] findBlocks(int station, CalendarDateRange dateRange) {
+    if (station < 0 || station >= getNumberOfStations()) return new int[0];
+    long wantStart = (dateRange == null) ? Long.MIN_VALUE : dateRange.getStart().getMillis();
+    long wantEnd = (dateRange == null) ? Long.MAX_VALUE : dateRange.getEnd().getMillis();
+
+    int first = stationBlocks[station];
+    int[] result = new int[stationBlocks[station + 1] - first];
+    int count = 0;
+    for (int b = first; b < stationBlocks[station + 1]; b++) {
+      if (blockEnd[b] < wantStart || blockStart[b] > wantEnd) continue;
+      result[count++] = b;
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  public void show(Formatter f) {
+    f.format("DsgStationIndex nstations=%d nobs=%d nblocks=%d explicit recnums=%d%n",
+            getNumberOfStations(), nobs, blockFirst.length, recnums.length);
+  }
+
+  private class BlockIterator implements StructureDataIterator {
+    private final Structure s;
+    private final int[] blocks;
+    private int blockIdx, inBlock, currRecno;
+
+    BlockIterator(Structure s, int[] blocks) {
+      this.s = s;
+      this.blocks = blocks;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+      while (blockIdx < blocks.length) {
+        if (inBlock < blockCount[blocks[blockIdx]]) return true;
+        blockIdx++;
+        inBlock = 0;
+      }
+      return false;
+    }
+
+    @Override
+    public StructureData next() throws IOException {
+      int b = blocks[blockIdx];
+      currRecno = (blockOffset[b] < 0) ? blockFirst[b] + inBlock : recnums[blockOffset[b] + inBlock];
+      inBlock++;
+      try {
+        return s.readStructure(currRecno);
+      } catch (InvalidRangeException e) {
+        throw new IOException("DsgStationIndex bad recno= " + currRecno, e);
+      }
+    }
+
+    @Override
+    public StructureDataIterator reset() {
+      blockIdx = 0;
+      inBlock = 0;
+      return this;
+    }
+
+    @Override
+    public int getCurrentRecno() {
+      return currRecno;
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////
+  // build
+
+  private static class BlockBuilder {
+    int[] recs = new int[16];
+    int count;
+    long start = Long.MAX_VALUE, end = Long.MIN_VALUE;
+    boolean missingTime;
+
+    void add(int recno, long msecs, boolean hasTime) {
+      if (count == recs.length) recs = Arrays.copyOf(recs, Math.min(2 * count, BLOCK_SIZE));
+      recs[count++] = recno;
+      if (hasTime) {
+        start = Math.min(start, msecs);
+        end = Math.max(end, msecs);
+      } else {
+        missingTime = true;
+      }
+    }
+
+    boolean isContiguous() {
+      return recs[count - 1] - recs[0] == count - 1; // records are increasing
+    }
+  }
+
+  static DsgStationIndex build(Table leaf, Variable timeVar, CalendarDateUnit timeUnit) throws IOException {
+    int[] parents = leaf.readParentRecnums();
+    if (parents == null || parents.length != timeVar.getSize()) return null;
+
+    int nstations = 0;
+    for (int parent : parents)
+      nstations = Math.max(nstations, parent + 1);
+
+    BlockBuilder[] open = new BlockBuilder[nstations];
+    List<List<BlockBuilder>> done = new ArrayList<>(nstations);
+    for (int i = 0; i < nstations; i++) done.add(new ArrayList<>());
+
+    VariableDS timeVarDS = (timeVar instanceof VariableDS) ? (VariableDS) timeVar : null;
+    for (int chunkStart = 0; chunkStart < parents.length; chunkStart += READ_CHUNK) {
+      int n = Math.min(READ_CHUNK, parents.length - chunkStart);
+      Array times;
+      try {
+        times = timeVar.read(new int[]{chunkStart}, new int[]{n});
+      } catch (InvalidRangeException e) {
+        throw new IOException(e);
+      }
+
+      for (int i = 0; i < n; i++) {
+        int recno = chunkStart + i;
+        int parent = parents[recno];
+        if (parent < 0) continue;
+
+        double val = times.getDouble(i);
+        boolean hasTime = !Double.isNaN(val) && (timeVarDS == null || !timeVarDS.isMissing(val));
+        long msecs = hasTime ? timeUnit.makeMillis(val) : 0;
+
+        BlockBuilder b = open[parent];
+        if (b == null || b.count == BLOCK_SIZE) {
+          if (b != null) done.get(parent).add(b);
+          b = new BlockBuilder();
+          open[parent] = b;
+        }
+        b.add(recno, msecs, hasTime);
+      }
+    }
+
+    int nblocks = 0;
+    for (int i = 0; i < nstations; i++) {
+      if (open[i] != null) done.get(i).add(open[i]);
+      nblocks += done.get(i).size();
+    }
+
+    int[] stationBlocks = new int[nstations + 1];
+    int[] blockFirst = new int[nblocks];
+    int[] blockCount = new int[nblocks];
+    int[] blockOffset = new int[nblocks];
+    long[] blockStart = new long[nblocks];
+    long[] blockEnd = new long[nblocks];
+    int[] recnums = new int[1000];
+    int nrecnums = 0;
+
+    int blockno = 0;
+    for (int i = 0; i < nstations; i++) {
+      stationBlocks[i] = blockno;
+      for (BlockBuilder b : done.get(i)) {
+        blockFirst[blockno] = b.recs[0];
+        blockCount[blockno] = b.count;
+        if (b.isContiguous()) {
+          blockOffset[blockno] = -1;
+        } else {
+          if (nrecnums + b.count > recnums.length)
+            recnums = Arrays.copyOf(recnums, Math.max(2 * recnums.length, nrecnums + b.count));
+          System.arraycopy(b.recs, 0, recnums, nrecnums, b.count);
+          blockOffset[blockno] = nrecnums;
+          nrecnums += b.count;
+        }
+        // a block with a missing time is always read, the time filter decides
+        blockStart[blockno] = b.missingTime ? Long.MIN_VALUE : b.start;
+        blockEnd[blockno] = b.missingTime ? Long.MAX_VALUE : b.end;
+        blockno++;
+      }
+    }
+    stationBlocks[nstations] = blockno;
+
+    return new DsgStationIndex(parents.length, stationBlocks, blockFirst, blockCount, blockOffset,
+            blockStart, blockEnd, Arrays.copyOf(recnums, nrecnums));
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////
+  // persist
+
+  private void write(File idxFile, File dataFile) throws IOException {
+    File tmpFile = new File(idxFile.getPath() + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(dataFile.length());
+      out.writeLong(dataFile.lastModified());
+      out.writeInt(nobs);
+      writeInts(out, stationBlocks);
+      writeInts(out, blockFirst);
+      writeInts(out, blockCount);
+      writeInts(out, blockOffset);
+      writeLongs(out, blockStart);
+      writeLongs(out, blockEnd);
+      writeInts(out, recnums);
+    }
+
+    // replace any old one all at once, another thread or process may be reading it
+    if (idxFile.exists() && !idxFile.delete())
+      logger.warn("DsgStationIndex: failed to delete {}", idxFile.getPath());
+    if (!tmpFile.renameTo(idxFile))
+      throw new IOException("failed to rename " + tmpFile.getPath());
+  }
+
+  // return null if its not for this version of the data file
+  static private DsgStationIndex read(File idxFile, File dataFile) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(idxFile)))) {
+      if (in.readInt() != MAGIC) return null;
+      if (in.readInt() != VERSION) return null;
+      if (in.readLong() != dataFile.length()) return null;
+      if (in.readLong() != dataFile.lastModified()) return null;
+      int nobs = in.readInt();
+      int[] stationBlocks = readInts(in);
+      int[] blockFirst = readInts(in);
+      int[] blockCount = readInts(in);
+      int[] blockOffset = readInts(in);
+      long[] blockStart = readLongs(in);
+      long[] blockEnd = readLongs(in);
+      int[] recnums = readInts(in);
+      return new DsgStationIndex(nobs, stationBlocks, blockFirst, blockCount, blockOffset, blockStart, blockEnd, recnums);
+    }
+  }
+
+  static private void writeInts(DataOutputStream out, int[] vals) throws IOException {
+    out.writeInt(vals.length);
+    for (int val : vals) out.writeInt(val);
+  }
+
+  static private void writeLongs(DataOutputStream out, long[] vals) throws IOException {
+    out.writeInt(vals.length);
+    for (long val : vals) out.writeLong(val);
+  }
+
+  static private int[] readInts(DataInputStream in) throws IOException {
+    int[] result = new int[in.readInt()];
+    for (int i = 0; i < result.length; i++) result[i] = in.readInt();
+    return result;
+  }
+
+  static private long[] readLongs(DataInputStream in) throws IOException {
+    long[] result = new long[in.readInt()];
+    for (int i = 0; i < result.length; i++) result[i] = in.readLong();
+    return result;
+  }
+
+}
@@ -55,9 +55,11 @@ import ucar.nc2.ft.point.StationFeature;
 import ucar.nc2.ft.point.StationFeatureImpl;
 import ucar.nc2.time.CalendarDate;
 import ucar.nc2.time.CalendarDateFormatter;
+import ucar.nc2.time.CalendarDateRange;
 import ucar.nc2.time.CalendarDateUnit;
 import ucar.unidata.geoloc.EarthLocation;
 import ucar.unidata.geoloc.EarthLocationImpl;
+import ucar.unidata.geoloc.LatLonRect;
 
 /**
  * Implements "nested table" views of point feature datasets.
@@ -99,6 +101,9 @@ public class NestedTable {
 
   private int nlevels;
 
+  private DsgStationIndex stationIndex;
+  private boolean stationIndexTried;
+
   NestedTable(NetcdfDataset ds, TableConfig config, Formatter errlog) {
     this.ds = ds;
     this.errlog = errlog;
@@ -686,6 +691,43 @@ public class NestedTable {
     return root.getStructureDataIterator(cursor);
   }
 
+  /**
+   * Iterate over the obs that may be in the bounding box and date range.
+   * If the time, lat and lon are columns of the obs table, they are read first, and StructureData is only
+   * read for the rows that pass. The caller must still filter exactly.
+   *
+   * @param cursor    the cursor
+   * @param bb        only this bounding box, or null for all
+   * @param dateRange only this date range, or null for all
+   * @return iterator over the obs
+   * @throws IOException on read error
+   */
+  public StructureDataIterator getObsDataIterator(Cursor cursor, LatLonRect bb, CalendarDateRange dateRange) throws IOException {
+    RowFilter filter = (root == leaf) ? makeRowFilter(bb, dateRange) : null;
+    return root.getStructureDataIterator(cursor, filter);
+  }
+
+  // a prefilter on the time and lat/lon columns of the leaf table, or null if there are none
+  private RowFilter makeRowFilter(LatLonRect bb, CalendarDateRange dateRange) {
+    if (bb == null && dateRange == null) return null;
+    if (!(leaf instanceof Table.TableStructure)) return null;
+    int nrows = ((Table.TableStructure) leaf).dim.getLength();
+
+    Variable timeVar = findLeafColumn(timeVE, nrows);
+    Variable latVar = findLeafColumn(latVE, nrows);
+    Variable lonVar = findLeafColumn(lonVE, nrows);
+    RowFilter filter = new RowFilter(timeVar, timeVar == null ? null : getTimeUnit(), dateRange, latVar, lonVar, bb);
+    return filter.isEmpty() ? null : filter;
+  }
+
+  // the variable holding this coordinate, if its a 1D numeric column of the leaf table
+  private Variable findLeafColumn(CoordVarExtractor cve, int nrows) {
+    if (!(cve instanceof CoordVarExtractorVariable) || cve.nestingLevel != 0 || cve.isString()) return null;
+    Variable v = ds.findVariable(cve.axisName);
+    if (v == null || v.getRank() != 1 || v.isMemberOfStructure() || v.getSize() != nrows) return null;
+    return v;
+  }
+
   //// Station or Station_Profile
   public StructureDataIterator getStationDataIterator() throws IOException {
     Table stationTable = root;
@@ -709,6 +751,37 @@ public class NestedTable {
     return leaf.getStructureDataIterator(cursor);
   }
 
+  /**
+   * Iterate over the obs of one station, using the DsgStationIndex if there is one, so that only the records
+   * that may be in the date range are read. Otherwise the time column may be used to prefilter the records.
+   * The caller must still filter by time.
+   *
+   * @param cursor    cursor with the station recnum and data set
+   * @param dateRange only this date range, or null for all
+   * @return iterator over the obs of the station
+   * @throws IOException on read error
+   */
+  public StructureDataIterator getLeafFeatureDataIterator(Cursor cursor, CalendarDateRange dateRange) throws IOException {
+    DsgStationIndex index = getStationIndex(dateRange != null);
+    if (index == null)
+      return leaf.getStructureDataIterator(cursor, makeRowFilter(null, dateRange));
+    return index.getStructureDataIterator(((Table.TableStructure) leaf).struct, cursor.getParentRecnum(), dateRange);
+  }
+
+  // the station index, only built when needed for a time subset
+  private synchronized DsgStationIndex getStationIndex(boolean build) throws IOException {
+    if (stationIndex != null || stationIndexTried || !build) return stationIndex;
+    stationIndexTried = true;
+
+    if (nlevels != 2 || !(leaf instanceof Table.TableContiguous || leaf instanceof Table.TableParentIndex)) return null;
+    if (!(timeVE instanceof CoordVarExtractorVariable) || timeVE.nestingLevel != 0 || timeVE.isString()) return null;
+    Variable timeVar = ds.findVariable(timeVE.axisName);
+    if (timeVar == null || timeVar.getRank() != 1 || timeVar.isMemberOfStructure()) return null;
+
+    stationIndex = DsgStationIndex.readOrCreate(ds, leaf, timeVar, getTimeUnit());
+    return stationIndex;
+  }
+
   public StructureDataIterator getMiddleFeatureDataIterator(Cursor cursor) throws IOException {
     return leaf.parent.getStructureDataIterator(cursor);  // the middle table
   }
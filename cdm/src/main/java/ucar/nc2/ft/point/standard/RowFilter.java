@@ -0,0 +1,220 @@
+/* Copyright */
+package ucar.nc2.ft.point.standard;
+
+import net.jcip.annotations.Immutable;
+import ucar.ma2.Array;
+import ucar.ma2.ArrayStructure;
+import ucar.ma2.DataType;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.StructureData;
+import ucar.ma2.StructureDataIterator;
+import ucar.nc2.Structure;
+import ucar.nc2.Variable;
+import ucar.nc2.time.CalendarDateRange;
+import ucar.nc2.time.CalendarDateUnit;
+import ucar.unidata.geoloc.LatLonRect;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * A time and lat/lon filter on the rows of a table, evaluated on the time, lat and lon columns,
+ * read as primitive arrays. StructureData is then only read for the rows that pass.
+ * <p>
+ * This is a prefilter: it may pass rows that the exact filter on the PointFeature rejects (eg missing values),
+ * but never rejects a row the exact filter would pass. Callers must still apply the exact filter.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Immutable
+class RowFilter {
+  static final int CHUNK = 10 * 1000; // evaluate this many rows at a time
+  static private final int MAX_RUNS = 8;   // if more runs of passing rows in a chunk than this, read the chunk at once
+
+  private final Variable timeVar, latVar, lonVar; // null if not filtered on
+  private final CalendarDateUnit timeUnit;
+  private final long start, end;  // msecs, widened by 1 msec for rounding
+  private final LatLonRect bb;
+
+  /**
+   * Constructor.
+   *
+   * @param timeVar   time column, or null to not filter on time
+   * @param timeUnit  units of timeVar
+   * @param dateRange wanted date range, or null
+   * @param latVar    lat column, or null to not filter on location
+   * @param lonVar    lon column, or null to not filter on location
+   * @param bb        wanted bounding box, or null
+   */
+  RowFilter(Variable timeVar, CalendarDateUnit timeUnit, CalendarDateRange dateRange, Variable latVar, Variable lonVar, LatLonRect bb) {
+    boolean useTime = (timeVar != null) && (dateRange != null);
+    boolean useLocation = (latVar != null) && (lonVar != null) && (bb != null);
+    this.timeVar = useTime ? timeVar : null;
+    this.timeUnit = timeUnit;
+    this.start = useTime ? dateRange.getStart().getMillis() - 1 : 0;
+    this.end = useTime ? dateRange.getEnd().getMillis() + 1 : 0;
+    this.latVar = useLocation ? latVar : null;
+    this.lonVar = useLocation ? lonVar : null;
+    this.bb = useLocation ? bb : null;
+  }
+
+  boolean isEmpty() {
+    return timeVar == null && latVar == null;
+  }
+
+  /**
+   * Evaluate the filter on a range of rows.
+   *
+   * @param first first row
+   * @param n     number of rows
+   * @return bit i is set if row first + i passes
+   * @throws IOException on read error
+   */
+  BitSet evaluate(int first, int n) throws IOException {
+    BitSet result = new BitSet(n);
+    result.set(0, n);
+
+    if (timeVar != null) {
+      double[] times = readColumn(timeVar, first, n);
+      for (int i = 0; i < n; i++) {
+        if (Double.isNaN(times[i])) continue; // let the exact filter decide
+        long msecs = timeUnit.makeMillis(times[i]);
+        if (msecs < start || msecs > end) result.clear(i);
+      }
+    }
+
+    if (latVar != null) {
+      double[] lats = readColumn(latVar, first, n);
+      double[] lons = readColumn(lonVar, first, n);
+      for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+        if (Double.isNaN(lats[i]) || Double.isNaN(lons[i])) continue;
+        if (!bb.contains(lats[i], lons[i])) result.clear(i);
+      }
+    }
+
+    return result;
+  }
+
+  private double[] readColumn(Variable v, int first, int n) throws IOException {
+    try {
+      Array data = v.read(new int[]{first}, new int[]{n});
+      return (double[]) data.get1DJavaArray(DataType.DOUBLE);
+    } catch (InvalidRangeException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Iterate over the rows of s in [first, first + n) that pass the filter.
+   * Consecutive rows that pass are read together; if the passing rows of a chunk are scattered,
+   * the chunk is read at once.
+   *
+   * @param s     structure whose rows are the rows of the columns
+   * @param first first row
+   * @param n     number of rows
+   * @return iterator over the passing rows
+   */
+  StructureDataIterator iterator(Structure s, int first, int n) {
+    return new FilteredIterator(s, first, n);
+  }
+
+  private class FilteredIterator implements StructureDataIterator {
+    private final Structure s;
+    private final int first, last;
+
+    private int nextChunk;        // first row of the next chunk to evaluate
+    private int chunkStart;       // first row of the current chunk
+    private BitSet pass;          // rows in the current chunk that pass, relative to chunkStart
+    private int[] segments;       // start, end pairs of the parts of the chunk to read, relative to chunkStart
+    private int nsegments, segIdx;
+
+    private ArrayStructure as;    // the current segment
+    private int segStart, segEnd; // relative to chunkStart
+    private int nextRow;          // next row to return, relative to chunkStart; -1 if none
+    private int currRecno;
+
+    FilteredIterator(Structure s, int first, int n) {
+      this.s = s;
+      this.first = first;
+      this.last = first + n;
+      reset();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+      while (true) {
+        if (as != null && nextRow >= 0 && nextRow < segEnd) return true;
+        if (!nextSegment()) return false;
+      }
+    }
+
+    @Override
+    public StructureData next() throws IOException {
+      currRecno = chunkStart + nextRow;
+      StructureData sdata = as.getStructureData(nextRow - segStart);
+      nextRow = pass.nextSetBit(nextRow + 1);
+      return sdata;
+    }
+
+    private boolean nextSegment() throws IOException {
+      while (segIdx >= nsegments) {
+        if (nextChunk >= last) return false;
+        nextChunk();
+      }
+      segStart = segments[2 * segIdx];
+      segEnd = segments[2 * segIdx + 1];
+      segIdx++;
+      try {
+        as = s.readStructure(chunkStart + segStart, segEnd - segStart);
+      } catch (InvalidRangeException e) {
+        throw new IOException(e);
+      }
+      nextRow = pass.nextSetBit(segStart);
+      return true;
+    }
+
+    // evaluate the next chunk, and find the segments to read
+    private void nextChunk() throws IOException {
+      chunkStart = nextChunk;
+      int chunkSize = Math.min(CHUNK, last - chunkStart);
+      nextChunk += chunkSize;
+      pass = evaluate(chunkStart, chunkSize);
+      segIdx = 0;
+      nsegments = 0;
+      if (pass.isEmpty()) return;
+
+      int nruns = 0;
+      for (int start = pass.nextSetBit(0); start >= 0; start = pass.nextSetBit(pass.nextClearBit(start)))
+        nruns++;
+
+      if (nruns > MAX_RUNS) { // scattered: one read, from the first to the last passing row
+        segments[0] = pass.nextSetBit(0);
+        segments[1] = pass.length();
+        nsegments = 1;
+      } else {
+        for (int start = pass.nextSetBit(0); start >= 0; start = pass.nextSetBit(segments[2 * nsegments - 1])) {
+          segments[2 * nsegments] = start;
+          segments[2 * nsegments + 1] = pass.nextClearBit(start);
+          nsegments++;
+        }
+      }
+    }
+
+    @Override
+    public StructureDataIterator reset() {
+      nextChunk = first;
+      segments = new int[2 * MAX_RUNS];
+      nsegments = 0;
+      segIdx = 0;
+      as = null;
+      return this;
+    }
+
+    @Override
+    public int getCurrentRecno() {
+      return currRecno;
+    }
+  }
+
+}
@@ -35,9 +35,14 @@ package ucar.nc2.ft.point.standard;
 
 import java.io.IOException;
 
+import ucar.ma2.StructureDataIterator;
+import ucar.nc2.ft.PointFeatureCollection;
 import ucar.nc2.ft.PointFeatureIterator;
 import ucar.nc2.ft.point.PointCollectionImpl;
+import ucar.nc2.ft.point.PointIteratorFiltered;
+import ucar.nc2.time.CalendarDateRange;
 import ucar.nc2.time.CalendarDateUnit;
+import ucar.unidata.geoloc.LatLonRect;
 
 /**
  * Implementation of PointFeatureCollection using a NestedTable
@@ -61,4 +66,27 @@ public class StandardPointCollectionImpl extends PointCollectionImpl {
     return new StandardPointFeatureIterator(this, ft, timeUnit, ft.getObsDataIterator(tableData), tableData);
   }
 
+  // the subset reads the time and lat/lon columns first, and only makes PointFeatures for rows that may pass
+  @Override
+  public PointFeatureCollection subset(LatLonRect boundingBox, CalendarDateRange dateRange) throws IOException {
+    return new StandardPointCollectionSubset(this, boundingBox, dateRange);
+  }
+
+  private static class StandardPointCollectionSubset extends PointCollectionSubset {
+    private final StandardPointCollectionImpl from;
+
+    StandardPointCollectionSubset(StandardPointCollectionImpl from, LatLonRect filter_bb, CalendarDateRange filter_date) {
+      super(from, filter_bb, filter_date);
+      this.from = from;
+    }
+
+    @Override
+    public PointFeatureIterator getPointFeatureIterator() throws IOException {
+      Cursor tableData = new Cursor(from.ft.getNumberOfLevels());
+      StructureDataIterator obsIter = from.ft.getObsDataIterator(tableData, filter_bb, filter_date);
+      PointFeatureIterator iter = new StandardPointFeatureIterator(from, from.ft, from.timeUnit, obsIter, tableData);
+      return new PointIteratorFiltered(iter, filter_bb, filter_date);
+    }
+  }
+
 }
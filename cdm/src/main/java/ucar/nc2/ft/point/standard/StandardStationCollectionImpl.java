@@ -41,9 +41,11 @@ import ucar.ma2.StructureDataIterator;
 import ucar.nc2.ft.PointFeatureIterator;
 import ucar.nc2.ft.StationTimeSeriesFeature;
 import ucar.nc2.ft.point.StationFeature;
+import ucar.nc2.ft.point.PointIteratorFiltered;
 import ucar.nc2.ft.point.StationHelper;
 import ucar.nc2.ft.point.StationTimeSeriesCollectionImpl;
 import ucar.nc2.ft.point.StationTimeSeriesFeatureImpl;
+import ucar.nc2.time.CalendarDateRange;
 import ucar.nc2.time.CalendarDateUnit;
 
 /**
@@ -110,14 +112,26 @@ public class StandardStationCollectionImpl extends StationTimeSeriesCollectionIm
 
     @Override
     public PointFeatureIterator getPointFeatureIterator() throws IOException {
+      return getPointFeatureIterator(this, null);
+    }
+
+    // an iterator over the observations for this station that may be in the dateRange
+    PointFeatureIterator getPointFeatureIterator(StationTimeSeriesFeatureImpl feature, CalendarDateRange dateRange) throws IOException {
       Cursor cursor = new Cursor(ft.getNumberOfLevels());
       cursor.recnum[1] = recnum;
       cursor.tableData[1] = stationData;
       cursor.currentIndex = 1;
       ft.addParentJoin(cursor); // there may be parent joins
 
-      StructureDataIterator obsIter = ft.getLeafFeatureDataIterator(cursor);
-      return new StandardPointFeatureIterator(this, ft, timeUnit, obsIter, cursor);
+      StructureDataIterator obsIter = ft.getLeafFeatureDataIterator(cursor, dateRange);
+      return new StandardPointFeatureIterator(feature, ft, timeUnit, obsIter, cursor);
+    }
+
+    // the time subset can use the DsgStationIndex to read only the records that may be in the dateRange
+    @Override
+    public StationTimeSeriesFeature subset(CalendarDateRange dateRange) throws IOException {
+      if (dateRange == null) return this;
+      return new StandardStationFeatureSubset(this, dateRange);
     }
 
     @Nonnull
@@ -127,4 +141,20 @@ public class StandardStationCollectionImpl extends StationTimeSeriesCollectionIm
     }
 
   }
+
+  private static class StandardStationFeatureSubset extends StationTimeSeriesFeatureImpl.StationFeatureSubset {
+    private final StandardStationFeatureImpl from;
+    private final CalendarDateRange dateRange;
+
+    StandardStationFeatureSubset(StandardStationFeatureImpl from, CalendarDateRange dateRange) {
+      super(from, dateRange);
+      this.from = from;
+      this.dateRange = dateRange;
+    }
+
+    @Override
+    public PointFeatureIterator getPointFeatureIterator() throws IOException {
+      return new PointIteratorFiltered(from.getPointFeatureIterator(from, dateRange), null, dateRange);
+    }
+  }
 }
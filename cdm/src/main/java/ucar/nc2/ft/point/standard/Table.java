@@ -35,6 +35,7 @@ package ucar.nc2.ft.point.standard;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Formatter;
 import java.util.HashMap;
@@ -233,6 +234,31 @@ public abstract class Table {
    */
   abstract public StructureDataIterator getStructureDataIterator(Cursor cursor) throws IOException;
 
+  /**
+   * Iterate over the rows of this table that may pass the filter.
+   * Tables that can read the filter columns override, so that StructureData is only read for rows that pass;
+   * by default the filter is ignored. Either way, the caller must still apply the exact filter.
+   *
+   * @param cursor state of complete iteration. Table implementations may not modify.
+   * @param filter prefilter on the rows of this table, may be null
+   * @return iterater over the rows of this table.
+   * @throws IOException on read error
+   */
+  StructureDataIterator getStructureDataIterator(Cursor cursor, RowFilter filter) throws IOException {
+    return getStructureDataIterator(cursor);
+  }
+
+  /**
+   * For each row of this table, the row number of its parent, found by reading only the index variables.
+   * Used to build a DsgStationIndex. Subclasses that can do this cheaply override.
+   *
+   * @return parent row of each row of this table, -1 if none; or null if not available for this kind of table
+   * @throws IOException on read error
+   */
+  int[] readParentRecnums() throws IOException {
+    return null;
+  }
+
   String findCoordinateVariableName(CoordName coordName) {
     switch (coordName) {
       case Elev:
@@ -357,6 +383,14 @@ public abstract class Table {
       return new StructureDataIteratorMediated(struct.getStructureIterator(), new RestrictToColumns());
     }
 
+    @Override
+    StructureDataIterator getStructureDataIterator(Cursor cursor, RowFilter filter) throws IOException {
+      // subclasses that iterate over only some of the rows must override to use the filter
+      if (filter == null || stype != TableConfig.StructureType.PsuedoStructure || getClass() != TableStructure.class)
+        return getStructureDataIterator(cursor);
+      return new StructureDataIteratorMediated(filter.iterator(struct, 0, dim.getLength()), new RestrictToColumns());
+    }
+
     @Override
     public String getName() {
       return stype.toString() + "(" + struct.getShortName() + ")";
@@ -531,6 +565,49 @@ public abstract class Table {
       return new StructureDataIteratorLinked(struct, firstRecno, numrecs, null);
     }
 
+    @Override
+    StructureDataIterator getStructureDataIterator(Cursor cursor, RowFilter filter) throws IOException {
+      if (filter == null || stype != TableConfig.StructureType.PsuedoStructure)
+        return getStructureDataIterator(cursor);
+      if (!isInit) init();
+
+      int firstRecno, numrecs;
+      if (startIndex != null) {
+        int parentIndex = cursor.getParentRecnum();
+        firstRecno = startIndex[parentIndex];
+        numrecs = numRecords[parentIndex];
+      } else {
+        StructureData parentStruct = cursor.getParentStructure();
+        firstRecno = parentStruct.getScalarInt(startVarName);
+        numrecs = parentStruct.getScalarInt(numRecordsVarName);
+      }
+      return filter.iterator(struct, firstRecno, numrecs);
+    }
+
+    @Override
+    int[] readParentRecnums() throws IOException {
+      if (!isInit) init();
+      int[] start = startIndex;
+      int[] count = numRecords;
+      if (start == null) {
+        // null if they are members of the parent structure
+        Variable startVar = ds.findVariable(startVarName);
+        Variable countVar = ds.findVariable(numRecordsVarName);
+        if (startVar == null || countVar == null) return null;
+        start = (int[]) startVar.read().get1DJavaArray(DataType.INT);
+        count = (int[]) countVar.read().get1DJavaArray(DataType.INT);
+      }
+
+      int[] result = new int[dim.getLength()];
+      Arrays.fill(result, -1);
+      for (int parent = 0; parent < start.length; parent++) {
+        int end = Math.min(start[parent] + count[parent], result.length);
+        for (int i = start[parent]; i < end; i++)
+          result[i] = parent;
+      }
+      return result;
+    }
+
     @Override
     public String getName() {
       return "Contig(" + numRecordsVarName + ")";
@@ -551,48 +628,58 @@ public abstract class Table {
   public static class TableParentIndex extends TableStructure {
     private Map<Integer, List<Integer>> indexMap;
     private String parentIndexName;
+    private NetcdfDataset ds;
 
     TableParentIndex(NetcdfDataset ds, TableConfig config) {
       super(ds, config);
+      this.ds = ds;
       this.parentIndexName = config.parentIndex;
+      addNonDataVariable(config.parentIndex);
+    }
 
-      // construct the map
-      try {
-        Variable rpIndex = ds.findVariable(config.parentIndex);
+    // construct the map when first needed, it may not be if a DsgStationIndex is used
+    private synchronized Map<Integer, List<Integer>> getIndexMap() throws IOException {
+      if (indexMap == null) {
+        Variable rpIndex = ds.findVariable(parentIndexName);
         Array index = rpIndex.read();
 
         int childIndex = 0;
-        this.indexMap = new HashMap<>((int) (2 * index.getSize()));
+        Map<Integer, List<Integer>> map = new HashMap<>((int) (2 * index.getSize()));
         while (index.hasNext()) {
           int parent = index.nextInt();
-          List<Integer> list = indexMap.get(parent);
+          List<Integer> list = map.get(parent);
           if (list == null) {
             list = new ArrayList<>();
-            indexMap.put(parent, list);
+            map.put(parent, list);
           }
           list.add(childIndex);
           childIndex++;
         }
-      } catch (IOException e) {
-        throw new RuntimeException(e);
+        indexMap = map;
       }
-
-      addNonDataVariable(config.parentIndex);
+      return indexMap;
     }
 
     @Override
     protected void showTableExtraInfo(String indent, Formatter f) {
-      f.format("%sparentIndexName=%s, indexMap.size=%d%n", indent, parentIndexName, indexMap.size());
+      f.format("%sparentIndexName=%s, indexMap.size=%s%n", indent, parentIndexName, indexMap == null ? "not read" : indexMap.size());
     }
 
     @Override
     public StructureDataIterator getStructureDataIterator(Cursor cursor) throws IOException {
       int parentIndex = cursor.getParentRecnum();
-      List<Integer> index = indexMap.get(parentIndex);
+      List<Integer> index = getIndexMap().get(parentIndex);
       if (index == null) index = new ArrayList<>();
       return new StructureDataIteratorIndexed(struct, index);
     }
 
+    @Override
+    int[] readParentRecnums() throws IOException {
+      Variable parentIndexVar = ds.findVariable(parentIndexName);
+      if (parentIndexVar == null) return null; // member of a structure
+      return (int[]) parentIndexVar.read().get1DJavaArray(DataType.INT);
+    }
+
     @Override
     public String getName() {
       return "Indexed(" + parentIndexName + ")";
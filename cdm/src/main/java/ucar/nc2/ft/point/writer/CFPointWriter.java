@@ -49,6 +49,7 @@ import ucar.nc2.time.CalendarDate;
 import ucar.nc2.time.CalendarDateFormatter;
 import ucar.nc2.time.CalendarDateUnit;
 import ucar.nc2.util.CancelTask;
+import ucar.nc2.util.IO;
 import ucar.nc2.write.Nc4Chunking;
 import ucar.nc2.write.Nc4ChunkingStrategy;
 import ucar.unidata.geoloc.LatLonPoint;
@@ -355,6 +356,7 @@ public abstract class CFPointWriter implements Closeable {
   /////////////////////////////////////////////////
   protected final CFPointWriterConfig config;
   protected NetcdfFileWriter writer;
+  private String location;
 
   protected CalendarDateUnit timeUnit = null;
   protected String altUnits = null;
@@ -370,6 +372,7 @@ public abstract class CFPointWriter implements Closeable {
   protected Structure record;  // used for netcdf3 and netcdf4 extended
   protected Dimension recordDim;
   protected Map<String, Variable> dataMap  = new HashMap<>();
+  private RecordBuffer recordBuffer;  // classic model
   protected List<VariableSimpleIF> dataVars;
 
   private Map<String, Variable> extraMap;  // added as variables just as they are
@@ -418,6 +421,7 @@ public abstract class CFPointWriter implements Closeable {
   }
 
   private void createWriter(String fileOut, CFPointWriterConfig config) throws IOException {
+    location = fileOut;
     writer = NetcdfFileWriter.createNew(config.version, fileOut, config.chunking);
     writer.setFill(false);
   }
@@ -482,8 +486,7 @@ public abstract class CFPointWriter implements Closeable {
       makeFeatureVariables(featureData, false);
       addCoordinatesClassic(recordDim, obsCoords, dataMap);
       addDataVariablesClassic(recordDim, obsData, dataMap, coordNames);
-      writer.create();
-      record = writer.addRecordStructure(); // for netcdf3
+      createClassic();
     }
 
     writeExtraVariables();
@@ -507,13 +510,43 @@ public abstract class CFPointWriter implements Closeable {
       makeMiddleVariables(middleData, false);
       addCoordinatesClassic(recordDim, obsCoords, dataMap);
       addDataVariablesClassic(recordDim, obsData, dataMap, coordNames);
-      writer.create();
-      record = writer.addRecordStructure(); // for netcdf3
+      createClassic();
     }
 
     writeExtraVariables();
   }
 
+  // classic model: the obs are buffered and written a batch at a time; netcdf3 records may be streamed
+  private void createClassic() throws IOException {
+    boolean buffer = config.recordBufferSize > 0;  // else each obs is written as it comes
+    boolean stream = buffer && (config.streamOut != null) && isNonRecordDataWrittenFirst() && (writer.getVersion() == NetcdfFileWriter.Version.netcdf3);
+    if (stream) { // the header is sent before finish(), so only add what is already known
+      if (llbb != null) {
+        writer.addGroupAttribute(null, new Attribute(ACDD.LAT_MIN, llbb.getLowerLeftPoint().getLatitude()));
+        writer.addGroupAttribute(null, new Attribute(ACDD.LAT_MAX, llbb.getUpperRightPoint().getLatitude()));
+        writer.addGroupAttribute(null, new Attribute(ACDD.LON_MIN, llbb.getLowerLeftPoint().getLongitude()));
+        writer.addGroupAttribute(null, new Attribute(ACDD.LON_MAX, llbb.getUpperRightPoint().getLongitude()));
+      } else {
+        for (String attName : new String[]{ACDD.LAT_MIN, ACDD.LAT_MAX, ACDD.LON_MIN, ACDD.LON_MAX})
+          writer.deleteGroupAttribute(null, attName);
+      }
+      writer.deleteGroupAttribute(null, ACDD.TIME_START);
+      writer.deleteGroupAttribute(null, ACDD.TIME_END);
+    }
+
+    writer.create();
+    record = writer.addRecordStructure(); // for netcdf3
+    if (buffer)
+      recordBuffer = new RecordBuffer(writer, dataMap.values(), config.recordBufferSize, stream ? config.streamOut : null);
+  }
+
+  /**
+   * Is all the non-record data written in writeHeader(), before any obs? If so, netcdf3 records can be streamed.
+   */
+  protected boolean isNonRecordDataWrittenFirst() {
+    return false;
+  }
+
   protected void addExtraVariables() throws IOException {
     if (extra == null) return;
     if (extraMap == null) extraMap = new HashMap<>();
@@ -743,6 +776,9 @@ public abstract class CFPointWriter implements Closeable {
           return recno + 1;
         }
 
+      } else if (recordBuffer != null && varMap == dataMap) {
+        recordBuffer.add(sdata);
+
       } else {
         writeStructureDataClassic(varMap, origin, sdata);
       }
@@ -797,6 +833,16 @@ public abstract class CFPointWriter implements Closeable {
   }
 
   public void finish() throws IOException {
+    boolean streaming = (recordBuffer != null) && recordBuffer.isStreaming();
+    if (recordBuffer != null)
+      recordBuffer.flush(); // when streaming, this sends the header if there were no obs
+
+    if (streaming) {
+      writer.close();  // the records were not written to the file
+      config.streamOut.flush();
+      return;
+    }
+
     if (llbb != null) {
       writer.updateAttribute(null, new Attribute(ACDD.LAT_MIN, llbb.getLowerLeftPoint().getLatitude()));
       writer.updateAttribute(null, new Attribute(ACDD.LAT_MAX, llbb.getUpperRightPoint().getLatitude()));
@@ -812,6 +858,13 @@ public abstract class CFPointWriter implements Closeable {
     }
 
     writer.close();
+
+    if (config.streamOut != null) { // couldnt stream, so copy the file
+      File file = new File(location);
+      if (file.exists())
+        IO.copyFileB(file, config.streamOut, 60000);
+      config.streamOut.flush();
+    }
   }
 
   @Override
@@ -37,6 +37,8 @@ import ucar.nc2.NetcdfFileWriter;
 import ucar.nc2.write.Nc4Chunking;
 import ucar.nc2.write.Nc4ChunkingDefault;
 
+import java.io.OutputStream;
+
 /**
  * Configuration for CFPointWriter
  *
@@ -48,6 +50,8 @@ public class CFPointWriterConfig {
   public Nc4Chunking chunking;                    // for netcdf-4
   public boolean noTimeCoverage = false;          // does not have a time dimension
   public int recDimensionLength = -1;             // do use unlimited dimension (for netcdf3), use fixed dimension of this length NOT USED
+  public int recordBufferSize = 1000;             // classic model: write each obs variable this many obs at a time; <= 0 writes each obs
+  public OutputStream streamOut;                  // also write the file to this stream; netcdf3 point and station records are streamed
 
   public CFPointWriterConfig(NetcdfFileWriter.Version version) {
     this(version, new Nc4ChunkingDefault());  // The default chunker used in Nc4Iosp.
@@ -62,4 +66,24 @@ public class CFPointWriterConfig {
     this.noTimeCoverage = noTimeCoverage;
     return this;
   }
+
+  /**
+   * Classic model: buffer this many obs, and write each obs variable once per batch.
+   * If <= 0, each obs is written as it is added, and netcdf3 records are not streamed.
+   */
+  public CFPointWriterConfig setRecordBufferSize(int recordBufferSize)  {
+    this.recordBufferSize = recordBufferSize;
+    return this;
+  }
+
+  /**
+   * Also write the file to this stream. For netcdf3 point and station collections, the records are written to the
+   * stream as they are buffered, and not to the file. The header is sent before the obs are seen, so the
+   * time coverage attributes are left out, and the bounding box is only known for stations.
+   * Otherwise the file is copied to the stream in finish().
+   */
+  public CFPointWriterConfig setStreamOut(OutputStream streamOut)  {
+    this.streamOut = streamOut;
+    return this;
+  }
 }
@@ -0,0 +1,240 @@
+/* Copyright */
+package ucar.nc2.ft.point.writer;
+
+import ucar.ma2.*;
+import ucar.nc2.NetcdfFileWriter;
+import ucar.nc2.Variable;
+import ucar.nc2.iosp.netcdf3.N3iosp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Buffers the obs of a classic model CFPointWriter column by column, in primitive arrays, and writes each
+ * variable once per batch, instead of once per obs.
+ * <p>
+ * When streaming (netcdf3 only), the header and non-record data are copied from the output file to the stream
+ * when the first batch is written, with numrecs set to -1 ("streaming"), then each batch is written to the stream
+ * in the netcdf-3 record layout. The records are not written to the file.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+class RecordBuffer {
+  private final NetcdfFileWriter writer;
+  private final List<Column> columns = new ArrayList<>();
+  private final int capacity;
+
+  private final OutputStream stream;  // null if not streaming
+  private final long recStart, recSize;
+  private boolean headerSent;
+
+  private int nrecs;      // number of obs in the buffer
+  private int firstRecno; // recno of the first obs in the buffer
+
+  /**
+   * Constructor.
+   *
+   * @param writer   writing to this file, must be created
+   * @param vars     the obs variables, with the record dimension outermost
+   * @param capacity number of obs to buffer
+   * @param stream   stream the records to this, or null to write them to the file
+   */
+  RecordBuffer(NetcdfFileWriter writer, Collection<Variable> vars, int capacity, OutputStream stream) {
+    this.writer = writer;
+    this.capacity = Math.max(capacity, 1);
+    for (Variable v : vars)
+      columns.add(new Column(v));
+
+    if (stream != null) {
+      N3iosp iosp = (N3iosp) writer.getNetcdfFile().getIosp();
+      recStart = iosp.getRecordStart();
+      recSize = iosp.getRecordSize();
+      for (Column c : columns)
+        c.offset = (int) iosp.getRecordOffset(c.v);
+    } else {
+      recStart = 0;
+      recSize = 0;
+    }
+    this.stream = stream;
+  }
+
+  boolean isStreaming() {
+    return stream != null;
+  }
+
+  /**
+   * Add one obs, writing the buffer if its full.
+   *
+   * @param sdata the obs, with members that have the same names as the variables. Missing members are left as zeros.
+   * @throws IOException on write error
+   */
+  void add(StructureData sdata) throws IOException {
+    for (Column c : columns) {
+      StructureMembers.Member m = sdata.findMember(c.v.getShortName());
+      if (m != null)
+        c.set(nrecs, sdata, m);
+    }
+    nrecs++;
+    if (nrecs == capacity)
+      flush();
+  }
+
+  /**
+   * Write the obs in the buffer. When streaming, write the header first, even if there are no obs.
+   *
+   * @throws IOException on write error
+   */
+  void flush() throws IOException {
+    if (isStreaming())
+      flushToStream();
+    else
+      flushToFile();
+
+    firstRecno += nrecs;
+    nrecs = 0;
+    for (Column c : columns)
+      c.clear();
+  }
+
+  private void flushToFile() throws IOException {
+    if (nrecs == 0) return;
+    try {
+      for (Column c : columns) {
+        int[] origin = new int[c.shape.length];
+        origin[0] = firstRecno;
+        Array data = c.data;
+        if (nrecs < capacity) {
+          int[] shape = c.shape.clone();
+          shape[0] = nrecs;
+          data = data.sectionNoReduce(new int[c.shape.length], shape, null);
+        }
+        writer.write(c.v, origin, data);
+      }
+    } catch (InvalidRangeException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void flushToStream() throws IOException {
+    if (!headerSent) {
+      sendHeader();
+      headerSent = true;
+    }
+    if (nrecs == 0) return;
+
+    ByteBuffer bb = ByteBuffer.allocate((int) (nrecs * recSize)); // big endian, zero filled
+    for (Column c : columns)
+      c.put(bb, nrecs, (int) recSize);
+    stream.write(bb.array(), 0, bb.capacity());
+  }
+
+  // copy the header and the non-record data from the file, with numrecs = -1
+  private void sendHeader() throws IOException {
+    writer.flush();
+    byte[] header = new byte[(int) recStart];
+    try (RandomAccessFile raf = new RandomAccessFile(writer.getNetcdfFile().getLocation(), "r")) {
+      int n = (int) Math.min(raf.length(), recStart);
+      raf.readFully(header, 0, n); // anything not written stays zero
+    }
+    for (int i = 4; i < 8; i++) // numrecs
+      header[i] = (byte) 0xff;
+    stream.write(header);
+  }
+
+  private class Column {
+    final Variable v;
+    final DataType dtype;
+    final int[] shape;    // shape of the buffer: capacity, then the shape of the variable for one obs
+    final int rowSize;    // number of elements for one obs
+    final int strlen;     // for char variables, the last dimension
+    int offset;           // when streaming, offset of the variable in the record
+    Array data;
+
+    Column(Variable v) {
+      this.v = v;
+      this.dtype = v.getDataType();
+      this.shape = v.getShape();
+      this.shape[0] = capacity;
+      int size = 1;
+      for (int i = 1; i < shape.length; i++) size *= shape[i];
+      this.rowSize = size;
+      this.strlen = (shape.length > 1) ? shape[shape.length - 1] : 1;
+      clear();
+    }
+
+    void clear() {
+      data = Array.factory(dtype, shape);
+    }
+
+    void set(int row, StructureData sdata, StructureMembers.Member m) {
+      if (rowSize == 1 && m.getDataType().isNumeric()) { // the common case: scalar number
+        switch (dtype) {
+          case DOUBLE:
+            data.setDouble(row, sdata.convertScalarDouble(m));
+            return;
+          case FLOAT:
+            data.setFloat(row, sdata.convertScalarFloat(m));
+            return;
+          case LONG:
+            data.setLong(row, sdata.convertScalarLong(m));
+            return;
+          case INT:
+          case SHORT:
+          case BYTE:
+            data.setInt(row, sdata.convertScalarInt(m));
+            return;
+        }
+      }
+
+      Array org = sdata.getArray(m);
+      int start = row * rowSize;
+      if (m.getDataType() == DataType.STRING) { // each string is strlen chars
+        for (int i = 0; i < org.getSize(); i++) {
+          String s = (String) org.getObject(i);
+          int n = Math.min(s.length(), strlen);
+          for (int j = 0; j < n; j++)
+            data.setChar(start + i * strlen + j, s.charAt(j));
+        }
+      } else {
+        Array.arraycopy(org, 0, data, start, (int) Math.min(org.getSize(), rowSize));
+      }
+    }
+
+    // put the first nrecs rows into the records in bb
+    void put(ByteBuffer bb, int nrecs, int recSize) {
+      for (int row = 0; row < nrecs; row++) {
+        bb.position(row * recSize + offset);
+        int start = row * rowSize;
+        switch (dtype) {
+          case DOUBLE:
+            for (int i = 0; i < rowSize; i++) bb.putDouble(data.getDouble(start + i));
+            break;
+          case FLOAT:
+            for (int i = 0; i < rowSize; i++) bb.putFloat(data.getFloat(start + i));
+            break;
+          case INT:
+            for (int i = 0; i < rowSize; i++) bb.putInt(data.getInt(start + i));
+            break;
+          case SHORT:
+            for (int i = 0; i < rowSize; i++) bb.putShort(data.getShort(start + i));
+            break;
+          case BYTE:
+            for (int i = 0; i < rowSize; i++) bb.put(data.getByte(start + i));
+            break;
+          case CHAR:
+            for (int i = 0; i < rowSize; i++) bb.put((byte) data.getChar(start + i));
+            break;
+          default:
+            throw new IllegalStateException("dataType= " + dtype);
+        }
+      }
+    }
+  }
+
+}
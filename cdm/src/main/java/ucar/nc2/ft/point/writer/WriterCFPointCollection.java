@@ -90,6 +90,11 @@ public class WriterCFPointCollection extends CFPointWriter {
     // NOOP
   }
 
+  @Override
+  protected boolean isNonRecordDataWrittenFirst() {
+    return true;
+  }
+
   /////////////////////////////////////////////////////////
   // writing data
 
@@ -114,4 +119,4 @@ public class WriterCFPointCollection extends CFPointWriter {
     obsRecno = super.writeStructureData(obsRecno, record, sdall, dataMap);
   }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
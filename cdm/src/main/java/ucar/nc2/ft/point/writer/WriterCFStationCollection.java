@@ -170,6 +170,11 @@ public class WriterCFStationCollection extends CFPointWriter {
 
   }
 
+  @Override
+  protected boolean isNonRecordDataWrittenFirst() {
+    return true;
+  }
+
   private int stnRecno = 0;
   private void writeStationData(StationFeature stn) throws IOException {
 
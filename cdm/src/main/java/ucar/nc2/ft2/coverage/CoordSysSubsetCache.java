@@ -0,0 +1,33 @@
+/* Copyright */
+package ucar.nc2.ft2.coverage;
+
+/**
+ * A cache of the subsets of the coordinate systems of a CoverageCollection, which may be shared by all the
+ * CoverageCollections opened on the same version of a dataset. It is consulted by CoverageCoordSys.subset(),
+ * so resolving the same SubsetParams again doesnt read and search the coordinate values.
+ * The subsets put in the cache are immutable, and their coordinate values have been read, so they dont use the
+ * reader of the CoverageCollection they were made from.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public interface CoordSysSubsetCache {
+
+  /**
+   * Find a subset.
+   *
+   * @param coordSysName name of the original CoverageCoordSys
+   * @param params       canonical form of the SubsetParams
+   * @return the subset, or null if not in the cache
+   */
+  CoverageCoordSys get(String coordSysName, String params);
+
+  /**
+   * Add a subset.
+   *
+   * @param coordSysName name of the original CoverageCoordSys
+   * @param params       canonical form of the SubsetParams
+   * @param subset       the subset, immutable
+   */
+  void put(String coordSysName, String params, CoverageCoordSys subset);
+}
@@ -81,6 +81,7 @@ public class CoverageCollection implements Closeable, CoordSysContainer {
   private final FeatureType coverageType;
   protected final CoverageReader reader;
   protected final HorizCoordSys hcs;
+  private volatile CoordSysSubsetCache subsetCache;
 
   /**
    *
@@ -254,6 +255,19 @@ public class CoverageCollection implements Closeable, CoordSysContainer {
     return reader;
   }
 
+  /**
+   * Share the coordinate system subsets made by data requests with the other collections of this dataset.
+   *
+   * @param subsetCache cache of the subsets, may be null
+   */
+  public void setSubsetCache(CoordSysSubsetCache subsetCache) {
+    this.subsetCache = subsetCache;
+  }
+
+  public CoordSysSubsetCache getSubsetCache() {
+    return subsetCache;
+  }
+
   // this is used in ncss thymeleaf form
   public CoverageCoordAxis1D getRuntimeCoordinateMax() {
     // runtimes - LOOK should combine
@@ -93,7 +93,7 @@ abstract public class CoverageCoordAxis implements Comparable<CoverageCoordAxis>
   protected final double startValue;
   protected final double endValue;
   protected final double resolution;
-  protected final CoordAxisReader reader;
+  protected CoordAxisReader reader;       // null once detached
   protected final boolean isSubset;
 
   protected final TimeHelper timeHelper; // AxisType = Time, RunTime only
@@ -386,6 +386,16 @@ abstract public class CoverageCoordAxis implements Comparable<CoverageCoordAxis>
     }
   }
 
+  /*
+   * Read the values if needed, then drop the reader, so this axis can be kept after its dataset is closed.
+   */
+  void detachReader() {
+    loadValuesIfNeeded();
+    synchronized (this) {
+      reader = null;
+    }
+  }
+
   // will return null when isRegular, otherwise reads values if needed
   public double[] getValues() {
     loadValuesIfNeeded();
@@ -37,6 +37,7 @@ import net.jcip.annotations.Immutable;
 import ucar.ma2.*;
 import ucar.nc2.constants.AxisType;
 import ucar.nc2.time.CalendarDate;
+import ucar.nc2.time.CalendarDateArray;
 import ucar.nc2.time.CalendarDateRange;
 import ucar.nc2.util.Indent;
 import ucar.nc2.util.NamedAnything;
@@ -269,6 +270,19 @@ public class CoverageCoordAxis1D extends CoverageCoordAxis { // implements Itera
     return getCoordMidpoint(index);
   }
 
+  /**
+   * The coordinate midpoints as dates, for Time and RunTime axes.
+   * @return CalendarDateArray, or null if not a time axis
+   */
+  public CalendarDateArray getCalendarDateArray() {
+    if (timeHelper == null) return null;
+    loadValuesIfNeeded();
+    double[] midpoints = new double[ncoords];
+    for (int i = 0; i < ncoords; i++)
+      midpoints[i] = getCoordMidpoint(i);
+    return timeHelper.makeDates(midpoints);
+  }
+
   public List<NamedObject> getCoordValueNames() {
     loadValuesIfNeeded();
     if (timeHelper != null)
@@ -416,6 +416,14 @@ public class CoverageCoordSys {
   }
 
   public Optional<CoverageCoordSys> subset(SubsetParams params, boolean makeCFcompliant, boolean finish) {
+    // only immutable subsets are shared
+    CoordSysSubsetCache subsetCache = (finish && dataset instanceof CoverageCollection) ? ((CoverageCollection) dataset).getSubsetCache() : null;
+    String subsetKey = (subsetCache == null) ? null : makeSubsetKey(params, makeCFcompliant);
+    if (subsetKey != null) {
+      CoverageCoordSys cached = subsetCache.get(getName(), subsetKey);
+      if (cached != null) return Optional.of(cached);
+    }
+
     Formatter errMessages = new Formatter();
     List<CoverageCoordAxis> subsetAxes = new ArrayList<>();
     for (CoverageCoordAxis axis : getAxes()) {
@@ -473,9 +481,32 @@ public class CoverageCoordSys {
     resultCoordSys.setIsConstantForecast(isConstantForecast.get());
     if (finish) resultCoordSys.setImmutable();
 
+    if (subsetKey != null) {
+      for (CoverageCoordAxis axis : subsetAxes)
+        axis.detachReader();
+      subsetCache.put(getName(), subsetKey, resultCoordSys);
+    }
+
     return Optional.of(resultCoordSys);
   }
 
+  // canonical form of the params that determine the subset, or null if the subset cant be cached
+  static private String makeSubsetKey(SubsetParams params, boolean makeCFcompliant) {
+    if (params.isTrue(SubsetParams.timePresent)) return null; // depends on the time of the request
+    Map<String, String> sorted = new TreeMap<>();
+    for (Map.Entry<String, Object> entry : params.getEntries()) {
+      if (entry.getKey().equals(SubsetParams.variables)) continue; // the same for all variables
+      Object val = entry.getValue();
+      if (val instanceof double[])
+        sorted.put(entry.getKey(), Arrays.toString((double[]) val));
+      else if (val instanceof Object[])
+        sorted.put(entry.getKey(), Arrays.toString((Object[]) val));
+      else
+        sorted.put(entry.getKey(), String.valueOf(val));
+    }
+    return (makeCFcompliant ? "CF" : "") + sorted;
+  }
+
   public List<CoverageCoordAxis> getDependentAxes(CoverageCoordAxis indAxis) {
     List<CoverageCoordAxis> result = dependentMap.get(indAxis.getName());
     return (result == null) ? new ArrayList<>() : result;
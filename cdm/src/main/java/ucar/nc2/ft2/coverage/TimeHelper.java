@@ -132,6 +132,14 @@ public class TimeHelper {
     return dateUnit.makeCalendarDate(value);
   }
 
+  public long makeMillis(double value) {
+    return dateUnit.makeMillis(value);
+  }
+
+  public CalendarDateArray makeDates(double[] values) {
+    return CalendarDateArray.fromOffsets(dateUnit, values);
+  }
+
   public CalendarDateRange getDateRange(double startValue, double endValue) {
     CalendarDate start = makeDate( startValue);
     CalendarDate end = makeDate( endValue);
@@ -349,7 +349,7 @@ public class GeoTiff implements Closeable {
     }
   }
 
-  private int writeValues(ByteBuffer buffer, IFDEntry ifd) {
+  static private int writeValues(ByteBuffer buffer, IFDEntry ifd) {
     int done = 0;
 
     if (ifd.type == FieldType.ASCII) {
@@ -377,7 +377,7 @@ public class GeoTiff implements Closeable {
     return done;
   }
 
-  private int writeIntValue(ByteBuffer buffer, IFDEntry ifd, int v) {
+  static private int writeIntValue(ByteBuffer buffer, IFDEntry ifd, int v) {
     switch (ifd.type.code) {
       case 1:
         buffer.put((byte) v);
@@ -395,13 +395,90 @@ public class GeoTiff implements Closeable {
     return 0;
   }
 
-  private int writeSValue(ByteBuffer buffer, IFDEntry ifd) {
+  static private int writeSValue(ByteBuffer buffer, IFDEntry ifd) {
     buffer.put(ifd.valueS.getBytes(CDM.utf8Charset));
     int size = ifd.valueS.length();
     if ((size & 1) != 0) size++;  // check if odd
     return size;
   }
 
+  /////////////////////////////////////////////////////////////////////////////
+  // tiled writing: GeotiffTiledWriter lays out the file itself, and uses these to encode the IFDs
+
+  /**
+   * Add the geokeys to the tags, and return the sorted tags. Then start a new set of tags.
+   */
+  List<IFDEntry> finishTags() {
+    writeGeoKeys();
+    Collections.sort(tags);
+    List<IFDEntry> result = tags;
+    tags = new ArrayList<>();
+    geokeys = new ArrayList<>();
+    return result;
+  }
+
+  /**
+   * Size in bytes of an IFD, including the values that dont fit in an entry.
+   */
+  static int sizeIFD(List<IFDEntry> tags) {
+    int size = 2 + 12 * tags.size() + 4;
+    for (IFDEntry ifd : tags) {
+      int vsize = ifd.count * ifd.type.size;
+      if (vsize > 4) size += vsize + (vsize & 1);  // keep word alignment
+    }
+    return size;
+  }
+
+  /**
+   * Encode an IFD as it will be placed at start in the file.
+   *
+   * @param tags    sorted tags
+   * @param start   file position of the IFD, must be even
+   * @param nextIFD file position of the next IFD, or 0 if this is the last
+   * @return encoded IFD, of size sizeIFD(tags)
+   */
+  static byte[] encodeIFD(List<IFDEntry> tags, int start, int nextIFD) {
+    ByteBuffer buffer = ByteBuffer.allocate(sizeIFD(tags)); // big endian
+    int overflow = 2 + 12 * tags.size() + 4;
+
+    buffer.putShort((short) tags.size());
+    for (IFDEntry ifd : tags) {
+      buffer.putShort((short) ifd.tag.getCode());
+      buffer.putShort((short) ifd.type.code);
+      buffer.putInt(ifd.count);
+
+      int vsize = ifd.count * ifd.type.size;
+      if (vsize <= 4) {
+        int end = buffer.position() + 4;
+        writeValues(buffer, ifd);
+        while (buffer.position() < end) // fill out to 4 bytes
+          buffer.put((byte) 0);
+
+      } else { // write offset, then the values in the overflow area
+        buffer.putInt(start + overflow);
+        int pos = buffer.position();
+        buffer.position(overflow);
+        writeValues(buffer, ifd);
+        buffer.position(pos);
+        overflow += vsize + (vsize & 1);
+      }
+    }
+    buffer.putInt(nextIFD);
+    return buffer.array();
+  }
+
+  /**
+   * Encode the 8 byte big-endian tiff header.
+   */
+  static byte[] encodeHeader(int firstIFD) {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    buffer.put((byte) 'M');
+    buffer.put((byte) 'M');
+    buffer.putShort((short) 42);
+    buffer.putInt(firstIFD);
+    return buffer.array();
+  }
+
   /////////////////////////////////////////////////////////////////////////////
   // reading
 
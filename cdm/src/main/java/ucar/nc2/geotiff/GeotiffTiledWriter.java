@@ -0,0 +1,365 @@
+/* Copyright */
+package ucar.nc2.geotiff;
+
+import ucar.ma2.Array;
+import ucar.ma2.Index;
+import ucar.ma2.IsMissingEvaluator;
+import ucar.ma2.MAMath;
+import ucar.nc2.dt.GridDatatype;
+import ucar.unidata.geoloc.Projection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+
+/**
+ * Write a tiled, optionally deflate compressed GeoTIFF, with optional internal overviews, to an OutputStream.
+ * The layout is "cloud optimized": header, then all the IFDs, then the tiles, smallest overview first.
+ * <p>
+ * Tiles are made from the data array one at a time. Uncompressed tiles are streamed as they are made, since their
+ * offsets are known in advance. Compressed tiles are compressed in parallel and held (compressed) until the IFDs
+ * can be written.
+ * Only one image per file; files over 4 Gbytes (BigTIFF) are not supported.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class GeotiffTiledWriter extends GeotiffWriter {
+
+  public enum Compression {
+    none(1), deflate(8);
+
+    final int code; // tiff Compression tag value
+
+    Compression(int code) {
+      this.code = code;
+    }
+  }
+
+  private final OutputStream out;
+  private int tileSize = 256;
+  private Compression compression = Compression.deflate;
+  private boolean overviews = true;
+  private long bytesWritten;
+
+  /**
+   * Constructor. The stream is not closed by this class.
+   *
+   * @param out write to this stream
+   */
+  public GeotiffTiledWriter(OutputStream out) {
+    super(null); // the GeoTiff is only used to collect the tags, its file is never opened
+    this.out = out;
+  }
+
+  /**
+   * @param tileSize width and height of the tiles, must be a multiple of 16. default 256.
+   */
+  public GeotiffTiledWriter setTileSize(int tileSize) {
+    if (tileSize <= 0 || tileSize % 16 != 0)
+      throw new IllegalArgumentException("tileSize must be a positive multiple of 16: " + tileSize);
+    this.tileSize = tileSize;
+    return this;
+  }
+
+  /**
+   * @param compression tile compression, default deflate.
+   */
+  public GeotiffTiledWriter setCompression(Compression compression) {
+    this.compression = compression;
+    return this;
+  }
+
+  /**
+   * @param overviews add reduced resolution images (each half the size of the previous) until the image fits in one tile. default true.
+   */
+  public GeotiffTiledWriter setOverviews(boolean overviews) {
+    this.overviews = overviews;
+    return this;
+  }
+
+  /**
+   * @return total number of bytes written
+   */
+  public long getBytesWritten() {
+    return bytesWritten;
+  }
+
+  @Override
+  protected void writeGrid(GridDatatype grid, Array data, boolean greyScale, double xStart, double yStart, double xInc,
+                           double yInc, int imageNumber) throws IOException {
+    writeGrid(data, grid, greyScale, xStart, yStart, xInc, yInc, grid.getProjection());
+  }
+
+  @Override
+  protected void writeGrid(Array data, IsMissingEvaluator missing, boolean greyScale, double xStart, double yStart, double xInc,
+                           double yInc, Projection proj) throws IOException {
+    if (pageNumber > 1 || bytesWritten > 0)
+      throw new IllegalStateException("GeotiffTiledWriter writes only one image");
+    if (data.getRank() != 2)
+      throw new IllegalArgumentException("data must be 2D, rank = " + data.getRank());
+
+    MAMath.MinMax dataMinMax = MAMath.getMinMaxSkipMissingData(data, missing);
+    float fillValue = greyScale ? 0 : (float) (dataMinMax.min - 1.0);
+
+    // the full resolution image, then the overviews
+    List<Image> levels = new ArrayList<>();
+    levels.add(new ArrayImage(data, missing, greyScale, dataMinMax, fillValue));
+    while (overviews && levels.get(levels.size() - 1).needsOverview())
+      levels.add(new Overview(levels.get(levels.size() - 1), fillValue));
+
+    // make the IFD tags, with placeholders for the tile offsets and sizes
+    List<List<IFDEntry>> ifds = new ArrayList<>();
+    List<IFDEntry> tileOffsets = new ArrayList<>();
+    List<IFDEntry> tileByteCounts = new ArrayList<>();
+    for (int i = 0; i < levels.size(); i++) {
+      Image level = levels.get(i);
+      IFDEntry offsets = new IFDEntry(Tag.TileOffsets, FieldType.LONG).setValue(new int[level.ntiles()]);
+      IFDEntry counts = new IFDEntry(Tag.TileByteCounts, FieldType.LONG).setValue(new int[level.ntiles()]);
+      tileOffsets.add(offsets);
+      tileByteCounts.add(counts);
+      geotiff.addTag(offsets);
+      geotiff.addTag(counts);
+      addImageTags(level, i > 0, greyScale, dataMinMax, fillValue);
+      if (i == 0)
+        addGeoreferencing(xStart, yStart, xInc, yInc, proj);
+      ifds.add(geotiff.finishTags());
+    }
+
+    // compress the tiles, in parallel
+    List<List<byte[]>> compressed = new ArrayList<>();
+    for (Image level : levels) {
+      if (compression == Compression.none)
+        compressed.add(null);
+      else
+        compressed.add(IntStream.range(0, level.ntiles()).parallel()
+                .mapToObj(tile -> deflate(level.makeTile(tile)))
+                .collect(Collectors.toList()));
+    }
+
+    // lay out the file
+    long pos = 8;
+    int[] ifdStart = new int[levels.size()];
+    for (int i = 0; i < levels.size(); i++) {
+      ifdStart[i] = (int) pos;
+      pos += GeoTiff.sizeIFD(ifds.get(i));
+    }
+    for (int i = levels.size() - 1; i >= 0; i--) { // smallest overview first
+      int[] offsets = tileOffsets.get(i).value;
+      int[] counts = tileByteCounts.get(i).value;
+      for (int tile = 0; tile < offsets.length; tile++) {
+        int size = (compressed.get(i) == null) ? levels.get(i).tileBytes() : compressed.get(i).get(tile).length;
+        offsets[tile] = (int) pos;  // unsigned
+        counts[tile] = size;
+        pos += size;
+      }
+    }
+    if (pos > 0xffffffffL)
+      throw new IOException("GeoTIFF too large = " + pos + " bytes; BigTIFF not supported");
+
+    // write it
+    write(GeoTiff.encodeHeader(ifdStart[0]));
+    for (int i = 0; i < levels.size(); i++)
+      write(GeoTiff.encodeIFD(ifds.get(i), ifdStart[i], (i < levels.size() - 1) ? ifdStart[i + 1] : 0));
+    for (int i = levels.size() - 1; i >= 0; i--) {
+      Image level = levels.get(i);
+      for (int tile = 0; tile < level.ntiles(); tile++)
+        write((compressed.get(i) == null) ? level.makeTile(tile) : compressed.get(i).get(tile));
+      compressed.set(i, null); // allow gc
+    }
+    out.flush();
+  }
+
+  private void write(byte[] b) throws IOException {
+    out.write(b);
+    bytesWritten += b.length;
+  }
+
+  private void addImageTags(Image level, boolean isOverview, boolean greyScale, MAMath.MinMax dataMinMax, float fillValue) {
+    geotiff.addTag(new IFDEntry(Tag.NewSubfileType, FieldType.LONG).setValue(isOverview ? 1 : 0)); // 1 = reduced resolution
+    geotiff.addTag(new IFDEntry(Tag.ImageWidth, FieldType.LONG).setValue(level.getWidth()));
+    geotiff.addTag(new IFDEntry(Tag.ImageLength, FieldType.LONG).setValue(level.getHeight()));
+    geotiff.addTag(new IFDEntry(Tag.TileWidth, FieldType.SHORT).setValue(tileSize));
+    geotiff.addTag(new IFDEntry(Tag.TileLength, FieldType.SHORT).setValue(tileSize));
+    geotiff.addTag(new IFDEntry(Tag.Compression, FieldType.SHORT).setValue(compression.code));
+    geotiff.addTag(new IFDEntry(Tag.PhotometricInterpretation, FieldType.SHORT).setValue(1));  // black is zero
+    geotiff.addTag(new IFDEntry(Tag.PlanarConfiguration, FieldType.SHORT).setValue(1));
+    geotiff.addTag(new IFDEntry(Tag.SamplesPerPixel, FieldType.SHORT).setValue(1));
+
+    if (greyScale) {
+      geotiff.addTag(new IFDEntry(Tag.BitsPerSample, FieldType.SHORT).setValue(8));  // 8 bits per sample
+    } else {
+      geotiff.addTag(new IFDEntry(Tag.BitsPerSample, FieldType.SHORT).setValue(32));  // 32 bits per sample
+      geotiff.addTag(new IFDEntry(Tag.SampleFormat, FieldType.SHORT).setValue(3));  // IEEE floating point
+      geotiff.addTag(new IFDEntry(Tag.GDALNoData, FieldType.ASCII).setValue(Float.toString(fillValue))); // GDAL wants a string
+    }
+    if (isOverview) return;
+
+    geotiff.addTag(new IFDEntry(Tag.Orientation, FieldType.SHORT).setValue(1));
+    geotiff.addTag(new IFDEntry(Tag.Software, FieldType.ASCII).setValue("nc2geotiff"));
+    if (greyScale) {
+      geotiff.addTag(new IFDEntry(Tag.XResolution, FieldType.RATIONAL).setValue(1, 1));
+      geotiff.addTag(new IFDEntry(Tag.YResolution, FieldType.RATIONAL).setValue(1, 1));
+      geotiff.addTag(new IFDEntry(Tag.ResolutionUnit, FieldType.SHORT).setValue(1));
+    } else {
+      geotiff.addTag(new IFDEntry(Tag.SMinSampleValue, FieldType.FLOAT).setValue((float) dataMinMax.min));
+      geotiff.addTag(new IFDEntry(Tag.SMaxSampleValue, FieldType.FLOAT).setValue((float) dataMinMax.max));
+    }
+  }
+
+  private static byte[] deflate(byte[] raw) {
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION); // zlib format, as tiff compression 8 wants
+    try {
+      deflater.setInput(raw);
+      deflater.finish();
+      ByteArrayOutputStream bout = new ByteArrayOutputStream(raw.length / 4 + 64);
+      byte[] buffer = new byte[8000];
+      while (!deflater.finished()) {
+        int n = deflater.deflate(buffer);
+        bout.write(buffer, 0, n);
+      }
+      return bout.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  ///////////////////////////////////////////////////////////////////////////
+  // images are in pixel values: scaled bytes (as floats) for greyScale, else floats; missing already replaced
+
+  private abstract class Image {
+    final int width, height, ntilesX, ntilesY;
+    final boolean greyScale;
+    final float fillValue;
+
+    Image(int width, int height, boolean greyScale, float fillValue) {
+      this.width = width;
+      this.height = height;
+      this.ntilesX = (width + tileSize - 1) / tileSize;
+      this.ntilesY = (height + tileSize - 1) / tileSize;
+      this.greyScale = greyScale;
+      this.fillValue = fillValue;
+    }
+
+    /**
+     * Get n pixel values of row y, starting at column x0.
+     */
+    abstract void getRow(int y, int x0, int n, float[] dest);
+
+    int getWidth() {
+      return width;
+    }
+
+    int getHeight() {
+      return height;
+    }
+
+    int ntiles() {
+      return ntilesX * ntilesY;
+    }
+
+    int tileBytes() {
+      return tileSize * tileSize * (greyScale ? 1 : 4);
+    }
+
+    boolean needsOverview() {
+      return width > tileSize || height > tileSize;
+    }
+
+    // tiles are in row major order; edge tiles are padded with fillValue
+    byte[] makeTile(int tile) {
+      int y0 = (tile / ntilesX) * tileSize;
+      int x0 = (tile % ntilesX) * tileSize;
+      int nx = Math.min(tileSize, width - x0);
+      float[] row = new float[tileSize];
+      Arrays.fill(row, fillValue);
+      ByteBuffer bb = ByteBuffer.allocate(tileBytes()); // big endian, as the header says
+      for (int y = y0; y < y0 + tileSize; y++) {
+        if (y < height)
+          getRow(y, x0, nx, row);
+        else
+          Arrays.fill(row, fillValue);
+        for (float v : row) {
+          if (greyScale)
+            bb.put((byte) v);
+          else
+            bb.putFloat(v);
+        }
+      }
+      return bb.array();
+    }
+  }
+
+  // the full resolution data, converted as its read
+  private class ArrayImage extends Image {
+    private final Array data;
+    private final IsMissingEvaluator missing;
+    private final double min, scale;
+
+    ArrayImage(Array data, IsMissingEvaluator missing, boolean greyScale, MAMath.MinMax dataMinMax, float fillValue) {
+      super(data.getShape()[1], data.getShape()[0], greyScale, fillValue);
+      this.data = data;
+      this.missing = missing;
+      this.min = dataMinMax.min;
+      this.scale = 254.0 / (dataMinMax.max - dataMinMax.min);
+    }
+
+    @Override
+    void getRow(int y, int x0, int n, float[] dest) {
+      Index ima = data.getIndex(); // one per call, so tiles can be made in parallel
+      for (int i = 0; i < n; i++) {
+        double v = data.getDouble(ima.set(y, x0 + i));
+        if (missing.isMissing(v))
+          dest[i] = fillValue;
+        else if (greyScale)
+          dest[i] = (int) ((v - min) * scale + 1) & 0xff; // same as GeotiffWriter: 1-255
+        else
+          dest[i] = (float) v;
+      }
+    }
+  }
+
+  // average of the non-missing values in each 2x2 block of the previous level
+  private class Overview extends Image {
+    private final float[] values;
+
+    Overview(Image parent, float fillValue) {
+      super((parent.getWidth() + 1) / 2, (parent.getHeight() + 1) / 2, parent.greyScale, fillValue);
+      values = new float[width * height];
+      int pwidth = parent.getWidth(), pheight = parent.getHeight();
+      IntStream.range(0, height).parallel().forEach(y -> {
+        float[][] prows = new float[2][pwidth];
+        int nrows = (2 * y + 1 < pheight) ? 2 : 1;
+        for (int dy = 0; dy < nrows; dy++)
+          parent.getRow(2 * y + dy, 0, pwidth, prows[dy]);
+
+        for (int x = 0; x < width; x++) {
+          double sum = 0;
+          int n = 0;
+          for (int dy = 0; dy < nrows; dy++) {
+            for (int px = 2 * x; px < Math.min(2 * x + 2, pwidth); px++) {
+              float v = prows[dy][px];
+              if (v == fillValue) continue;
+              sum += v;
+              n++;
+            }
+          }
+          float avg = (float) (sum / n);
+          values[y * width + x] = (n == 0) ? fillValue : (greyScale ? Math.round(avg) : avg);
+        }
+      });
+    }
+
+    @Override
+    void getRow(int y, int x0, int n, float[] dest) {
+      System.arraycopy(values, y * width + x0, dest, 0, n);
+    }
+  }
+}
@@ -267,6 +267,14 @@ public class GeotiffWriter implements Closeable {
               geotiff.addTag( ifd);
         */
 
+    addGeoreferencing(xStart, yStart, xInc, yInc, proj);
+    geotiff.writeMetadata(imageNumber);
+  }
+
+  /**
+   * Add the tie point, pixel scale and projection GeoKeys.
+   */
+  protected void addGeoreferencing(double xStart, double yStart, double xInc, double yInc, Projection proj) {
     // set the transformation from projection to pixel, add tie point tag
     geotiff.setTransform(xStart, yStart, xInc, yInc);
 
@@ -287,8 +295,6 @@ public class GeotiffWriter implements Closeable {
     } else {
       throw new IllegalArgumentException("Unsupported projection = " + proj.getClass().getName());
     }
-
-    geotiff.writeMetadata(imageNumber);
   }
 
   /**
@@ -599,18 +605,36 @@ public class GeotiffWriter implements Closeable {
       //xStart = -180.0;
     }  */
 
+    writeGrid(data, array, greyScale, xStart, yStart, xInc, yInc, proj);
+  }
+
+  /**
+   * Write one image.
+   *
+   * @param data      2D array in YX order, top row first
+   * @param missing   identifies missing values in data
+   * @param greyScale if true, write greyScale image, else dataSample.
+   * @param xStart    x edge of the first column
+   * @param yStart    y edge of the first row
+   * @param xInc      x increment
+   * @param yInc      y increment, positive
+   * @param proj      the projection
+   * @throws IOException on i/o error
+   */
+  protected void writeGrid(Array data, IsMissingEvaluator missing, boolean greyScale, double xStart, double yStart, double xInc,
+                           double yInc, Projection proj) throws IOException {
     if (pageNumber > 1) {
       geotiff.initTags();
     }
 
     // write the data first
     int nextStart = 0;
-    MAMath.MinMax dataMinMax = MAMath.getMinMaxSkipMissingData(data, array);
+    MAMath.MinMax dataMinMax = MAMath.getMinMaxSkipMissingData(data, missing);
     if (greyScale) {
-      ArrayByte result = replaceMissingValuesAndScale(array, data, dataMinMax);
+      ArrayByte result = replaceMissingValuesAndScale(missing, data, dataMinMax);
       nextStart = geotiff.writeData((byte[]) result.getStorage(), pageNumber);
     } else {
-      ArrayFloat result = replaceMissingValues(array, data, dataMinMax);
+      ArrayFloat result = replaceMissingValues(missing, data, dataMinMax);
       nextStart = geotiff.writeData((float[]) result.getStorage(), pageNumber);
     }
 
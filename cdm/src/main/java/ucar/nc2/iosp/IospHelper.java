@@ -178,6 +178,57 @@ public class IospHelper {
     throw new IllegalStateException("unknown type= " + dataType);
   }
 
+  /**
+   * Read data subset from RandomAccessFile into an ArrayChunked, which may be larger than a java array.
+   * Reading is controlled by the Layout object, whose destination elements are the long index in the ArrayChunked.
+   *
+   * @param raf       read from here.
+   * @param layout    handles skipping around in the file.
+   * @param dataType  dataType of the variable, must be a numeric type
+   * @param result    read into here, from ArrayChunked.factory(), with the same dataType
+   * @param byteOrder if equal to RandomAccessFile.ORDER_XXXX, set the byte order just before reading
+   * @return the ArrayChunked with data read in
+   * @throws java.io.IOException on read error
+   */
+  static public ArrayChunked readData(RandomAccessFile raf, Layout layout, DataType dataType, ArrayChunked result, int byteOrder) throws java.io.IOException {
+    Class primitiveType = dataType.getPrimitiveClassType();
+    if (!dataType.isNumeric())
+      throw new UnsupportedOperationException("IospHelper.readData into ArrayChunked not supported for " + dataType);
+
+    while (layout.hasNext()) {
+      Layout.Chunk chunk = layout.next();
+      raf.order(byteOrder);
+      raf.seek(chunk.getSrcPos());
+      long destElem = chunk.getDestElem();
+      int nelems = chunk.getNelems();
+
+      // the layout chunk may span more than one array chunk
+      while (nelems > 0) {
+        int which = result.findChunk(destElem);
+        int offset = (int) (destElem - result.getChunkStart(which));
+        int n = (int) Math.min(nelems, result.getChunkStart(which + 1) - destElem);
+        Object pa = result.getChunk(which).getStorage();
+
+        if (primitiveType == byte.class)
+          raf.readFully((byte[]) pa, offset, n);
+        else if (primitiveType == short.class)
+          raf.readShort((short[]) pa, offset, n);
+        else if (primitiveType == int.class)
+          raf.readInt((int[]) pa, offset, n);
+        else if (primitiveType == long.class)
+          raf.readLong((long[]) pa, offset, n);
+        else if (dataType == DataType.FLOAT)
+          raf.readFloat((float[]) pa, offset, n);
+        else if (dataType == DataType.DOUBLE)
+          raf.readDouble((double[]) pa, offset, n);
+
+        destElem += n;
+        nelems -= n;
+      }
+    }
+    return result;
+  }
+
   /**
    * Read data subset from PositioningDataInputStream, create primitive array of size Layout.getTotalNelems.
    * Reading is controlled by the Layout object.
@@ -487,6 +538,36 @@ public class IospHelper {
     return data.getSizeBytes();
   }
 
+  /**
+   * Copy all the chunks of an ArrayChunked to a channel, in canonical order.
+   *
+   * @param data    copy from here
+   * @param channel copy to here
+   * @return number of bytes copied
+   * @throws java.io.IOException on write error
+   */
+  public static long copyToByteChannel(ArrayChunked data, WritableByteChannel channel) throws java.io.IOException {
+    long size = 0;
+    for (int i = 0; i < data.getChunkCount(); i++)
+      size += copyToByteChannel(data.getChunk(i), channel);
+    return size;
+  }
+
+  /**
+   * Copy all the chunks of an ArrayChunked to an OutputStream, in canonical order.
+   *
+   * @param data copy from here
+   * @param out  copy to here
+   * @return number of bytes copied
+   * @throws java.io.IOException on write error
+   */
+  public static long copyToOutputStream(ArrayChunked data, OutputStream out) throws java.io.IOException {
+    long size = 0;
+    for (int i = 0; i < data.getChunkCount(); i++)
+      size += copyToOutputStream(data.getChunk(i), out);
+    return size;
+  }
+
   /**
    * Copy data to a OutputStream. Used by ncstream. Not doing Structures correctly yet.
    *
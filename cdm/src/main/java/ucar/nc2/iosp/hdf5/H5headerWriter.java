@@ -0,0 +1,939 @@
+/* Copyright */
+package ucar.nc2.iosp.hdf5;
+
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.nc2.*;
+import ucar.nc2.constants.CDM;
+import ucar.nc2.iosp.netcdf4.Nc4;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Writes the metadata of a netCDF-4 file, after the data has been written by H5iospWriter.
+ * Uses the HDF5 1.8 file format structures: superblock version 2, version 2 object headers with
+ * compact links and attributes, version 1 B-trees for the chunk index, and global heap collections for
+ * variable length attribute data. Dimensions are written as netCDF-4 dimension scales.
+ *
+ * @author caron
+ * @since 10/18/2026
+ * @see "http://www.hdfgroup.org/HDF5/doc/H5.format.html"
+ */
+class H5headerWriter {
+  static final long UNDEF = -1L;   // undefined address, all bits set
+  static final int SUPERBLOCK_SIZE = 48;
+
+  static private final byte[] hdf5magic = {(byte) 0x89, 'H', 'D', 'F', '\r', '\n', 0x1a, '\n'};
+  static private final int btreeK = 32;              // default "Indexed Storage Internal Node K"
+  static private final int maxHeapObjects = 0xffff;  // heap object index is 2 bytes
+  static private final int minHeapSize = 4096;       // smallest global heap collection
+
+  // message types
+  static private final int MESS_DATASPACE = 1;
+  static private final int MESS_LINKINFO = 2;
+  static private final int MESS_DATATYPE = 3;
+  static private final int MESS_FILLVALUE = 5;
+  static private final int MESS_LINK = 6;
+  static private final int MESS_LAYOUT = 8;
+  static private final int MESS_GROUPINFO = 10;
+  static private final int MESS_FILTER = 11;
+  static private final int MESS_ATTRIBUTE = 12;
+
+  // netcdf-4 conventions, see nc4hdf.c
+  static private final String dimWithoutVariable = "This is a netCDF dimension but not a netCDF variable.";
+
+  // these are made here from the netcdf structure, dont propagate them from the Variable
+  static private final Set<String> skipAttributes = new HashSet<>(Arrays.asList(H5header.HDF5_CLASS, H5header.HDF5_DIMENSION_LIST,
+          H5header.HDF5_DIMENSION_SCALE, H5header.HDF5_DIMENSION_LABELS, H5header.HDF5_DIMENSION_NAME, H5header.HDF5_REFERENCE_LIST,
+          Nc4.NETCDF4_COORDINATES, Nc4.NETCDF4_DIMID, Nc4.NETCDF4_STRICT, CDM.CHUNK_SIZES, CDM.COMPRESS));
+
+  private final NetcdfFile ncfile;
+  private final RandomAccessFile raf;
+  private final boolean isClassic;
+
+  private List<H5object> objects;        // all the data objects, in the order they are written
+  private Map<Dimension, DatasetObject> scales; // dimension -> its dimension scale
+  private GlobalHeapWriter heap;
+  private int nextDimid;
+  private int natts; // attribute messages in the object header being encoded
+
+  H5headerWriter(NetcdfFile ncfile, RandomAccessFile raf, boolean isClassic) {
+    this.ncfile = ncfile;
+    this.raf = raf;
+    this.isClassic = isClassic;
+  }
+
+  /**
+   * Write the chunk indexes, global heap, object headers and superblock.
+   * Called once, when the file is closed, after all data has been written.
+   *
+   * @param eof first free byte in the file
+   * @return end of file
+   * @throws IOException on write error
+   */
+  long write(long eof) throws IOException {
+    // the chunk indexes
+    for (Variable v : ncfile.getVariables()) {
+      H5iospWriter.Vinfo vinfo = (H5iospWriter.Vinfo) v.getSPobject();
+      if (vinfo.isChunked && !vinfo.stored.isEmpty()) {
+        eof = writeChunkBTree(vinfo, eof);
+      }
+    }
+
+    // collect the data objects
+    objects = new ArrayList<>();
+    scales = new IdentityHashMap<>();
+    nextDimid = 0;
+    GroupObject root = makeGroup(ncfile.getRootGroup(), "");
+
+    // first pass: the sizes dont depend on the addresses
+    heap = new GlobalHeapWriter(null);
+    for (H5object obj : objects)
+      obj.size = encodeObjectHeader(obj).length;
+
+    long[] heapAddresses = heap.allocate(eof);
+    eof += heap.getTotalSize();
+    for (H5object obj : objects) {
+      obj.address = eof;
+      eof += obj.size;
+    }
+
+    // second pass: now write them
+    heap = new GlobalHeapWriter(heapAddresses);
+    for (H5object obj : objects) {
+      byte[] b = encodeObjectHeader(obj);
+      if (b.length != obj.size)
+        throw new IllegalStateException("object header size changed for " + obj.name);
+      raf.seek(obj.address);
+      raf.write(b);
+    }
+    heap.write();
+
+    writeSuperblock(root.address, eof);
+    return eof;
+  }
+
+  private void writeSuperblock(long rootAddress, long eof) throws IOException {
+    Buf b = new Buf();
+    b.put(hdf5magic);
+    b.put(2); // version
+    b.put(8); // size of offsets
+    b.put(8); // size of lengths
+    b.put(0); // file consistency flags
+    b.putLong(0); // base address
+    b.putLong(UNDEF); // superblock extension address
+    b.putLong(eof);
+    b.putLong(rootAddress);
+    b.putInt(checksumLookup3(b.array(), 0, b.size()));
+    raf.seek(0);
+    raf.write(b.array(), 0, b.size());
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // the netcdf-4 data model on top of hdf5 data objects
+
+  private abstract class H5object {
+    String name;
+    long address; // 0 in the sizing pass
+    int size;
+  }
+
+  private class GroupObject extends H5object {
+    Group g;
+    List<H5object> children = new ArrayList<>();
+  }
+
+  private class DatasetObject extends H5object {
+    Variable v;               // null if a dimension without a variable
+    H5iospWriter.Vinfo vinfo;
+    Dimension dim;            // non-null if a dimension scale
+    int dimid;
+    DatasetObject[] dimList;  // the dimension scales of the variable, if any
+    List<DatasetObject> refList = new ArrayList<>(); // variables that use this dimension scale
+    List<Integer> refIndex = new ArrayList<>();      // which dimension of those variables
+  }
+
+  private GroupObject makeGroup(Group g, String name) {
+    GroupObject gobj = new GroupObject();
+    gobj.g = g;
+    gobj.name = name;
+    objects.add(gobj);
+
+    // non-shared dimensions are made into shared ones, like the netcdf-4 library does
+    List<Dimension> dims = new ArrayList<>(g.getDimensions());
+    Map<Variable, List<Dimension>> varDims = new HashMap<>();
+    for (Variable v : g.getVariables()) {
+      List<Dimension> vdims = new ArrayList<>();
+      int count = 0;
+      for (Dimension d : v.getDimensions()) {
+        if (d.isShared()) {
+          Dimension gd = g.findDimension(d.getShortName());
+          vdims.add(gd != null ? gd : d);
+        } else {
+          Dimension anon = new Dimension(v.getShortName() + "_Dim" + count, d.getLength(), true, d.isUnlimited(), false);
+          dims.add(anon);
+          vdims.add(anon);
+        }
+        count++;
+      }
+      varDims.put(v, vdims);
+    }
+
+    // dimension scales: either the coordinate variable, or a dataset with no data
+    Map<String, DatasetObject> varObjects = new HashMap<>();
+    for (Dimension d : dims) {
+      Variable cv = g.findVariable(d.getShortName());
+      boolean isCoordinate = (cv != null) && (cv.getRank() > 0) && (varDims.get(cv).get(0) == d);
+      DatasetObject scale = new DatasetObject();
+      scale.dim = d;
+      scale.dimid = nextDimid++;
+      if (isCoordinate) {
+        scale.v = cv;
+        scale.name = cv.getShortName();
+        scale.vinfo = (H5iospWriter.Vinfo) cv.getSPobject();
+        varObjects.put(cv.getShortName(), scale);
+      } else {
+        scale.name = d.getShortName();
+        scale.vinfo = new H5iospWriter.Vinfo(d);
+        gobj.children.add(scale);
+        objects.add(scale);
+      }
+      scales.put(d, scale);
+    }
+
+    for (Variable v : g.getVariables()) {
+      DatasetObject dobj = varObjects.get(v.getShortName());
+      if (dobj == null) {
+        dobj = new DatasetObject();
+        dobj.v = v;
+        dobj.vinfo = (H5iospWriter.Vinfo) v.getSPobject();
+        // a variable with the same name as a dimension, but not its coordinate variable
+        dobj.name = (g.findDimensionLocal(v.getShortName()) != null) ? Nc4.NETCDF4_NON_COORD + v.getShortName() : v.getShortName();
+      }
+      gobj.children.add(dobj);
+      objects.add(dobj);
+
+      List<Dimension> vdims = varDims.get(v);
+      boolean is1Dcoordinate = (dobj.dim != null) && (vdims.size() == 1);
+      if (vdims.size() > 0 && !is1Dcoordinate) {
+        dobj.dimList = new DatasetObject[vdims.size()];
+        for (int i = 0; i < vdims.size(); i++) {
+          DatasetObject scale = findScale(vdims.get(i));
+          dobj.dimList[i] = scale;
+          if (scale != null) {
+            scale.refList.add(dobj);
+            scale.refIndex.add(i);
+          }
+        }
+      }
+    }
+
+    for (Group nested : g.getGroups())
+      gobj.children.add(makeGroup(nested, nested.getShortName()));
+
+    return gobj;
+  }
+
+  // the scale may be in a parent group
+  private DatasetObject findScale(Dimension d) {
+    DatasetObject scale = scales.get(d);
+    if (scale != null) return scale;
+    for (Map.Entry<Dimension, DatasetObject> entry : scales.entrySet()) { // LOOK not identical object
+      if (entry.getKey().equals(d)) return entry.getValue();
+    }
+    return null;
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // object headers
+
+  private byte[] encodeObjectHeader(H5object obj) {
+    Buf messages = new Buf();
+    natts = 0;
+    if (obj instanceof GroupObject)
+      addGroupMessages((GroupObject) obj, messages);
+    else
+      addDatasetMessages((DatasetObject) obj, messages);
+
+    // version 2 object header, with 4 byte chunk size.
+    // all attributes are compact (in the header), so raise the phase change above the default of 8
+    Buf b = new Buf();
+    b.put("OHDR".getBytes(StandardCharsets.US_ASCII));
+    b.put(2); // version
+    b.put(0x02 | 0x10); // flags: size of chunk0 field is 4 bytes, attribute phase change values stored
+    b.putShort(Math.max(8, natts)); // max compact attributes
+    b.putShort(6); // min dense attributes
+    b.putInt(messages.size());
+    b.put(messages);
+    b.putInt(checksumLookup3(b.array(), 0, b.size()));
+    return b.toByteArray();
+  }
+
+  private void addMessage(Buf messages, int type, int flags, Buf data) {
+    if (data.size() > 0xffff)
+      throw new IllegalStateException("HDF5 header message too large (" + data.size() + " bytes)");
+    if (type == MESS_ATTRIBUTE) natts++;
+    messages.put(type);
+    messages.putShort(data.size());
+    messages.put(flags);
+    messages.put(data);
+  }
+
+  private void addGroupMessages(GroupObject gobj, Buf messages) {
+    // Link Info: links are stored in this header, track creation order
+    Buf m = new Buf();
+    m.put(0); // version
+    m.put(1); // flags: creation order tracked
+    m.putLong(gobj.children.size()); // maximum creation index
+    m.putLong(UNDEF); // fractal heap address
+    m.putLong(UNDEF); // name index v2 B-tree address
+    addMessage(messages, MESS_LINKINFO, 0, m);
+
+    m = new Buf();
+    m.put(0); // version
+    m.put(0); // flags
+    addMessage(messages, MESS_GROUPINFO, 0, m);
+
+    int count = 0;
+    for (H5object child : gobj.children) {
+      byte[] name = child.name.getBytes(StandardCharsets.UTF_8);
+      boolean isAscii = (name.length == child.name.length());
+      boolean isShortName = name.length < 256;
+      m = new Buf();
+      m.put(1); // version
+      m.put((isShortName ? 0 : 1) | 0x04 | (isAscii ? 0 : 0x10)); // size of length field, creation order present, charset present
+      m.putLong(count++);
+      if (!isAscii) m.put(1); // UTF-8
+      if (isShortName) m.put(name.length);
+      else m.putShort(name.length);
+      m.put(name);
+      m.putLong(child.address); // hard link
+      addMessage(messages, MESS_LINK, 0, m);
+    }
+
+    if (gobj.g == ncfile.getRootGroup() && isClassic)
+      addAttribute(messages, Nc4.NETCDF4_STRICT, DataType.INT, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(1).array(), new int[0]);
+
+    for (Attribute att : gobj.g.getAttributes()) {
+      if (!skipAttributes.contains(att.getShortName()))
+        addAttribute(messages, att);
+    }
+  }
+
+  private void addDatasetMessages(DatasetObject dobj, Buf messages) {
+    H5iospWriter.Vinfo vinfo = dobj.vinfo;
+
+    // dataspace
+    Buf m = new Buf();
+    if (dobj.v != null) {
+      List<Dimension> dims = dobj.v.getDimensions();
+      long[] len = new long[dims.size()];
+      long[] max = new long[dims.size()];
+      for (int i = 0; i < dims.size(); i++) {
+        len[i] = dims.get(i).getLength();
+        max[i] = dims.get(i).isUnlimited() ? UNDEF : len[i];
+      }
+      encodeDataspace(m, len, max);
+    } else {
+      encodeDataspace(m, new long[]{dobj.dim.getLength()}, new long[]{dobj.dim.isUnlimited() ? UNDEF : dobj.dim.getLength()});
+    }
+    addMessage(messages, MESS_DATASPACE, 0, m);
+
+    // datatype
+    m = new Buf();
+    encodeDatatype(m, vinfo.dataType);
+    addMessage(messages, MESS_DATATYPE, 1, m);
+
+    // fill value, version 3
+    m = new Buf();
+    m.put(3);
+    m.put((vinfo.isChunked ? 3 : 1) | (2 << 2) | 0x20); // alloc incremental or early, write if set, fill value defined
+    m.putInt(vinfo.fillValue.length);
+    m.put(vinfo.fillValue);
+    addMessage(messages, MESS_FILLVALUE, 1, m);
+
+    // layout, version 3
+    m = new Buf();
+    m.put(3);
+    if (vinfo.isChunked) {
+      m.put(2);
+      m.put(vinfo.chunk.length + 1);
+      m.putLong(vinfo.dataAddress);
+      for (int c : vinfo.chunk) m.putInt(c);
+      m.putInt(vinfo.elemSize);
+    } else {
+      m.put(1);
+      m.putLong(vinfo.dataAddress);
+      m.putLong(vinfo.dataSize);
+    }
+    addMessage(messages, MESS_LAYOUT, 0, m);
+
+    // filter pipeline, version 2
+    if (vinfo.isChunked && (vinfo.shuffle || vinfo.deflateLevel > 0)) {
+      m = new Buf();
+      m.put(2);
+      m.put((vinfo.shuffle ? 1 : 0) + (vinfo.deflateLevel > 0 ? 1 : 0));
+      if (vinfo.shuffle) {
+        m.putShort(2); // id
+        m.putShort(1); // flags: optional
+        m.putShort(1); // number of client values
+        m.putInt(vinfo.elemSize);
+      }
+      if (vinfo.deflateLevel > 0) {
+        m.putShort(1);
+        m.putShort(1);
+        m.putShort(1);
+        m.putInt(vinfo.deflateLevel);
+      }
+      addMessage(messages, MESS_FILTER, 0, m);
+    }
+
+    // attributes
+    if (dobj.dim != null) {
+      addStringAttribute(messages, H5header.HDF5_CLASS, H5header.HDF5_DIMENSION_SCALE);
+      String scaleName = (dobj.v != null) ? dobj.v.getShortName() : String.format("%s%10d", dimWithoutVariable, dobj.dim.getLength());
+      addStringAttribute(messages, H5header.HDF5_DIMENSION_NAME, scaleName);
+      addAttribute(messages, Nc4.NETCDF4_DIMID, DataType.INT, intBytes(dobj.dimid), new int[0]);
+      if (dobj.dimList != null) { // multidimensional coordinate
+        int[] dimids = new int[dobj.dimList.length];
+        for (int i = 0; i < dobj.dimList.length; i++)
+          dimids[i] = (dobj.dimList[i] == null) ? -1 : dobj.dimList[i].dimid;
+        addAttribute(messages, Nc4.NETCDF4_COORDINATES, DataType.INT, intBytes(dimids), new int[]{dimids.length});
+      }
+    }
+
+    if (dobj.v != null) {
+      for (Attribute att : dobj.v.getAttributes()) {
+        if (skipAttributes.contains(att.getShortName())) continue;
+        if (att.getShortName().equals(CDM.FILL_VALUE) && !H5iospWriter.isValidFillValue(dobj.v, att)) continue;
+        addAttribute(messages, att);
+      }
+    }
+
+    if (dobj.dimList != null)
+      addDimensionList(messages, dobj.dimList);
+
+    if (dobj.refList.size() > 0)
+      addReferenceList(messages, dobj);
+  }
+
+  // vlen of object references, one for each dimension
+  private void addDimensionList(Buf messages, DatasetObject[] dimList) {
+    Buf data = new Buf();
+    for (DatasetObject scale : dimList) {
+      byte[] ref = new byte[8];
+      ByteBuffer.wrap(ref).order(ByteOrder.LITTLE_ENDIAN).putLong(scale == null ? UNDEF : scale.address);
+      heap.putHeapId(data, ref, 1);
+    }
+
+    Buf dt = new Buf();
+    dt.put(0x19); // version 1, vlen
+    dt.put(0); // sequence
+    dt.put(0);
+    dt.put(0);
+    dt.putInt(16);
+    dt.put(0x17); // version 1, reference
+    dt.put(0); // object reference
+    dt.put(0);
+    dt.put(0);
+    dt.putInt(8);
+
+    addAttribute(messages, H5header.HDF5_DIMENSION_LIST, dt, dataspace(new int[]{dimList.length}), data.toByteArray());
+  }
+
+  // compound {object reference, int dimension index}, same as the HDF5 dimension scale API
+  private void addReferenceList(Buf messages, DatasetObject scale) {
+    Buf data = new Buf();
+    for (int i = 0; i < scale.refList.size(); i++) {
+      data.putLong(scale.refList.get(i).address);
+      data.putInt(scale.refIndex.get(i));
+      data.putInt(0); // padding
+    }
+
+    Buf dt = new Buf();
+    dt.put(0x36); // version 3, compound
+    dt.put(2); // number of members
+    dt.put(0);
+    dt.put(0);
+    dt.putInt(16);
+    dt.put("dataset".getBytes(StandardCharsets.US_ASCII));
+    dt.put(0);
+    dt.put(0); // offset
+    dt.put(0x17); // reference
+    dt.put(0);
+    dt.put(0);
+    dt.put(0);
+    dt.putInt(8);
+    dt.put("dimension".getBytes(StandardCharsets.US_ASCII));
+    dt.put(0);
+    dt.put(8); // offset
+    encodeDatatype(dt, DataType.INT);
+
+    addAttribute(messages, H5header.HDF5_REFERENCE_LIST, dt, dataspace(new int[]{scale.refList.size()}), data.toByteArray());
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // attributes
+
+  private void addAttribute(Buf messages, Attribute att) {
+    String name = att.getShortName();
+    int n = att.getLength();
+    DataType dtype = att.getDataType();
+
+    if (n == 0) { // empty attribute has a null dataspace
+      Buf dt = new Buf();
+      encodeDatatype(dt, att.isString() ? DataType.CHAR : dtype);
+      Buf ds = new Buf();
+      ds.put(2);
+      ds.put(0);
+      ds.put(0);
+      ds.put(2); // null
+      addAttribute(messages, name, dt, ds, new byte[0]);
+
+    } else if (att.isString()) {
+      if (n == 1) {
+        addStringAttribute(messages, name, att.getStringValue());
+      } else { // vlen strings
+        Buf data = new Buf();
+        for (int i = 0; i < n; i++) {
+          String s = att.getStringValue(i);
+          byte[] b = (s == null) ? new byte[0] : s.getBytes(StandardCharsets.UTF_8);
+          heap.putHeapId(data, b, b.length);
+        }
+        Buf dt = new Buf();
+        dt.put(0x19); // version 1, vlen
+        dt.put(1); // string, null terminate
+        dt.put(1); // UTF-8
+        dt.put(0);
+        dt.putInt(16);
+        encodeDatatype(dt, DataType.UBYTE);
+        addAttribute(messages, name, dt, dataspace(new int[]{n}), data.toByteArray());
+      }
+
+    } else {
+      byte[] data = H5iospWriter.convertToBytes(att.getValues(), dtype);
+      addAttribute(messages, name, dtype, data, new int[]{n});
+    }
+  }
+
+  // fixed length string
+  private void addStringAttribute(Buf messages, String name, String value) {
+    byte[] b = value.getBytes(StandardCharsets.UTF_8);
+    Buf dt = new Buf();
+    dt.put(0x13); // version 1, string
+    dt.put((b.length == value.length()) ? 0 : 0x10); // null terminate, ASCII or UTF-8
+    dt.put(0);
+    dt.put(0);
+    dt.putInt(Math.max(b.length, 1));
+    Buf ds = new Buf();
+    if (b.length == 0) {
+      ds.put(2);
+      ds.put(0);
+      ds.put(0);
+      ds.put(2); // null dataspace
+    } else {
+      ds = dataspace(new int[0]);
+    }
+    addAttribute(messages, name, dt, ds, b);
+  }
+
+  private void addAttribute(Buf messages, String name, DataType dtype, byte[] data, int[] shape) {
+    Buf dt = new Buf();
+    encodeDatatype(dt, dtype);
+    addAttribute(messages, name, dt, dataspace(shape), data);
+  }
+
+  // Attribute message, version 3
+  private void addAttribute(Buf messages, String name, Buf datatype, Buf dataspace, byte[] data) {
+    byte[] nameb = name.getBytes(StandardCharsets.UTF_8);
+    Buf m = new Buf();
+    m.put(3);
+    m.put(0); // flags
+    m.putShort(nameb.length + 1);
+    m.putShort(datatype.size());
+    m.putShort(dataspace.size());
+    m.put(nameb.length == name.length() ? 0 : 1); // ASCII or UTF-8
+    m.put(nameb);
+    m.put(0);
+    m.put(datatype);
+    m.put(dataspace);
+    m.put(data);
+    addMessage(messages, MESS_ATTRIBUTE, 0, m);
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // dataspace and datatype
+
+  private Buf dataspace(int[] shape) {
+    long[] len = new long[shape.length];
+    for (int i = 0; i < shape.length; i++) len[i] = shape[i];
+    Buf b = new Buf();
+    encodeDataspace(b, len, null);
+    return b;
+  }
+
+  // Dataspace message, version 2
+  private void encodeDataspace(Buf b, long[] len, long[] max) {
+    b.put(2);
+    b.put(len.length);
+    b.put(max != null ? 1 : 0); // max dimensions present
+    b.put(len.length == 0 ? 0 : 1); // scalar or simple
+    for (long l : len) b.putLong(l);
+    if (max != null)
+      for (long m : max) b.putLong(m);
+  }
+
+  // Datatype message, version 1, little endian
+  static void encodeDatatype(Buf b, DataType dtype) {
+    int size = dtype.getSize();
+    switch (dtype) {
+      case BYTE:
+      case UBYTE:
+      case SHORT:
+      case USHORT:
+      case INT:
+      case UINT:
+      case LONG:
+      case ULONG:
+        b.put(0x10); // fixed point
+        b.put(dtype.isUnsigned() ? 0 : 0x08);
+        b.put(0);
+        b.put(0);
+        b.putInt(size);
+        b.putShort(0); // bit offset
+        b.putShort(8 * size); // bit precision
+        break;
+
+      case FLOAT:
+      case DOUBLE:
+        boolean isFloat = (dtype == DataType.FLOAT);
+        b.put(0x11); // floating point
+        b.put(0x20); // implied msb mantissa normalization
+        b.put(isFloat ? 31 : 63); // sign location
+        b.put(0);
+        b.putInt(size);
+        b.putShort(0); // bit offset
+        b.putShort(8 * size); // bit precision
+        b.put(isFloat ? 23 : 52); // exponent location
+        b.put(isFloat ? 8 : 11); // exponent size
+        b.put(0); // mantissa location
+        b.put(isFloat ? 23 : 52); // mantissa size
+        b.putInt(isFloat ? 127 : 1023); // exponent bias
+        break;
+
+      case CHAR:
+        b.put(0x13); // string, null terminate, ASCII
+        b.put(0);
+        b.put(0);
+        b.put(0);
+        b.putInt(1);
+        break;
+
+      default:
+        throw new UnsupportedOperationException("netcdf-4 writing of " + dtype + " not supported");
+    }
+  }
+
+  private static byte[] intBytes(int... vals) {
+    ByteBuffer bb = ByteBuffer.allocate(4 * vals.length).order(ByteOrder.LITTLE_ENDIAN);
+    for (int val : vals) bb.putInt(val);
+    return bb.array();
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // version 1 B-tree, type 1 (raw data chunks)
+
+  private long writeChunkBTree(H5iospWriter.Vinfo vinfo, long eof) throws IOException {
+    int rank = vinfo.chunk.length;
+    int keySize = 8 + 8 * (rank + 1);
+    int maxEntries = 2 * btreeK;
+    int nodeSize = 24 + (maxEntries + 1) * keySize + maxEntries * 8;
+
+    // level 0 entries are the chunks
+    int n = vinfo.stored.size();
+    long[][] firstKeys = new long[n][];
+    long[][] lastKeys = new long[n][];
+    long[] addresses = new long[n];
+    int count = 0;
+    for (Map.Entry<H5iospWriter.ChunkKey, H5iospWriter.StoredChunk> entry : vinfo.stored.entrySet()) {
+      int[] offset = entry.getKey().offset;
+      long[] key = new long[rank + 3];
+      long[] last = new long[rank + 3];
+      key[0] = entry.getValue().size;
+      for (int i = 0; i < rank; i++) {
+        key[i + 2] = offset[i];
+        last[i + 2] = offset[i] + vinfo.chunk[i];
+      }
+      firstKeys[count] = key;
+      lastKeys[count] = last;
+      addresses[count++] = entry.getValue().filePos;
+    }
+
+    int level = 0;
+    while (true) {
+      int nnodes = (n + maxEntries - 1) / maxEntries;
+      long[][] nodeFirstKeys = new long[nnodes][];
+      long[][] nodeLastKeys = new long[nnodes][];
+      long[] nodeAddresses = new long[nnodes];
+
+      for (int node = 0; node < nnodes; node++) {
+        int start = node * maxEntries;
+        int nentries = Math.min(maxEntries, n - start);
+        long address = eof + node * (long) nodeSize;
+
+        Buf b = new Buf();
+        b.put("TREE".getBytes(StandardCharsets.US_ASCII));
+        b.put(1); // raw data chunks
+        b.put(level);
+        b.putShort(nentries);
+        b.putLong(node == 0 ? UNDEF : address - nodeSize);
+        b.putLong(node == nnodes - 1 ? UNDEF : address + nodeSize);
+        for (int i = start; i < start + nentries; i++) {
+          putKey(b, firstKeys[i]);
+          b.putLong(addresses[i]);
+        }
+        putKey(b, lastKeys[start + nentries - 1]);
+        b.putZeros(nodeSize - b.size());
+
+        raf.seek(address);
+        raf.write(b.array(), 0, b.size());
+
+        nodeFirstKeys[node] = firstKeys[start];
+        nodeLastKeys[node] = lastKeys[start + nentries - 1];
+        nodeAddresses[node] = address;
+      }
+      eof += nnodes * (long) nodeSize;
+
+      if (nnodes == 1)
+        break;
+      n = nnodes;
+      firstKeys = nodeFirstKeys;
+      lastKeys = nodeLastKeys;
+      addresses = nodeAddresses;
+      level++;
+    }
+
+    vinfo.dataAddress = eof - nodeSize; // root is the last one written
+    return eof;
+  }
+
+  private void putKey(Buf b, long[] key) {
+    b.putInt((int) key[0]); // chunk size in bytes
+    b.putInt((int) key[1]); // filter mask
+    for (int i = 2; i < key.length; i++)
+      b.putLong(key[i]);
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // global heap
+
+  private class GlobalHeapWriter {
+    private final long[] addresses; // collection addresses, known after the sizing pass
+    private final List<List<byte[]>> collections = new ArrayList<>();
+
+    GlobalHeapWriter(long[] addresses) {
+      this.addresses = addresses;
+    }
+
+    // add an object to the heap, put its global heap id into b
+    void putHeapId(Buf b, byte[] obj, int nelems) {
+      if (collections.isEmpty() || collections.get(collections.size() - 1).size() >= maxHeapObjects)
+        collections.add(new ArrayList<>());
+      int which = collections.size() - 1;
+      List<byte[]> col = collections.get(which);
+      col.add(obj);
+      b.putInt(nelems);
+      b.putLong(addresses == null ? 0 : addresses[which]);
+      b.putInt(col.size()); // 1-based index
+    }
+
+    private int collectionSize(List<byte[]> col) {
+      int size = 16;
+      for (byte[] obj : col)
+        size += 16 + pad8(obj.length);
+      return Math.max(size, minHeapSize);
+    }
+
+    long[] allocate(long start) {
+      long[] result = new long[collections.size()];
+      for (int i = 0; i < collections.size(); i++) {
+        result[i] = start;
+        start += collectionSize(collections.get(i));
+      }
+      return result;
+    }
+
+    long getTotalSize() {
+      long total = 0;
+      for (List<byte[]> col : collections)
+        total += collectionSize(col);
+      return total;
+    }
+
+    void write() throws IOException {
+      for (int i = 0; i < collections.size(); i++) {
+        List<byte[]> col = collections.get(i);
+        int size = collectionSize(col);
+        Buf b = new Buf();
+        b.put("GCOL".getBytes(StandardCharsets.US_ASCII));
+        b.put(1); // version
+        b.putZeros(3);
+        b.putLong(size);
+        int index = 1;
+        for (byte[] obj : col) {
+          b.putShort(index++);
+          b.putShort(0); // reference count
+          b.putZeros(4);
+          b.putLong(obj.length);
+          b.put(obj);
+          b.putZeros(pad8(obj.length) - obj.length);
+        }
+        int free = size - b.size();
+        if (free >= 16) { // free space object
+          b.putShort(0);
+          b.putShort(0);
+          b.putZeros(4);
+          b.putLong(free);
+        }
+        b.putZeros(size - b.size());
+        raf.seek(addresses[i]);
+        raf.write(b.array(), 0, b.size());
+      }
+    }
+  }
+
+  static private int pad8(int n) {
+    return (n + 7) & ~7;
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Jenkins lookup3 hashlittle(), with initval 0, as used by the HDF5 metadata checksums.
+   *
+   * @param data   bytes to hash
+   * @param offset start here
+   * @param length number of bytes
+   * @return checksum
+   * @see "http://burtleburtle.net/bob/c/lookup3.c"
+   */
+  static int checksumLookup3(byte[] data, int offset, int length) {
+    int a, b, c;
+    a = b = c = 0xdeadbeef + length;
+
+    int k = offset;
+    while (length > 12) {
+      a += (data[k] & 0xff) + ((data[k + 1] & 0xff) << 8) + ((data[k + 2] & 0xff) << 16) + ((data[k + 3] & 0xff) << 24);
+      b += (data[k + 4] & 0xff) + ((data[k + 5] & 0xff) << 8) + ((data[k + 6] & 0xff) << 16) + ((data[k + 7] & 0xff) << 24);
+      c += (data[k + 8] & 0xff) + ((data[k + 9] & 0xff) << 8) + ((data[k + 10] & 0xff) << 16) + ((data[k + 11] & 0xff) << 24);
+
+      // mix
+      a -= c; a ^= Integer.rotateLeft(c, 4); c += b;
+      b -= a; b ^= Integer.rotateLeft(a, 6); a += c;
+      c -= b; c ^= Integer.rotateLeft(b, 8); b += a;
+      a -= c; a ^= Integer.rotateLeft(c, 16); c += b;
+      b -= a; b ^= Integer.rotateLeft(a, 19); a += c;
+      c -= b; c ^= Integer.rotateLeft(b, 4); b += a;
+
+      length -= 12;
+      k += 12;
+    }
+
+    switch (length) { // all the case statements fall through
+      case 12: c += (data[k + 11] & 0xff) << 24;
+      case 11: c += (data[k + 10] & 0xff) << 16;
+      case 10: c += (data[k + 9] & 0xff) << 8;
+      case 9:  c += (data[k + 8] & 0xff);
+      case 8:  b += (data[k + 7] & 0xff) << 24;
+      case 7:  b += (data[k + 6] & 0xff) << 16;
+      case 6:  b += (data[k + 5] & 0xff) << 8;
+      case 5:  b += (data[k + 4] & 0xff);
+      case 4:  a += (data[k + 3] & 0xff) << 24;
+      case 3:  a += (data[k + 2] & 0xff) << 16;
+      case 2:  a += (data[k + 1] & 0xff) << 8;
+      case 1:  a += (data[k] & 0xff);
+        break;
+      case 0:
+        return c;
+    }
+
+    // final
+    c ^= b; c -= Integer.rotateLeft(b, 14);
+    a ^= c; a -= Integer.rotateLeft(c, 11);
+    b ^= a; b -= Integer.rotateLeft(a, 25);
+    c ^= b; c -= Integer.rotateLeft(b, 16);
+    a ^= c; a -= Integer.rotateLeft(c, 4);
+    b ^= a; b -= Integer.rotateLeft(a, 14);
+    c ^= b; c -= Integer.rotateLeft(b, 24);
+    return c;
+  }
+
+  // growable little endian byte buffer
+  static class Buf {
+    private byte[] buff = new byte[256];
+    private int pos;
+
+    private void ensure(int n) {
+      if (pos + n > buff.length)
+        buff = Arrays.copyOf(buff, Math.max(2 * buff.length, pos + n));
+    }
+
+    void put(int b) {
+      ensure(1);
+      buff[pos++] = (byte) b;
+    }
+
+    void putShort(int s) {
+      ensure(2);
+      buff[pos++] = (byte) s;
+      buff[pos++] = (byte) (s >>> 8);
+    }
+
+    void putInt(int v) {
+      ensure(4);
+      for (int i = 0; i < 4; i++)
+        buff[pos++] = (byte) (v >>> (8 * i));
+    }
+
+    void putLong(long v) {
+      ensure(8);
+      for (int i = 0; i < 8; i++)
+        buff[pos++] = (byte) (v >>> (8 * i));
+    }
+
+    void put(byte[] b) {
+      ensure(b.length);
+      System.arraycopy(b, 0, buff, pos, b.length);
+      pos += b.length;
+    }
+
+    void put(Buf b) {
+      ensure(b.pos);
+      System.arraycopy(b.buff, 0, buff, pos, b.pos);
+      pos += b.pos;
+    }
+
+    void putZeros(int n) {
+      ensure(n);
+      pos += n; // always zero, never rewound
+    }
+
+    int size() {
+      return pos;
+    }
+
+    byte[] array() {
+      return buff;
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buff, pos);
+    }
+  }
+
+}
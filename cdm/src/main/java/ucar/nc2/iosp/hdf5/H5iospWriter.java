@@ -0,0 +1,799 @@
+/* Copyright */
+package ucar.nc2.iosp.hdf5;
+
+import ucar.ma2.*;
+import ucar.nc2.*;
+import ucar.nc2.constants.CDM;
+import ucar.nc2.constants.DataFormatType;
+import ucar.nc2.iosp.AbstractIOServiceProvider;
+import ucar.nc2.iosp.IOServiceProviderWriter;
+import ucar.nc2.iosp.Layout;
+import ucar.nc2.iosp.LayoutRegular;
+import ucar.nc2.iosp.netcdf3.N3iosp;
+import ucar.nc2.util.CancelTask;
+import ucar.nc2.write.Nc4Chunking;
+import ucar.nc2.write.Nc4ChunkingDefault;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Writes netCDF-4 files in pure Java, without the netCDF-4 C library.
+ * Contiguous variables are allocated when the file is created. Chunks of chunked variables are buffered until
+ * they are complete, then compressed on a shared thread pool and appended to the end of the file, so a file can be
+ * written in a single pass. The metadata is kept in memory and written when the file is closed, see H5headerWriter.
+ * <p>
+ * Handles the classic model, plus groups and the unsigned and long types. Does not handle Structure, String,
+ * enum, opaque or vlen variables.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class H5iospWriter extends AbstractIOServiceProvider implements IOServiceProviderWriter {
+  static private org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(H5iospWriter.class);
+  static private final long UNDEF = H5headerWriter.UNDEF;
+  static private final int nthreads = Runtime.getRuntime().availableProcessors();
+
+  // compress chunks in the background, shared by all writers
+  static private ExecutorService compressService;
+
+  static private synchronized ExecutorService getCompressService() {
+    if (compressService == null) {
+      compressService = Executors.newFixedThreadPool(nthreads, r -> {
+        Thread t = new Thread(r, "H5iospWriter-compress");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return compressService;
+  }
+
+  /**
+   * Can we write this type of variable?
+   *
+   * @param dtype data type of the Variable
+   * @return true if its a primitive numeric or char type
+   */
+  static public boolean isSupported(DataType dtype) {
+    switch (dtype) {
+      case BYTE:
+      case UBYTE:
+      case CHAR:
+      case SHORT:
+      case USHORT:
+      case INT:
+      case UINT:
+      case LONG:
+      case ULONG:
+      case FLOAT:
+      case DOUBLE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  private final NetcdfFileWriter.Version version;
+  private Nc4Chunking chunker = new Nc4ChunkingDefault();
+  private boolean fill = true;
+  private long eof;  // next free byte in the file
+
+  private final int maxPending = 2 * nthreads;
+  private final ArrayDeque<StoredChunk> pending = new ArrayDeque<>(); // chunks being compressed, in the order submitted
+
+  public H5iospWriter(NetcdfFileWriter.Version version) {
+    if (!version.isNetdf4format())
+      throw new IllegalArgumentException("H5iospWriter only writes netcdf-4 files, not " + version);
+    this.version = version;
+  }
+
+  public void setChunker(Nc4Chunking chunker) {
+    if (chunker != null)
+      this.chunker = chunker;
+  }
+
+  @Override
+  public void create(String filename, NetcdfFile ncfile, int extra, long preallocateSize, boolean largeFile) throws IOException {
+    this.ncfile = ncfile;
+    this.location = filename;
+
+    // finish any structures
+    ncfile.finish();
+
+    raf = new RandomAccessFile(filename, "rw");
+    raf.order(RandomAccessFile.LITTLE_ENDIAN);
+    raf.getRandomAccessFile().setLength(preallocateSize > 0 ? preallocateSize : 0); // overwrite any existing file
+
+    eof = H5headerWriter.SUPERBLOCK_SIZE; // written at close
+    pending.clear();
+    for (Variable v : ncfile.getVariables())
+      makeVinfo(v);
+  }
+
+  // new Variables may be added in redefine mode; the header is written at close, so we never have to rewrite.
+  @Override
+  public boolean rewriteHeader(boolean largeFile) throws IOException {
+    if (raf == null) return true; // not created
+    for (Variable v : ncfile.getVariables()) {
+      if (!(v.getSPobject() instanceof Vinfo))
+        makeVinfo(v);
+    }
+    return true;
+  }
+
+  private void makeVinfo(Variable v) throws IOException {
+    if (!isSupported(v.getDataType()))
+      throw new UnsupportedOperationException("H5iospWriter cannot write " + v.getDataType() + " variable " + v.getFullName());
+
+    Attribute fillAtt = v.findAttribute(CDM.FILL_VALUE);
+    if (fillAtt != null && !isValidFillValue(v, fillAtt)) {
+      log.warn("_FillValue must have length one and the same type as variable {}; ignored", v.getFullName());
+      fillAtt = null;
+    }
+
+    Vinfo vinfo = new Vinfo(v, fillAtt);
+    boolean isChunked = (v.getRank() > 0) && (v.isUnlimited() || chunker.isChunked(v)); // unlimited must be chunked
+    if (isChunked) {
+      long[] lchunks = chunker.computeChunking(v);
+      int[] chunk = new int[v.getRank()];
+      for (int i = 0; i < chunk.length; i++) {
+        Dimension d = v.getDimension(i);
+        long c = Math.max(1, lchunks[i]);
+        if (!d.isUnlimited()) c = Math.min(c, Math.max(1, d.getLength())); // chunk may not exceed a fixed dimension
+        chunk[i] = (int) c;
+      }
+      int deflateLevel = chunker.getDeflateLevel(v);
+      vinfo.setChunking(chunk, deflateLevel, deflateLevel > 0 && chunker.isShuffle(v));
+
+    } else {
+      vinfo.dataSize = v.getSize() * vinfo.elemSize;
+      if (vinfo.dataSize > 0) {
+        vinfo.dataAddress = eof;
+        eof += vinfo.dataSize;
+        if (fill) writeFill(vinfo);
+      }
+    }
+    v.setSPobject(vinfo);
+  }
+
+  private void writeFill(Vinfo vinfo) throws IOException {
+    int n = (int) Math.min(vinfo.dataSize / vinfo.elemSize, 8192);
+    byte[] fillBlock = makeFill(vinfo, n);
+    raf.seek(vinfo.dataAddress);
+    long remaining = vinfo.dataSize;
+    while (remaining > 0) {
+      int len = (int) Math.min(remaining, fillBlock.length);
+      raf.write(fillBlock, 0, len);
+      remaining -= len;
+    }
+  }
+
+  private byte[] makeFill(Vinfo vinfo, long nelems) {
+    int elemSize = vinfo.elemSize;
+    byte[] result = new byte[(int) nelems * elemSize];
+    for (int i = 0; i < nelems; i++)
+      System.arraycopy(vinfo.fillValue, 0, result, i * elemSize, elemSize);
+    return result;
+  }
+
+  @Override
+  public void setFill(boolean fill) {
+    this.fill = fill;
+  }
+
+  @Override
+  public void openForWriting(RandomAccessFile raf, NetcdfFile ncfile, CancelTask cancelTask) throws IOException {
+    throw new UnsupportedOperationException("H5iospWriter can only create new files");
+  }
+
+  @Override
+  public void updateAttribute(Variable v2, Attribute att) throws IOException {
+    // attributes are written at close
+    if (v2 == null)
+      ncfile.getRootGroup().addAttribute(att);
+    else
+      v2.addAttribute(att);
+  }
+
+  @Override
+  public int appendStructureData(Structure s, StructureData sdata) throws IOException, InvalidRangeException {
+    throw new UnsupportedOperationException("H5iospWriter cannot write Structures");
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // writing
+
+  @Override
+  public void writeData(Variable v2, Section section, Array values) throws IOException, InvalidRangeException {
+    Vinfo vinfo = getVinfo(v2);
+    if (section.getRank() != v2.getRank())
+      throw new InvalidRangeException("section rank " + section.getRank() + " != variable rank " + v2.getRank());
+    if (v2.isUnlimited())
+      extendUnlimited(v2, section);
+    section = Section.fill(section, v2.getShape());
+    String err = section.checkInRange(v2.getShape());
+    if (err != null)
+      throw new InvalidRangeException(err);
+
+    byte[] bytes = convertToBytes(values, vinfo.dataType);
+    if (!vinfo.isChunked) {
+      Layout layout = new LayoutRegular(vinfo.dataAddress, vinfo.elemSize, v2.getShape(), section);
+      while (layout.hasNext()) {
+        Layout.Chunk chunk = layout.next();
+        raf.seek(chunk.getSrcPos());
+        raf.write(bytes, (int) chunk.getDestElem() * vinfo.elemSize, chunk.getNelems() * vinfo.elemSize);
+      }
+      return;
+    }
+
+    SectionInfo want = new SectionInfo(section);
+    for (int[] origin : want.chunksIntersecting(vinfo.chunk)) {
+      ChunkKey key = new ChunkKey(origin);
+      ChunkBuffer cb = vinfo.open.get(key);
+      boolean isNew = (cb == null);
+      if (isNew) cb = openChunk(vinfo, key);
+
+      long n = want.copy(bytes, origin, vinfo.chunk, cb.data, vinfo.elemSize, cb.written);
+      if (n == 0 && isNew && !vinfo.stored.containsKey(key)) { // strided section missed this chunk
+        vinfo.open.remove(key);
+        continue;
+      }
+      // finish only when every element has been written, counting rewritten elements once
+      if (cb.written.cardinality() >= chunkCapacity(v2, vinfo, origin))
+        finishChunk(vinfo, key, cb);
+    }
+  }
+
+  private Vinfo getVinfo(Variable v2) {
+    Object spObject = v2.getSPobject();
+    if (!(spObject instanceof Vinfo))
+      throw new IllegalStateException("Variable " + v2.getFullName() + " was not created by this writer");
+    return (Vinfo) spObject;
+  }
+
+  // let the unlimited dimensions and the variables that use them know of the new length
+  private void extendUnlimited(Variable v2, Section section) {
+    for (int i = 0; i < v2.getRank(); i++) {
+      Dimension d = v2.getDimension(i);
+      Range r = section.getRange(i);
+      if (!d.isUnlimited() || r == null || r.last() < d.getLength()) continue;
+
+      d.setLength(r.last() + 1);
+      for (Variable v : ncfile.getVariables()) {
+        for (Dimension vd : v.getDimensions()) {
+          if (vd == d) {
+            v.resetShape();
+            v.setCachedData(null, false);
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  // number of elements in the chunk that are within the variable's (maximum) shape
+  private long chunkCapacity(Variable v2, Vinfo vinfo, int[] origin) {
+    long n = 1;
+    for (int i = 0; i < origin.length; i++) {
+      Dimension d = v2.getDimension(i);
+      n *= d.isUnlimited() ? vinfo.chunk[i] : Math.min(vinfo.chunk[i], d.getLength() - origin[i]);
+    }
+    return n;
+  }
+
+  private ChunkBuffer openChunk(Vinfo vinfo, ChunkKey key) throws IOException {
+    StoredChunk stored = vinfo.stored.get(key);
+    byte[] data = (stored != null) ? readStoredChunk(vinfo, stored) : makeFill(vinfo, vinfo.chunkNelems);
+    ChunkBuffer cb = new ChunkBuffer(data, vinfo.chunkNelems);
+    vinfo.open.put(key, cb);
+    return cb;
+  }
+
+  private void finishChunk(Vinfo vinfo, ChunkKey key, ChunkBuffer cb) throws IOException {
+    vinfo.open.remove(key);
+    StoredChunk sc = new StoredChunk();
+    StoredChunk old = vinfo.stored.put(key, sc);
+    if (old != null) { // a rewrite; openChunk() waited for the old one to be written
+      sc.oldFilePos = old.filePos;
+      sc.oldSize = old.size;
+    }
+
+    if (vinfo.hasFilters()) {
+      final byte[] data = cb.data;
+      sc.future = getCompressService().submit(() -> compress(vinfo, data));
+      pending.add(sc);
+      writePending(false);
+    } else {
+      writeChunk(sc, cb.data);
+    }
+  }
+
+  // write compressed chunks in the order they were submitted; if all is false, only wait when too many are pending
+  private void writePending(boolean all) throws IOException {
+    while (!pending.isEmpty()) {
+      StoredChunk sc = pending.peek();
+      if (!all && pending.size() <= maxPending && !sc.future.isDone())
+        break;
+
+      byte[] data;
+      try {
+        data = sc.future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while compressing chunk in " + location);
+      } catch (ExecutionException e) {
+        throw new IOException(e.getCause());
+      }
+      pending.poll();
+      sc.future = null;
+      writeChunk(sc, data);
+    }
+  }
+
+  private void writeChunk(StoredChunk sc, byte[] data) throws IOException {
+    if (sc.oldFilePos != UNDEF && data.length <= sc.oldSize) {
+      sc.filePos = sc.oldFilePos; // fits in the space of the chunk it replaces
+    } else {
+      sc.filePos = eof;  // LOOK a rewritten chunk that grew leaves the old one as garbage
+      eof += data.length;
+    }
+    sc.size = data.length;
+    raf.seek(sc.filePos);
+    raf.write(data);
+  }
+
+  static private byte[] compress(Vinfo vinfo, byte[] data) {
+    if (vinfo.shuffle && vinfo.elemSize > 1)
+      data = shuffle(data, vinfo.elemSize);
+    if (vinfo.deflateLevel <= 0)
+      return data;
+
+    Deflater deflater = new Deflater(vinfo.deflateLevel);
+    try {
+      deflater.setInput(data);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+      byte[] buff = new byte[Math.min(data.length + 64, 64000)];
+      while (!deflater.finished()) {
+        int n = deflater.deflate(buff);
+        out.write(buff, 0, n);
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  // HDF5 shuffle filter: the first byte of each element, then the second byte, etc
+  static private byte[] shuffle(byte[] data, int elemSize) {
+    int n = data.length / elemSize;
+    byte[] result = new byte[data.length];
+    for (int i = 0; i < n; i++)
+      for (int j = 0; j < elemSize; j++)
+        result[j * n + i] = data[i * elemSize + j];
+    return result;
+  }
+
+  static private byte[] unshuffle(byte[] data, int elemSize) {
+    int n = data.length / elemSize;
+    byte[] result = new byte[data.length];
+    for (int i = 0; i < n; i++)
+      for (int j = 0; j < elemSize; j++)
+        result[i * elemSize + j] = data[j * n + i];
+    return result;
+  }
+
+  private byte[] readStoredChunk(Vinfo vinfo, StoredChunk sc) throws IOException {
+    if (sc.future != null)
+      writePending(true);
+
+    byte[] data = new byte[sc.size];
+    raf.seek(sc.filePos);
+    raf.readFully(data);
+    if (!vinfo.hasFilters())
+      return data;
+
+    byte[] result = data;
+    if (vinfo.deflateLevel > 0) {
+      result = new byte[vinfo.chunkNelems * vinfo.elemSize];
+      Inflater inflater = new Inflater();
+      try {
+        inflater.setInput(data);
+        int n = 0;
+        while (n < result.length && !inflater.finished())
+          n += inflater.inflate(result, n, result.length - n);
+      } catch (DataFormatException e) {
+        throw new IOException(e);
+      } finally {
+        inflater.end();
+      }
+    }
+    return (vinfo.shuffle && vinfo.elemSize > 1) ? unshuffle(result, vinfo.elemSize) : result;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (raf == null) return;
+    writePending(true);
+    raf.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (raf == null) return;
+
+    try {
+      // partially written chunks
+      for (Variable v : ncfile.getVariables()) {
+        Vinfo vinfo = getVinfo(v);
+        for (ChunkKey key : new ArrayList<>(vinfo.open.keySet()))
+          finishChunk(vinfo, key, vinfo.open.get(key));
+      }
+      writePending(true);
+
+      H5headerWriter header = new H5headerWriter(ncfile, raf, version == NetcdfFileWriter.Version.netcdf4_classic);
+      eof = header.write(eof);
+      raf.setMinLength(eof);
+
+    } finally {
+      pending.clear();
+      raf.close();
+      raf = null;
+    }
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // reading what has been written so far
+
+  @Override
+  public Array readData(Variable v2, Section section) throws IOException, InvalidRangeException {
+    Vinfo vinfo = getVinfo(v2);
+    section = Section.fill(section, v2.getShape());
+    int elemSize = vinfo.elemSize;
+    byte[] bytes;
+
+    if (!vinfo.isChunked) {
+      if (vinfo.dataAddress == UNDEF) {
+        bytes = makeFill(vinfo, section.computeSize());
+      } else {
+        bytes = new byte[(int) section.computeSize() * elemSize];
+        Layout layout = new LayoutRegular(vinfo.dataAddress, elemSize, v2.getShape(), section);
+        while (layout.hasNext()) {
+          Layout.Chunk chunk = layout.next();
+          raf.seek(chunk.getSrcPos());
+          raf.readFully(bytes, (int) chunk.getDestElem() * elemSize, chunk.getNelems() * elemSize);
+        }
+      }
+
+    } else {
+      bytes = makeFill(vinfo, section.computeSize());
+      SectionInfo want = new SectionInfo(section);
+      for (int[] origin : want.chunksIntersecting(vinfo.chunk)) {
+        ChunkKey key = new ChunkKey(origin);
+        ChunkBuffer cb = vinfo.open.get(key);
+        StoredChunk sc = vinfo.stored.get(key);
+        byte[] data = (cb != null) ? cb.data : (sc != null) ? readStoredChunk(vinfo, sc) : null;
+        if (data != null)
+          want.copy(bytes, origin, vinfo.chunk, data, elemSize, null);
+      }
+    }
+
+    return Array.factory(vinfo.dataType, section.getShape(), ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  @Override
+  public boolean isValidFile(RandomAccessFile raf) throws IOException {
+    return false;
+  }
+
+  @Override
+  public void open(RandomAccessFile raf, NetcdfFile ncfile, CancelTask cancelTask) throws IOException {
+    throw new UnsupportedOperationException("H5iospWriter can only create new files; use H5iosp to read");
+  }
+
+  @Override
+  public String getFileTypeId() {
+    return DataFormatType.NETCDF4.getDescription();
+  }
+
+  @Override
+  public String getFileTypeDescription() {
+    return "netCDF-4 pure Java writer";
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+  // conversion
+
+  /**
+   * Convert the values to little endian bytes of the given type
+   *
+   * @param values data, any type convertible to dtype
+   * @param dtype  convert to this type
+   * @return the bytes in canonical (row-major) order
+   */
+  static byte[] convertToBytes(Array values, DataType dtype) {
+    int n = (int) values.getSize();
+    ByteBuffer bb = ByteBuffer.allocate(n * dtype.getSize()).order(ByteOrder.LITTLE_ENDIAN);
+    IndexIterator ii = values.getIndexIterator();
+    switch (dtype) {
+      case BYTE:
+      case UBYTE:
+        while (ii.hasNext()) bb.put(ii.getByteNext());
+        break;
+      case CHAR:
+        while (ii.hasNext()) bb.put((byte) ii.getCharNext());
+        break;
+      case SHORT:
+      case USHORT:
+        while (ii.hasNext()) bb.putShort(ii.getShortNext());
+        break;
+      case INT:
+      case UINT:
+        while (ii.hasNext()) bb.putInt(ii.getIntNext());
+        break;
+      case LONG:
+      case ULONG:
+        while (ii.hasNext()) bb.putLong(ii.getLongNext());
+        break;
+      case FLOAT:
+        while (ii.hasNext()) bb.putFloat(ii.getFloatNext());
+        break;
+      case DOUBLE:
+        while (ii.hasNext()) bb.putDouble(ii.getDoubleNext());
+        break;
+      default:
+        throw new UnsupportedOperationException("H5iospWriter cannot convert " + dtype);
+    }
+    return bb.array();
+  }
+
+  // same rules as the netcdf-4 C library
+  static boolean isValidFillValue(Variable v, Attribute att) {
+    if (att.getLength() != 1) return false;
+    if (v.getDataType() == DataType.CHAR) return att.isString() || att.getDataType() == DataType.CHAR;
+    return (att.getDataType() == v.getDataType()) && (att.isUnsigned() == v.getDataType().isUnsigned());
+  }
+
+  //////////////////////////////////////////////////////////////////////////////
+
+  // storage information for a Variable, used by H5headerWriter
+  static class Vinfo {
+    final DataType dataType;
+    final int elemSize;
+    final byte[] fillValue;  // one element, little endian
+
+    boolean isChunked;
+    int[] chunk;             // chunk shape, if isChunked
+    int chunkNelems;
+    int deflateLevel;
+    boolean shuffle;
+
+    long dataAddress = UNDEF; // contiguous: start of the data; chunked: root of the chunk B-tree
+    long dataSize;            // contiguous only
+
+    final Map<ChunkKey, ChunkBuffer> open = new HashMap<>();      // chunks being written
+    final TreeMap<ChunkKey, StoredChunk> stored = new TreeMap<>(); // chunks in the file, or being compressed
+
+    Vinfo(Variable v, Attribute fillAtt) {
+      this.dataType = v.getDataType();
+      this.elemSize = dataType.getSize();
+      if (fillAtt == null && dataType == DataType.CHAR) {
+        this.fillValue = new byte[1];
+      } else if (fillAtt == null) {
+        Array fill = Array.factory(dataType, new int[0]);
+        fill.setObject(0, N3iosp.getFillValueDefault(dataType));
+        this.fillValue = convertToBytes(fill, dataType);
+      } else if (fillAtt.isString()) {
+        String s = fillAtt.getStringValue();
+        this.fillValue = new byte[]{(s == null || s.isEmpty()) ? 0 : (byte) s.charAt(0)};
+      } else {
+        this.fillValue = convertToBytes(fillAtt.getValues(), dataType);
+      }
+    }
+
+    // netcdf-4 dimension without a variable: a float dataset with no data
+    Vinfo(Dimension d) {
+      this.dataType = DataType.FLOAT;
+      this.elemSize = 4;
+      this.fillValue = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putFloat(N3iosp.NC_FILL_FLOAT).array();
+      if (d.isUnlimited())
+        setChunking(new int[]{1}, 0, false);
+      else
+        this.dataSize = 4L * d.getLength();
+    }
+
+    void setChunking(int[] chunk, int deflateLevel, boolean shuffle) {
+      this.isChunked = true;
+      this.chunk = chunk;
+      this.deflateLevel = deflateLevel;
+      this.shuffle = shuffle;
+      this.chunkNelems = (int) Section.computeSize(chunk);
+    }
+
+    boolean hasFilters() {
+      return deflateLevel > 0 || shuffle;
+    }
+  }
+
+  // element offset of a chunk; ordered the same as the HDF5 chunk B-tree
+  static class ChunkKey implements Comparable<ChunkKey> {
+    final int[] offset;
+
+    ChunkKey(int[] offset) {
+      this.offset = offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return (o instanceof ChunkKey) && Arrays.equals(offset, ((ChunkKey) o).offset);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(offset);
+    }
+
+    @Override
+    public int compareTo(ChunkKey o) {
+      for (int i = 0; i < offset.length; i++) {
+        if (offset[i] != o.offset[i])
+          return offset[i] < o.offset[i] ? -1 : 1;
+      }
+      return 0;
+    }
+  }
+
+  static class StoredChunk {
+    long filePos = UNDEF;
+    int size;
+    long oldFilePos = UNDEF; // the chunk this one replaces, if any
+    int oldSize;
+    Future<byte[]> future;   // non-null while being compressed
+  }
+
+  static private class ChunkBuffer {
+    final byte[] data;     // uncompressed, little endian
+    final BitSet written;  // chunk elements written since it was opened
+
+    ChunkBuffer(byte[] data, int nelems) {
+      this.data = data;
+      this.written = new BitSet(nelems);
+    }
+  }
+
+  // a Section, and how it maps onto chunks
+  static private class SectionInfo {
+    final int rank;
+    final int[] first, stride, shape;
+    final long[] sectionStride; // linear index strides of the (dense) section array
+
+    SectionInfo(Section section) {
+      rank = section.getRank();
+      first = new int[rank];
+      stride = new int[rank];
+      shape = new int[rank];
+      sectionStride = new long[rank];
+      long product = 1;
+      for (int i = rank - 1; i >= 0; i--) {
+        Range r = section.getRange(i);
+        first[i] = r.first();
+        stride[i] = r.stride();
+        shape[i] = r.length();
+        sectionStride[i] = product;
+        product *= shape[i];
+      }
+    }
+
+    // origins of all chunks that intersect the section's bounding box
+    List<int[]> chunksIntersecting(int[] chunk) {
+      List<int[]> result = new ArrayList<>();
+      int[] lo = new int[rank];
+      int[] hi = new int[rank];
+      for (int i = 0; i < rank; i++) {
+        if (shape[i] == 0) return result;
+        lo[i] = first[i] / chunk[i];
+        hi[i] = (first[i] + (shape[i] - 1) * stride[i]) / chunk[i];
+      }
+
+      int[] idx = lo.clone();
+      while (true) {
+        int[] origin = new int[rank];
+        for (int i = 0; i < rank; i++)
+          origin[i] = idx[i] * chunk[i];
+        result.add(origin);
+
+        int dim = rank - 1;
+        while (dim >= 0) {
+          if (++idx[dim] <= hi[dim]) break;
+          idx[dim] = lo[dim];
+          dim--;
+        }
+        if (dim < 0) break;
+      }
+      return result;
+    }
+
+    /**
+     * Copy the part of the section that falls in the chunk.
+     *
+     * @param sectionBytes dense array of the section
+     * @param origin       chunk origin
+     * @param chunk        chunk shape
+     * @param chunkBytes   dense array of the chunk
+     * @param elemSize     bytes per element
+     * @param written      if not null, copy from section to chunk, and set the chunk elements written;
+     *                     else copy from chunk to section
+     * @return number of elements copied
+     */
+    long copy(byte[] sectionBytes, int[] origin, int[] chunk, byte[] chunkBytes, int elemSize, BitSet written) {
+      boolean toChunk = (written != null);
+      // the range of section indices k in each dimension with origin <= first + k * stride < origin + chunk
+      int[] kmin = new int[rank];
+      int[] kmax = new int[rank];
+      long[] chunkStride = new long[rank];
+      long product = 1;
+      for (int i = rank - 1; i >= 0; i--) {
+        kmin[i] = Math.max(0, (origin[i] - first[i] + stride[i] - 1) / stride[i]);
+        kmax[i] = Math.min(shape[i] - 1, (origin[i] + chunk[i] - 1 - first[i]) / stride[i]);
+        if (origin[i] + chunk[i] - 1 < first[i] || kmin[i] > kmax[i]) return 0;
+        chunkStride[i] = product;
+        product *= chunk[i];
+      }
+
+      int last = rank - 1;
+      int runLength = kmax[last] - kmin[last] + 1;
+      long count = 0;
+      int[] k = kmin.clone();
+      while (true) {
+        long secIndex = 0;
+        long chunkIndex = 0;
+        for (int i = 0; i < rank; i++) {
+          secIndex += k[i] * sectionStride[i];
+          chunkIndex += (first[i] + k[i] * stride[i] - origin[i]) * chunkStride[i];
+        }
+
+        if (stride[last] == 1) {
+          if (toChunk) {
+            System.arraycopy(sectionBytes, (int) secIndex * elemSize, chunkBytes, (int) chunkIndex * elemSize, runLength * elemSize);
+            written.set((int) chunkIndex, (int) chunkIndex + runLength);
+          } else
+            System.arraycopy(chunkBytes, (int) chunkIndex * elemSize, sectionBytes, (int) secIndex * elemSize, runLength * elemSize);
+        } else {
+          for (int j = 0; j < runLength; j++) {
+            int s = (int) (secIndex + j) * elemSize;
+            int c = (int) (chunkIndex + j * stride[last]) * elemSize;
+            if (toChunk) {
+              System.arraycopy(sectionBytes, s, chunkBytes, c, elemSize);
+              written.set(c / elemSize);
+            } else
+              System.arraycopy(chunkBytes, c, sectionBytes, s, elemSize);
+          }
+        }
+        count += runLength;
+
+        int dim = last - 1;
+        while (dim >= 0) {
+          if (++k[dim] <= kmax[dim]) break;
+          k[dim] = kmin[dim];
+          dim--;
+        }
+        if (dim < 0) break;
+      }
+      return count;
+    }
+  }
+
+}
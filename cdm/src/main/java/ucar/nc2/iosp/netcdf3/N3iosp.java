@@ -716,6 +716,34 @@ public abstract class N3iosp extends AbstractIOServiceProvider implements IOServ
     return header.rewriteHeader(largeFile, null);
   }
 
+  ////////////////////////////////////////////////////////////////////
+  // record layout, so records can be written directly to a stream after the header and non-record data
+
+  /**
+   * @return file position where the record data starts
+   */
+  public long getRecordStart() {
+    return header.recStart;
+  }
+
+  /**
+   * @return size of each record in bytes, including padding
+   */
+  public long getRecordSize() {
+    return header.recsize;
+  }
+
+  /**
+   * @param v a record variable of this file
+   * @return offset in bytes of v's data from the start of each record
+   */
+  public long getRecordOffset(Variable v) {
+    N3header.Vinfo vinfo = (N3header.Vinfo) v.getSPobject();
+    if (!vinfo.isRecord)
+      throw new IllegalArgumentException(v.getFullName() + " is not a record variable");
+    return vinfo.begin - header.recStart;
+  }
+
   //////////////////////////////////////////////////////////////////////////////////////
   // write
 
@@ -0,0 +1,353 @@
+/* Copyright */
+package ucar.nc2.iosp.nexrad2;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import net.jcip.annotations.Immutable;
+import ucar.unidata.io.RandomAccessFile;
+import ucar.unidata.io.bzip2.BZip2ReadException;
+import ucar.unidata.io.bzip2.CBZip2InputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presents a bzip2 compressed (AR2V) NEXRAD level II file as if it were uncompressed.
+ * The independently compressed LDM blocks are decompressed in parallel when opened, and reads are served
+ * from the decompressed blocks, which are kept in a memory bounded cache shared by all open files.
+ * A block that has been evicted is decompressed again when needed.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+class Level2BlockRandomAccessFile extends RandomAccessFile {
+  static private org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(Level2BlockRandomAccessFile.class);
+  static private final int nthreads = Runtime.getRuntime().availableProcessors();
+  static private final AtomicLong nextId = new AtomicLong();
+
+  // decompress blocks in the background, shared by all files
+  static private ExecutorService decompressService;
+
+  static private synchronized ExecutorService getDecompressService() {
+    if (decompressService == null) {
+      decompressService = Executors.newFixedThreadPool(nthreads, r -> {
+        Thread t = new Thread(r, "Level2-decompress");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return decompressService;
+  }
+
+  static private volatile Cache<BlockKey, byte[]> blockCache; // null means turned off
+
+  /**
+   * Set the maximum size of the decompressed block cache; any current entries are discarded.
+   *
+   * @param maxBytes approximate maximum memory used by all open files, 0 to turn off
+   */
+  static void setCacheSize(long maxBytes) {
+    if (maxBytes <= 0) {
+      blockCache = null;
+      return;
+    }
+    blockCache = CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Weigher<BlockKey, byte[]>) (key, block) -> block.length)
+            .build();
+  }
+
+  static boolean isEnabled() {
+    return blockCache != null;
+  }
+
+  ////////////////////////////////////////////////////////////////////
+
+  private RandomAccessFile compressed;
+  private final Cache<BlockKey, byte[]> cache;
+  private final long id;
+  private final byte[] header;
+  private final long[] compressedPos;   // start of each compressed block, past the block length
+  private final int[] compressedLen;
+  private final long[] blockStart;      // offset of each block in the uncompressed file; last entry is the total length
+  private final int nblocks;
+
+  /**
+   * Decompress all of the blocks in parallel, and index them.
+   *
+   * @param compressed the compressed file; this object now owns it, and closes it when closed.
+   * @throws IOException on read error, or if blockCache is turned off
+   */
+  Level2BlockRandomAccessFile(RandomAccessFile compressed) throws IOException {
+    super(defaultBufferSize);
+    this.cache = blockCache;
+    if (cache == null)
+      throw new IOException("Level2BlockRandomAccessFile: block cache is turned off");
+
+    this.compressed = compressed;
+    this.location = compressed.getLocation();
+    this.id = nextId.getAndIncrement();
+
+    compressed.order(RandomAccessFile.BIG_ENDIAN);
+    compressed.seek(0);
+    header = new byte[Level2Record.FILE_HEADER_SIZE];
+    compressed.readFully(header);
+
+    ExecutorService service = getDecompressService();
+    List<Long> posList = new ArrayList<>();
+    List<Integer> lenList = new ArrayList<>();
+    List<Future<byte[]>> futures = new ArrayList<>();
+    boolean eof = false;
+    while (!eof) {
+      int numCompBytes;
+      try {
+        numCompBytes = compressed.readInt();
+        if (numCompBytes == -1) break;
+      } catch (EOFException ee) {
+        break; // assume this is ok
+      }
+      // the last block has the number of bytes negated
+      if (numCompBytes < 0) {
+        numCompBytes = -numCompBytes;
+        eof = true;
+      }
+      posList.add(compressed.getFilePointer());
+      lenList.add(numCompBytes);
+      byte[] buf = new byte[numCompBytes];
+      compressed.readFully(buf);
+      futures.add(service.submit(() -> decompress(buf)));
+    }
+
+    nblocks = futures.size();
+    compressedPos = new long[nblocks];
+    compressedLen = new int[nblocks];
+    blockStart = new long[nblocks + 1];
+    long start = header.length;
+    try {
+      for (int i = 0; i < nblocks; i++) {
+        compressedPos[i] = posList.get(i);
+        compressedLen[i] = lenList.get(i);
+        byte[] block = futures.get(i).get();
+        blockStart[i] = start;
+        start += block.length;
+        cache.put(new BlockKey(id, i), block);
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw new InterruptedIOException("Level2BlockRandomAccessFile interrupted");
+    } catch (ExecutionException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw new IOException(e.getCause());
+    }
+    blockStart[nblocks] = start;
+
+    if (log.isDebugEnabled())
+      log.debug("Level2BlockRandomAccessFile {} nblocks={} uncompressed length={}", location, nblocks, start);
+  }
+
+  // LDM blocks start with "BZ", which CBZip2InputStream doesnt want
+  static private byte[] decompress(byte[] buf) {
+    byte[] ubuff = new byte[40000];
+    byte[] obuff = new byte[8 * buf.length];
+    int total = 0;
+    try {
+      CBZip2InputStream cbzip2 = new CBZip2InputStream(new ByteArrayInputStream(buf, 2, buf.length - 2));
+      int nread;
+      while ((nread = cbzip2.read(ubuff)) != -1) {
+        if (total + nread > obuff.length)
+          obuff = Arrays.copyOf(obuff, Math.max(2 * obuff.length, total + nread));
+        System.arraycopy(ubuff, 0, obuff, total, nread);
+        total += nread;
+      }
+    } catch (BZip2ReadException ioe) {
+      log.warn("Level2BlockRandomAccessFile.decompress ", ioe);
+      return new byte[0]; // same as Level2VolumeScan.uncompress(): drop the bad block
+    } catch (IOException ioe) {
+      log.warn("Level2BlockRandomAccessFile.decompress ", ioe);
+      return new byte[0];
+    }
+    return (total == obuff.length) ? obuff : Arrays.copyOf(obuff, total);
+  }
+
+  private byte[] getBlock(int blockno) throws IOException {
+    try {
+      return cache.get(new BlockKey(id, blockno), () -> {
+        byte[] buf = new byte[compressedLen[blockno]];
+        synchronized (this) {
+          if (compressed == null) throw new IOException("Level2BlockRandomAccessFile closed " + location);
+          compressed.seek(compressedPos[blockno]);
+          compressed.readFully(buf);
+        }
+        return decompress(buf);
+      });
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) throw (IOException) cause;
+      throw new IOException(cause);
+    }
+  }
+
+  // index of the block containing pos, or nblocks if past the end
+  private int findBlock(long pos) {
+    int idx = Arrays.binarySearch(blockStart, pos);
+    if (idx < 0) idx = -idx - 2;  // insertion point - 1
+    while (idx < nblocks && blockStart[idx + 1] <= pos) idx++; // skip empty blocks
+    return idx;
+  }
+
+  /**
+   * Write the equivalent uncompressed file, in the background.
+   * The blocks are held in memory until written.
+   *
+   * @param ufilename write to this file
+   */
+  void writeUncompressedInBackground(String ufilename) throws IOException {
+    List<byte[]> blocks = new ArrayList<>(nblocks);
+    for (int i = 0; i < nblocks; i++)
+      blocks.add(getBlock(i));
+
+    getDecompressService().submit(() -> {
+      try {
+        writeUncompressed(ufilename, blocks);
+      } catch (Throwable t) {
+        log.warn("Level2BlockRandomAccessFile failed to write " + ufilename, t);
+      }
+    });
+  }
+
+  private void writeUncompressed(String ufilename, List<byte[]> blocks) throws IOException {
+    File ufile = new File(ufilename);
+    try (java.io.RandomAccessFile out = new java.io.RandomAccessFile(ufile, "rw")) {
+      FileLock lock;
+      while (true) { // loop waiting for the lock
+        try {
+          lock = out.getChannel().lock(0, 1, false);
+          break;
+        } catch (OverlappingFileLockException oe) {
+          try {
+            Thread.sleep(100); // msecs
+          } catch (InterruptedException e1) {
+            return;
+          }
+        }
+      }
+
+      try {
+        if (out.length() > 0) return; // someone else already wrote it
+        out.write(header);
+        for (byte[] block : blocks)
+          out.write(block);
+      } catch (IOException e) {
+        out.setLength(0); // dont leave bad files around
+        throw e;
+      } finally {
+        lock.release();
+      }
+    }
+    if (log.isDebugEnabled()) log.debug("made uncompressed file= " + ufilename);
+  }
+
+  //////////////////////////////////////////////////////////////////
+  // override selected RandomAccessFile methods
+
+  @Override
+  protected int read_(long pos, byte[] b, int offset, int len) throws IOException {
+    int done = 0;
+
+    if (pos < header.length) {
+      int n = (int) Math.min(len, header.length - pos);
+      System.arraycopy(header, (int) pos, b, offset, n);
+      done += n;
+    }
+
+    int blockno = findBlock(pos + done);
+    while (done < len && blockno < nblocks) {
+      byte[] block = getBlock(blockno);
+      int blockOffset = (int) (pos + done - blockStart[blockno]);
+      int n = Math.min(len - done, block.length - blockOffset);
+      if (n > 0) {
+        System.arraycopy(block, blockOffset, b, offset + done, n);
+        done += n;
+      }
+      blockno++;
+    }
+
+    return (done == 0) ? -1 : done;
+  }
+
+  @Override
+  public long readToByteChannel(WritableByteChannel dest, long offset, long nbytes) throws IOException {
+    int n = (int) nbytes;
+    byte[] buff = new byte[n];
+    int done = read_(offset, buff, 0, n);
+    if (done > 0)
+      dest.write(ByteBuffer.wrap(buff, 0, done));
+    return Math.max(done, 0);
+  }
+
+  @Override
+  public long length() throws IOException {
+    return blockStart[nblocks];
+  }
+
+  @Override
+  public long getLastModified() {
+    File file = new File(location);
+    return file.lastModified();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    cache.asMap().keySet().removeIf(key -> key.fileId == id);
+    if (compressed != null) {
+      compressed.close();
+      compressed = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Level2BlockRandomAccessFile{" + location + ", nblocks=" + nblocks + '}';
+  }
+
+  @Immutable
+  static private class BlockKey {
+    private final long fileId;
+    private final int blockno;
+
+    BlockKey(long fileId, int blockno) {
+      this.fileId = fileId;
+      this.blockno = blockno;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      BlockKey blockKey = (BlockKey) o;
+      return fileId == blockKey.fileId && blockno == blockKey.blockno;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Long.hashCode(fileId) + blockno;
+    }
+  }
+
+}
@@ -72,6 +72,21 @@ public class Level2VolumeScan {
   static public final String AR2V0007 = "AR2V0007";
 
   static private org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(Level2VolumeScan.class);
+  static private boolean persistUncompressed = true;
+
+  /**
+   * Control how compressed (AR2V) files are read. By default, the file is uncompressed serially to a DiskCache file,
+   * which is then read. When the block cache is on, the bzip2 blocks are decompressed in parallel and kept in memory,
+   * and the DiskCache file is only used as optional persistence.
+   *
+   * @param maxBytes approximate maximum memory used for decompressed blocks by all open files, 0 to turn off.
+   * @param persist  if true, also write the uncompressed file to the DiskCache, and use it when it exists.
+   */
+  static public void setBlockCache(long maxBytes, boolean persist) {
+    Level2BlockRandomAccessFile.setCacheSize(maxBytes);
+    persistUncompressed = persist;
+  }
+
   ////////////////////////////////////////////////////////////////////////////////////
 
   // Data file
@@ -152,8 +167,16 @@ public class Level2VolumeScan {
       if (BZ.equals("BZ")) {
         RandomAccessFile uraf = null;
         File uncompressedFile = DiskCache.getFileStandardPolicy(raf.getLocation() + ".uncompress");
+        boolean useBlockCache = Level2BlockRandomAccessFile.isEnabled();
+
+        if (useBlockCache && !(persistUncompressed && uncompressedFile.exists() && uncompressedFile.length() > 0)) {
+          // decompress in parallel, read from memory; uraf now owns raf
+          Level2BlockRandomAccessFile braf = new Level2BlockRandomAccessFile(raf);
+          if (persistUncompressed)
+            braf.writeUncompressedInBackground(uncompressedFile.getPath());
+          uraf = braf;
 
-        if (uncompressedFile.exists() && uncompressedFile.length() > 0) {
+        } else if (uncompressedFile.exists() && uncompressedFile.length() > 0) {
           // see if its locked - another thread is writing it
           try (FileInputStream fstream = new FileInputStream(uncompressedFile)) {
             //lock = fstream.getChannel().lock(0, 1, true); // wait till its unlocked
@@ -187,7 +210,7 @@ public class Level2VolumeScan {
         }
 
         // switch to uncompressed file
-        raf.close();
+        if (!(uraf instanceof Level2BlockRandomAccessFile)) raf.close();
         raf = uraf;
         raf.order(RandomAccessFile.BIG_ENDIAN);
       }
@@ -0,0 +1,312 @@
+/* Copyright */
+package ucar.nc2.stream;
+
+import thredds.client.catalog.ServiceType;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFileSubclass;
+import ucar.nc2.Structure;
+import ucar.nc2.Variable;
+import ucar.nc2.dataset.CoordSysSnapshot;
+import ucar.nc2.dataset.DatasetUrl;
+import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.iosp.hdf5.H5iosp;
+import ucar.nc2.iosp.netcdf3.N3iosp;
+import ucar.nc2.ncml.Aggregation;
+import ucar.nc2.util.CancelTask;
+import ucar.nc2.util.DiskCache2;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A persistent cache of the headers of local datasets, so that reopening a dataset does not read and parse its
+ * header again. Snapshots are written in ncstream form to the DiskCache2 set by setDiskCache(). There are two kinds:
+ * <ul>
+ * <li>open() makes file snapshots of local netCDF-3 and HDF5 / netCDF-4 files: the groups, dimensions, attributes,
+ * variables and the values of variables smaller than 4000 bytes (usually the coordinates).
+ * <li>openDataset(), used by NetcdfDataset.openDataset() and acquireDataset() when coordinate systems are wanted,
+ * makes dataset snapshots of local files and NcML datasets: the same, but of the dataset after the NcML and the
+ * CoordSysBuilder were applied, along with its coordinate axes, systems and transforms (see CoordSysSnapshot).
+ * Reopening it does not read the NcML or the header of any file, and does not use a CoordSysBuilder.
+ * Scale/offset/missing and enum enhancements are done again, which does not read any file.
+ * </ul>
+ * A snapshot is keyed by the location, and is only used if the length and last modified date of each of its
+ * component files are unchanged: the file or NcML file, the files it references, and for aggregations the
+ * aggregated files and their directories.
+ * <p>
+ * Values that are not in the snapshot are read from the original, which is opened the first time they are needed
+ * (with NetcdfFile.open() for a file snapshot, with NetcdfDataset.openDataset() and only CoordSystems enhancement for
+ * a dataset snapshot). It is kept open until the snapshot is closed; release() and reacquire() are passed on to it.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class HeaderSnapshot {
+  static private final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(HeaderSnapshot.class);
+
+  static final int MAGIC = 0x4e435358; // "NCSX"
+  static final int VERSION = 2;
+  static private final String SUFFIX = ".ncsx";         // file snapshot
+  static private final String DATASET_SUFFIX = ".ncsd"; // dataset snapshot
+  static private final int SIZE_TO_CACHE = 4000; // cache the values of variables smaller than this, in bytes
+
+  // set while opening the original of a dataset snapshot, so that it is not itself opened from a snapshot
+  static private final ThreadLocal<Boolean> openingOriginal = new ThreadLocal<>();
+
+  static private DiskCache2 diskCache;
+
+  /**
+   * Set the DiskCache2 where header snapshots are persisted. If null (the default), no snapshots are used.
+   *
+   * @param dc put snapshot files in this cache
+   */
+  static synchronized public void setDiskCache(DiskCache2 dc) {
+    diskCache = dc;
+  }
+
+  static synchronized public DiskCache2 getDiskCache() {
+    return diskCache;
+  }
+
+  /**
+   * Open a file from its file snapshot if there is a valid one, otherwise with NetcdfFile.open(), and make a
+   * snapshot of it if its a local netCDF-3 or HDF5 / netCDF-4 file.
+   *
+   * @param location    location of the file
+   * @param buffer_size RandomAccessFile buffer size, if <= 0, use default size
+   * @param cancelTask  allow task to be cancelled; may be null.
+   * @param spiObject   sent to iosp.setSpecial() if not null; if not null, the snapshot is not used
+   * @return NetcdfFile object
+   * @throws IOException on read error
+   */
+  static public NetcdfFile open(String location, int buffer_size, CancelTask cancelTask, Object spiObject) throws IOException {
+    DiskCache2 dc = getDiskCache();
+    File dataFile = (dc == null || spiObject != null) ? null : localFile(location);
+    File snapFile = (dataFile == null) ? null : dc.getCacheFile(dataFile.getPath() + SUFFIX);
+    if (snapFile == null)
+      return NetcdfFile.open(location, buffer_size, cancelTask, spiObject);
+
+    if (snapFile.exists()) {
+      NetcdfFile ncfile = read(snapFile, new HeaderSnapshotIosp(false, buffer_size, null), location);
+      if (ncfile != null) return ncfile;
+    }
+
+    NetcdfFile ncfile = NetcdfFile.open(location, buffer_size, cancelTask, null);
+    if (canSnapshot(ncfile)) {
+      try {
+        write(ncfile, location, Collections.singletonList(dataFile), null, snapFile);
+      } catch (IOException | RuntimeException e) {
+        logger.warn("HeaderSnapshot: failed to write {}: {}", snapFile.getPath(), e.getMessage());
+      }
+    }
+    return ncfile;
+  }
+
+  /**
+   * Open a local file or NcML dataset from its dataset snapshot if there is a valid one. Otherwise open it
+   * and make a snapshot of it, if its coordinate systems can be restored from one.
+   *
+   * @param durl        location of the dataset
+   * @param enhanceMode set of enhancements
+   * @param buffer_size RandomAccessFile buffer size, if <= 0, use default size
+   * @param cancelTask  allow task to be cancelled; may be null.
+   * @param spiObject   sent to iosp.setSpecial() if not null; if not null, the snapshot is not used
+   * @return the enhanced NetcdfDataset, or null if snapshots are not used for this dataset, and it should be opened as usual
+   * @throws IOException on read error
+   */
+  static public NetcdfDataset openDataset(DatasetUrl durl, Set<NetcdfDataset.Enhance> enhanceMode, int buffer_size,
+                                          CancelTask cancelTask, Object spiObject) throws IOException {
+    DiskCache2 dc = getDiskCache();
+    if (dc == null || spiObject != null || enhanceMode == null || !enhanceMode.contains(NetcdfDataset.Enhance.CoordSystems))
+      return null;
+    if (durl.serviceType != null && durl.serviceType != ServiceType.File && durl.serviceType != ServiceType.NCML)
+      return null;
+    if (openingOriginal.get() != null)
+      return null;
+    File location = localFile(durl.trueurl);
+    File snapFile = (location == null) ? null : dc.getCacheFile(location.getPath() + DATASET_SUFFIX);
+    if (snapFile == null)
+      return null;
+
+    if (snapFile.exists()) {
+      NetcdfDataset ds = readDataset(snapFile, durl.trueurl, enhanceMode, buffer_size, null, cancelTask);
+      if (ds != null) return ds;
+    }
+
+    NetcdfDataset original = openOriginal(durl.trueurl, buffer_size, cancelTask);
+    List<File> components = (canEncode(original) && CoordSysSnapshot.canSnapshot(original)) ? getComponents(original, location) : null;
+    if (components != null) {
+      try {
+        write(original, durl.trueurl, components, original, snapFile);
+        NetcdfDataset ds = readDataset(snapFile, durl.trueurl, enhanceMode, buffer_size, original, cancelTask);
+        if (ds != null) return ds;
+      } catch (IOException | RuntimeException e) {
+        logger.warn("HeaderSnapshot: failed to write {}: {}", snapFile.getPath(), e.getMessage());
+      }
+    }
+
+    original.enhance(enhanceMode); // as if there were no snapshot
+    return original;
+  }
+
+  /*
+   * Open the original of a dataset snapshot: not from a snapshot, not cached, with only CoordSystems enhancement,
+   * which is what the snapshot holds.
+   */
+  static NetcdfDataset openOriginal(String location, int buffer_size, CancelTask cancelTask) throws IOException {
+    openingOriginal.set(Boolean.TRUE);
+    try {
+      return NetcdfDataset.openDataset(DatasetUrl.findDatasetUrl(location), EnumSet.of(NetcdfDataset.Enhance.CoordSystems),
+              buffer_size, cancelTask, null);
+    } finally {
+      openingOriginal.remove();
+    }
+  }
+
+  // the local file at location, or null if its not a local file
+  static private File localFile(String location) {
+    if (location == null) return null;
+    String path = location;
+    if (path.startsWith("file://"))
+      path = path.substring(7);
+    else if (path.startsWith("file:"))
+      path = path.substring(5);
+    File file = new File(path);
+    return file.isFile() ? file : null;
+  }
+
+  // the files that the snapshot depends on, or null if they are not all local files
+  static private List<File> getComponents(NetcdfDataset ds, File location) {
+    List<File> result = new ArrayList<>();
+    result.add(location);
+
+    NetcdfFile ref = ds.getReferencedFile();
+    while (ref != null) {
+      File file = localFile(ref.getLocation());
+      if (file == null) return null;
+      if (!result.contains(file)) result.add(file);
+      ref = (ref instanceof NetcdfDataset) ? ((NetcdfDataset) ref).getReferencedFile() : null;
+    }
+
+    Aggregation agg = ds.getAggregation();
+    if (agg != null) {
+      for (Aggregation.Dataset nested : agg.getDatasets()) {
+        File file = localFile(nested.getLocation());
+        if (file == null || file.getName().endsWith(".ncml") || file.getName().endsWith(".xml"))
+          return null; // nested NcML would have components of its own
+        if (!result.contains(file)) result.add(file);
+        File dir = file.getAbsoluteFile().getParentFile(); // changes when a file is added or removed
+        if (dir != null && !result.contains(dir)) result.add(dir);
+      }
+    }
+    return result;
+  }
+
+  // only netCDF-3 and HDF5 files
+  static boolean canSnapshot(NetcdfFile ncfile) {
+    if (!(ncfile.getIosp() instanceof H5iosp) && !(ncfile.getIosp() instanceof N3iosp)) return false;
+    return canEncode(ncfile);
+  }
+
+  // ncstream can encode all the variables: no structures, sequences, opaque and variable length data
+  static private boolean canEncode(NetcdfFile ncfile) {
+    for (Variable v : ncfile.getVariables()) {
+      if (v instanceof Structure) return false;
+      DataType dt = v.getDataType();
+      if (dt == DataType.OPAQUE || dt == DataType.OBJECT || v.isVariableLength()) return false;
+    }
+    return true;
+  }
+
+  static private void write(NetcdfFile ncfile, String location, List<File> components, NetcdfDataset coordSys,
+                            File snapFile) throws IOException {
+    NcStreamProto.Header.Builder headerBuilder = NcStreamProto.Header.newBuilder();
+    headerBuilder.setLocation(location);
+    if (ncfile.getTitle() != null) headerBuilder.setTitle(ncfile.getTitle());
+    if (ncfile.getId() != null) headerBuilder.setId(ncfile.getId());
+    headerBuilder.setRoot(NcStream.encodeGroup(ncfile.getRootGroup(), SIZE_TO_CACHE).build());
+    byte[] header = headerBuilder.build().toByteArray();
+
+    File parent = snapFile.getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs())
+      throw new IOException("cant make directory " + parent.getPath());
+    File tmpFile = new File(snapFile.getPath() + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(components.size());
+      for (File file : components) {
+        out.writeUTF(file.getAbsolutePath());
+        out.writeLong(file.length());
+        out.writeLong(file.lastModified());
+      }
+      out.writeUTF(nonNull(ncfile.getFileTypeId()));
+      out.writeUTF(nonNull(ncfile.getFileTypeDescription()));
+      out.writeUTF(nonNull(ncfile.getFileTypeVersion()));
+      out.writeInt(header.length);
+      out.write(header);
+      out.writeBoolean(coordSys != null);
+      if (coordSys != null)
+        CoordSysSnapshot.write(coordSys, out);
+    }
+    if (snapFile.exists() && !snapFile.delete())
+      logger.warn("HeaderSnapshot: failed to delete {}", snapFile.getPath());
+    if (!tmpFile.renameTo(snapFile))
+      throw new IOException("failed to rename " + tmpFile.getPath());
+  }
+
+  static private String nonNull(String s) {
+    return (s == null) ? "N/A" : s;
+  }
+
+  // return null if the snapshot is out of date or cant be read
+  static private NetcdfFile read(File snapFile, HeaderSnapshotIosp iosp, String location) {
+    try {
+      RandomAccessFile raf = new RandomAccessFile(snapFile.getPath(), "r");
+      try {
+        if (!iosp.isValidFile(raf) || !iosp.isUpToDate(raf)) {
+          raf.close();
+          return null;
+        }
+      } catch (IOException e) {
+        raf.close();
+        throw e;
+      }
+      return new NetcdfFileSubclass(iosp, raf, location, null); // closes raf
+
+    } catch (IOException | RuntimeException e) {
+      logger.warn("HeaderSnapshot: failed to read {}: {}", snapFile.getPath(), e.getMessage());
+      return null;
+    }
+  }
+
+  // return null if the snapshot is out of date or cant be read
+  static private NetcdfDataset readDataset(File snapFile, String location, Set<NetcdfDataset.Enhance> enhanceMode,
+                                           int buffer_size, NetcdfDataset original, CancelTask cancelTask) {
+    HeaderSnapshotIosp iosp = new HeaderSnapshotIosp(true, buffer_size, original);
+    NetcdfFile ncfile = read(snapFile, iosp, location);
+    if (ncfile == null) return null;
+
+    try {
+      if (iosp.getCoordSystems() == null)
+        throw new IOException("not a dataset snapshot");
+      NetcdfDataset ds = new NetcdfDataset(ncfile, (Set<NetcdfDataset.Enhance>) null);
+      CoordSysSnapshot.restore(ds, new DataInputStream(new ByteArrayInputStream(iosp.getCoordSystems())), enhanceMode, cancelTask);
+      return ds;
+
+    } catch (IOException | RuntimeException e) {
+      logger.warn("HeaderSnapshot: failed to read {}: {}", snapFile.getPath(), e.getMessage());
+      if (original == null) { // otherwise the caller still uses it
+        try {
+          ncfile.close();
+        } catch (IOException ioe) {
+          logger.warn("HeaderSnapshot: failed to close {}", location, ioe);
+        }
+      }
+      return null;
+    }
+  }
+
+}
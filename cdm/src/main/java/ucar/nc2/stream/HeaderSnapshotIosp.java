@@ -0,0 +1,190 @@
+/* Copyright */
+package ucar.nc2.stream;
+
+import ucar.ma2.Array;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.Section;
+import ucar.nc2.Group;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+import ucar.nc2.iosp.AbstractIOServiceProvider;
+import ucar.nc2.util.CancelTask;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a HeaderSnapshot file into a NetcdfFile. The snapshot file is closed once the header is read.
+ * Data that is not in the snapshot is read from the original, which is opened the first time it is needed,
+ * and kept open until close(). Like the other iosps, release() and reacquire() only close and reopen its file handles.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+class HeaderSnapshotIosp extends AbstractIOServiceProvider {
+  private final boolean isDataset;    // the original is opened as a NetcdfDataset
+  private final int buffer_size;
+  private final List<File> components = new ArrayList<>();
+  private String dataLocation;        // location of the original
+  private String fileTypeId, fileTypeDescription, fileTypeVersion;
+  private byte[] coordSystems;        // written by CoordSysSnapshot, for a dataset snapshot
+  private NetcdfFile dataFile;        // the original, opened on demand
+  private int dataFileOpens;
+
+  /**
+   * @param isDataset   if a dataset snapshot, else a file snapshot
+   * @param buffer_size RandomAccessFile buffer size used to open the original, if <= 0, use default size
+   * @param dataFile    the original if its already open, else null
+   */
+  HeaderSnapshotIosp(boolean isDataset, int buffer_size, NetcdfFile dataFile) {
+    this.isDataset = isDataset;
+    this.buffer_size = buffer_size;
+    this.dataFile = dataFile;
+  }
+
+  private synchronized NetcdfFile getDataFile() throws IOException {
+    if (dataFile == null) {
+      dataFile = isDataset ? HeaderSnapshot.openOriginal(dataLocation, buffer_size, null) :
+              NetcdfFile.open(dataLocation, buffer_size, null, null);
+      dataFileOpens++;
+    }
+    return dataFile;
+  }
+
+  synchronized boolean isDataFileOpen() {
+    return dataFile != null;
+  }
+
+  // how many times the original was opened, for testing
+  synchronized int getDataFileOpens() {
+    return dataFileOpens;
+  }
+
+  byte[] getCoordSystems() {
+    return coordSystems;
+  }
+
+  @Override
+  public boolean isValidFile(RandomAccessFile raf) throws IOException {
+    raf.order(RandomAccessFile.BIG_ENDIAN); // written with DataOutputStream
+    raf.seek(0);
+    return raf.length() > 8 && raf.readInt() == HeaderSnapshot.MAGIC && raf.readInt() == HeaderSnapshot.VERSION;
+  }
+
+  /**
+   * Is the snapshot in raf up to date with its component files?
+   *
+   * @param raf the snapshot file, already checked by isValidFile()
+   * @return true if the length and last modified date of each component file are the ones in the snapshot
+   */
+  boolean isUpToDate(RandomAccessFile raf) throws IOException {
+    raf.seek(8);
+    int n = raf.readInt();
+    for (int i = 0; i < n; i++) {
+      File file = new File(raf.readUTF());
+      if (raf.readLong() != file.length() || raf.readLong() != file.lastModified()) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void open(RandomAccessFile raf, NetcdfFile ncfile, CancelTask cancelTask) throws IOException {
+    try {
+      if (!isValidFile(raf))
+        throw new IOException("Not a HeaderSnapshot file " + raf.getLocation());
+      int n = raf.readInt();
+      for (int i = 0; i < n; i++) {
+        components.add(new File(raf.readUTF()));
+        raf.skipBytes(16); // length, lastModified
+      }
+      fileTypeId = raf.readUTF();
+      fileTypeDescription = raf.readUTF();
+      fileTypeVersion = raf.readUTF();
+      byte[] header = new byte[raf.readInt()];
+      raf.readFully(header);
+      NcStreamProto.Header proto = NcStreamProto.Header.parseFrom(header);
+      if (raf.readBoolean()) {
+        coordSystems = new byte[(int) (raf.length() - raf.getFilePointer())];
+        raf.readFully(coordSystems);
+      }
+
+      dataLocation = proto.getLocation();
+      if (proto.getTitle().length() > 0) ncfile.setTitle(proto.getTitle());
+      if (proto.getId().length() > 0) ncfile.setId(proto.getId());
+      Group root = ncfile.getRootGroup();
+      NcStream.readGroup(proto.getRoot(), ncfile, root);
+
+    } finally {
+      raf.close(); // everything needed is now in memory
+    }
+  }
+
+  @Override
+  public Array readData(Variable v2, Section section) throws IOException, InvalidRangeException {
+    Variable org = getDataFile().findVariable(v2.getFullNameEscaped());
+    if (org == null)
+      throw new IOException("Cant find variable " + v2.getFullName() + " in " + dataLocation);
+    return org.read(section);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (dataFile != null)
+      dataFile.close();
+    dataFile = null;
+  }
+
+  // keep the original, so its header is not read again
+  @Override
+  public synchronized void release() throws IOException {
+    if (dataFile != null)
+      dataFile.release();
+  }
+
+  @Override
+  public synchronized void reacquire() throws IOException {
+    if (dataFile != null)
+      dataFile.reacquire();
+  }
+
+  @Override
+  public Object sendIospMessage(Object message) {
+    if (message == NetcdfFile.IOSP_MESSAGE_RANDOM_ACCESS_FILE) {
+      synchronized (this) { // the snapshot file is closed, the original has one only if its open
+        return (dataFile == null) ? null : dataFile.sendIospMessage(message);
+      }
+    }
+
+    try {
+      return getDataFile().sendIospMessage(message);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public long getLastModified() {
+    long result = 0;
+    for (File file : components)
+      result = Math.max(result, file.lastModified());
+    return result;
+  }
+
+  @Override
+  public String getFileTypeId() {
+    return fileTypeId;
+  }
+
+  @Override
+  public String getFileTypeDescription() {
+    return fileTypeDescription;
+  }
+
+  @Override
+  public String getFileTypeVersion() {
+    return fileTypeVersion;
+  }
+}
@@ -190,16 +190,13 @@ public class NcStreamWriterChannel {
     return size;
   }
 
+  // the sections are computed with a long index, so variables with more than 2^31 elements work
   private long copyChunks(WritableByteChannel wbc, Variable oldVar, long maxChunkSize, NcStreamCompression compress) throws IOException {
-    long maxChunkElems = maxChunkSize / oldVar.getElementSize();
-    FileWriter2.ChunkingIndex index = new FileWriter2.ChunkingIndex(oldVar.getShape());
+    long maxChunkElems = Math.max(1, maxChunkSize / oldVar.getElementSize());
     long size = 0;
-    while (index.currentElement() < index.getSize()) {
+    for (Section chunk : ArrayChunked.computeChunkSections(oldVar.getShape(), maxChunkElems)) {
       try {
-        int[] chunkOrigin = index.getCurrentCounter();
-        int[] chunkShape = index.computeChunkShape(maxChunkElems);
-        size += sendData(oldVar, new Section(chunkOrigin, chunkShape), wbc, compress);
-        index.setCurrentCounter(index.currentElement() + (int) Index.computeSize(chunkShape));
+        size += sendData(oldVar, chunk, wbc, compress);
 
       } catch (InvalidRangeException e) {
         e.printStackTrace();
@@ -0,0 +1,246 @@
+/* Copyright */
+package ucar.nc2.time;
+
+import net.jcip.annotations.Immutable;
+import org.joda.time.DateTime;
+import ucar.ma2.Range;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable sequence of CalendarDates, kept as millisecs since the epoch in a long[].
+ * CalendarDate objects are only made when asked for, so long time axes cost 8 bytes per coordinate.
+ * Searches are done on the primitive array, binary if the dates are ascending.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Immutable
+public class CalendarDateArray {
+
+  /**
+   * Make from offsets in a date unit. NaN values are skipped.
+   *
+   * @param dateUnit the unit of the offsets
+   * @param offsets  offsets from the reference date of dateUnit, in its units
+   * @return CalendarDateArray
+   */
+  static public CalendarDateArray fromOffsets(CalendarDateUnit dateUnit, double[] offsets) {
+    long[] millis = new long[offsets.length];
+    int count = 0;
+    for (double val : offsets) {
+      if (Double.isNaN(val)) continue;
+      millis[count++] = dateUnit.makeMillis(val);
+    }
+    if (count != millis.length)
+      millis = Arrays.copyOf(millis, count);
+    CalendarDate base = dateUnit.getBaseCalendarDate();
+    return new CalendarDateArray(base.getCalendar(), base.getDateTime(), dateUnit, millis, null);
+  }
+
+  /**
+   * Make from a list of CalendarDates.
+   *
+   * @param dates the dates
+   * @return CalendarDateArray
+   */
+  static public CalendarDateArray of(List<CalendarDate> dates) {
+    if (dates.isEmpty())
+      return new CalendarDateArray(Calendar.getDefault(), null, null, new long[0], null);
+
+    long[] millis = new long[dates.size()];
+    CalendarDate first = dates.get(0);
+    boolean same = true;
+    int count = 0;
+    for (CalendarDate cd : dates) {
+      millis[count++] = cd.getMillis();
+      if (cd.getCalendar() != first.getCalendar() || !cd.getDateTime().getChronology().equals(first.getDateTime().getChronology()))
+        same = false;
+    }
+    // LOOK if the dates dont all share a chronology, we have to keep them to get equals() right
+    return new CalendarDateArray(first.getCalendar(), first.getDateTime(), null, millis, same ? null : dates.toArray(new CalendarDate[dates.size()]));
+  }
+
+  ////////////////////////////////////////////////////////////
+
+  private final Calendar cal;
+  private final DateTime proto;            // CalendarDates are made with this chronology
+  private final CalendarDateUnit dateUnit; // may be null
+  private final long[] millis;
+  private final CalendarDate[] dates;      // usually null
+  private final boolean isAscending;
+
+  private CalendarDateArray(Calendar cal, DateTime proto, CalendarDateUnit dateUnit, long[] millis, CalendarDate[] dates) {
+    this.cal = cal;
+    this.proto = proto;
+    this.dateUnit = dateUnit;
+    this.millis = millis;
+    this.dates = dates;
+
+    boolean ascending = true;
+    for (int i = 1; i < millis.length; i++) {
+      if (millis[i] < millis[i - 1]) {
+        ascending = false;
+        break;
+      }
+    }
+    this.isAscending = ascending;
+  }
+
+  public int size() {
+    return millis.length;
+  }
+
+  public Calendar getCalendar() {
+    return cal;
+  }
+
+  /**
+   * @return the date unit of the original coordinates, or null if they were ISO strings
+   */
+  public CalendarDateUnit getDateUnit() {
+    return dateUnit;
+  }
+
+  /**
+   * @return true if the dates are in non-decreasing order
+   */
+  public boolean isAscending() {
+    return isAscending;
+  }
+
+  public long getMillis(int idx) {
+    return millis[idx];
+  }
+
+  /**
+   * @return copy of the millisecs since the epoch
+   */
+  public long[] getMillis() {
+    return millis.clone();
+  }
+
+  /**
+   * Make the ith CalendarDate.
+   *
+   * @param idx index
+   * @return the ith CalendarDate
+   */
+  public CalendarDate getCalendarDate(int idx) {
+    if (dates != null) return dates[idx];
+    return CalendarDate.of(cal, proto.withMillis(millis[idx]));
+  }
+
+  /**
+   * @return range from the first to the last date, or null if empty
+   */
+  public CalendarDateRange getCalendarDateRange() {
+    int n = millis.length;
+    return (n > 0) ? CalendarDateRange.of(getCalendarDate(0), getCalendarDate(n - 1)) : null;
+  }
+
+  /**
+   * A List view, making the CalendarDates on demand.
+   *
+   * @return immutable list of CalendarDates
+   */
+  public List<CalendarDate> asList() {
+    return new DateList();
+  }
+
+  /**
+   * Find the index i with date(i) &lt;= want &lt; date(i+1), 0 if want &lt; date(0), n-1 if want &gt;= date(n-1).
+   *
+   * @param want millisecs since the epoch
+   * @return index
+   */
+  public int findIndex(long want) {
+    int n = millis.length;
+    if (!isAscending) { // same as before, a linear search
+      int index = 0;
+      while (index < n) {
+        if (want < millis[index])
+          break;
+        index++;
+      }
+      return Math.max(0, index - 1);
+    }
+
+    int pos = Arrays.binarySearch(millis, want);
+    if (pos < 0)
+      return Math.max(0, -pos - 2);
+    while (pos < n - 1 && millis[pos + 1] == want) // the last of equal values
+      pos++;
+    return pos;
+  }
+
+  public int findIndex(CalendarDate want) {
+    return findIndex(want.getMillis());
+  }
+
+  /**
+   * Find the index of a date that equals want.
+   *
+   * @param want look for this
+   * @return index, or -1 if not found
+   */
+  public int indexOf(CalendarDate want) {
+    long wantMillis = want.getMillis();
+    if (isAscending) {
+      int pos = Arrays.binarySearch(millis, wantMillis);
+      if (pos < 0) return -1;
+      while (pos > 0 && millis[pos - 1] == wantMillis)
+        pos--;
+      for (int i = pos; i < millis.length && millis[i] == wantMillis; i++)
+        if (want.equals(getCalendarDate(i))) return i;
+      return -1;
+    }
+
+    for (int i = 0; i < millis.length; i++)
+      if (millis[i] == wantMillis && want.equals(getCalendarDate(i))) return i;
+    return -1;
+  }
+
+  /**
+   * Subset by a Range of indices.
+   *
+   * @param r the range
+   * @return new CalendarDateArray
+   */
+  public CalendarDateArray subset(Range r) {
+    long[] result = new long[r.length()];
+    CalendarDate[] resultDates = (dates == null) ? null : new CalendarDate[r.length()];
+    int count = 0;
+    for (int idx : r) {
+      if (resultDates != null) resultDates[count] = dates[idx];
+      result[count++] = millis[idx];
+    }
+    return new CalendarDateArray(cal, proto, dateUnit, result, resultDates);
+  }
+
+  private class DateList extends AbstractList<CalendarDate> implements RandomAccess {
+    @Override
+    public CalendarDate get(int index) {
+      return getCalendarDate(index);
+    }
+
+    @Override
+    public int size() {
+      return millis.length;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+      return (o instanceof CalendarDate) ? CalendarDateArray.this.indexOf((CalendarDate) o) : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return indexOf(o) >= 0;
+    }
+  }
+
+}
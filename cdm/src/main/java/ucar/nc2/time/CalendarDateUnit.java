@@ -191,6 +191,31 @@ public class CalendarDateUnit {
       return baseDate.add( value, periodField);
   }
 
+  /**
+   * Same as makeCalendarDate(value).getMillis(), without making the CalendarDate, when the unit has a fixed length.
+   * @param value value in this unit
+   * @return millisecs since 1970-01-01T00:00:00Z
+   */
+  public long makeMillis(double value) {
+    if (isCalendarField)
+      return makeCalendarDate(value).getMillis();
+
+    switch (periodField) {
+      case Millisec:
+        return baseDate.getMillis() + Math.round(value);
+      case Second:
+        return baseDate.getMillis() + Math.round(value * CalendarDate.MILLISECS_IN_SECOND);
+      case Minute:
+        return baseDate.getMillis() + Math.round(value * CalendarDate.MILLISECS_IN_MINUTE);
+      case Hour:
+        return baseDate.getMillis() + Math.round(value * CalendarDate.MILLISECS_IN_HOUR);
+      case Day:
+        return baseDate.getMillis() + Math.round(value * CalendarDate.MILLISECS_IN_DAY);
+      default:
+        return makeCalendarDate(value).getMillis();
+    }
+  }
+
   public CalendarDate makeCalendarDate(int value) {
     if (isCalendarField)
       return baseDate.add(CalendarPeriod.of( value, periodField));
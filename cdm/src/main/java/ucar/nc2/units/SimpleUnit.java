@@ -103,8 +103,7 @@ public class SimpleUnit {
    * @see ucar.units.UnitFormat#parse
    */
   static public SimpleUnit factoryWithExceptions(String name) throws UnitException {
-    UnitFormat format = UnitFormatManager.instance();
-    Unit uu = format.parse(name);
+    Unit uu = UnitCache.parse(name);
     //if (isDateUnit(uu)) return new DateUnit(name);
     if (isTimeUnit(uu)) return new TimeUnit(name);
     return new SimpleUnit(uu);
@@ -112,8 +111,7 @@ public class SimpleUnit {
 
   // need subclass access
   static protected Unit makeUnit(String name) throws UnitException {
-    UnitFormat format = UnitFormatManager.instance();
-    return format.parse(name);
+    return UnitCache.parse(name);
   }
 
   /**
@@ -127,16 +125,14 @@ public class SimpleUnit {
   static public boolean isCompatible(String unitString1, String unitString2) {
     Unit uu1, uu2;
     try {
-      UnitFormat format = UnitFormatManager.instance();
-      uu1 = format.parse(unitString1);
+      uu1 = UnitCache.parse(unitString1);
     } catch (Exception e) {
       if (debugParse) System.out.println("Parse " + unitString1 + " got Exception1 " + e);
       return false;
     }
 
     try {
-      UnitFormat format = UnitFormatManager.instance();
-      uu2 = format.parse(unitString2);
+      uu2 = UnitCache.parse(unitString2);
     } catch (Exception e) {
       if (debugParse) System.out.println("Parse " + unitString2 + " got Exception2 " + e);
       return false;
@@ -155,9 +151,8 @@ public class SimpleUnit {
    * @throws UnitException if units parsing fails
    */
   static public boolean isCompatibleWithExceptions(String unitString1, String unitString2) throws UnitException {
-    UnitFormat format = UnitFormatManager.instance();
-    Unit uu1 = format.parse(unitString1);
-    Unit uu2 = format.parse(unitString2);
+    Unit uu1 = UnitCache.parse(unitString1);
+    Unit uu2 = UnitCache.parse(unitString2);
     return uu1.isCompatible(uu2);
   }
 
@@ -171,7 +166,7 @@ public class SimpleUnit {
     boolean ok = uu.isCompatible(dateReferenceUnit);
     if (!ok) return false;
     try {
-      uu.getConverterTo(dateReferenceUnit);
+      UnitCache.getConverter(uu, dateReferenceUnit);
       return true;
     } catch (ConversionException e) {
       return false;
@@ -270,7 +265,39 @@ public class SimpleUnit {
    */
   public double convertTo(double value, SimpleUnit outputUnit) throws IllegalArgumentException {
     try {
-      return uu.convertTo(value, outputUnit.getUnit());
+      return UnitCache.getConverter(uu, outputUnit.getUnit()).convert(value);
+    } catch (ConversionException e) {
+      throw new IllegalArgumentException(e.getMessage());
+    }
+  }
+
+  /**
+   * Convert values of this unit to the new unit, in place.
+   *
+   * @param values  values in this unit; on return, in outputUnit
+   * @param outputUnit convert to this unit
+   * @return values
+   * @throws IllegalArgumentException if outputUnit not convertible from this unit
+   */
+  public double[] convertTo(double[] values, SimpleUnit outputUnit) throws IllegalArgumentException {
+    try {
+      return UnitCache.getConverter(uu, outputUnit.getUnit()).convert(values, values);
+    } catch (ConversionException e) {
+      throw new IllegalArgumentException(e.getMessage());
+    }
+  }
+
+  /**
+   * Convert values of this unit to the new unit, in place.
+   *
+   * @param values  values in this unit; on return, in outputUnit
+   * @param outputUnit convert to this unit
+   * @return values
+   * @throws IllegalArgumentException if outputUnit not convertible from this unit
+   */
+  public float[] convertTo(float[] values, SimpleUnit outputUnit) throws IllegalArgumentException {
+    try {
+      return UnitCache.getConverter(uu, outputUnit.getUnit()).convert(values, values);
     } catch (ConversionException e) {
       throw new IllegalArgumentException(e.getMessage());
     }
@@ -291,8 +318,7 @@ public class SimpleUnit {
   public boolean isCompatible(String unitString) {
     Unit uuWant;
     try {
-      UnitFormat format = UnitFormatManager.instance();
-      uuWant = format.parse(unitString);
+      uuWant = UnitCache.parse(unitString);
     } catch (Exception e) {
       if (debugParse) System.out.println("Parse " + unitString + " got Exception1 " + e);
       return false;
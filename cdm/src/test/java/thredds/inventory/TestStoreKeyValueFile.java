@@ -0,0 +1,82 @@
+/* Copyright */
+package thredds.inventory;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Test StoreKeyValueFile persistence.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestStoreKeyValueFile {
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testReopen() throws IOException {
+    File dir = tempFolder.getRoot();
+    StoreKeyValue.Factory factory = StoreKeyValueFile.getFactory(dir.getPath());
+
+    StoreKeyValue store = factory.open("test/collection");
+    for (int i = 0; i < 100; i++)
+      store.put("key" + i, new byte[i]);
+    store.put("key7", new byte[]{1, 2, 3}); // replaces
+    Assert.assertSame(store, factory.open("test/collection")); // shared
+    store.close();
+    store.close();
+
+    store = factory.open("test/collection");
+    Assert.assertArrayEquals(new byte[]{1, 2, 3}, store.getBytes("key7"));
+    Assert.assertArrayEquals(new byte[99], store.getBytes("key99"));
+    Assert.assertNull(store.getBytes("nope"));
+    store.close();
+  }
+
+  @Test
+  public void testCompact() throws IOException {
+    File dir = tempFolder.getRoot();
+    StoreKeyValue store = StoreKeyValueFile.open(dir, "compact");
+    for (int i = 0; i < 10; i++)
+      store.put("key", new byte[1000]);
+    store.close();
+
+    File file = new File(dir, "compact.store");
+    Assert.assertTrue(file.length() < 2000);
+    store = StoreKeyValueFile.open(dir, "compact");
+    Assert.assertEquals(1000, store.getBytes("key").length);
+    store.close();
+  }
+
+  @Test
+  public void testTruncated() throws IOException {
+    File dir = tempFolder.getRoot();
+    StoreKeyValue store = StoreKeyValueFile.open(dir, "truncated");
+    store.put("key1", new byte[]{1});
+    store.put("key2", new byte[500]);
+    store.close();
+
+    File file = new File(dir, "truncated.store");
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(raf.length() - 10); // simulate a failed write
+    }
+
+    store = StoreKeyValueFile.open(dir, "truncated");
+    Assert.assertArrayEquals(new byte[]{1}, store.getBytes("key1"));
+    Assert.assertNull(store.getBytes("key2"));
+    store.put("key3", new byte[]{3});
+    store.close();
+
+    store = StoreKeyValueFile.open(dir, "truncated");
+    Assert.assertArrayEquals(new byte[]{3}, store.getBytes("key3"));
+    store.close();
+  }
+
+}
@@ -0,0 +1,62 @@
+/* Copyright */
+package timing;
+
+import ucar.nc2.ft.PointFeature;
+import ucar.nc2.ft.PointFeatureIterator;
+import ucar.nc2.ft.point.SimplePointFeatureCollection;
+import ucar.nc2.ft.point.remote.PointCollectionStreamLocal;
+import ucar.nc2.ft.point.remote.TestPointStreamBatch;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compare throughput of the per-feature and batched point stream encodings.
+ * usage: TimingPointStream [nfeatures]
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TimingPointStream {
+
+  static private void time(SimplePointFeatureCollection pfc, int batchSize, boolean deflate) throws IOException {
+    File file = File.createTempFile("TimingPointStream", ".ncstream");
+    file.deleteOnExit();
+
+    long start = System.nanoTime();
+    int n = TestPointStreamBatch.write(pfc, file, batchSize, deflate);
+    long writeTook = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    int count = 0;
+    double sum = 0;
+    PointFeatureIterator iter = new PointCollectionStreamLocal(file).getPointFeatureIterator();
+    while (iter.hasNext()) {
+      PointFeature pf = iter.next();
+      sum += pf.getDataAll().getScalarDouble("pres");
+      count++;
+    }
+    iter.close();
+    long readTook = System.nanoTime() - start;
+    assert count == n : count + " != " + n;
+
+    System.out.printf("batch=%6d deflate=%5s size=%8.2f Mb  write %7.1f Kfeat/sec  read %7.1f Kfeat/sec (sum=%f)%n",
+            batchSize, deflate, file.length() / 1.0e6, n / (writeTook / 1.0e6), n / (readTook / 1.0e6), sum);
+    if (!file.delete())
+      System.out.printf("failed to delete %s%n", file);
+  }
+
+  public static void main(String[] args) throws IOException {
+    int n = (args.length > 0) ? Integer.parseInt(args[0]) : 1000 * 1000;
+    SimplePointFeatureCollection pfc = TestPointStreamBatch.makeCollection(n);
+
+    for (int i = 0; i < 2; i++) { // first pass is warmup
+      time(pfc, 0, false);
+      time(pfc, 1000, false);
+      time(pfc, 1000, true);
+      time(pfc, 10000, false);
+      time(pfc, 10000, true);
+      System.out.printf("%n");
+    }
+  }
+}
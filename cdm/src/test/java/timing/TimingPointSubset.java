@@ -0,0 +1,78 @@
+/* Copyright */
+package timing;
+
+import ucar.nc2.constants.FeatureType;
+import ucar.nc2.ft.*;
+import ucar.nc2.ft.point.PointIteratorFiltered;
+import ucar.nc2.ft.point.standard.TestRowFilter;
+import ucar.nc2.time.CalendarDateRange;
+import ucar.unidata.geoloc.LatLonPointImpl;
+import ucar.unidata.geoloc.LatLonRect;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Formatter;
+
+/**
+ * Compare time and space subsets of a synthetic CF point file, filtering each PointFeature
+ * against prefiltering the time and lat/lon columns.
+ * usage: TimingPointSubset [nobs]
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TimingPointSubset {
+
+  static private int count(PointFeatureIterator iter) {
+    int count = 0;
+    double sum = 0;
+    while (iter.hasNext()) {
+      PointFeature pf = iter.next();
+      sum += pf.getLocation().getLatitude();
+      count++;
+    }
+    iter.close();
+    return (sum == Double.MAX_VALUE) ? -1 : count;  // use sum
+  }
+
+  static private void time(PointFeatureCollection pfc, String what, LatLonRect bb, CalendarDateRange dateRange, int nobs) throws IOException {
+    long start = System.nanoTime();
+    int n1 = count(new PointIteratorFiltered(pfc.getPointFeatureIterator(), bb, dateRange));
+    long filterTook = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    int n2 = count(pfc.subset(bb, dateRange).getPointFeatureIterator());
+    long pushdownTook = System.nanoTime() - start;
+    assert n1 == n2 : n1 + " != " + n2;
+
+    System.out.printf("%-16s found %8d  filter %7.1f Kobs/sec  pushdown %7.1f Kobs/sec  speedup %5.1f%n", what, n2,
+            nobs / (filterTook / 1.0e6), nobs / (pushdownTook / 1.0e6), (double) filterTook / pushdownTook);
+  }
+
+  public static void main(String[] args) throws IOException {
+    int nobs = (args.length > 0) ? Integer.parseInt(args[0]) : 2 * 1000 * 1000;
+    File file = File.createTempFile("TimingPointSubset", ".nc");
+    file.deleteOnExit();
+    long start = System.nanoTime();
+    TestRowFilter.writePointFile(file, nobs);
+    System.out.printf("wrote %d obs %8.2f Mb in %d msecs%n", nobs, file.length() / 1.0e6, (System.nanoTime() - start) / 1000 / 1000);
+
+    LatLonRect small = new LatLonRect(new LatLonPointImpl(30, -110), new LatLonPointImpl(40, -100));
+    LatLonRect half = new LatLonRect(new LatLonPointImpl(-90, -180), new LatLonPointImpl(0, 180));
+
+    Formatter errlog = new Formatter();
+    try (FeatureDatasetPoint fdp = (FeatureDatasetPoint) FeatureDatasetFactoryManager.open(FeatureType.POINT, file.getPath(), null, errlog)) {
+      PointFeatureCollection pfc = (PointFeatureCollection) fdp.getPointFeatureCollectionList().get(0);
+      for (int i = 0; i < 2; i++) { // first pass is warmup
+        time(pfc, "1 day", null, TestRowFilter.makeDateRange(nobs / 2, 24 * 60), nobs);
+        time(pfc, "10% of time", null, TestRowFilter.makeDateRange(nobs / 2, nobs / 10), nobs);
+        time(pfc, "10x10 deg box", small, null, nobs);
+        time(pfc, "half globe", half, null, nobs);
+        time(pfc, "box and 10%", small, TestRowFilter.makeDateRange(0, nobs / 10), nobs);
+        System.out.printf("%n");
+      }
+    }
+    if (!file.delete())
+      System.out.printf("failed to delete %s%n", file);
+  }
+}
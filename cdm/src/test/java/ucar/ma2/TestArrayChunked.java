@@ -0,0 +1,130 @@
+/* Copyright */
+package ucar.ma2;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+import ucar.nc2.iosp.IospHelper;
+import ucar.nc2.iosp.LayoutRegular;
+import ucar.unidata.io.RandomAccessFile;
+import ucar.unidata.util.test.TestDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Test ArrayChunked, using small chunks.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestArrayChunked {
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testChunkSections() {
+    int[] shape = new int[]{3, 5, 7};
+    for (long max : new long[]{1, 6, 7, 20, 35, 36, 70, 104, 105, 1000}) {
+      List<Section> sections = ArrayChunked.computeChunkSections(shape, max);
+      long total = 0;
+      for (Section s : sections) {
+        Assert.assertTrue(s.computeSize() <= max);
+        Assert.assertTrue(s.computeSize() > 0);
+        // contiguous in canonical order
+        Assert.assertEquals(total, Index.factory(shape).set(s.getOrigin()).currentElement());
+        total += s.computeSize();
+      }
+      Assert.assertEquals(105, total);
+    }
+    Assert.assertEquals(1, ArrayChunked.computeChunkSections(shape, 105).size());
+    Assert.assertEquals(3, ArrayChunked.computeChunkSections(shape, 35).size());
+    Assert.assertEquals(15, ArrayChunked.computeChunkSections(shape, 7).size());
+  }
+
+  @Test
+  public void testElementAccess() {
+    int[] shape = new int[]{4, 5, 6};
+    Array data = Array.factory(DataType.DOUBLE, shape);
+    ArrayChunked chunked = ArrayChunked.factory(DataType.DOUBLE, shape, 13);
+    Assert.assertEquals(data.getSize(), chunked.getSize());
+    Assert.assertTrue(chunked.getChunkCount() > 1);
+
+    for (int i = 0; i < data.getSize(); i++) {
+      data.setDouble(i, i * 1.5);
+      chunked.setDouble(i, i * 1.5);
+    }
+
+    IndexIterator iterA = data.getIndexIterator();
+    IndexIterator iterC = chunked.getIndexIterator();
+    while (iterA.hasNext()) {
+      Assert.assertTrue(iterC.hasNext());
+      Assert.assertEquals(iterA.getDoubleNext(), iterC.getDoubleNext(), 0.0);
+      Assert.assertArrayEquals(iterA.getCurrentCounter(), iterC.getCurrentCounter());
+    }
+    Assert.assertFalse(iterC.hasNext());
+
+    Assert.assertEquals(MAMath.sumDouble(data), MAMath.sumDouble(chunked), 0.0);
+    MAMath.MinMax mm = MAMath.getMinMax(chunked);
+    Assert.assertEquals(0.0, mm.min, 0.0);
+    Assert.assertEquals((data.getSize() - 1) * 1.5, mm.max, 0.0);
+  }
+
+  @Test
+  public void testReadChunked() throws IOException, InvalidRangeException {
+    try (NetcdfFile ncfile = NetcdfFile.open(TestDir.cdmLocalTestDataDir + "testWrite.nc")) {
+      int count = 0;
+      for (Variable v : ncfile.getVariables()) {
+        if (v.getRank() < 2 || !v.getDataType().isNumeric()) continue;
+        Array data = v.read();
+        ArrayChunked chunked = v.readChunked(null, 7);
+        Assert.assertArrayEquals(data.getShape(), chunked.getShape());
+
+        IndexIterator iterA = data.getIndexIterator();
+        IndexIterator iterC = chunked.getIndexIterator();
+        while (iterA.hasNext())
+          Assert.assertEquals(iterA.getDoubleNext(), iterC.getDoubleNext(), 0.0);
+
+        // streams the same bytes
+        ByteArrayOutputStream bos1 = new ByteArrayOutputStream();
+        ByteArrayOutputStream bos2 = new ByteArrayOutputStream();
+        IospHelper.copyToOutputStream(data, bos1);
+        IospHelper.copyToOutputStream(chunked, bos2);
+        Assert.assertArrayEquals(bos1.toByteArray(), bos2.toByteArray());
+        count++;
+      }
+      Assert.assertTrue(count > 0);
+    }
+  }
+
+  @Test
+  public void testIospReadData() throws IOException, InvalidRangeException {
+    int[] shape = new int[]{10, 11};
+    File file = tempFolder.newFile();
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      for (int i = 0; i < 110; i++)
+        out.writeInt(i);
+    }
+
+    Section want = new Section("2:8,3:9");
+    ArrayChunked result = ArrayChunked.factory(DataType.INT, want.getShape(), 5);
+    try (RandomAccessFile raf = new RandomAccessFile(file.getPath(), "r")) {
+      IospHelper.readData(raf, new LayoutRegular(0, 4, shape, want), DataType.INT, result, RandomAccessFile.BIG_ENDIAN);
+    }
+
+    IndexIterator iter = result.getIndexIterator();
+    while (iter.hasNext()) {
+      int val = iter.getIntNext();
+      int[] counter = iter.getCurrentCounter();
+      Assert.assertEquals((counter[0] + 2) * 11 + counter[1] + 3, val);
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+/* Copyright */
+package ucar.ma2;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Test MAMath reductions, parallel and sequential.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestMAMathStats {
+  static private final double missing = -9999.0;
+
+  @After
+  public void reset() {
+    MAMath.setParallelThreshold(1000 * 1000);
+  }
+
+  private Array makeArray(DataType dt, int n) {
+    Random random = new Random(1234);
+    Array a = Array.factory(dt, new int[]{n});
+    for (int i = 0; i < n; i++) {
+      if (i % 1000 == 7)
+        a.setDouble(i, missing);
+      else if (i % 1000 == 13 && dt == DataType.DOUBLE)
+        a.setDouble(i, Double.NaN);
+      else
+        a.setDouble(i, random.nextInt(2000) - 1000);
+    }
+    return a;
+  }
+
+  @Test
+  public void testStats() {
+    Array a = makeArray(DataType.DOUBLE, 10000);
+    MAMath.Stats stats = MAMath.calcStats(a, missing);
+    Assert.assertEquals(20, stats.missing);
+    Assert.assertEquals(9980, stats.count);
+    Assert.assertEquals(MAMath.sumDoubleSkipMissingData(a, missing), stats.sum, 0.0);
+    Assert.assertEquals(stats.sum / stats.count, stats.getMean(), 0.0);
+
+    MAMath.MinMax mm = MAMath.getMinMaxSkipMissingData(a, missing);
+    Assert.assertEquals(mm.min, stats.min, 0.0);
+    Assert.assertEquals(mm.max, stats.max, 0.0);
+
+    stats = MAMath.calcStats(a, null);  // only NaNs are missing
+    Assert.assertEquals(10, stats.missing);
+    Assert.assertEquals(missing, stats.min, 0.0);
+    Assert.assertTrue(Double.isNaN(MAMath.sumDouble(a)));
+
+    stats = MAMath.calcStats(Array.factory(DataType.FLOAT, new int[]{0}), null);
+    Assert.assertEquals(0, stats.count);
+    Assert.assertTrue(Double.isNaN(stats.getMean()));
+  }
+
+  @Test
+  public void testParallel() throws InvalidRangeException {
+    for (DataType dt : new DataType[]{DataType.DOUBLE, DataType.FLOAT, DataType.INT, DataType.SHORT}) {
+      Array a = makeArray(dt, 3 * 1000 * 1000);
+      Array section = a.section(new int[]{1}, new int[]{2 * 1000 * 1000}, new int[]{1}); // not canonical
+      Array strided = a.section(new int[]{0}, new int[]{1000 * 1000}, new int[]{3});
+
+      for (Array test : new Array[]{a, section, strided}) {
+        MAMath.setParallelThreshold(Long.MAX_VALUE);
+        MAMath.MinMax mm1 = MAMath.getMinMax(test);
+        MAMath.MinMax mm2 = MAMath.getMinMaxSkipMissingData(test, missing);
+        double sum1 = MAMath.sumDoubleSkipMissingData(test, missing);
+        MAMath.Stats stats1 = MAMath.calcStats(test, missing);
+
+        MAMath.setParallelThreshold(1000);
+        Assert.assertEquals(mm1.min, MAMath.getMinMax(test).min, 0.0);
+        Assert.assertEquals(mm1.max, MAMath.getMinMax(test).max, 0.0);
+        Assert.assertEquals(mm2.min, MAMath.getMinMaxSkipMissingData(test, missing).min, 0.0);
+        Assert.assertEquals(mm2.max, MAMath.getMinMaxSkipMissingData(test, missing).max, 0.0);
+        Assert.assertEquals(sum1, MAMath.sumDoubleSkipMissingData(test, missing), 0.0); // integer values, so exact
+        MAMath.Stats stats2 = MAMath.calcStats(test, missing);
+        Assert.assertEquals(stats1.count, stats2.count);
+        Assert.assertEquals(stats1.missing, stats2.missing);
+        Assert.assertEquals(stats1.sum, stats2.sum, 0.0);
+      }
+    }
+  }
+
+}
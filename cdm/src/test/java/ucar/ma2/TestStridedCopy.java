@@ -0,0 +1,83 @@
+/* Copyright */
+package ucar.ma2;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compare StridedCopy with copying element by element through IndexIterators.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestStridedCopy {
+
+  private Array makeArray(DataType dt, int[] shape) {
+    Array a = Array.factory(dt, shape);
+    IndexIterator iter = a.getIndexIterator();
+    int count = 0;
+    while (iter.hasNext())
+      iter.setIntNext(count++ % 127);
+    return a;
+  }
+
+  private void check(Array view) {
+    // expected, the slow way
+    Array expected = Array.factory(view.getDataType(), view.getShape());
+    IndexIterator iterE = expected.getIndexIterator();
+    IndexIterator iterV = view.getIndexIterator();
+    while (iterV.hasNext())
+      iterE.setObjectNext(iterV.getObjectNext());
+
+    Array copy = view.copy();
+    Assert.assertArrayEquals(view.getShape(), copy.getShape());
+    Assert.assertTrue(MAMath.equals(expected, copy));
+
+    Object ja = view.get1DJavaArray(view.getDataType());
+    Assert.assertTrue(MAMath.equals(expected, Array.factory(view.getDataType(), view.getShape(), ja)));
+  }
+
+  @Test
+  public void testViews() throws InvalidRangeException {
+    for (DataType dt : new DataType[]{DataType.DOUBLE, DataType.FLOAT, DataType.LONG, DataType.INT, DataType.SHORT, DataType.BYTE, DataType.CHAR}) {
+      Array a = makeArray(dt, new int[]{4, 5, 6, 7});
+      check(a);
+      check(a.section(new int[]{1, 0, 0, 0}, new int[]{2, 5, 6, 7}));     // contiguous
+      check(a.section(new int[]{0, 1, 2, 3}, new int[]{4, 3, 4, 4}));     // runs in the last dimension
+      check(a.section(new int[]{0, 0, 0, 1}, new int[]{4, 3, 6, 3}, new int[]{1, 2, 1, 2})); // strided
+      check(a.sectionNoReduce(new int[]{2, 0, 3, 0}, new int[]{1, 5, 1, 7}, null));   // length 1 dimensions
+      check(a.slice(1, 2));
+      check(a.transpose(0, 3));
+      check(a.permute(new int[]{2, 0, 3, 1}));
+      check(a.flip(3));
+      check(a.flip(0).section(new int[]{0, 1, 0, 2}, new int[]{3, 3, 6, 5}));
+      check(Array.factory(dt, new int[]{0, 5})); // empty
+    }
+  }
+
+  @Test
+  public void testConformable() {
+    Array a = makeArray(DataType.INT, new int[]{3, 1, 4});
+    Array result = Array.factory(DataType.INT, new int[]{1, 3, 4});
+    MAMath.copy(result, a);
+    Assert.assertArrayEquals((int[]) a.getStorage(), (int[]) result.getStorage());
+  }
+
+  @Test
+  public void testConvert() {
+    Array a = makeArray(DataType.SHORT, new int[]{3, 4});
+    Array result = Array.factory(DataType.DOUBLE, new int[]{3, 4});
+    MAMath.copyDouble(result, a.transpose(0, 1).transpose(0, 1));
+    for (int i = 0; i < 12; i++)
+      Assert.assertEquals(a.getShort(i), result.getDouble(i), 0.0);
+  }
+
+  @Test
+  public void testConstant() {
+    Array a = Array.factoryConstant(DataType.INT, new int[]{3, 4}, new int[]{42});
+    Array copy = a.copy();
+    for (int i = 0; i < 12; i++)
+      Assert.assertEquals(42, copy.getInt(i));
+  }
+
+}
@@ -0,0 +1,220 @@
+/* Copyright */
+package ucar.nc2;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.ma2.*;
+import ucar.nc2.constants.CDM;
+import ucar.nc2.write.Nc4Chunking;
+import ucar.nc2.write.Nc4ChunkingStrategy;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Test writing netcdf-4 files with the pure java H5iospWriter, reading them back with H5iosp.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestWriteNetcdf4 {
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testClassicModel() throws IOException, InvalidRangeException {
+    String filename = tempFolder.newFile("testClassic.nc").getAbsolutePath();
+    Nc4Chunking chunker = Nc4ChunkingStrategy.factory(Nc4Chunking.Strategy.standard, 5, true);
+
+    try (NetcdfFileWriter writer = NetcdfFileWriter.createNew(NetcdfFileWriter.Version.netcdf4_classic, filename, chunker)) {
+      writer.addDimension(null, "time", 0, true, false);
+      writer.addDimension(null, "lat", 6);
+      writer.addDimension(null, "lon", 12);
+      writer.addDimension(null, "nodata", 3);
+
+      writer.addGroupAttribute(null, new Attribute("title", "pure java netcdf-4"));
+      writer.addGroupAttribute(null, new Attribute("version", 4.5));
+
+      Variable lat = writer.addVariable(null, "lat", DataType.FLOAT, "lat");
+      lat.addAttribute(new Attribute(CDM.UNITS, "degrees_north"));
+      writer.addVariable(null, "lon", DataType.DOUBLE, "lon");
+      Variable time = writer.addVariable(null, "time", DataType.INT, "time");
+      time.addAttribute(new Attribute(CDM.UNITS, "hours since 2026-10-18"));
+
+      Variable temp = writer.addVariable(null, "temperature", DataType.SHORT, "time lat lon");
+      temp.addAttribute(new Attribute(CDM.FILL_VALUE, (short) -1));
+      temp.addAttribute(new Attribute("valid_range", Array.makeFromJavaArray(new short[]{0, 1000})));
+      writer.addVariable(null, "scalar", DataType.DOUBLE, "");
+      writer.addVariable(null, "name", DataType.CHAR, "lon");
+
+      writer.create();
+
+      writer.write("lat", Array.makeArray(DataType.FLOAT, 6, -50, 20));
+      writer.write("lon", Array.makeArray(DataType.DOUBLE, 12, 0, 30));
+      writer.write("scalar", Array.makeFromJavaArray(new double[]{3.14}).reduce());
+      writer.write("name", ArrayChar.makeFromString("twelve chars", 12));
+
+      // write one record at a time, last one partially
+      for (int t = 0; t < 4; t++) {
+        writer.write("time", new int[]{t}, Array.makeFromJavaArray(new int[]{t * 6}));
+        Array data = Array.makeArray(DataType.SHORT, 6 * 12, t * 100, 1).reshape(new int[]{1, 6, 12});
+        if (t == 3) data = data.sectionNoReduce(new int[]{0, 0, 0}, new int[]{1, 6, 6}, null);
+        writer.write(writer.findVariable("temperature"), new int[]{t, 0, 0}, data);
+      }
+    }
+
+    try (NetcdfFile ncfile = NetcdfFile.open(filename)) {
+      Assert.assertEquals("pure java netcdf-4", ncfile.findGlobalAttribute("title").getStringValue());
+      Assert.assertEquals(4.5, ncfile.findGlobalAttribute("version").getNumericValue().doubleValue(), 0.0);
+
+      Dimension timeDim = ncfile.findDimension("time");
+      Assert.assertTrue(timeDim.isUnlimited());
+      Assert.assertEquals(4, timeDim.getLength());
+      Assert.assertEquals(3, ncfile.findDimension("nodata").getLength());
+      Assert.assertNull(ncfile.findVariable("nodata"));
+
+      Variable lat = ncfile.findVariable("lat");
+      Assert.assertEquals("degrees_north", lat.findAttribute(CDM.UNITS).getStringValue());
+      Assert.assertEquals(-50.0f, lat.read().getFloat(0), 0.0);
+      Assert.assertEquals(50.0f, lat.read().getFloat(5), 0.0);
+
+      Variable time = ncfile.findVariable("time");
+      Assert.assertEquals(18, time.read().getInt(3));
+      Assert.assertEquals(3.14, ncfile.findVariable("scalar").readScalarDouble(), 0.0);
+      Assert.assertEquals("twelve chars", ((ArrayChar) ncfile.findVariable("name").read()).getString());
+
+      Variable temp = ncfile.findVariable("temperature");
+      Assert.assertEquals("time lat lon", temp.getDimensionsString());
+      Assert.assertArrayEquals(new int[]{4, 6, 12}, temp.getShape());
+      Assert.assertEquals(2, temp.findAttribute("valid_range").getLength());
+      Array data = temp.read();
+      Index ima = data.getIndex();
+      Assert.assertEquals(100 + 13, data.getShort(ima.set(1, 1, 1)));
+      Assert.assertEquals(300 + 5, data.getShort(ima.set(3, 0, 5)));
+      Assert.assertEquals(-1, data.getShort(ima.set(3, 0, 6))); // never written
+    }
+  }
+
+  @Test
+  public void testExtendedModel() throws IOException, InvalidRangeException {
+    String filename = tempFolder.newFile("testExtended.nc4").getAbsolutePath();
+
+    try (NetcdfFileWriter writer = NetcdfFileWriter.createNew(NetcdfFileWriter.Version.netcdf4, filename, null)) {
+      Group root = writer.addGroup(null, null);
+      Group sub = writer.addGroup(root, "sub");
+      writer.addDimension(root, "x", 10);
+      writer.addDimension(sub, "y", 5);
+      writer.addGroupAttribute(root, new Attribute("names", Arrays.asList("one", "two", "three")));
+
+      Variable v = writer.addVariable(sub, "data", DataType.UINT, "x y");
+      v.addAttribute(new Attribute("empty", ""));
+      writer.addVariable(sub, "y", DataType.UBYTE, "y");
+      writer.addVariable(sub, "count", DataType.LONG, "y");
+
+      writer.create();
+
+      Array data = Array.makeArray(DataType.INT, 50, 0, 1000).reshape(new int[]{10, 5});
+      writer.write(v, data);
+      // overwrite part of it
+      writer.write(v, new int[]{1, 0}, Array.makeArray(DataType.INT, 3, -1, 0).reshape(new int[]{1, 3}));
+      writer.write(writer.findVariable("sub/y"), Array.makeArray(DataType.BYTE, 5, 200, 10));
+      writer.write(writer.findVariable("sub/count"), Array.makeArray(DataType.LONG, 5, 1L << 40, 1));
+    }
+
+    try (NetcdfFile ncfile = NetcdfFile.open(filename)) {
+      Attribute names = ncfile.findGlobalAttribute("names");
+      Assert.assertEquals(3, names.getLength());
+      Assert.assertEquals("three", names.getStringValue(2));
+
+      Variable v = ncfile.findVariable("sub/data");
+      Assert.assertNotNull(v);
+      Assert.assertEquals(DataType.UINT, v.getDataType());
+      Assert.assertTrue(v.getDataType().isUnsigned());
+      Assert.assertEquals("x y", v.getDimensionsString());
+      Array data = v.read();
+      Index ima = data.getIndex();
+      Assert.assertEquals(-1, data.getInt(ima.set(1, 2)));
+      Assert.assertEquals(8000, data.getInt(ima.set(1, 3)));
+      Assert.assertEquals(49000, data.getInt(ima.set(9, 4)));
+
+      Variable y = ncfile.findVariable("sub/y");
+      Assert.assertTrue(y.isCoordinateVariable());
+      Assert.assertEquals(240, y.read().getInt(4) & 0xff);
+
+      Array count = ncfile.findVariable("sub/count").read();
+      Assert.assertEquals(DataType.LONG, count.getDataType());
+      Assert.assertEquals((1L << 40) + 4, count.getLong(4));
+    }
+  }
+
+  // 8 x 8 ints in 4 x 4 chunks, deflated
+  static private class SmallChunks implements Nc4Chunking {
+    public boolean isChunked(Variable v) {
+      return true;
+    }
+
+    public long[] computeChunking(Variable v) {
+      return new long[]{4, 4};
+    }
+
+    public int getDeflateLevel(Variable v) {
+      return 5;
+    }
+
+    public boolean isShuffle(Variable v) {
+      return false;
+    }
+  }
+
+  private interface WriteData {
+    void write(NetcdfFileWriter writer, Variable v, Array data) throws IOException, InvalidRangeException;
+  }
+
+  private long writeChunked(String filename, Array data, WriteData how) throws IOException, InvalidRangeException {
+    try (NetcdfFileWriter writer = NetcdfFileWriter.createNew(NetcdfFileWriter.Version.netcdf4, filename, new SmallChunks())) {
+      writer.addDimension(null, "y", 8);
+      writer.addDimension(null, "x", 8);
+      writer.addVariable(null, "data", DataType.INT, "y x");
+      writer.create();
+      how.write(writer, writer.findVariable("data"), data);
+    }
+
+    try (NetcdfFile ncfile = NetcdfFile.open(filename)) {
+      Assert.assertTrue(MAMath.equals(data, ncfile.findVariable("data").read()));
+    }
+    return new java.io.File(filename).length();
+  }
+
+  private Array makeChunkedData() {
+    java.util.Random random = new java.util.Random(17); // doesnt compress well
+    Array data = Array.factory(DataType.INT, new int[]{8, 8});
+    for (int i = 0; i < data.getSize(); i++)
+      data.setInt(i, random.nextInt());
+    return data;
+  }
+
+  @Test
+  public void testChunkCoverage() throws IOException, InvalidRangeException {
+    Array data = makeChunkedData();
+    long once = writeChunked(tempFolder.newFile("once.nc4").getAbsolutePath(), data, (writer, v, d) -> writer.write(v, d));
+
+    // writing the first rows of each chunk twice doesnt complete the chunks, so they are only written once
+    long overlapping = writeChunked(tempFolder.newFile("overlap.nc4").getAbsolutePath(), data, (writer, v, d) -> {
+      Array rows = d.section(new int[]{0, 0}, new int[]{2, 8});
+      writer.write(v, rows);
+      writer.write(v, rows);
+      writer.write(v, new int[]{2, 0}, d.section(new int[]{2, 0}, new int[]{6, 8}));
+    });
+    Assert.assertEquals(once, overlapping);
+
+    // rewritten chunks of the same size go where the old ones were
+    long rewritten = writeChunked(tempFolder.newFile("rewrite.nc4").getAbsolutePath(), data, (writer, v, d) -> {
+      writer.write(v, d);
+      writer.flush();
+      writer.write(v, d);
+    });
+    Assert.assertEquals(once, rewritten);
+  }
+}
@@ -0,0 +1,110 @@
+/* Copyright */
+package ucar.nc2.dataset;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import ucar.ma2.Array;
+import ucar.ma2.MAMath;
+import ucar.nc2.Variable;
+import ucar.nc2.constants.AxisType;
+import ucar.nc2.dt.GridDatatype;
+import ucar.nc2.dt.grid.GridDataset;
+import ucar.unidata.util.test.TestDir;
+
+import java.io.IOException;
+import java.util.Formatter;
+
+/**
+ * Coordinate systems are built on first use when NetcdfDataset.setDeferCoordSystems(true),
+ * and are the same as when built at open.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestDeferCoordSystems {
+  private static final String filename = TestDir.cdmLocalTestDataDir + "dataset/example.nc";
+
+  @Before
+  public void defer() {
+    NetcdfDataset.setDeferCoordSystems(true);
+    NetcdfDataset.resetEnhanceStats();
+  }
+
+  @After
+  public void restore() {
+    NetcdfDataset.setDeferCoordSystems(false);
+  }
+
+  private String showCoordSystems(NetcdfDataset ncd) {
+    Formatter f = new Formatter();
+    for (CoordinateSystem cs : ncd.getCoordinateSystems())
+      f.format("%s%n", cs.getName());
+    for (CoordinateAxis axis : ncd.getCoordinateAxes())
+      f.format("%s %s%n", axis.getFullName(), axis.getAxisType());
+    for (Variable v : ncd.getVariables())
+      for (CoordinateSystem cs : ((VariableEnhanced) v).getCoordinateSystems())
+        f.format("%s: %s%n", v.getFullName(), cs.getName());
+    return f.toString();
+  }
+
+  @Test
+  public void testReadWithoutCoordSystems() throws IOException {
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(filename)) {
+      Assert.assertTrue(ncd.getEnhanceMode().contains(NetcdfDataset.Enhance.CoordSystems));
+
+      // reading a variable does not build them
+      Variable t = ncd.findVariable("T");
+      Assert.assertNotNull(t);
+      Array data = t.read();
+      Assert.assertEquals(48, data.getSize());
+      Assert.assertFalse(ncd.findVariable("lat") instanceof CoordinateAxis);
+      Assert.assertEquals(0, NetcdfDataset.getCoordSysCount());
+
+      // first use does
+      Assert.assertNotNull(ncd.findCoordinateAxis(AxisType.Lat));
+      Assert.assertTrue(ncd.findVariable("lat") instanceof CoordinateAxis);
+      Assert.assertEquals(1, NetcdfDataset.getCoordSysCount());
+      Assert.assertEquals(1, ((VariableEnhanced) ncd.findVariable("T")).getCoordinateSystems().size());
+      Assert.assertTrue(MAMath.equals(data, ncd.findVariable("T").read()));
+    }
+  }
+
+  @Test
+  public void testSameAsEager() throws IOException {
+    String lazy;
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(filename)) {
+      VariableEnhanced rh = (VariableEnhanced) ncd.findVariable("rh");
+      Assert.assertEquals(1, rh.getCoordinateSystems().size()); // through the variable
+      lazy = showCoordSystems(ncd);
+    }
+
+    NetcdfDataset.setDeferCoordSystems(false);
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(filename)) {
+      Assert.assertEquals(showCoordSystems(ncd), lazy);
+    }
+  }
+
+  @Test
+  public void testGridDataset() throws IOException {
+    String location = TestDir.cdmLocalTestDataDir + "permuteTest.nc";
+    String lazy;
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) {
+      lazy = showGrids(new GridDataset(ncd));
+    }
+
+    NetcdfDataset.setDeferCoordSystems(false);
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) {
+      Assert.assertEquals(showGrids(new GridDataset(ncd)), lazy);
+    }
+  }
+
+  private String showGrids(GridDataset gds) {
+    Assert.assertTrue(gds.getGrids().size() > 0);
+    Formatter f = new Formatter();
+    for (GridDatatype grid : gds.getGrids())
+      f.format("%s %s%n", grid.getFullName(), grid.getCoordinateSystem().getName());
+    return f.toString();
+  }
+}
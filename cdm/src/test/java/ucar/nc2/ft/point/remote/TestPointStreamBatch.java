@@ -0,0 +1,114 @@
+/* Copyright */
+package ucar.nc2.ft.point.remote;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.ma2.StructureDataW;
+import ucar.ma2.StructureMembers;
+import ucar.nc2.constants.FeatureType;
+import ucar.nc2.ft.DsgFeatureCollection;
+import ucar.nc2.ft.PointFeatureIterator;
+import ucar.nc2.ft.point.PointTestUtil;
+import ucar.nc2.ft.point.SimplePointFeature;
+import ucar.nc2.ft.point.SimplePointFeatureCC;
+import ucar.nc2.ft.point.SimplePointFeatureCollection;
+import ucar.nc2.time.CalendarDateUnit;
+import ucar.unidata.geoloc.EarthLocationImpl;
+
+/**
+ * Round trip point streams through the per-feature and the batched (PointFeatureBatch) encodings.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestPointStreamBatch {
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  public static SimplePointFeatureCollection makeCollection(int n) {
+    CalendarDateUnit timeUnit = CalendarDateUnit.of(null, "seconds since 1970-01-01");
+    DsgFeatureCollection dummyDsg = new SimplePointFeatureCC("dummy", timeUnit, "m", FeatureType.POINT);
+    SimplePointFeatureCollection pfc = new SimplePointFeatureCollection("batch", timeUnit, "m");
+
+    StructureMembers sm = new StructureMembers("obs");
+    sm.addMember("temp", "temperature", "K", DataType.FLOAT, new int[0]);
+    sm.addMember("pres", null, "Pa", DataType.DOUBLE, new int[0]);
+    sm.addMember("count", null, null, DataType.INT, new int[0]);
+    sm.addMember("qc", null, null, DataType.SHORT, new int[]{3});
+    sm.addMember("flag", null, null, DataType.BYTE, new int[0]);
+    sm.addMember("seq", null, null, DataType.LONG, new int[0]);
+    sm.addMember("id", null, null, DataType.CHAR, new int[]{5});
+    sm.addMember("name", null, null, DataType.STRING, new int[0]);
+
+    for (int i = 0; i < n; i++) {
+      StructureDataW sdata = new StructureDataW(sm);
+      sdata.setMemberData("temp", Array.factory(DataType.FLOAT, new int[0], new float[]{273.15f + i % 40}));
+      sdata.setMemberData("pres", Array.factory(DataType.DOUBLE, new int[0], new double[]{101325.0 - i * 0.5}));
+      sdata.setMemberData("count", Array.factory(DataType.INT, new int[0], new int[]{i}));
+      sdata.setMemberData("qc", Array.factory(DataType.SHORT, new int[]{3}, new short[]{(short) i, 0, (short) -i}));
+      sdata.setMemberData("flag", Array.factory(DataType.BYTE, new int[0], new byte[]{(byte) i}));
+      sdata.setMemberData("seq", Array.factory(DataType.LONG, new int[0], new long[]{Long.MAX_VALUE - i}));
+      sdata.setMemberData("id", Array.factory(DataType.CHAR, new int[]{5}, String.format("S%04d", i % 10000).toCharArray()));
+      sdata.setMemberData("name", Array.factory(DataType.STRING, new int[0], new String[]{"station " + (i % 7)}));
+
+      double lat = 40.0 + (i % 100) * 0.01;
+      double lon = -105.0 - (i % 50) * 0.02;
+      double time = 1.0e9 + i * 60.0;
+      pfc.add(new SimplePointFeature(dummyDsg, new EarthLocationImpl(lat, lon, i % 3 == 0 ? Double.NaN : 1600.0), time, time, timeUnit, sdata));
+    }
+    return pfc;
+  }
+
+  public static int write(SimplePointFeatureCollection pfc, File file, int batchSize, boolean deflate) throws IOException {
+    PointFeatureIterator iter = pfc.getPointFeatureIterator();
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+      return PointStream.write(out, iter, pfc.getName(), pfc.getTimeUnit().getUdUnit(), pfc.getAltUnits(), batchSize, deflate);
+    } finally {
+      iter.close();
+    }
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    SimplePointFeatureCollection pfc = makeCollection(1234);
+
+    File single = tempFolder.newFile();
+    Assert.assertEquals(1234, write(pfc, single, 0, false));
+    File batched = tempFolder.newFile();
+    Assert.assertEquals(1234, write(pfc, batched, 100, false));
+    File deflated = tempFolder.newFile();
+    Assert.assertEquals(1234, write(pfc, deflated, 500, true));
+
+    Assert.assertTrue(PointTestUtil.equals(pfc, new PointCollectionStreamLocal(single)));
+    Assert.assertTrue(PointTestUtil.equals(pfc, new PointCollectionStreamLocal(batched)));
+    Assert.assertTrue(PointTestUtil.equals(pfc, new PointCollectionStreamLocal(deflated)));
+
+    Assert.assertTrue(batched.length() < single.length());
+    Assert.assertTrue(deflated.length() < batched.length());
+  }
+
+  @Test
+  public void testSmallBatches() throws IOException {
+    SimplePointFeatureCollection pfc = makeCollection(10);
+    for (int batchSize : new int[]{1, 2, 3, 10, 11}) {
+      File file = tempFolder.newFile();
+      write(pfc, file, batchSize, batchSize % 2 == 0);
+      Assert.assertTrue(PointTestUtil.equals(pfc, new PointCollectionStreamLocal(file)));
+    }
+
+    // empty collection
+    File file = tempFolder.newFile();
+    Assert.assertEquals(0, write(makeCollection(0), file, 100, true));
+    Assert.assertFalse(new PointCollectionStreamLocal(file).getPointFeatureIterator().hasNext());
+  }
+
+}
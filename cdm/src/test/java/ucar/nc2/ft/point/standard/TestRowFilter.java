@@ -0,0 +1,173 @@
+/* Copyright */
+package ucar.nc2.ft.point.standard;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.ma2.InvalidRangeException;
+import ucar.nc2.Attribute;
+import ucar.nc2.NetcdfFileWriter;
+import ucar.nc2.Variable;
+import ucar.nc2.constants.CDM;
+import ucar.nc2.constants.CF;
+import ucar.nc2.constants.FeatureType;
+import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.ft.*;
+import ucar.nc2.ft.point.PointIteratorFiltered;
+import ucar.nc2.time.CalendarDate;
+import ucar.nc2.time.CalendarDateRange;
+import ucar.nc2.time.CalendarDateUnit;
+import ucar.unidata.geoloc.LatLonPointImpl;
+import ucar.unidata.geoloc.LatLonRect;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Formatter;
+import java.util.List;
+
+/**
+ * Subsets of a CF point collection give the same features when time and lat/lon are prefiltered on the columns.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestRowFilter {
+  static public final String timeUnits = "seconds since 2000-01-01T00:00:00Z";
+  static private final int CHUNK = 100 * 1000;
+
+  /**
+   * Write a synthetic CF point file: one obs a minute, scattered over the globe.
+   *
+   * @param file write to this file
+   * @param n    number of obs
+   */
+  static public void writePointFile(File file, int n) throws IOException {
+    try (NetcdfFileWriter writer = NetcdfFileWriter.createNew(NetcdfFileWriter.Version.netcdf3, file.getPath())) {
+      writer.setLargeFile(true);
+      writer.addDimension(null, "obs", n);
+      writer.addGroupAttribute(null, new Attribute(CF.FEATURE_TYPE, FeatureType.POINT.name().toLowerCase()));
+      writer.addGroupAttribute(null, new Attribute(CDM.CONVENTIONS, "CF-1.6"));
+
+      Variable time = writer.addVariable(null, "time", DataType.DOUBLE, "obs");
+      time.addAttribute(new Attribute(CDM.UNITS, timeUnits));
+      Variable lat = writer.addVariable(null, "lat", DataType.FLOAT, "obs");
+      lat.addAttribute(new Attribute(CDM.UNITS, CDM.LAT_UNITS));
+      Variable lon = writer.addVariable(null, "lon", DataType.FLOAT, "obs");
+      lon.addAttribute(new Attribute(CDM.UNITS, CDM.LON_UNITS));
+      List<Variable> data = new ArrayList<>();
+      for (String name : new String[]{"temp", "pres", "rh", "wspd"}) {
+        Variable v = writer.addVariable(null, name, DataType.FLOAT, "obs");
+        v.addAttribute(new Attribute(CF.COORDINATES, "time lat lon"));
+        data.add(v);
+      }
+      writer.create();
+
+      try {
+        for (int start = 0; start < n; start += CHUNK) {
+          int count = Math.min(CHUNK, n - start);
+          Array timeData = Array.factory(DataType.DOUBLE, new int[]{count});
+          Array latData = Array.factory(DataType.FLOAT, new int[]{count});
+          Array lonData = Array.factory(DataType.FLOAT, new int[]{count});
+          Array values = Array.factory(DataType.FLOAT, new int[]{count});
+          for (int i = 0; i < count; i++) {
+            int recno = start + i;
+            timeData.setDouble(i, 60.0 * recno);
+            latData.setFloat(i, (float) (180.0 * frac(recno * 0.6180339887) - 90.0));
+            lonData.setFloat(i, (float) (360.0 * frac(recno * 0.7548776662) - 180.0));
+            values.setFloat(i, (float) (recno % 1000));
+          }
+          int[] origin = new int[]{start};
+          writer.write(time, origin, timeData);
+          writer.write(lat, origin, latData);
+          writer.write(lon, origin, lonData);
+          for (Variable v : data)
+            writer.write(v, origin, values);
+        }
+      } catch (InvalidRangeException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+
+  static private double frac(double val) {
+    return val - Math.floor(val);
+  }
+
+  static public CalendarDateRange makeDateRange(int startMinute, int nminutes) {
+    CalendarDate base = CalendarDate.parseISOformat(null, "2000-01-01T00:00:00Z");
+    return CalendarDateRange.of(base.add(startMinute, ucar.nc2.time.CalendarPeriod.Field.Minute),
+            base.add(startMinute + nminutes, ucar.nc2.time.CalendarPeriod.Field.Minute));
+  }
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private List<String> read(PointFeatureIterator iter) {
+    List<String> result = new ArrayList<>();
+    while (iter.hasNext()) {
+      PointFeature pf = iter.next();
+      result.add(pf.getObservationTimeAsCalendarDate() + " " + pf.getLocation().getLatitude() + " " + pf.getLocation().getLongitude());
+    }
+    iter.close();
+    return result;
+  }
+
+  private void compare(PointFeatureCollection pfc, LatLonRect bb, CalendarDateRange dateRange, int expectedCount) throws IOException {
+    List<String> want = read(new PointIteratorFiltered(pfc.getPointFeatureIterator(), bb, dateRange));
+    List<String> got = read(pfc.subset(bb, dateRange).getPointFeatureIterator());
+    Assert.assertEquals(want, got);
+    if (expectedCount >= 0)
+      Assert.assertEquals(expectedCount, got.size());
+  }
+
+  @Test
+  public void testPointSubset() throws IOException {
+    File file = tempFolder.newFile("point.nc");
+    writePointFile(file, 50 * 1000);
+
+    Formatter errlog = new Formatter();
+    try (FeatureDatasetPoint fdp = (FeatureDatasetPoint) FeatureDatasetFactoryManager.open(FeatureType.POINT, file.getPath(), null, errlog)) {
+      Assert.assertNotNull(errlog.toString(), fdp);
+      PointFeatureCollection pfc = (PointFeatureCollection) fdp.getPointFeatureCollectionList().get(0);
+
+      CalendarDateRange dateRange = makeDateRange(12345, 100);  // inclusive at both ends
+      LatLonRect bb = new LatLonRect(new LatLonPointImpl(-30, -60), new LatLonPointImpl(30, 60));
+      LatLonRect crossDateline = new LatLonRect(new LatLonPointImpl(-90, 170), new LatLonPointImpl(90, -170));
+
+      compare(pfc, null, dateRange, 101);
+      compare(pfc, bb, null, -1);
+      compare(pfc, bb, dateRange, -1);
+      compare(pfc, crossDateline, null, -1);
+      compare(pfc, null, makeDateRange(-1000, 10), 0);
+      compare(pfc, null, makeDateRange(49990, 100), 10);
+    }
+  }
+
+  @Test
+  public void testEvaluate() throws IOException {
+    File file = tempFolder.newFile("point.nc");
+    writePointFile(file, 25 * 1000);
+
+    try (NetcdfDataset ds = NetcdfDataset.openDataset(file.getPath())) {
+      RowFilter filter = new RowFilter(ds.findVariable("time"), CalendarDateUnit.of(null, timeUnits), makeDateRange(100, 20),
+              ds.findVariable("lat"), ds.findVariable("lon"), null);
+      Assert.assertFalse(filter.isEmpty());
+      BitSet pass = filter.evaluate(0, 25 * 1000);
+      Assert.assertEquals(21, pass.cardinality());
+      Assert.assertEquals(100, pass.nextSetBit(0));
+
+      // rows are relative to the first row evaluated
+      pass = filter.evaluate(110, 1000);
+      Assert.assertEquals(11, pass.cardinality());
+      Assert.assertEquals(0, pass.nextSetBit(0));
+
+      filter = new RowFilter(null, null, null, ds.findVariable("lat"), ds.findVariable("lon"), null);
+      Assert.assertTrue(filter.isEmpty());
+    }
+  }
+}
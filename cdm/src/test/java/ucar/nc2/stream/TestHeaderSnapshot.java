@@ -0,0 +1,266 @@
+/* Copyright */
+package ucar.nc2.stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.ma2.Array;
+import ucar.ma2.MAMath;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+import ucar.nc2.dataset.CoordinateAxis;
+import ucar.nc2.dataset.CoordinateSystem;
+import ucar.nc2.dataset.CoordinateTransform;
+import ucar.nc2.dataset.DatasetUrl;
+import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.dataset.ProjectionCT;
+import ucar.nc2.dataset.VariableEnhanced;
+import ucar.nc2.iosp.hdf5.H5iosp;
+import ucar.nc2.iosp.netcdf3.N3iosp;
+import ucar.nc2.util.DiskCache2;
+import ucar.unidata.util.test.TestDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.Formatter;
+
+/**
+ * Files opened from a HeaderSnapshot are the same as when opened from the file.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestHeaderSnapshot {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private String location;
+
+  @Before
+  public void setup() throws IOException {
+    File dataFile = new File(tempFolder.getRoot(), "testCFGridWriter.nc4");
+    Files.copy(new File(TestDir.cdmLocalTestDataDir + "testCFGridWriter.nc4").toPath(), dataFile.toPath());
+    location = dataFile.getPath();
+
+    DiskCache2 dc = new DiskCache2(tempFolder.newFolder("cache").getPath(), false, 0, 0);
+    dc.setAlwaysUseCache(true);
+    HeaderSnapshot.setDiskCache(dc);
+  }
+
+  @After
+  public void restore() {
+    HeaderSnapshot.setDiskCache(null);
+  }
+
+  private void compareData(NetcdfFile expected, NetcdfFile actual) throws IOException {
+    Assert.assertEquals(expected.getVariables().size(), actual.getVariables().size());
+    for (Variable v : expected.getVariables()) {
+      Variable va = actual.findVariable(v.getFullNameEscaped());
+      Assert.assertNotNull(v.getFullName(), va);
+      Array want = v.read();
+      Array got = va.read();
+      Assert.assertArrayEquals(v.getFullName(), want.getShape(), got.getShape());
+      Assert.assertTrue(v.getFullName(), MAMath.equals(want, got));
+    }
+  }
+
+  @Test
+  public void testSnapshot() throws IOException {
+    try (NetcdfFile ncfile = HeaderSnapshot.open(location, -1, null, null)) {
+      Assert.assertTrue(ncfile.getIosp() instanceof H5iosp);
+    }
+    Assert.assertTrue(HeaderSnapshot.getDiskCache().getCacheFile(location + ".ncsx").exists());
+
+    try (NetcdfFile expected = NetcdfFile.open(location);
+         NetcdfFile ncfile = HeaderSnapshot.open(location, -1, null, null)) {
+      Assert.assertTrue(ncfile.getIosp() instanceof HeaderSnapshotIosp);
+      HeaderSnapshotIosp iosp = (HeaderSnapshotIosp) ncfile.getIosp();
+      Assert.assertEquals(expected.toString(), ncfile.toString());
+      Assert.assertEquals(expected.getFileTypeId(), ncfile.getFileTypeId());
+      Assert.assertEquals(expected.getLastModified(), ncfile.getLastModified());
+
+      // small variables are in the snapshot
+      compareData(expected, ncfile);
+      Assert.assertFalse(iosp.isDataFileOpen());
+
+      // others are read from the file
+      Variable v = ncfile.findVariable("Temperature_surface");
+      v.invalidateCache();
+      v.setCaching(false);
+      Assert.assertTrue(MAMath.equals(expected.findVariable("Temperature_surface").read(), v.read()));
+      Assert.assertTrue(iosp.isDataFileOpen());
+    }
+  }
+
+  @Test
+  public void testOutOfDate() throws IOException {
+    HeaderSnapshot.open(location, -1, null, null).close();
+    File dataFile = new File(location);
+    Assert.assertTrue(dataFile.setLastModified(dataFile.lastModified() - 10000));
+
+    try (NetcdfFile ncfile = HeaderSnapshot.open(location, -1, null, null)) {
+      Assert.assertTrue(ncfile.getIosp() instanceof H5iosp);
+    }
+    try (NetcdfFile ncfile = HeaderSnapshot.open(location, -1, null, null)) {
+      Assert.assertTrue(ncfile.getIosp() instanceof HeaderSnapshotIosp);
+    }
+  }
+
+  @Test
+  public void testNetcdf3() throws IOException {
+    File dataFile = copy("ncml/fmrc/GFS_Puerto_Rico_191km_20090730_0000.nc");
+    HeaderSnapshot.open(dataFile.getPath(), -1, null, null).close();
+
+    try (NetcdfFile expected = NetcdfFile.open(dataFile.getPath());
+         NetcdfFile ncfile = HeaderSnapshot.open(dataFile.getPath(), -1, null, null)) {
+      Assert.assertTrue(expected.getIosp() instanceof N3iosp);
+      Assert.assertTrue(ncfile.getIosp() instanceof HeaderSnapshotIosp);
+      Assert.assertEquals(expected.toString(), ncfile.toString());
+      compareData(expected, ncfile);
+    }
+  }
+
+  // release() and reacquire() in the FileCache keep the original open, so its header is not read again
+  @Test
+  public void testFileCache() throws IOException {
+    HeaderSnapshot.open(location, -1, null, null).close();
+
+    NetcdfDataset.initNetcdfFileCache(1, 10, -1);
+    try {
+      DatasetUrl durl = DatasetUrl.findDatasetUrl(location);
+      Array want;
+      try (NetcdfFile expected = NetcdfFile.open(location)) {
+        want = expected.findVariable("Temperature_surface").read();
+      }
+
+      HeaderSnapshotIosp iosp;
+      try (NetcdfFile ncfile = NetcdfDataset.acquireFile(durl, null)) {
+        iosp = (HeaderSnapshotIosp) ncfile.getIosp();
+        Assert.assertTrue(MAMath.equals(want, readNoCache(ncfile, "Temperature_surface")));
+        Assert.assertEquals(1, iosp.getDataFileOpens());
+      } // released into the cache
+
+      try (NetcdfFile ncfile = NetcdfDataset.acquireFile(durl, null)) { // reacquired
+        Assert.assertSame(iosp, ncfile.getIosp());
+        Assert.assertTrue(iosp.isDataFileOpen());
+        Assert.assertTrue(MAMath.equals(want, readNoCache(ncfile, "Temperature_surface")));
+        Assert.assertEquals(1, iosp.getDataFileOpens());
+      }
+
+    } finally {
+      NetcdfDataset.disableNetcdfFileCache();
+    }
+  }
+
+  private Array readNoCache(NetcdfFile ncfile, String name) throws IOException {
+    Variable v = ncfile.findVariable(name);
+    v.invalidateCache();
+    v.setCaching(false);
+    return v.read();
+  }
+
+  @Test
+  public void testNetcdfDataset() throws IOException {
+    String fromSnapshot;
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) { // makes the snapshot
+      Assert.assertTrue(ncd.getReferencedFile().getIosp() instanceof HeaderSnapshotIosp);
+    }
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) {
+      HeaderSnapshotIosp iosp = (HeaderSnapshotIosp) ncd.getReferencedFile().getIosp();
+      fromSnapshot = showCoordSystems(ncd);
+      Assert.assertFalse(iosp.isDataFileOpen());
+    }
+
+    HeaderSnapshot.setDiskCache(null);
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) {
+      Assert.assertTrue(ncd.getReferencedFile().getIosp() instanceof H5iosp);
+      Assert.assertEquals(showCoordSystems(ncd), fromSnapshot);
+    }
+  }
+
+  // the NcML and the coordinate systems are restored from the snapshot
+  @Test
+  public void testNcml() throws IOException {
+    File dataFile = copy("ncml/fmrc/GFS_Puerto_Rico_191km_20090730_0000.nc");
+    File ncmlFile = new File(tempFolder.getRoot(), "GFS.ncml");
+    try (PrintWriter pw = new PrintWriter(ncmlFile, "UTF-8")) {
+      pw.printf("<?xml version='1.0' encoding='UTF-8'?>%n");
+      pw.printf("<netcdf xmlns='http://www.unidata.ucar.edu/namespaces/netcdf/ncml-2.2' location='%s'>%n", dataFile.toURI());
+      pw.printf("  <attribute name='title' value='snapshot'/>%n");
+      pw.printf("  <variable name='Temperature' orgName='Temperature_isobaric'>%n");
+      pw.printf("    <attribute name='scale_factor' type='float' value='2.0'/>%n");
+      pw.printf("  </variable>%n");
+      pw.printf("</netcdf>%n");
+    }
+    String location = ncmlFile.getPath();
+
+    String expectedCS, expectedCDL;
+    Array expectedData;
+    DiskCache2 dc = HeaderSnapshot.getDiskCache();
+    HeaderSnapshot.setDiskCache(null);
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) {
+      expectedCS = showCoordSystems(ncd);
+      expectedCDL = ncd.toString();
+      expectedData = ncd.findVariable("Temperature").read();
+    }
+    HeaderSnapshot.setDiskCache(dc);
+
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) { // makes the snapshot
+      HeaderSnapshotIosp iosp = (HeaderSnapshotIosp) ncd.getReferencedFile().getIosp();
+      Assert.assertTrue(iosp.isDataFileOpen()); // it was used to make the snapshot
+      Assert.assertEquals(expectedCS, showCoordSystems(ncd));
+    }
+
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) {
+      HeaderSnapshotIosp iosp = (HeaderSnapshotIosp) ncd.getReferencedFile().getIosp();
+      Assert.assertEquals(expectedCS, showCoordSystems(ncd));
+      Assert.assertEquals(expectedCDL, ncd.toString());
+      Assert.assertEquals("snapshot", ncd.findAttValueIgnoreCase(null, "title", null));
+      Assert.assertFalse(iosp.isDataFileOpen());
+
+      // scale_factor is applied once
+      Assert.assertTrue(MAMath.equals(expectedData, ncd.findVariable("Temperature").read()));
+      Assert.assertTrue(iosp.isDataFileOpen());
+      Assert.assertEquals(1, iosp.getDataFileOpens());
+    }
+
+    // the snapshot is out of date when the referenced file changes
+    Assert.assertTrue(dataFile.setLastModified(dataFile.lastModified() - 10000));
+    try (NetcdfDataset ncd = NetcdfDataset.openDataset(location)) {
+      HeaderSnapshotIosp iosp = (HeaderSnapshotIosp) ncd.getReferencedFile().getIosp();
+      Assert.assertTrue(iosp.isDataFileOpen()); // a new snapshot was made
+    }
+  }
+
+  private File copy(String name) throws IOException {
+    File from = new File(TestDir.cdmLocalTestDataDir + name);
+    File to = new File(tempFolder.getRoot(), from.getName());
+    Files.copy(from.toPath(), to.toPath());
+    return to;
+  }
+
+  private String showCoordSystems(NetcdfDataset ncd) {
+    Assert.assertTrue(ncd.getCoordinateSystems().size() > 0);
+    Formatter f = new Formatter();
+    f.format("%s%n", ncd.getConventionUsed());
+    for (CoordinateSystem cs : ncd.getCoordinateSystems()) {
+      f.format("%s implicit=%s%n", cs.getName(), cs.isImplicit());
+      for (CoordinateTransform ct : cs.getCoordinateTransforms()) {
+        f.format(" %s %s%n", ct.getName(), ct.getParameters());
+        if (ct instanceof ProjectionCT)
+          f.format(" %s%n", ((ProjectionCT) ct).getProjection().paramsToString());
+      }
+    }
+    for (CoordinateAxis axis : ncd.getCoordinateAxes())
+      f.format("%s %s %s %s%n", axis.getFullName(), axis.getClass().getSimpleName(), axis.getAxisType(), axis.getPositive());
+    for (Variable v : ncd.getVariables())
+      f.format("%s %s %s%n", v.getFullName(), v.getDataType(), ((VariableEnhanced) v).getCoordinateSystems());
+    return f.toString();
+  }
+}
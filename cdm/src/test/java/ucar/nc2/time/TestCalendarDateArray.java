@@ -0,0 +1,76 @@
+/* Copyright */
+package ucar.nc2.time;
+
+import org.junit.Assert;
+import org.junit.Test;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test CalendarDateArray against CalendarDates made one at a time.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestCalendarDateArray {
+
+  private void check(String calName, String unitString, double[] offsets) {
+    CalendarDateUnit dateUnit = CalendarDateUnit.withCalendar(Calendar.get(calName), unitString);
+    CalendarDateArray array = CalendarDateArray.fromOffsets(dateUnit, offsets);
+
+    List<CalendarDate> expected = new ArrayList<>();
+    for (double val : offsets)
+      if (!Double.isNaN(val)) expected.add(dateUnit.makeCalendarDate(val));
+
+    Assert.assertEquals(expected.size(), array.size());
+    Assert.assertEquals(expected, array.asList());
+    for (int i = 0; i < expected.size(); i++) {
+      Assert.assertEquals(expected.get(i).getMillis(), array.getMillis(i));
+      Assert.assertEquals(i, array.asList().indexOf(expected.get(i)));
+      Assert.assertEquals(expected.get(i).toString(), array.getCalendarDate(i).toString());
+    }
+    Assert.assertEquals(CalendarDateArray.of(expected).asList(), array.asList());
+  }
+
+  @Test
+  public void testFromOffsets() {
+    check("gregorian", "hours since 2000-01-01T00:00:00Z", new double[]{0, 1, 2.5, Double.NaN, 24, 8760});
+    check("noleap", "days since 0001-01-01", new double[]{0, 59, 365, 730.25});
+    check("360_day", "days since 1850-01-01", new double[]{0, 30, 360, 36000});
+    check("gregorian", "calendar months since 1990-01-15", new double[]{0, 1, 13});
+    check("gregorian", "seconds since 1970-01-01 00:00:00", new double[]{-1.0e9, 0, 1.5e9});
+  }
+
+  @Test
+  public void testFind() throws InvalidRangeException {
+    CalendarDateUnit dateUnit = CalendarDateUnit.of(null, "hours since 2000-01-01T00:00:00Z");
+    double[] offsets = new double[]{0, 6, 6, 12, 24, 48};
+    CalendarDateArray array = CalendarDateArray.fromOffsets(dateUnit, offsets);
+    Assert.assertTrue(array.isAscending());
+
+    Assert.assertEquals(0, array.findIndex(dateUnit.makeCalendarDate(-1.0)));
+    Assert.assertEquals(0, array.findIndex(dateUnit.makeCalendarDate(0.0)));
+    Assert.assertEquals(0, array.findIndex(dateUnit.makeCalendarDate(5.0)));
+    Assert.assertEquals(2, array.findIndex(dateUnit.makeCalendarDate(6.0)));
+    Assert.assertEquals(3, array.findIndex(dateUnit.makeCalendarDate(13.0)));
+    Assert.assertEquals(5, array.findIndex(dateUnit.makeCalendarDate(48.0)));
+    Assert.assertEquals(5, array.findIndex(dateUnit.makeCalendarDate(100.0)));
+
+    Assert.assertEquals(1, array.indexOf(dateUnit.makeCalendarDate(6.0)));
+    Assert.assertEquals(-1, array.indexOf(dateUnit.makeCalendarDate(7.0)));
+
+    CalendarDateArray subset = array.subset(new Range(1, 5, 2));
+    Assert.assertEquals(3, subset.size());
+    Assert.assertEquals(array.getCalendarDate(3), subset.getCalendarDate(1));
+
+    // not sorted: linear search
+    CalendarDateArray unsorted = CalendarDateArray.fromOffsets(dateUnit, new double[]{24, 0, 12});
+    Assert.assertFalse(unsorted.isAscending());
+    Assert.assertEquals(2, unsorted.indexOf(dateUnit.makeCalendarDate(12.0)));
+    Assert.assertEquals(0, unsorted.findIndex(dateUnit.makeCalendarDate(12.0)));
+  }
+
+}
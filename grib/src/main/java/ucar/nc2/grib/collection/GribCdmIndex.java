@@ -121,6 +121,25 @@ public class GribCdmIndex implements IndexReader {
     if (gribCollectionCache != null) gribCollectionCache.clearCache(true);
   }
 
+  static private boolean mapIndexFiles = false;
+
+  /**
+   * Memory map the ncx index files when opening a GribCollection.
+   * The record arrays of each variable are then decoded from the mapped file when first needed,
+   * and only softly held afterwards, so they can be discarded under memory pressure and decoded again.
+   * This keeps the heap footprint of a cached GribCollection small, so the gribCollectionCache can be made much larger.
+   * Default is false: the record arrays are read through a RandomAccessFile, and kept until the GribCollection is released.
+   *
+   * @param b true to map index files
+   */
+  static public void setMapIndexFiles(boolean b) {
+    mapIndexFiles = b;
+  }
+
+  static public boolean isMapIndexFiles() {
+    return mapIndexFiles;
+  }
+
   /////////////////////////////////////////////////////////////////////////////////////////////////
 
   static public File getTopIndexFileFromConfig(FeatureCollectionConfig config) {
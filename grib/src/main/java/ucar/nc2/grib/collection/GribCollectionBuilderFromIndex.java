@@ -113,8 +113,15 @@ abstract class GribCollectionBuilderFromIndex {
       }
       if (debug) System.out.printf("GribCollectionBuilderFromIndex proto len = %d%n", size);
 
-      byte[] m = new byte[size];
-      raf.readFully(m);
+      byte[] m;
+      if (GribCdmIndex.isMapIndexFiles())
+        gc.mappedIndex = MappedIndex.open(raf.getLocation());
+      if (gc.mappedIndex != null) {
+        m = gc.mappedIndex.read(raf.getFilePointer(), size);
+      } else {
+        m = new byte[size];
+        raf.readFully(m);
+      }
 
       /*
       message GribCollection {
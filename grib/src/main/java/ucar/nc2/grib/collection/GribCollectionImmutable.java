@@ -62,6 +62,7 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -71,6 +72,8 @@ import java.util.*;
 /**
  * An Immutable GribCollection, corresponds to one index (ncx) file.
  * The index file has already been read; it is opened and the closed when a variable is first accessed to read in the record array (sa).
+ * If the index was memory mapped (see GribCdmIndex.setMapIndexFiles()), the record arrays are decoded from the mapping,
+ * and only softly held.
  * <p>
  * possible we could use the Proto equivalents, and eliminate GribCollectionMutable ?
  *
@@ -121,6 +124,7 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
   protected final Map<Integer, MFile> fileMap; // all the files used in the GC; key is the index in original collection, GC has subset of them
   protected final GribTables cust;
   protected final String indexFilename;       // full path of index Filename
+  protected final MappedIndex mappedIndex;    // may be null
 
   protected FileCacheIF objCache = null;  // optional object cache - used in the TDS
 
@@ -145,6 +149,7 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
     this.cust = gc.cust;
     this.dateRange = gc.dateRange;
 
+    this.mappedIndex = gc.mappedIndex;
     if (gc.indexFilename != null) {
       indexFilename = gc.indexFilename;
 
@@ -482,6 +487,7 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
 
     // read in on demand
     private SparseArray<Record> sa;   // for GC only; lazily read; same array shape as variable, minus x and y
+    private SoftReference<SparseArray<Record>> saRef; // used instead of sa when the index is mapped
 
     protected VariableIndex(GroupGC g, GribCollectionMutable.VariableIndex gcVar) {
       this.group = g;
@@ -498,17 +504,50 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
     }
 
     public synchronized void readRecords() throws IOException {
-      if (this.sa != null) return;
+      if (getSA() != null) return;
 
       if (recordsLen == 0)
         return;
-      byte[] b = new byte[recordsLen];
+      readSA();
+    }
 
-      try (RandomAccessFile indexRaf = RandomAccessFile.acquire(indexFilename)) {
+    // already read and not released
+    private SparseArray<Record> getSA() {
+      if (sa != null) return sa;
+      return (saRef == null) ? null : saRef.get();
+    }
+
+    // if the records were read and then released, read them again
+    private SparseArray<Record> records() {
+      SparseArray<Record> result = getSA();
+      if (result == null && saRef != null) {
+        try {
+          result = readSA();
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to reread records from " + indexFilename, e);
+        }
+      }
+      return result;
+    }
 
+    private SparseArray<Record> readSA() throws IOException {
+      if (mappedIndex != null) {
+        SparseArray<Record> result = decodeSA(mappedIndex.read(recordsPos, recordsLen));
+        saRef = new SoftReference<>(result);
+        return result;
+      }
+
+      byte[] b = new byte[recordsLen];
+      try (RandomAccessFile indexRaf = RandomAccessFile.acquire(indexFilename)) {
         indexRaf.seek(recordsPos);
         indexRaf.readFully(b);
+      }
+      sa = decodeSA(b);
+      return sa;
+    }
 
+    private SparseArray<Record> decodeSA(byte[] b) throws IOException {
+      try {
         /*
         message SparseArray {
           repeated uint32 size = 2 [packed=true];     // multidim sizes = shape[]
@@ -536,7 +575,7 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
           records.add(new Record(pr.getFileno(), pr.getStartPos(), pr.getBmsOffset(), pr.getDrsOffset()));
         }
         int ndups = proto.getNdups();
-        this.sa = new SparseArray<>(size, track, records, ndups);
+        return new SparseArray<>(size, track, records, ndups);
 
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         logger.error(" file={} recordsLen={} recordPos={}", indexFilename, recordsLen, recordsPos);
@@ -545,11 +584,11 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
     }
 
     public synchronized Record getRecordAt(int sourceIndex) {
-      return sa.getContent(sourceIndex);
+      return records().getContent(sourceIndex);
     }
 
     public synchronized Record getRecordAt(int[] sourceIndex) {
-      return sa.getContent(sourceIndex);
+      return records().getContent(sourceIndex);
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -630,7 +669,7 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
 
         want[count++] = idx;
       }
-      return sa.getContent(want);
+      return records().getContent(want);
     }
 
     public List<Coordinate> getCoordinates() {
@@ -666,12 +705,13 @@ public abstract class GribCollectionImmutable implements Closeable, FileCacheabl
       return coordIndex;
     }
 
-    public SparseArray<Record> getSparseArray() {
-      return sa;
+    public synchronized SparseArray<Record> getSparseArray() {
+      return records();
     }
 
-    public int getNRecords() {
-      return sa == null ? -1 : sa.countNotMissing();
+    public synchronized int getNRecords() {
+      SparseArray<Record> records = getSA();
+      return records == null ? -1 : records.countNotMissing();
     }
 
     public int getTableVersion() {
@@ -125,6 +125,7 @@ public class GribCollectionMutable implements Closeable {
   // not stored in index
   protected RandomAccessFile indexRaf; // this is the raf of the index (ncx) file
   protected String indexFilename;
+  protected MappedIndex mappedIndex;   // optional, see GribCdmIndex.setMapIndexFiles()
   protected long lastModified;
   protected long fileSize;
 
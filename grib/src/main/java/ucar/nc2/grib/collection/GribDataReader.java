@@ -77,6 +77,15 @@ public abstract class GribDataReader {
   }
 
   protected abstract float[] readData(RandomAccessFile rafData, DataRecord dr) throws IOException;
+
+  /**
+   * Read just the (y, x) subset of the record, if the packing allows it, without decoding the entire record.
+   * @return data in (y, x) order, or null if readData() must be used.
+   */
+  protected float[] readDataSubset(RandomAccessFile rafData, DataRecord dr, RangeIterator yRange, RangeIterator xRange) throws IOException {
+    return null;
+  }
+
   protected abstract void show(RandomAccessFile rafData, long dataPos) throws IOException;
 
   /////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -262,7 +271,7 @@ public abstract class GribDataReader {
 
   /**
    * Read all of the data records that have been added.
-   * The full (x,y) record is read, the reciever will subset the (x, y) as needed.
+   * If possible only the wanted (x,y) subset is decoded, otherwise the full (x,y) record is read, and the reciever will subset the (x, y).
    * @param dataReceiver send data here.
    * @throws IOException
    */
@@ -298,6 +307,12 @@ public abstract class GribDataReader {
           show(rafData, dr.record.pos + dr.record.drsOffset);
         }
 
+        float[] subset = readDataSubset(rafData, dr, dataReceiver.getYRange(), dataReceiver.getXRange());
+        if (subset != null) {
+          dataReceiver.addSubsetData(subset, dr.resultIndex);
+          continue;
+        }
+
         float[] data = readData(rafData, dr);
         GdsHorizCoordSys hcs = vindex.group.getGdsHorizCoordSys();
         dataReceiver.addData(data, dr.resultIndex, hcs.nx);
@@ -344,6 +359,12 @@ public abstract class GribDataReader {
           show(rafData, dr.record.pos + dr.record.drsOffset);
         }
 
+        float[] subset = readDataSubset(rafData, dr, dataReceiver.getYRange(), dataReceiver.getXRange());
+        if (subset != null) {
+          dataReceiver.addSubsetData(subset, dr.resultIndex);
+          continue;
+        }
+
         float[] data = readData(rafData, dr);
         GdsHorizCoordSys hcs = dr.hcs;
         dataReceiver.addData(data, dr.resultIndex, hcs.nx);
@@ -382,6 +403,9 @@ public abstract class GribDataReader {
 
   public interface DataReceiverIF {
     void addData(float[] data, int resultIndex, int nx) throws IOException;
+    void addSubsetData(float[] subset, int resultIndex) throws IOException; // already subset to (yRange, xRange)
+    RangeIterator getYRange();
+    RangeIterator getXRange();
     void setDataToZero(); // only used when debugging with gbx/ncx only, to fake the data
     Array getArray();
   }
@@ -420,6 +444,22 @@ public abstract class GribDataReader {
       }
     }
 
+    @Override
+    public void addSubsetData(float[] subset, int resultIndex) throws IOException {
+      float[] data = (float[]) dataArray.getStorage();
+      System.arraycopy(subset, 0, data, resultIndex * horizSize, horizSize);
+    }
+
+    @Override
+    public RangeIterator getYRange() {
+      return yRange;
+    }
+
+    @Override
+    public RangeIterator getXRange() {
+      return xRange;
+    }
+
     // optimization
     @Override
     public void setDataToZero() {
@@ -489,6 +529,15 @@ public abstract class GribDataReader {
               hcs.nxRaw, hcs.nyRaw, hcs.nptsInLine);
     }
 
+    @Override
+    protected float[] readDataSubset(RandomAccessFile rafData, GribDataReader.DataRecord dr, RangeIterator yRange, RangeIterator xRange) throws IOException {
+      GdsHorizCoordSys hcs = dr.hcs;
+      if (hcs.nptsInLine != null) return null; // thin grids must be expanded first
+      long dataPos = dr.record.pos + dr.record.drsOffset;
+      long bmsPos = (dr.record.bmsOffset > 0) ? dr.record.pos + dr.record.bmsOffset : 0;
+      return Grib2Record.readDataSubset(rafData, dataPos, bmsPos, hcs.gdsNumberPoints, hcs.getScanMode(), hcs.nxRaw, yRange, xRange);
+    }
+
     @Override
     protected void show(RandomAccessFile rafData, long pos) throws IOException {
       Grib2Record gr = Grib2RecordScanner.findRecordByDrspos(rafData, pos);
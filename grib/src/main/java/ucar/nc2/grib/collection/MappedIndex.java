@@ -0,0 +1,73 @@
+/* Copyright */
+package ucar.nc2.grib.collection;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only memory mapping of an ncx index file.
+ * The bytes live in the OS page cache instead of the heap, and no file handle is held after the file is mapped.
+ * LOOK the mapping is only released when this object is garbage collected; on Windows the index file cant be deleted until then.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@ThreadSafe
+class MappedIndex {
+
+  /**
+   * Map an index file.
+   *
+   * @param indexFilename path of the index file
+   * @return the mapping, or null if the file is too large to be mapped
+   * @throws IOException on read error
+   */
+  static MappedIndex open(String indexFilename) throws IOException {
+    try (FileChannel channel = FileChannel.open(Paths.get(indexFilename), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) return null;
+      return new MappedIndex(indexFilename, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    }
+  }
+
+  private final String location;
+  private final MappedByteBuffer buffer; // never change its position
+
+  private MappedIndex(String location, MappedByteBuffer buffer) {
+    this.location = location;
+    this.buffer = buffer;
+  }
+
+  public String getLocation() {
+    return location;
+  }
+
+  public int getSize() {
+    return buffer.capacity();
+  }
+
+  /**
+   * Copy bytes out of the index.
+   *
+   * @param pos starting position in the file
+   * @param len number of bytes
+   * @return the bytes
+   * @throws IOException if pos, len is not inside the file
+   */
+  public byte[] read(long pos, int len) throws IOException {
+    if (pos < 0 || len < 0 || pos + len > buffer.capacity())
+      throw new IOException("MappedIndex " + location + ": read pos=" + pos + " len=" + len + " past end=" + buffer.capacity());
+    byte[] result = new byte[len];
+    ByteBuffer bb = buffer.duplicate();
+    bb.position((int) pos);
+    bb.get(result);
+    return result;
+  }
+
+}
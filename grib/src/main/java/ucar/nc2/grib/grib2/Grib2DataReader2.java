@@ -33,19 +33,26 @@
 
 package ucar.nc2.grib.grib2;
 
+import ucar.ma2.RangeIterator;
 import ucar.nc2.grib.GribNumbers;
 import ucar.nc2.grib.GribUtils;
 import ucar.nc2.iosp.BitReader;
 import ucar.unidata.io.RandomAccessFile;
 
+import java.awt.Rectangle;
 import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.awt.image.BufferedImage;
 import java.util.Arrays;
+import java.util.Iterator;
 
 /**
  * Reads the data from one grib2 record.
@@ -149,6 +156,146 @@ public class Grib2DataReader2 {
     return data;
   }
 
+  /**
+   * Decode only the points in the (y, x) subset, without unpacking the entire record.
+   * Only done for simple packing (5.0) and PNG (5.41) without a bitmap, on regular grids whose rows need no reordering.
+   *
+   * @param raf           from this RandomAccessFile
+   * @param bitmapSection the record's bitmap section
+   * @param gdrs          the record's data representation
+   * @param yRange        wanted rows
+   * @param xRange        wanted columns
+   * @return data in (y, x) order, of length yRange.length() * xRange.length(), or null if the record cant be subset directly.
+   * @throws IOException on read error
+   */
+  public float[] getDataSubset(RandomAccessFile raf, Grib2SectionBitMap bitmapSection, Grib2Drs gdrs,
+                               RangeIterator yRange, RangeIterator xRange) throws IOException {
+    if (dataTemplate != 0 && dataTemplate != 41) return null;
+    if (bitmapSection.getBitMapIndicator() != 255) return null;
+    if (!GribUtils.scanModeXisPositive(scanMode) || !GribUtils.scanModeSameDirection(scanMode)) return null;
+    if (nx <= 0 || dataNPoints != totalNPoints) return null;
+
+    int[] ys = toArray(yRange);
+    int[] xs = toArray(xRange);
+    if (ys.length == 0 || xs.length == 0) return new float[0];
+    int ymin = min(ys), ymax = max(ys), xmin = min(xs), xmax = max(xs);
+    if (ymin < 0 || xmin < 0 || xmax >= nx || (long) ymax * nx + xmax >= totalNPoints) return null;
+
+    Grib2Drs.Type0 gdrs0 = (Grib2Drs.Type0) gdrs;
+    if (dataTemplate == 0)
+      return getData0Subset(raf, gdrs0, ys, xs, xmin, xmax);
+    else
+      return getData41Subset(raf, gdrs0, ys, xs, ymin, ymax, xmin, xmax);
+  }
+
+  // Grid point data - simple packing: value i is at bit offset i * nb, so each wanted row is read and unpacked separately
+  private float[] getData0Subset(RandomAccessFile raf, Grib2Drs.Type0 gdrs, int[] ys, int[] xs, int xmin, int xmax) throws IOException {
+    int nb = gdrs.numberOfBits;
+    float DD = (float) java.lang.Math.pow((double) 10, (double) gdrs.decimalScaleFactor);
+    float R = gdrs.referenceValue;
+    float EE = (float) java.lang.Math.pow( 2.0, (double) gdrs.binaryScaleFactor);
+
+    float[] data = new float[ys.length * xs.length];
+    if (nb == 0) {
+      Arrays.fill(data, R / DD);
+      return data;
+    }
+    if (nb > 32 || ((long) totalNPoints * nb + 7) / 8 > dataLength - 5) return null; // let the full decode deal with it
+
+    long dataStart = startPos + 5;
+    byte[] buf = new byte[(int) (((long) (xmax - xmin + 1) * nb + 7) / 8) + 1];
+    int count = 0;
+    for (int y : ys) {
+      long firstBit = ((long) y * nx + xmin) * nb;
+      long lastBit = ((long) y * nx + xmax + 1) * nb;  // exclusive
+      int nbytes = (int) ((lastBit + 7) / 8 - firstBit / 8);
+      raf.seek(dataStart + firstBit / 8);
+      raf.readFully(buf, 0, nbytes);
+
+      int bitOffset0 = (int) (firstBit % 8);
+      for (int x : xs) {
+        long bits = extractBits(buf, bitOffset0 + (long) (x - xmin) * nb, nb);
+        data[count++] = (R + bits * EE) / DD;
+      }
+    }
+    return data;
+  }
+
+  // read nb (<= 32) bits starting at bitOffset, most significant bit first
+  static long extractBits(byte[] buf, long bitOffset, int nb) {
+    int bytePos = (int) (bitOffset / 8);
+    int bitPos = (int) (bitOffset % 8);
+    long result = 0;
+    int have = 0;
+    while (have < nb + bitPos) {   // at most 5 bytes when nb <= 32
+      result = (result << 8) | (buf[bytePos++] & 0xff);
+      have += 8;
+    }
+    result >>>= (have - bitPos - nb);
+    return result & ((1L << nb) - 1);
+  }
+
+  // Grid point data - PNG: only decode the bounding box of the wanted rows and columns
+  private float[] getData41Subset(RandomAccessFile raf, Grib2Drs.Type0 gdrs, int[] ys, int[] xs, int ymin, int ymax, int xmin, int xmax) throws IOException {
+    int nb = gdrs.numberOfBits;
+    float DD = (float) java.lang.Math.pow((double) 10, (double) gdrs.decimalScaleFactor);
+    float R = gdrs.referenceValue;
+    float EE = (float) java.lang.Math.pow( 2.0, (double) gdrs.binaryScaleFactor);
+
+    float[] data = new float[ys.length * xs.length];
+    if (nb == 0) {
+      Arrays.fill(data, R);  // same as getData41
+      return data;
+    }
+    if (nb > 16) return null; // multi band (RGB) images are left to the full decode
+
+    Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("png");
+    if (!readers.hasNext()) return null;
+    ImageReader imageReader = readers.next();
+
+    byte[] buf = new byte[dataLength - 5];
+    raf.seek(startPos + 5);
+    raf.readFully(buf);
+    Raster raster;
+    try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(buf))) {
+      imageReader.setInput(iis, true, true);
+      if (imageReader.getWidth(0) != nx) return null;
+      ImageReadParam param = imageReader.getDefaultReadParam();
+      param.setSourceRegion(new Rectangle(xmin, ymin, xmax - xmin + 1, ymax - ymin + 1));
+      raster = imageReader.read(0, param).getRaster();
+    } finally {
+      imageReader.dispose();
+    }
+    if (raster.getNumBands() != 1) return null;
+
+    int count = 0;
+    for (int y : ys) {
+      for (int x : xs) {
+        data[count++] = (R + raster.getSample(x - xmin, y - ymin, 0) * EE) / DD;
+      }
+    }
+    return data;
+  }
+
+  private static int[] toArray(RangeIterator range) {
+    int[] result = new int[range.length()];
+    int count = 0;
+    for (int val : range) result[count++] = val;
+    return result;
+  }
+
+  private static int min(int[] vals) {
+    int result = Integer.MAX_VALUE;
+    for (int val : vals) result = Math.min(result, val);
+    return result;
+  }
+
+  private static int max(int[] vals) {
+    int result = Integer.MIN_VALUE;
+    for (int val : vals) result = Math.max(result, val);
+    return result;
+  }
+
   public int[] getRawData(RandomAccessFile raf, Grib2SectionBitMap bitmapSection, Grib2Drs gdrs) throws IOException {
     this.bitmap = bitmapSection.getBitmap(raf);
     this.bitmapIndicator = bitmapSection.getBitMapIndicator();
@@ -33,6 +33,7 @@
 
 package ucar.nc2.grib.grib2;
 
+import ucar.ma2.RangeIterator;
 import ucar.nc2.grib.GribData;
 import ucar.nc2.grib.QuasiRegular;
 import ucar.nc2.time.CalendarDate;
@@ -364,6 +365,42 @@ public class Grib2Record {
     return data;
   }
 
+  /**
+   * Read just the (y, x) subset of the data, without decoding the entire record, if the packing allows it.
+   * Thin grids are not handled.
+   *
+   * @param raf             from this RandomAccessFile
+   * @param drsPos          Grib2SectionDataRepresentation starts here
+   * @param bmsPos          if non-zero, use the bms that starts here
+   * @param gdsNumberPoints gdss.getNumberPoints()
+   * @param scanMode        gds.scanMode
+   * @param nx              gds.nx
+   * @param yRange          wanted rows
+   * @param xRange          wanted columns
+   * @return data in (y, x) order, or null if the record must be read with readData()
+   * @throws IOException on read error
+   */
+  static public float[] readDataSubset(RandomAccessFile raf, long drsPos, long bmsPos, int gdsNumberPoints, int scanMode, int nx,
+                                       RangeIterator yRange, RangeIterator xRange) throws IOException {
+    raf.seek(drsPos);
+    Grib2SectionDataRepresentation drs = new Grib2SectionDataRepresentation(raf);
+    Grib2SectionBitMap bms = new Grib2SectionBitMap(raf);
+    Grib2SectionData dataSection = new Grib2SectionData(raf);
+
+    if (bmsPos > 0)
+      bms = Grib2SectionBitMap.factory(raf, bmsPos);
+
+    Grib2DataReader2 reader = new Grib2DataReader2(drs.getDataTemplate(), gdsNumberPoints, drs.getDataPoints(),
+            scanMode, nx, dataSection.getStartingPosition(), dataSection.getMsgLength());
+
+    Grib2Drs gdrs = drs.getDrs(raf);
+    float[] data = reader.getDataSubset(raf, bms, gdrs, yRange, xRange);
+
+    if (data != null && getlastRecordRead)
+      lastRecordRead = Grib2RecordScanner.findRecordByDrspos(raf, drsPos);
+    return data;
+  }
+
   public void check(RandomAccessFile raf, Formatter f) throws IOException {
     long messLen = is.getMessageLength();
     long startPos = is.getStartPos();
@@ -0,0 +1,80 @@
+/* Copyright */
+package ucar.nc2.grib.collection;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import thredds.featurecollection.FeatureCollectionConfig;
+import ucar.ma2.Array;
+import ucar.ma2.MAMath;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read a GRIB file through a memory mapped ncx4 index.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestMappedIndex {
+  static private final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(TestMappedIndex.class);
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @After
+  public void reset() {
+    GribCdmIndex.setMapIndexFiles(false);
+  }
+
+  private List<Array> readAll(String filename) throws IOException {
+    List<Array> result = new ArrayList<>();
+    try (NetcdfFile ncfile = NetcdfFile.open(filename)) {
+      for (Variable v : ncfile.getVariables())
+        result.add(v.read());
+    }
+    return result;
+  }
+
+  @Test
+  public void testMapped() throws IOException {
+    File grib = tempFolder.newFile("cosmo-eu.grib2");
+    Files.copy(new File("../grib/src/test/data/cosmo-eu.grib2").toPath(), grib.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+
+    List<Array> expected = readAll(grib.getPath()); // also writes the indexes
+
+    GribCdmIndex.setMapIndexFiles(true);
+    List<Array> mapped = readAll(grib.getPath());
+    Assert.assertEquals(expected.size(), mapped.size());
+    for (int i = 0; i < expected.size(); i++)
+      Assert.assertTrue(MAMath.fuzzyEquals(expected.get(i), mapped.get(i)));
+
+    try (GribCollectionImmutable gc = GribCdmIndex.openCdmIndex(grib.getPath() + GribCdmIndex.NCX_SUFFIX, new FeatureCollectionConfig(), false, logger)) {
+      Assert.assertNotNull(gc.mappedIndex);
+      GribCollectionImmutable.VariableIndex vindex = gc.getDatasetCanonical().getGroup(0).getVariables().get(0);
+      Assert.assertNull(vindex.getSparseArray());
+      vindex.readRecords();
+      Assert.assertNotNull(vindex.getSparseArray());
+      Assert.assertEquals(vindex.getSparseArray().countNotMissing(), vindex.getNRecords());
+    }
+
+    MappedIndex mi = MappedIndex.open(grib.getPath() + GribCdmIndex.NCX_SUFFIX);
+    Assert.assertNotNull(mi);
+    Assert.assertEquals(new File(grib.getPath() + GribCdmIndex.NCX_SUFFIX).length(), mi.getSize());
+    try {
+      mi.read(mi.getSize() - 2, 3);
+      Assert.fail();
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+}
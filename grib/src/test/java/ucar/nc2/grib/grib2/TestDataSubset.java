@@ -0,0 +1,83 @@
+/* Copyright */
+package ucar.nc2.grib.grib2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.Range;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.IOException;
+
+/**
+ * Compare the direct (y, x) subset decode with subsetting the fully decoded record.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestDataSubset {
+
+  // template 5.0, simple packing
+  @Test
+  public void testSimplePacking() throws IOException, InvalidRangeException {
+    checkFile("../grib/src/test/data/cosmo-eu.grib2");
+    checkFile("../grib/src/test/data/rap-native.grib2");
+  }
+
+  // template 5.41, PNG
+  @Test
+  public void testPng() throws IOException, InvalidRangeException {
+    checkFile("../grib/src/test/data/MRMS_LowLevelCompositeReflectivity_00.50_20141207-072038.grib2");
+  }
+
+  // with a bitmap, must use the full decode
+  @Test
+  public void testBitmap() throws IOException, InvalidRangeException {
+    try (RandomAccessFile raf = new RandomAccessFile("../grib/src/test/data/HLYA10", "r")) {
+      Grib2RecordScanner scan = new Grib2RecordScanner(raf);
+      Assert.assertTrue(scan.hasNext());
+      Grib2Record gr = scan.next();
+      Assert.assertNull(readSubset(raf, gr, new Range(0, 0), new Range(0, 0)));
+    }
+  }
+
+  private void checkFile(String filename) throws IOException, InvalidRangeException {
+    try (RandomAccessFile raf = new RandomAccessFile(filename, "r")) {
+      Grib2RecordScanner scan = new Grib2RecordScanner(raf);
+      int count = 0;
+      while (scan.hasNext()) {
+        Grib2Record gr = scan.next();
+        Grib2Gds gds = gr.getGDS();
+        int nx = gds.getNxRaw();
+        int ny = gds.getNyRaw();
+        float[] full = gr.readData(raf);
+
+        check(raf, gr, full, nx, new Range(0, ny - 1), new Range(0, nx - 1));            // everything
+        check(raf, gr, full, nx, new Range(ny / 2, ny / 2), new Range(nx / 3, nx / 3));  // one point
+        check(raf, gr, full, nx, new Range(1, ny - 1, 3), new Range(nx / 4, nx - 1, 7)); // strided
+        count++;
+      }
+      Assert.assertTrue(count > 0);
+    }
+  }
+
+  private void check(RandomAccessFile raf, Grib2Record gr, float[] full, int nx, Range yRange, Range xRange) throws IOException {
+    float[] subset = readSubset(raf, gr, yRange, xRange);
+    Assert.assertNotNull(subset);
+    Assert.assertEquals(yRange.length() * xRange.length(), subset.length);
+
+    int count = 0;
+    for (int y : yRange) {
+      for (int x : xRange) {
+        Assert.assertEquals("y=" + y + " x=" + x, full[y * nx + x], subset[count++], 0.0);
+      }
+    }
+  }
+
+  private float[] readSubset(RandomAccessFile raf, Grib2Record gr, Range yRange, Range xRange) throws IOException {
+    long drsPos = gr.getDataRepresentationSection().getStartingPosition();
+    return Grib2Record.readDataSubset(raf, drsPos, 0, gr.getGDSsection().getNumberPoints(), gr.getScanMode(),
+            gr.getGDS().getNxRaw(), yRange, xRange);
+  }
+
+}
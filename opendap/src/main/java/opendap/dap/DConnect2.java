@@ -41,6 +41,7 @@
 package opendap.dap;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.File;
@@ -48,6 +49,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -119,6 +121,8 @@ public class DConnect2 implements Closeable
 
     private ServerVersion ver; // The OPeNDAP server version.
 
+    private ResponseCache responseCache = null; // cache data responses, may be null
+
     private boolean debugHeaders = false, debugStream = false;
 
 
@@ -259,6 +263,17 @@ public class DConnect2 implements Closeable
         return _session;
     }
 
+    /**
+     * Use a cache for data (.dods) responses. Responses are only cached if the server sends an ETag,
+     * and only reused if the server answers the conditional request with 304 (Not Modified).
+     *
+     * @param responseCache the cache, may be shared by many connections; null to not cache.
+     */
+    public void setResponseCache(ResponseCache responseCache)
+    {
+        this.responseCache = responseCache;
+    }
+
     /**
      * Open a connection to the DODS server.
      *
@@ -268,6 +283,20 @@ public class DConnect2 implements Closeable
      * @throws DAP2Exception if the DODS server returned an error.
      */
     private void openConnection(String urlString, Command command) throws IOException, DAP2Exception
+    {
+        openConnection(urlString, command, null);
+    }
+
+    /**
+     * Open a connection to the DODS server, using a response cache.
+     *
+     * @param urlString the URL to open; assume already properly encoded
+     * @param command   execute this command on the input stream
+     * @param cache     if not null, make a conditional request and cache the response
+     * @throws IOException   if an IO exception occurred.
+     * @throws DAP2Exception if the DODS server returned an error.
+     */
+    private void openConnection(String urlString, Command command, ResponseCache cache) throws IOException, DAP2Exception
     {
         InputStream is = null;
 
@@ -277,6 +306,10 @@ public class DConnect2 implements Closeable
                 if(acceptCompress)
                     method.setCompression("deflate,gzip");
 
+                ResponseCache.Entry cached = (cache == null) ? null : cache.get(urlString);
+                if(cached != null)
+                    method.setRequestHeader("If-None-Match", cached.etag);
+
                 // enable sessions
                 if(allowSessions)
                     method.setUseSessions(true);
@@ -289,6 +322,14 @@ public class DConnect2 implements Closeable
                     System.err.println("Service Unavailable");
                 }
 
+                if(cached != null) {
+                    cache.count(statusCode == HttpStatus.SC_NOT_MODIFIED);
+                    if(statusCode == HttpStatus.SC_NOT_MODIFIED) {
+                        command.process(new ByteArrayInputStream(cached.body));
+                        return;
+                    }
+                }
+
                 // debug
                 // if (debugHeaders) ucar.httpservices.HttpClientManager.showHttpRequestInfo(f, method);
 
@@ -338,6 +379,12 @@ public class DConnect2 implements Closeable
                     if (showCompress) System.out.printf("none %s%n", urlString);
                 }
 
+                Header etag = (cache == null) ? null : method.getResponseHeader("ETag");
+                if(etag != null)
+                    is = readAndCache(is, urlString, etag.getValue(), cache);
+                else if(cache != null)
+                    cache.remove(urlString);
+
                 command.process(is);
             }
 
@@ -351,6 +398,26 @@ public class DConnect2 implements Closeable
         }
     }
 
+    // read the response into memory and cache it, unless its too big.
+    // return a stream with the entire response.
+    private InputStream readAndCache(InputStream is, String urlString, String etag, ResponseCache cache) throws IOException
+    {
+        long max = cache.getMaxEntryBytes();
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        byte[] buff = new byte[8192];
+        int n;
+        while(bout.size() <= max && (n = is.read(buff)) >= 0)
+            bout.write(buff, 0, n);
+
+        if(bout.size() > max) { // too big, stream the rest
+            cache.remove(urlString);
+            return new SequenceInputStream(new ByteArrayInputStream(bout.toByteArray()), is);
+        }
+        byte[] body = bout.toByteArray();
+        cache.put(urlString, etag, body);
+        return new ByteArrayInputStream(body);
+    }
+
     public void close()
     {
         try {
@@ -889,7 +956,7 @@ public class DConnect2 implements Closeable
             command.process(stream);
         } else {
             String urls = urlString + ".dods" + (CE == null ? "" : getCompleteCE(CE));
-            openConnection(urls, command);
+            openConnection(urls, command, responseCache);
         }
         return command.dds;
     }
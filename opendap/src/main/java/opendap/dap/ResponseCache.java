@@ -0,0 +1,120 @@
+/* Copyright */
+package opendap.dap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, thread-safe cache of DAP2 data responses, keyed by the request URL
+ * (dataset URL plus constraint expression).
+ * Only responses that came with an ETag are kept, and a cached response is only used after
+ * the server has confirmed with a 304 (Not Modified) that the ETag is still current.
+ * The least recently used responses are discarded when the total size exceeds the maximum.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class ResponseCache
+{
+    /**
+     * A cached response.
+     */
+    static public class Entry
+    {
+        public final String etag;
+        public final byte[] body; // decompressed response body
+
+        Entry(String etag, byte[] body)
+        {
+            this.etag = etag;
+            this.body = body;
+        }
+    }
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final LinkedHashMap<String, Entry> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+    private int hits = 0, misses = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param maxBytes maximum total size of the cached responses.
+     *                 A single response is not cached if it is larger than a quarter of this.
+     */
+    public ResponseCache(long maxBytes)
+    {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxBytes / 4;
+    }
+
+    /**
+     * @return responses larger than this are not cached
+     */
+    public long getMaxEntryBytes()
+    {
+        return maxEntryBytes;
+    }
+
+    synchronized public Entry get(String url)
+    {
+        return map.get(url);
+    }
+
+    synchronized public void put(String url, String etag, byte[] body)
+    {
+        if(etag == null || body.length > maxEntryBytes)
+            return;
+        Entry old = map.put(url, new Entry(etag, body));
+        if(old != null)
+            totalBytes -= old.body.length;
+        totalBytes += body.length;
+
+        while(totalBytes > maxBytes && !map.isEmpty()) {
+            Map.Entry<String, Entry> eldest = map.entrySet().iterator().next();
+            totalBytes -= eldest.getValue().body.length;
+            map.remove(eldest.getKey());
+        }
+    }
+
+    synchronized public void remove(String url)
+    {
+        Entry old = map.remove(url);
+        if(old != null)
+            totalBytes -= old.body.length;
+    }
+
+    synchronized public void clear()
+    {
+        map.clear();
+        totalBytes = 0;
+    }
+
+    // record whether the server validated a cached response
+    synchronized void count(boolean hit)
+    {
+        if(hit) hits++;
+        else misses++;
+    }
+
+    synchronized public int getHits()
+    {
+        return hits;
+    }
+
+    synchronized public int getMisses()
+    {
+        return misses;
+    }
+
+    synchronized public int size()
+    {
+        return map.size();
+    }
+
+    synchronized public long getTotalBytes()
+    {
+        return totalBytes;
+    }
+}
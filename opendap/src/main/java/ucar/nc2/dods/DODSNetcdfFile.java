@@ -51,6 +51,10 @@ import java.io.*;
 import java.util.*;
 import java.util.Enumeration;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Access to DODS datasets through the Netcdf API.
@@ -164,6 +168,59 @@ public class DODSNetcdfFile extends ucar.nc2.NetcdfFile implements Closeable
     preloadCoordVarSize = size;
   }
 
+  static private volatile int slabThreads = 0; // 0 means dont split reads
+  static private volatile long slabMinBytes = 50 * 1000 * 1000;
+  static private ExecutorService slabService;
+  static private volatile ResponseCache responseCache; // null means turned off
+
+  /**
+   * Split reads of large sections along the outer dimension into concurrent constrained requests,
+   * which share the connection pool of the HTTPSession. Applies to numeric top-level variables only.
+   *
+   * @param nthreads number of concurrent requests; 0 or 1 turns this off (default)
+   * @param minBytes only split sections bigger than this
+   */
+  static public synchronized void setParallelReads(int nthreads, long minBytes)
+  {
+    if (slabService != null && slabThreads != nthreads) {
+      slabService.shutdown();
+      slabService = null;
+    }
+    slabMinBytes = minBytes;
+    slabThreads = (nthreads > 1) ? nthreads : 0;
+  }
+
+  static private synchronized ExecutorService getSlabService()
+  {
+    if (slabService == null) {
+      slabService = Executors.newFixedThreadPool(slabThreads, r -> {
+        Thread t = new Thread(r, "DODS-slab");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return slabService;
+  }
+
+  /**
+   * Cache data responses that come with an ETag, shared by all DODSNetcdfFiles opened afterwards.
+   * A cached response is reused only after the server validates it with 304 (Not Modified).
+   *
+   * @param maxBytes maximum total size of cached responses, 0 to turn off (default)
+   */
+  static public void setResponseCache(long maxBytes)
+  {
+    responseCache = (maxBytes > 0) ? new ResponseCache(maxBytes) : null;
+  }
+
+  /**
+   * @return the data response cache, or null if turned off
+   */
+  static public ResponseCache getResponseCache()
+  {
+    return responseCache;
+  }
+
   /**
    * Create the canonical form of the URL.
    * If the urlName starts with "http:" or "https:", change it to start with "dods:", otherwise
@@ -231,6 +288,7 @@ public class DODSNetcdfFile extends ucar.nc2.NetcdfFile implements Closeable
 
     if (debugServerCall) System.out.println("DConnect to = <" + urlName + ">");
     dodsConnection = new DConnect2(urlName, accept_compress);
+    dodsConnection.setResponseCache(responseCache);
     if (cancelTask != null && cancelTask.isCancel()) return;
 
     // fetch the DDS and DAS
@@ -311,6 +369,7 @@ public class DODSNetcdfFile extends ucar.nc2.NetcdfFile implements Closeable
       String datasetName = urlName.substring(0, pos);
       if (debugServerCall) System.out.println(" reconnect to = <" + datasetName + ">");
       dodsConnection = new DConnect2(datasetName, accept_compress);
+      dodsConnection.setResponseCache(responseCache);
 
       // parse the CE for projections
       String CE = urlName.substring(pos + 1);
@@ -1425,6 +1484,18 @@ public class DODSNetcdfFile extends ucar.nc2.NetcdfFile implements Closeable
    * @throws opendap.dap.DAP2Exception          if you have otherwise been bad
    */
   DataDDS readDataDDSfromServer(String CE) throws IOException, opendap.dap.DAP2Exception
+  {
+    return readDataDDSfromServer(CE, false);
+  }
+
+  /**
+   * Read from the server.
+   *
+   * @param CE         constraint expression; use empty string if none
+   * @param concurrent if false, requests through this file are serialized
+   * @return DataDDS
+   */
+  private DataDDS readDataDDSfromServer(String CE, boolean concurrent) throws IOException, opendap.dap.DAP2Exception
   {
     if (debugServerCall) System.out.println("DODSNetcdfFile.readDataDDSfromServer = <" + CE + ">");
 
@@ -1434,8 +1505,12 @@ public class DODSNetcdfFile extends ucar.nc2.NetcdfFile implements Closeable
     if (!CE.startsWith("?"))
       CE = "?" + CE;
     DataDDS data;
-    synchronized (this) {
+    if (concurrent) {
       data = dodsConnection.getData(CE, null);
+    } else {
+      synchronized (this) {
+        data = dodsConnection.getData(CE, null);
+      }
     }
     if (debugTime)
       System.out.println("DODSNetcdfFile.readDataDDSfromServer took = " + (System.currentTimeMillis() - start) / 1000.0);
@@ -1584,6 +1659,66 @@ public class DODSNetcdfFile extends ucar.nc2.NetcdfFile implements Closeable
     //if (unlocked)
     //    throw new IllegalStateException("File is unlocked - cannot use");
 
+    if (isParallelRead(v, section))
+      return readDataParallel(v, section);
+    return readData(v, section, false);
+  }
+
+  private boolean isParallelRead(ucar.nc2.Variable v, Section section)
+  {
+    if (slabThreads == 0 || dodsConnection == null || dodsConnection.isLocal()) return false;
+    if (v.isVariableLength() || v.isMemberOfStructure() || !v.getDataType().isNumeric()) return false;
+    if (section.getRank() == 0 || section.getRange(0).length() < 2) return false;
+    return section.computeSize() * v.getElementSize() >= slabMinBytes;
+  }
+
+  // split the outer dimension into slabs, read them concurrently, and copy into one Array
+  private Array readDataParallel(ucar.nc2.Variable v, Section section) throws IOException, InvalidRangeException
+  {
+    Range outer = section.getRange(0);
+    int n = outer.length();
+    int nslabs = Math.min(n, slabThreads);
+    ExecutorService service = getSlabService();
+
+    List<Future<Array>> futures = new ArrayList<>(nslabs);
+    for (int i = 0; i < nslabs; i++) {
+      int start = (int) ((long) i * n / nslabs);
+      int end = (int) ((long) (i + 1) * n / nslabs); // exclusive
+      Range r = new Range(outer.getName(), outer.element(start), outer.element(end - 1), outer.stride());
+      Section slab = new Section(section.getRanges()).replaceRange(0, r);
+      futures.add(service.submit(() -> readData(v, slab, true)));
+    }
+
+    Array result = null;
+    int pos = 0;
+    try {
+      for (Future<Array> future : futures) {
+        Array slabData = future.get();
+        if (result == null)
+          result = Array.factory(slabData.getDataType(), section.getShape());
+        int size = (int) slabData.getSize();
+        Array.arraycopy(slabData, 0, result, pos, size);
+        pos += size;
+      }
+
+    } catch (InterruptedException e) {
+      for (Future<Array> future : futures) future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("readDataParallel " + v.getShortName());
+
+    } catch (ExecutionException e) {
+      for (Future<Array> future : futures) future.cancel(true);
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) throw (IOException) cause;
+      if (cause instanceof InvalidRangeException) throw (InvalidRangeException) cause;
+      throw new IOException(cause);
+    }
+
+    return result;
+  }
+
+  private Array readData(ucar.nc2.Variable v, Section section, boolean concurrent) throws IOException, InvalidRangeException
+  {
     // LOOK: what if theres already a CE !!!!
     // create the constraint expression
     StringBuilder buff = new StringBuilder(100);
@@ -1606,7 +1741,7 @@ public class DODSNetcdfFile extends ucar.nc2.NetcdfFile implements Closeable
       // DodsV root = DodsV.parseDDS( readDataDDSfromServer(buff.toString()));
       // data = convertD2N( (DodsV) root.children.get(0), v, section, false); // can only be one
 
-      DataDDS dataDDS = readDataDDSfromServer(buff.toString());
+      DataDDS dataDDS = readDataDDSfromServer(buff.toString(), concurrent);
       DodsV root = DodsV.parseDataDDS(dataDDS);
       DodsV want = root.children.get(0); // can only be one
       dataArray = convertD2N.convertTopVariable(v, section.getRanges(), want);
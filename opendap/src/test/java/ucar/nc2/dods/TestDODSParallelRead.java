@@ -0,0 +1,98 @@
+/* Copyright */
+package ucar.nc2.dods;
+
+import opendap.dap.ResponseCache;
+import opendap.test.TestSources;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import ucar.ma2.Array;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.MAMath;
+import ucar.ma2.Section;
+import ucar.nc2.Variable;
+import ucar.unidata.util.test.category.NeedsExternalResource;
+
+import java.io.IOException;
+
+/**
+ * Test split reads and the response cache. Run against a local DTS server with -Ddts=localhost:8080
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestDODSParallelRead {
+
+  @After
+  public void reset() {
+    DODSNetcdfFile.setParallelReads(0, 50 * 1000 * 1000);
+    DODSNetcdfFile.setResponseCache(0);
+  }
+
+  @Test
+  @Category(NeedsExternalResource.class)
+  public void testParallelRead() throws IOException, InvalidRangeException {
+    String[] sections = new String[]{"0:39,:,:", "3:40:3,10:99,:", "7:9,0:0,1:5"};
+    for (String spec : sections) {
+      Section section = new Section(spec);
+      Array serial, parallel;
+
+      DODSNetcdfFile.setParallelReads(0, 0);
+      try (DODSNetcdfFile dodsfile = TestDODSRead.open("docExample")) {
+        Variable v = dodsfile.findVariable("sst");
+        serial = v.read(section);
+      }
+
+      DODSNetcdfFile.setParallelReads(4, 1000);
+      try (DODSNetcdfFile dodsfile = TestDODSRead.open("docExample")) {
+        Variable v = dodsfile.findVariable("sst");
+        parallel = v.read(section);
+      }
+
+      Assert.assertArrayEquals(spec, serial.getShape(), parallel.getShape());
+      Assert.assertTrue(spec, MAMath.equals(serial, parallel));
+    }
+  }
+
+  @Test
+  @Category(NeedsExternalResource.class)
+  public void testResponseCache() throws IOException, InvalidRangeException {
+    DODSNetcdfFile.setResponseCache(10 * 1000 * 1000);
+    ResponseCache cache = DODSNetcdfFile.getResponseCache();
+
+    try (DODSNetcdfFile dodsfile = TestDODSRead.open("docExample")) {
+      Variable v = dodsfile.findVariable("sst");
+      Array data1 = v.read("1:2,:,:");
+      Array data2 = v.read("1:2,:,:");
+      Assert.assertTrue(MAMath.equals(data1, data2));
+
+      if (cache.size() > 0) { // only if the server sends ETags
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertTrue(cache.getTotalBytes() > 2 * 180 * 360 * 4);
+      }
+    }
+  }
+
+  @Test
+  public void testCacheBounds() {
+    ResponseCache cache = new ResponseCache(1000);
+    cache.put("a", "etag1", new byte[200]);
+    cache.put("b", null, new byte[10]);    // no etag
+    cache.put("c", "etag3", new byte[300]); // too big
+    Assert.assertEquals(1, cache.size());
+    Assert.assertNull(cache.get("b"));
+    Assert.assertNull(cache.get("c"));
+
+    for (int i = 0; i < 10; i++)
+      cache.put("x" + i, "etag", new byte[200]);
+    Assert.assertEquals(5, cache.size());
+    Assert.assertEquals(1000, cache.getTotalBytes());
+    Assert.assertNull(cache.get("a"));      // least recently used is gone
+    Assert.assertNotNull(cache.get("x9"));
+
+    cache.put("x9", "etag2", new byte[100]);
+    Assert.assertEquals(900, cache.getTotalBytes());
+    Assert.assertEquals("etag2", cache.get("x9").etag);
+  }
+}
@@ -1,24 +1,29 @@
 /* Copyright */
 package thredds.server.catalog;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import thredds.client.catalog.CatalogRef;
 import thredds.client.catalog.Dataset;
 import thredds.server.catalog.tracker.DataRootExt;
+import thredds.server.catalog.tracker.DataRootMapChronicle;
 import thredds.server.catalog.tracker.DataRootTracker;
 import ucar.nc2.util.AliasTranslator;
-import ucar.unidata.util.StringUtil2;
 
 import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Find the dataRoot path from the request, by getting the longest match.
- * Use a TreeSet for minimum in-memory use.
- * Keep the objects in a seperate map that could be off-heap and persistent.
+ * The paths are kept in an immutable DataRootPathTrie, which is replaced (copy-on-write) when a root is added,
+ * so lookups never lock, even while a catalog is being read.
+ * Keep the objects in a seperate map that may be off-heap and persistent (DataRootMapChronicle).
  *
  * @author caron
  * @since 4/1/2015
@@ -26,29 +31,42 @@ import java.util.*;
 public class DataRootPathMatcher {
   static private final Logger logger = LoggerFactory.getLogger(DataRootPathMatcher.class);
   static private org.slf4j.Logger logCatalogInit = org.slf4j.LoggerFactory.getLogger("catalogInit");
-  static private final boolean debug = false;
   static private final String ERROR = "*** ERROR: ";
   static private boolean skipTestDataDir = true;
-
-  private static class PathComparator implements Comparator<String> {
-    public int compare(String s1, String s2) {
-      int compare = s2.compareTo( s1); // reverse sort
-      if (debug) System.out.println(" compare "+s1+" to "+s2+" = "+compare);
-      return compare;
-    }
-  }
+  // an off-heap DataRootExt that is not in this cache re-reads its catalog on the request thread; see convert2DataRoot()
+  static private final int maxResolvedOffHeap = 1000;
 
   /////////////////////////////////////////////////////////////////////////////////////////
 
   private ConfigCatalogCache ccc;
   private DataRootTracker tracker;
 
-  private final TreeSet<String> treeSet = new TreeSet<>( new PathComparator());    // this should be in-memory for speed
-  private final Map<String, DataRootExt> map = new HashMap<>();         // this could be turned into an off-heap cache if needed, with persistence.
+  private volatile DataRootPathTrie trie = DataRootPathTrie.EMPTY;      // this should be in-memory for speed
+  private final ConcurrentMap<String, DataRootExt> map;                 // in-memory, or off-heap with persistence
+
+  // an off-heap map only holds the externalized part of DataRootExt, so keep the DataRoots read from catalogs here
+  private final Cache<String, DataRoot> resolvedOffHeap;
 
   public DataRootPathMatcher(ConfigCatalogCache ccc, DataRootTracker tracker) {
+    this(ccc, tracker, new ConcurrentHashMap<>(), null);
+  }
+
+  /**
+   * Keep the DataRootExt objects off-heap. The tracker then uses the off-heap map instead of its own copy.
+   * The DataRoots of only the last maxResolvedOffHeap (1000) roots that were used or read from a catalog are kept
+   * in memory. Any other root must re-read its catalog the first time it is used.
+   */
+  public DataRootPathMatcher(ConfigCatalogCache ccc, DataRootTracker tracker, DataRootMapChronicle offHeap) {
+    this(ccc, tracker, offHeap.getMap(), CacheBuilder.newBuilder().maximumSize(maxResolvedOffHeap).<String, DataRoot>build());
+    tracker.useMap(map);
+  }
+
+  private DataRootPathMatcher(ConfigCatalogCache ccc, DataRootTracker tracker, ConcurrentMap<String, DataRootExt> map,
+                              Cache<String, DataRoot> resolvedOffHeap) {
     this.ccc = ccc;
     this.tracker = tracker;
+    this.map = map;
+    this.resolvedOffHeap = resolvedOffHeap;
 
     for (DataRootExt dre : tracker.getDataRoots()) {
       put(dre);
@@ -59,9 +77,11 @@ public class DataRootPathMatcher {
    * Add a dataRootExt to in-memory tree.
    * @return true if not already exist
    */
-  private boolean put(DataRootExt dateRootExt) {
+  private synchronized boolean put(DataRootExt dateRootExt) {
     map.put(dateRootExt.getPath(), dateRootExt);
-    return treeSet.add(dateRootExt.getPath());
+    DataRootPathTrie old = trie;
+    trie = old.add(dateRootExt.getPath());
+    return trie != old;
   }
 
   /**
@@ -70,7 +90,7 @@ public class DataRootPathMatcher {
    * @return true if already contains the key
    */
   public boolean contains(String  path) {
-    return treeSet.contains(path);
+    return trie.contains(path);
   }
 
   public DataRootExt get(String  path) {
@@ -91,23 +111,7 @@ public class DataRootPathMatcher {
    * @return the value whose key is the longest that matches path, or null if none
    */
   public String findLongestPathMatch( String reqPath) {
-    SortedSet<String> tail = treeSet.tailSet(reqPath);
-    if (tail.isEmpty()) return null;
-    String after = tail.first();
-    if (reqPath.startsWith( after)) // common case
-      return tail.first();
-
-    // have to check more, until no common starting chars
-    for (String key : tail) {
-      if (reqPath.startsWith(key))
-        return key;
-
-      // terminate when there's no match at all.
-      if (StringUtil2.match(reqPath, key) == 0)
-        break;
-    }
-
-    return null;
+    return trie.findLongestPathMatch(reqPath);
   }
 
   /**
@@ -130,6 +134,10 @@ public class DataRootPathMatcher {
   public @Nonnull DataRoot convert2DataRoot(DataRootExt dataRootExt) {
     DataRoot dataRoot = dataRootExt.getDataRoot();
     if (dataRoot != null) return dataRoot;
+    if (resolvedOffHeap != null) {
+      dataRoot = resolvedOffHeap.getIfPresent(dataRootExt.getPath());
+      if (dataRoot != null) return dataRoot;
+    }
 
     // otherwise must read the catalog that its in
     dataRoot = readDataRootFromCatalog(dataRootExt);
@@ -141,6 +149,10 @@ public class DataRootPathMatcher {
     try {
       ConfigCatalog cat = ccc.get(dataRootExt.getCatLocation());
       extractDataRoots(dataRootExt.getCatLocation(), cat.getDatasetsLocal(), false, null);  // will create a new DataRootExt and replace this one in the map
+      if (resolvedOffHeap != null) {
+        DataRoot dataRoot = resolvedOffHeap.getIfPresent(dataRootExt.getPath());
+        if (dataRoot != null) return dataRoot;
+      }
       DataRootExt dataRootExtNew = map.get(dataRootExt.getPath());
       if (null == dataRootExtNew) {
         logger.error("Reading catalog " + dataRootExt.getCatLocation() + " failed to find dataRoot path=" + dataRootExt.getPath());
@@ -319,6 +331,8 @@ public class DataRootPathMatcher {
   private void putRoot(DataRoot droot, String catalogRelPath) {
     DataRootExt drootExt = new DataRootExt(droot, catalogRelPath);
     put(drootExt);
+    if (resolvedOffHeap != null)
+      resolvedOffHeap.put(droot.getPath(), droot);
     tracker.trackDataRoot(drootExt);
   }
 
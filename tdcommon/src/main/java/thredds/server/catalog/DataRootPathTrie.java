@@ -0,0 +1,169 @@
+/* Copyright */
+package thredds.server.catalog;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Arrays;
+
+/**
+ * Immutable radix tree of dataRoot paths, for longest prefix matching of request paths.
+ * Matching is on characters, same as reqPath.startsWith(path), and takes O(reqPath.length()).
+ * Adding a path copies only the nodes along that path, so readers can use an old trie while a new one is built,
+ * and the owner swaps in the new one (copy-on-write).
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Immutable
+public class DataRootPathTrie {
+  static private final char[] noChars = new char[0];
+  static private final String[] noLabels = new String[0];
+  static private final Node[] noNodes = new Node[0];
+
+  static public final DataRootPathTrie EMPTY = new DataRootPathTrie(new Node(null, noChars, noLabels, noNodes), 0);
+
+  @Immutable
+  static private class Node {
+    final String path;         // non-null if a dataRoot path ends here
+    final char[] firsts;       // first char of each edge label, sorted
+    final String[] labels;     // edge labels, never empty
+    final Node[] children;
+
+    Node(String path, char[] firsts, String[] labels, Node[] children) {
+      this.path = path;
+      this.firsts = firsts;
+      this.labels = labels;
+      this.children = children;
+    }
+
+    Node withPath(String path) {
+      return new Node(path, firsts, labels, children);
+    }
+
+    Node withChild(int idx, String label, Node child) {
+      String[] newLabels = labels.clone();
+      Node[] newChildren = children.clone();
+      newLabels[idx] = label;
+      newChildren[idx] = child;
+      return new Node(path, firsts, newLabels, newChildren);
+    }
+
+    // idx is the (negative) return from binarySearch
+    Node insertChild(int idx, String label, Node child) {
+      int pos = -idx - 1;
+      int n = firsts.length;
+      char[] newFirsts = new char[n + 1];
+      String[] newLabels = new String[n + 1];
+      Node[] newChildren = new Node[n + 1];
+      System.arraycopy(firsts, 0, newFirsts, 0, pos);
+      System.arraycopy(labels, 0, newLabels, 0, pos);
+      System.arraycopy(children, 0, newChildren, 0, pos);
+      newFirsts[pos] = label.charAt(0);
+      newLabels[pos] = label;
+      newChildren[pos] = child;
+      System.arraycopy(firsts, pos, newFirsts, pos + 1, n - pos);
+      System.arraycopy(labels, pos, newLabels, pos + 1, n - pos);
+      System.arraycopy(children, pos, newChildren, pos + 1, n - pos);
+      return new Node(path, newFirsts, newLabels, newChildren);
+    }
+  }
+
+  private final Node root;
+  private final int size;
+
+  private DataRootPathTrie(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Number of paths in the trie
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Return a trie that also contains path. This one is unchanged.
+   * @param path add this path
+   * @return new trie, or this if path is already contained
+   */
+  public DataRootPathTrie add(String path) {
+    if (contains(path)) return this;
+    return new DataRootPathTrie(add(root, path, 0), size + 1);
+  }
+
+  private Node add(Node node, String path, int pos) {
+    if (pos == path.length())
+      return node.withPath(path);
+
+    int idx = Arrays.binarySearch(node.firsts, path.charAt(pos));
+    if (idx < 0) // no edge starts with this char
+      return node.insertChild(idx, path.substring(pos), new Node(path, noChars, noLabels, noNodes));
+
+    String label = node.labels[idx];
+    int common = commonPrefix(label, path, pos);
+    if (common == label.length()) // follow the edge
+      return node.withChild(idx, label, add(node.children[idx], path, pos + common));
+
+    // split the edge
+    String rest = label.substring(common);
+    Node mid = new Node(null, new char[]{rest.charAt(0)}, new String[]{rest}, new Node[]{node.children[idx]});
+    if (pos + common == path.length())
+      mid = mid.withPath(path);
+    else
+      mid = mid.insertChild(Arrays.binarySearch(mid.firsts, path.charAt(pos + common)), path.substring(pos + common),
+              new Node(path, noChars, noLabels, noNodes));
+    return node.withChild(idx, label.substring(0, common), mid);
+  }
+
+  // length of common prefix of label and path.substring(pos)
+  private int commonPrefix(String label, String path, int pos) {
+    int n = Math.min(label.length(), path.length() - pos);
+    int count = 0;
+    while (count < n && label.charAt(count) == path.charAt(pos + count))
+      count++;
+    return count;
+  }
+
+  /**
+   * See if path is in the trie
+   * @param path exact path
+   * @return true if path was added
+   */
+  public boolean contains(String path) {
+    Node node = root;
+    int pos = 0;
+    while (pos < path.length()) {
+      int idx = Arrays.binarySearch(node.firsts, path.charAt(pos));
+      if (idx < 0) return false;
+      String label = node.labels[idx];
+      if (!path.startsWith(label, pos)) return false;
+      pos += label.length();
+      node = node.children[idx];
+    }
+    return node.path != null;
+  }
+
+  /**
+   * Find the longest path match.
+   * @param reqPath find path with longest match where reqPath.startsWith(path)
+   * @return the longest path that matches reqPath, or null if none
+   */
+  public String findLongestPathMatch(String reqPath) {
+    Node node = root;
+    String result = node.path;
+    int pos = 0;
+    while (pos < reqPath.length()) {
+      int idx = Arrays.binarySearch(node.firsts, reqPath.charAt(pos));
+      if (idx < 0) break;
+      String label = node.labels[idx];
+      if (!reqPath.startsWith(label, pos)) break;
+      pos += label.length();
+      node = node.children[idx];
+      if (node.path != null) result = node.path;
+    }
+    return result;
+  }
+
+}
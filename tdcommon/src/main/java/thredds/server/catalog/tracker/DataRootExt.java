@@ -8,11 +8,13 @@ import java.util.Formatter;
 
 /**
  * Externalized DataRoot.
+ * Externalizable so it can be kept off-heap in DataRootMapChronicle.
  *
  * @author caron
  * @since 6/16/2015
  */
-public class DataRootExt implements Comparable<DataRootExt> {
+public class DataRootExt implements Comparable<DataRootExt>, Externalizable {
+  private static final long serialVersionUID = 1L;
   static public int total_count = 0;
   static public long total_nbytes = 0;
   static private final boolean debug = false;
@@ -83,6 +85,15 @@ public class DataRootExt implements Comparable<DataRootExt> {
         optional string catLocation = 4;    // omit for simple dataset root
       } */
   public void writeExternal(DataOutputStream out) throws IOException {
+    writeExternal((DataOutput) out);
+  }
+
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    writeExternal((DataOutput) out);
+  }
+
+  private void writeExternal(DataOutput out) throws IOException {
     ConfigCatalogExtProto.DataRoot.Builder builder = ConfigCatalogExtProto.DataRoot.newBuilder();
     builder.setUrlPath(path);
     builder.setDirLocation(dirLocation);
@@ -119,6 +130,18 @@ public class DataRootExt implements Comparable<DataRootExt> {
     if (n != len)
       throw new RuntimeException("DataRootExt.readExternal failed read size=" + len + " in.available=" + avail);
 
+    readProto(b);
+  }
+
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    int len = in.readInt();
+    byte[] b = new byte[len];
+    in.readFully(b);
+    readProto(b);
+  }
+
+  private void readProto(byte[] b) throws IOException {
     ConfigCatalogExtProto.DataRoot dsp = ConfigCatalogExtProto.DataRoot.parseFrom(b);
     this.path = dsp.getUrlPath();
     this.dirLocation = dsp.getDirLocation();
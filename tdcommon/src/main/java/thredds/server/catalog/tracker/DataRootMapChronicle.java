@@ -0,0 +1,75 @@
+/* Copyright */
+package thredds.server.catalog.tracker;
+
+import net.openhft.chronicle.map.ChronicleMap;
+import net.openhft.chronicle.map.ChronicleMapBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Off-heap, persistent map of dataRoot path -> DataRootExt using ChronicleMap.
+ * Optional replacement for the in-memory map in DataRootPathMatcher, for servers with very many dataRoots.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class DataRootMapChronicle {
+  static private org.slf4j.Logger catalogInitLog = org.slf4j.LoggerFactory.getLogger("catalogInit");
+  static private final String dataRootName = "/chronicle.dataroots.dat";
+
+  // delete old databases
+  public static void cleanupBefore(String pathname, long trackerNumber) {
+    for (long tnum = trackerNumber - 1; tnum > 0; tnum--) {
+      File oldDatabaseFile = new File(pathname + dataRootName + "." + tnum);
+      if (!oldDatabaseFile.exists()) break;
+      if (oldDatabaseFile.delete()) {
+        catalogInitLog.info("DataRootMapChronicle deleted {} ", oldDatabaseFile.getAbsolutePath());
+      } else {
+        catalogInitLog.error("DataRootMapChronicle not able to delete {} ", oldDatabaseFile.getAbsolutePath());
+      }
+    }
+  }
+
+  private File dbFile;
+  private long maxDataRoots;
+  private ChronicleMap<String, DataRootExt> dataRootMap;
+
+  /**
+   * Open a new map; any existing one with the same number is deleted, since the dataRoots are always rebuilt
+   * from the DataRootTracker or by reading the catalogs.
+   */
+  public DataRootMapChronicle(String pathname, long maxDataRoots, long number) throws IOException {
+    this.dbFile = new File(pathname + dataRootName + "." + number);
+    this.maxDataRoots = maxDataRoots;
+
+    if (dbFile.exists() && !dbFile.delete())
+      catalogInitLog.error("DataRootMapChronicle not able to delete {} ", dbFile.getAbsolutePath());
+
+    ChronicleMapBuilder<String, DataRootExt> builder = ChronicleMapBuilder.of(String.class, DataRootExt.class)
+            .averageValueSize(200).entries(maxDataRoots);
+    dataRootMap = builder.createPersistedTo(dbFile);
+    catalogInitLog.info("DataRootMapChronicle opened success on '" + dbFile.getAbsolutePath() + "'");
+  }
+
+  public ConcurrentMap<String, DataRootExt> getMap() {
+    return dataRootMap;
+  }
+
+  public long getMaxDataRoots() {
+    return maxDataRoots;
+  }
+
+  public void close() throws IOException {
+    if (dataRootMap != null) {
+      dataRootMap.close();
+      dataRootMap = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "DataRootMapChronicle{" + dbFile.getPath() + ", maxDataRoots=" + maxDataRoots + '}';
+  }
+}
@@ -2,6 +2,7 @@ package thredds.server.catalog.tracker;
 
 import java.io.*;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -14,7 +15,8 @@ import java.util.Set;
 public class DataRootTracker {
   private static final String dbname = "/datarootTracker.dat";
   String filepath;
-  Set<DataRootExt> dataRoots;
+  Set<DataRootExt> dataRoots;            // null if dataRootMap is used
+  Map<String, DataRootExt> dataRootMap;  // path -> DataRootExt, may be off-heap
   boolean changed;
   DatasetTracker.Callback callback;
 
@@ -41,19 +43,32 @@ public class DataRootTracker {
     changed = true;
   }
 
+  /**
+   * From now on, the dataRoots are the values of this map, for instance an off-heap DataRootMapChronicle,
+   * and no copy is kept in memory here. The map must already contain the dataRoots tracked so far.
+   *
+   * @param map path -> DataRootExt; the caller adds to it before calling trackDataRoot()
+   */
+  public void useMap(Map<String, DataRootExt> map) {
+    this.dataRootMap = map;
+    this.dataRoots = null;
+  }
+
   public boolean trackDataRoot(DataRootExt ds) {
     changed = true;
     if (callback != null) callback.hasDataRoot(ds);
+    if (dataRootMap != null) return true; // already in the map
     return dataRoots.add(ds);
   }
 
   boolean removeDataRoot(DataRootExt ds) {
     changed = true;
+    if (dataRootMap != null) return dataRootMap.remove(ds.getPath()) != null;
     return dataRoots.remove(ds);
   }
 
   public Iterable<? extends DataRootExt> getDataRoots() {
-    return dataRoots;
+    return (dataRootMap != null) ? dataRootMap.values() : dataRoots;
   }
 
   private int readDataRoots() {
@@ -77,7 +92,7 @@ public class DataRootTracker {
   public void save() throws IOException {
     if (!changed) return;
     try (DataOutputStream out = new DataOutputStream(new FileOutputStream(filepath))) {
-      for (DataRootExt ext : dataRoots) {
+      for (DataRootExt ext : getDataRoots()) {
         ext.writeExternal(out);
       }
     }
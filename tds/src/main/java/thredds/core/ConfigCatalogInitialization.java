@@ -111,11 +111,14 @@ public class ConfigCatalogInitialization {
   private String contextPath;      // thredds
   private String trackerDir;       // the tracker "databases" are kept in this directory
   private long maxDatasets;        // chronicle limit
+  private long maxDataRootsOffHeap; // if > 0, keep dataRoots in an off-heap chronicle map with this limit
+  private long dataRootMapNumber = 1;
 
    // on reread, construct new objects, so cant be spring beans
   private DataRootPathMatcher dataRootPathMatcher;
   private DataRootTracker dataRootTracker;
   private DatasetTracker datasetTracker;
+  private DataRootMapChronicle dataRootMap, prevDataRootMap; // keep the previous one open, may still be in use
 
   // temporary, discard after init
   private CatalogTracker catalogTracker;
@@ -137,6 +140,10 @@ public class ConfigCatalogInitialization {
     this.maxDatasets = maxDatasets;
   }
 
+  public void setMaxDataRootsOffHeap(long maxDataRootsOffHeap) {
+    this.maxDataRootsOffHeap = maxDataRootsOffHeap;
+  }
+
   // called from TdsInit on spring-managed auto-wired bean
   public synchronized void init(ReadMode readMode, PreferencesExt prefs) {
     if (readMode == null)
@@ -145,6 +152,7 @@ public class ConfigCatalogInitialization {
     trackerNumber = prefs.getLong("trackerNumber", 1);
     numberCatalogs = prefs.getInt("numberCatalogs", 10);
     nextCatId = prefs.getLong("nextCatId", 1);
+    dataRootMapNumber = prefs.getLong("dataRootMapNumber", 1);
 
     makeDebugActions();
     this.contentRootPath = this.tdsContext.getThreddsDirectory();
@@ -184,14 +192,14 @@ public class ConfigCatalogInitialization {
         if (databaseAlreadyExists) this.datasetTracker.reinit();
         this.catalogTracker = new CatalogTracker(trackerDir, true, numberCatalogs, nextCatId);
         this.dataRootTracker = new DataRootTracker(trackerDir, true, callback);
-        this.dataRootPathMatcher = new DataRootPathMatcher(ccc, dataRootTracker);  // starting over
+        this.dataRootPathMatcher = makeDataRootPathMatcher();  // starting over
         readRootCatalogs(readMode);
         break;
 
       case check:
         this.catalogTracker = new CatalogTracker(trackerDir, false, numberCatalogs, nextCatId);        // use existing catalog list
         this.dataRootTracker = new DataRootTracker(trackerDir, false, callback);      // use existing data roots
-        this.dataRootPathMatcher = new DataRootPathMatcher(ccc, dataRootTracker);
+        this.dataRootPathMatcher = makeDataRootPathMatcher();
         readRootCatalogs(readMode);           // read just roots to get global services
         checkExistingCatalogs(readMode);
         break;
@@ -199,7 +207,7 @@ public class ConfigCatalogInitialization {
       case triggerOnly:
         this.catalogTracker = new CatalogTracker(trackerDir, false, numberCatalogs, nextCatId);               // use existing catalog list
         this.dataRootTracker = new DataRootTracker(trackerDir, false, callback);             // use existing data roots
-        this.dataRootPathMatcher = new DataRootPathMatcher(ccc, dataRootTracker);
+        this.dataRootPathMatcher = makeDataRootPathMatcher();
         readRootCatalogs(readMode);           // read just roots to get global services
         break;
     }
@@ -210,6 +218,7 @@ public class ConfigCatalogInitialization {
       prefs.putLong("trackerNumber", trackerNumber);
       prefs.putLong("nextCatId", nextCatId);
       prefs.putInt("numberCatalogs", numberCatalogs);
+      prefs.putLong("dataRootMapNumber", dataRootMapNumber);
     }
     callback.finish();
     logCatalogInit.info("\nConfigCatalogInitializion stats\n" + callback);
@@ -233,6 +242,8 @@ public class ConfigCatalogInitialization {
     if (!isStartup && readMode == ReadMode.always) {
       DatasetTrackerChronicle.cleanupBefore(trackerDir, trackerNumber);
     }
+    if (dataRootMap != null)
+      DataRootMapChronicle.cleanupBefore(trackerDir, dataRootMapNumber - 1);
 
     long took = System.currentTimeMillis() - readNow;
     logCatalogInit.info("ConfigCatalogInitializion finished took={} msecs", took);
@@ -245,6 +256,25 @@ public class ConfigCatalogInitialization {
     return true; // ok
   }
 
+  // the paths are always in memory, the DataRootExt objects may be kept off-heap
+  private DataRootPathMatcher makeDataRootPathMatcher() {
+    if (maxDataRootsOffHeap <= 0)
+      return new DataRootPathMatcher(ccc, dataRootTracker);
+
+    try {
+      DataRootMapChronicle newMap = new DataRootMapChronicle(trackerDir, maxDataRootsOffHeap, ++dataRootMapNumber);
+      DataRootPathMatcher result = new DataRootPathMatcher(ccc, dataRootTracker, newMap);
+      if (prevDataRootMap != null) prevDataRootMap.close();
+      prevDataRootMap = dataRootMap;
+      dataRootMap = newMap;
+      return result;
+
+    } catch (IOException e) {
+      logCatalogInit.error(ERROR + "DataRootMapChronicle failed, keep dataRoots in memory", e);
+      return new DataRootPathMatcher(ccc, dataRootTracker);
+    }
+  }
+
   private void readRootCatalogs(ReadMode readMode) {
     rootCatalogKeys = new ArrayList<>();
     rootCatalogKeys.add("catalog.xml"); // always first
@@ -0,0 +1,312 @@
+/* Copyright */
+package thredds.core;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import net.jcip.annotations.Immutable;
+import org.jdom2.Document;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import thredds.featurecollection.FeatureCollectionCache;
+import thredds.featurecollection.InvDatasetFeatureCollection;
+import thredds.inventory.CollectionUpdateEvent;
+import thredds.server.admin.DebugCommands;
+import thredds.server.catalog.FeatureCollectionRef;
+import ucar.nc2.ft2.coverage.CoordSysSubsetCache;
+import ucar.nc2.ft2.coverage.CoverageCoordAxis;
+import ucar.nc2.ft2.coverage.CoverageCoordSys;
+
+import java.io.IOException;
+import java.util.Formatter;
+import java.util.Objects;
+
+/**
+ * Memory bounded cache of the metadata responses computed from a CoverageCollection:
+ * capability documents, headers, coordinate values, etc. On a hit, the dataset doesnt have to be opened.
+ * <p>
+ * Data requests still open the dataset, but share the resolution of their SubsetParams to index ranges and
+ * coordinate values through getSubsetCache(). The subsetted CoverageCoordSys are immutable, and their axis values
+ * are read before they are cached, so they dont depend on the reader of the collection they were made from.
+ * <p>
+ * The key includes the last modified time of the file, or for a feature collection, the last time its inventory changed,
+ * so a changed dataset never matches an old entry. Entries for a feature collection are also removed on its
+ * CollectionUpdateEvent. NcML datasets and aggregations are not cached, since they depend on more than one file.
+ * Callers must check resource control before using a cached response.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Component
+public class CoverageMetadataCache implements InitializingBean {
+  static private final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(CoverageMetadataCache.class);
+  static private final long defaultMaxBytes = 20 * 1000 * 1000;
+
+  @Autowired
+  private DataRootManager dataRootManager;
+
+  @Autowired
+  private DatasetManager datasetManager;
+
+  @Autowired
+  private FeatureCollectionCache featureCollectionCache;
+
+  @Autowired
+  @Qualifier("fcTriggerEventBus")
+  private EventBus eventBus;
+
+  @Autowired
+  private DebugCommands debugCommands;
+
+  private volatile Cache<Key, Entry> cache; // null means turned off
+  private long maxBytes;
+
+  @Override
+  public void afterPropertiesSet() {
+    init(defaultMaxBytes);
+    eventBus.register(this);
+    makeDebugActions();
+  }
+
+  /**
+   * Set the maximum size of the cache; any current entries are discarded.
+   *
+   * @param maxBytes approximate maximum memory used, 0 to turn off
+   */
+  public void init(long maxBytes) {
+    this.maxBytes = maxBytes;
+    if (maxBytes <= 0) {
+      cache = null;
+      return;
+    }
+    cache = CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Weigher<Key, Entry>) (key, entry) -> entry.weight)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Make the key for a metadata response.
+   *
+   * @param reqPath dataset request path
+   * @param what    which response
+   * @param params  anything else the response depends on, may be null
+   * @return the key, or null if the response should not be cached
+   */
+  public Key makeKey(String reqPath, String what, String params) {
+    if (cache == null || reqPath == null) return null;
+    if (reqPath.startsWith("/"))
+      reqPath = reqPath.substring(1);
+
+    DataRootManager.DataRootMatch match = dataRootManager.findDataRootMatch(reqPath);
+    if (match == null) return null;
+
+    FeatureCollectionRef fcr = match.dataRoot.getFeatureCollection();
+    if (fcr != null) {
+      try {
+        InvDatasetFeatureCollection fc = featureCollectionCache.get(fcr);
+        long lastChange = fc.getLastInvChange();
+        if (lastChange <= 0) return null; // not yet initialized
+        return new Key(reqPath, lastChange, fcr.getCollectionName(), what, params);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    long lastModified = datasetManager.getFileLastModified(reqPath);
+    if (lastModified <= 0) return null;  // doesnt exist, or not a single file
+    return new Key(reqPath, lastModified, null, what, params);
+  }
+
+  /**
+   * Make the cache of the coordinate system subsets of a dataset, for CoverageCollection.setSubsetCache().
+   *
+   * @param reqPath dataset request path
+   * @return the subset cache, or null if the dataset should not be cached
+   */
+  public CoordSysSubsetCache getSubsetCache(String reqPath) {
+    Key datasetKey = makeKey(reqPath, "subset", null);
+    if (datasetKey == null) return null;
+
+    return new CoordSysSubsetCache() {
+      public CoverageCoordSys get(String coordSysName, String params) {
+        return CoverageMetadataCache.this.get(makeSubsetKey(coordSysName, params), CoverageCoordSys.class);
+      }
+
+      public void put(String coordSysName, String params, CoverageCoordSys subset) {
+        CoverageMetadataCache.this.put(makeSubsetKey(coordSysName, params), subset);
+      }
+
+      private Key makeSubsetKey(String coordSysName, String params) {
+        return new Key(datasetKey.reqPath, datasetKey.version, datasetKey.collectionName, "subset " + coordSysName, params);
+      }
+    };
+  }
+
+  /**
+   * Find a cached response.
+   *
+   * @param key  from makeKey(), may be null
+   * @param type expected type: byte[], String, Document or CoverageCoordSys
+   * @return cached response, or null if not found. A Document is a copy, and may be modified.
+   *   A CoverageCoordSys is shared, and is immutable.
+   */
+  public <T> T get(Key key, Class<T> type) {
+    Cache<Key, Entry> local = cache;
+    if (key == null || local == null) return null;
+    Entry entry = local.getIfPresent(key);
+    if (entry == null || !type.isInstance(entry.value)) return null;
+    Object value = entry.value;
+    if (value instanceof Document)
+      value = ((Document) value).clone();
+    return type.cast(value);
+  }
+
+  /**
+   * Add a response to the cache.
+   *
+   * @param key   from makeKey(), may be null, in which case nothing is cached.
+   * @param value byte[], String, Document or immutable CoverageCoordSys. A Document is copied.
+   */
+  public void put(Key key, Object value) {
+    Cache<Key, Entry> local = cache;
+    if (key == null || value == null || local == null) return;
+
+    int weight;
+    if (value instanceof byte[]) {
+      weight = ((byte[]) value).length;
+    } else if (value instanceof String) {
+      weight = 2 * ((String) value).length();
+    } else if (value instanceof Document) {
+      value = ((Document) value).clone();
+      weight = 4 * new XMLOutputter(Format.getCompactFormat()).outputString((Document) value).length(); // LOOK rough estimate of jdom overhead
+    } else if (value instanceof CoverageCoordSys) {
+      weight = 0;
+      for (CoverageCoordAxis axis : ((CoverageCoordSys) value).getAxes())
+        weight += 16 * axis.getNcoords() + 256;  // values and edges, LOOK rough estimate of the axis overhead
+    } else {
+      throw new IllegalArgumentException("CoverageMetadataCache cannot cache " + value.getClass().getName());
+    }
+    local.put(key, new Entry(value, weight + key.weight()));
+  }
+
+  /**
+   * Remove all entries for this feature collection.
+   *
+   * @param collectionName name of the feature collection
+   */
+  public void invalidateCollection(String collectionName) {
+    Cache<Key, Entry> local = cache;
+    if (local == null) return;
+    local.asMap().keySet().removeIf(key -> collectionName.equals(key.collectionName));
+  }
+
+  public void invalidateAll() {
+    Cache<Key, Entry> local = cache;
+    if (local != null) local.invalidateAll();
+  }
+
+  // called by eventBus
+  @Subscribe
+  public void processEvent(CollectionUpdateEvent event) {
+    invalidateCollection(event.getCollectionName());
+    if (log.isDebugEnabled()) log.debug("invalidated metadata for collection {}", event.getCollectionName());
+  }
+
+  public void showStats(Formatter f) {
+    Cache<Key, Entry> local = cache;
+    if (local == null) {
+      f.format("CoverageMetadataCache : turned off%n");
+      return;
+    }
+    CacheStats stats = local.stats();
+    long bytes = 0;
+    for (Entry entry : local.asMap().values())
+      bytes += entry.weight;
+    f.format("CoverageMetadataCache: %d entries, %d / %d bytes%n", local.size(), bytes, maxBytes);
+    f.format("  hits=%d misses=%d hitRate=%5.3f evictions=%d%n", stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+  }
+
+  private void makeDebugActions() {
+    DebugCommands.Category debugHandler = debugCommands.findCategory("Caches");
+    DebugCommands.Action act;
+
+    act = new DebugCommands.Action("showCoverageMetadataCache", "Show Coverage Metadata Cache") {
+      public void doAction(DebugCommands.Event e) {
+        Formatter f = new Formatter();
+        showStats(f);
+        e.pw.printf("%s", f);
+      }
+    };
+    debugHandler.addAction(act);
+
+    act = new DebugCommands.Action("clearCoverageMetadataCache", "Clear Coverage Metadata Cache") {
+      public void doAction(DebugCommands.Event e) {
+        invalidateAll();
+        e.pw.println("  CoverageMetadataCache cleared");
+      }
+    };
+    debugHandler.addAction(act);
+  }
+
+  //////////////////////////////////////////////////////////
+
+  @Immutable
+  static public class Key {
+    private final String reqPath;
+    private final long version;           // lastModified or lastInvChange
+    private final String collectionName;  // if its part of a feature collection, else null
+    private final String what;
+    private final String params;
+
+    private Key(String reqPath, long version, String collectionName, String what, String params) {
+      this.reqPath = reqPath;
+      this.version = version;
+      this.collectionName = collectionName;
+      this.what = what;
+      this.params = params;
+    }
+
+    private int weight() {
+      return 2 * (reqPath.length() + what.length() + (params == null ? 0 : params.length())) + 64;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return version == key.version && reqPath.equals(key.reqPath) && what.equals(key.what) && Objects.equals(params, key.params);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(reqPath, version, what, params);
+    }
+
+    @Override
+    public String toString() {
+      return reqPath + "?" + what + (params == null ? "" : "&" + params) + " (" + version + ")";
+    }
+  }
+
+  @Immutable
+  static private class Entry {
+    final Object value;
+    final int weight;
+
+    Entry(Object value, int weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+
+}
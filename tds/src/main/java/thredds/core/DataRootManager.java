@@ -80,7 +80,8 @@ public class DataRootManager implements InitializingBean {
   private TdsContext tdsContext;
 
   // injected by catalogInitializer, when catalogs are reread, so cant be spring managed
-  private DataRootPathMatcher dataRootPathMatcher;
+  // volatile so that it can be swapped without locking the lookups
+  private volatile DataRootPathMatcher dataRootPathMatcher;
 
   @Autowired
   private DebugCommands debugCommands;
@@ -168,13 +169,13 @@ public class DataRootManager implements InitializingBean {
     return match;
   }
 
-  private synchronized DataRoot findDataRoot(String spath) {
+  private DataRoot findDataRoot(String spath) {
     if (spath == null)
       return null;
     if (spath.startsWith("/"))
       spath = spath.substring(1);
 
-    // LOOK could it be safe to swap dataRootPathMatcher without synchronizing?
+    // DataRootPathMatcher is safe for concurrent lookups, and the reference is swapped atomically on reread
     return dataRootPathMatcher.findDataRoot(spath);
   }
 
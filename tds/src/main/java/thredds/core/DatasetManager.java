@@ -65,6 +65,7 @@ import ucar.nc2.util.cache.FileFactory;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.StringReader;
@@ -132,6 +133,29 @@ public class DatasetManager implements InitializingBean {
     return dataRootManager.getLocationFromRequestPath(reqPath);
   }
 
+  /**
+   * Last modified date of the file that a request path is opened from, for caches of the responses made from it.
+   * NcML datasets, aggregations and pluggable DatasetSources are not just one file, so are not cached
+   * (as in DsgStationIndex); neither are feature collections, which track their own changes.
+   *
+   * @param reqPath dataset request path, without leading "/"
+   * @return the last modified date of the file, or 0 if not a single local file
+   */
+  public long getFileLastModified(String reqPath) {
+    if (datasetTracker != null && datasetTracker.findNcml(reqPath) != null) return 0;
+    if (!datasetSources.isEmpty()) return 0;
+
+    DataRootManager.DataRootMatch match = dataRootManager.findDataRootMatch(reqPath);
+    if (match == null || match.dataRoot.getFeatureCollection() != null) return 0;
+    DatasetScan dscan = match.dataRoot.getDatasetScan();
+    if (dscan != null && dscan.getNcmlElement() != null) return 0;
+
+    String location = dataRootManager.getLocationFromRequestPath(reqPath);
+    if (location == null || location.endsWith(".ncml") || location.endsWith(".xml")) return 0;
+    File file = new File(location);
+    return file.isFile() ? file.lastModified() : 0;
+  }
+
   ///////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
 
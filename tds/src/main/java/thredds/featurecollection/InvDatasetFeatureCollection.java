@@ -306,6 +306,7 @@ public abstract class InvDatasetFeatureCollection implements Closeable {
       if (first) {
         firstInit();
         updateCollection(state, config.updateConfig.updateType);
+        state.lastInvChange = System.currentTimeMillis();
         // makeDatasetTop(state);
         first = false;
       }
@@ -352,6 +353,16 @@ public abstract class InvDatasetFeatureCollection implements Closeable {
     return name;
   }
 
+  /**
+   * Last time the dataset inventory was changed.
+   * @return msecs since epoch, or 0 if not yet initialized
+   */
+  public long getLastInvChange() {
+    synchronized (lock) {
+      return (state == null) ? 0 : state.lastInvChange;
+    }
+  }
+
   public String getConfigPath() {
     return configPath;
   }
@@ -261,6 +261,23 @@ public class DebugCommands {
       }
     };
     debugHandler.addAction(act);
+
+    act = new Action("showEnhanceStats", "Show NetcdfDataset enhance timing") {
+      public void doAction(Event e) {
+        Formatter f = new Formatter(e.pw);
+        NetcdfDataset.showEnhanceStats(f);
+        e.pw.flush();
+      }
+    };
+    debugHandler.addAction(act);
+
+    act = new Action("resetEnhanceStats", "Reset NetcdfDataset enhance timing") {
+      public void doAction(Event e) {
+        NetcdfDataset.resetEnhanceStats();
+        e.pw.println("  reset NetcdfDataset enhance timing");
+      }
+    };
+    debugHandler.addAction(act);
   }
 
 
@@ -45,6 +45,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.LastModified;
 import thredds.core.AllowedServices;
+import thredds.core.CoverageMetadataCache;
 import thredds.core.StandardService;
 import thredds.core.TdsRequestedDataset;
 import thredds.server.config.TdsContext;
@@ -98,6 +99,9 @@ public class CdmrGridController implements LastModified {
   @Autowired
   private AllowedServices allowedServices;
 
+  @Autowired
+  private CoverageMetadataCache metadataCache;
+
   @Override
   public long getLastModified(HttpServletRequest req) {
     String path = TdsPathUtils.extractPath(req, "cdmrfeature/");
@@ -112,16 +116,22 @@ public class CdmrGridController implements LastModified {
       throw new ServiceNotAllowed(StandardService.cdmrFeatureGrid.toString());
 
     String datasetPath = TdsPathUtils.extractPath(request, StandardService.cdmrFeatureGrid.getBase());
+    if (!TdsRequestedDataset.resourceControlOk(request, response, datasetPath)) return null;
 
-    try (CoverageCollection cc = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
-      if (cc == null) return null;
+    CoverageMetadataCache.Key key = metadataCache.makeKey(datasetPath, "cdmrfFeatureType", null);
+    String featureType = metadataCache.get(key, String.class);
+    if (featureType == null) {
+      try (CoverageCollection cc = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
+        if (cc == null) return null;
         // return new ResponseEntity<>("", HttpStatus.NOT_FOUND);
-
-      HttpHeaders responseHeaders = new HttpHeaders();
-      responseHeaders.set(ContentType.HEADER, ContentType.text.getContentHeader());
-      return new ResponseEntity<>(cc.getCoverageType().toString(), responseHeaders, HttpStatus.OK);
-
+        featureType = cc.getCoverageType().toString();
+        metadataCache.put(key, featureType);
+      }
     }
+
+    HttpHeaders responseHeaders = new HttpHeaders();
+    responseHeaders.set(ContentType.HEADER, ContentType.text.getContentHeader());
+    return new ResponseEntity<>(featureType, responseHeaders, HttpStatus.OK);
   }
 
   @RequestMapping(value = "/**", method = RequestMethod.GET, params = "req=header")
@@ -133,19 +143,30 @@ public class CdmrGridController implements LastModified {
       throw new ServiceNotAllowed(StandardService.cdmrFeatureGrid.toString());
 
     String datasetPath = TdsPathUtils.extractPath(request, StandardService.cdmrFeatureGrid.getBase());
+    if (!TdsRequestedDataset.resourceControlOk(request, response, datasetPath)) return;
+
+    String requestBase = ServletUtil.getRequestBase(request);
+    CoverageMetadataCache.Key key = metadataCache.makeKey(datasetPath, "cdmrfHeader", requestBase);
+    byte[] header = metadataCache.get(key, byte[].class);
+    if (header == null) {
+      try (CoverageCollection gridCoverageDataset = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
+        if (gridCoverageDataset == null) return;
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream(10 * 1000);
+        CdmrfWriter writer = new CdmrfWriter();
+        writer.sendHeader(bout, gridCoverageDataset, requestBase);
+        header = bout.toByteArray();
+        metadataCache.put(key, header);
+      }
+    }
 
-    try (CoverageCollection gridCoverageDataset = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
-      if (gridCoverageDataset == null) return;
-
-      response.setContentType(ContentType.binary.getContentHeader());
-      response.setHeader("Content-Description", "ncstream");
-      CdmrfWriter writer = new CdmrfWriter();
-      long size = writer.sendHeader(out, gridCoverageDataset, ServletUtil.getRequestBase(request));
-      out.flush();
+    response.setContentType(ContentType.binary.getContentHeader());
+    response.setHeader("Content-Description", "ncstream");
+    out.write(header);
+    out.flush();
 
-      if (showRes)
-        System.out.printf(" CdmrGridController.getHeader sent, message size=%s%n", size);
-    }
+    if (showRes)
+      System.out.printf(" CdmrGridController.getHeader sent, message size=%s%n", header.length);
   }
 
   @RequestMapping(value = "/**", method = RequestMethod.GET, params = "req=form")
@@ -157,21 +178,24 @@ public class CdmrGridController implements LastModified {
       throw new ServiceNotAllowed(StandardService.cdmrFeatureGrid.toString());
 
     String datasetPath = TdsPathUtils.extractPath(request, StandardService.cdmrFeatureGrid.getBase());
-    HttpHeaders responseHeaders;
-
-    try (CoverageCollection gridCoverageDataset = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
-      if (gridCoverageDataset == null) return null;
-
-      String text = gridCoverageDataset.toString();
-
-      if (showRes)
-        System.out.printf(" CdmrGridController.getHeader sent, message size=%s%n", text.length());
+    if (!TdsRequestedDataset.resourceControlOk(request, response, datasetPath)) return null;
+
+    CoverageMetadataCache.Key key = metadataCache.makeKey(datasetPath, "cdmrfForm", null);
+    String text = metadataCache.get(key, String.class);
+    if (text == null) {
+      try (CoverageCollection gridCoverageDataset = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
+        if (gridCoverageDataset == null) return null;
+        text = gridCoverageDataset.toString();
+        metadataCache.put(key, text);
+      }
+    }
 
-      responseHeaders = new HttpHeaders();
-      responseHeaders.set(ContentType.HEADER, ContentType.text.getContentHeader());
-      return new ResponseEntity<>(text, responseHeaders, HttpStatus.OK);
+    if (showRes)
+      System.out.printf(" CdmrGridController.getHeader sent, message size=%s%n", text.length());
 
-    }
+    HttpHeaders responseHeaders = new HttpHeaders();
+    responseHeaders.set(ContentType.HEADER, ContentType.text.getContentHeader());
+    return new ResponseEntity<>(text, responseHeaders, HttpStatus.OK);
   }
 
   @RequestMapping(value = "/**", method = RequestMethod.GET, params = "req=coord")
@@ -183,31 +207,40 @@ public class CdmrGridController implements LastModified {
       throw new ServiceNotAllowed(StandardService.cdmrFeatureGrid.toString());
 
     String datasetPath = TdsPathUtils.extractPath(request, StandardService.cdmrFeatureGrid.getBase());
-
-    try (CoverageCollection gridCoverageDataset = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
-      if (gridCoverageDataset == null) return;
-
-      response.setContentType(ContentType.binary.getContentHeader());
-      response.setHeader("Content-Description", "ncstream");
-
-      String[] coordNames = var.split(",");
-      for (String coordName : coordNames) {
-        CoverageCoordAxis coord = gridCoverageDataset.findCoordAxis(coordName);
-        double[] values;
-        if (!coord.isRegular())
-          values = coord.getValues();
-        else {
-          values = new double[coord.getNcoords()];
-          for (int i=0; i<values.length; i++)
-            values[i] = coord.getStartValue() + i*coord.getResolution();
+    if (!TdsRequestedDataset.resourceControlOk(request, response, datasetPath)) return;
+
+    CoverageMetadataCache.Key key = metadataCache.makeKey(datasetPath, "cdmrfCoord", var);
+    byte[] coordData = metadataCache.get(key, byte[].class);
+    if (coordData == null) {
+      try (CoverageCollection gridCoverageDataset = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
+        if (gridCoverageDataset == null) return;
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        String[] coordNames = var.split(",");
+        for (String coordName : coordNames) {
+          CoverageCoordAxis coord = gridCoverageDataset.findCoordAxis(coordName);
+          double[] values;
+          if (!coord.isRegular())
+            values = coord.getValues();
+          else {
+            values = new double[coord.getNcoords()];
+            for (int i=0; i<values.length; i++)
+              values[i] = coord.getStartValue() + i*coord.getResolution();
+          }
+          sendCoordData(coord.getName(), new Section(new Range(values.length)), Array.makeFromJavaArray(values), bout);
         }
-        sendCoordData(coord.getName(), new Section(new Range(values.length)), Array.makeFromJavaArray(values), out);
-      }
-      out.flush();
+        coordData = bout.toByteArray();
+        metadataCache.put(key, coordData);
 
-    } catch (Throwable t) {
-      throw new RuntimeException("CdmrGridController on dataset "+datasetPath, t);
+      } catch (Throwable t) {
+        throw new RuntimeException("CdmrGridController on dataset "+datasetPath, t);
+      }
     }
+
+    response.setContentType(ContentType.binary.getContentHeader());
+    response.setHeader("Content-Description", "ncstream");
+    out.write(coordData);
+    out.flush();
   }
 
   private long sendCoordData(String name, Section section, Array data, OutputStream out) throws IOException, InvalidRangeException {
@@ -241,6 +274,7 @@ public class CdmrGridController implements LastModified {
 
     try (CoverageCollection gridCoverageDataset = TdsRequestedDataset.getCoverageCollection(request, response, datasetPath)) {
       if (gridCoverageDataset == null) return;
+      gridCoverageDataset.setSubsetCache(metadataCache.getSubsetCache(datasetPath));
 
       response.setContentType(ContentType.binary.getContentHeader());
       response.setHeader("Content-Description", "ncstream");
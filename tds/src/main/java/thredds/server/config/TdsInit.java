@@ -45,6 +45,7 @@ import thredds.client.catalog.tools.CatalogXmlWriter;
 import thredds.client.catalog.tools.DataFactory;
 import thredds.core.AllowedServices;
 import thredds.core.ConfigCatalogInitialization;
+import thredds.core.CoverageMetadataCache;
 import thredds.core.DatasetManager;
 import thredds.core.StandardService;
 import thredds.featurecollection.CollectionUpdater;
@@ -54,13 +55,18 @@ import thredds.server.catalog.DatasetScan;
 import thredds.server.ncss.controller.NcssDiskCache;
 import thredds.server.ncss.format.FormatsAvailabilityService;
 import thredds.server.ncss.format.SupportedFormat;
+import thredds.server.wms.WmsTileCache;
+import thredds.servlet.AsyncFileSender;
 import thredds.util.LoggerFactorySpecial;
 import ucar.nc2.NetcdfFile;
 import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.ft.point.standard.DsgStationIndex;
 import ucar.nc2.grib.GribIndexCache;
 import ucar.nc2.grib.collection.GribCdmIndex;
+import ucar.nc2.iosp.nexrad2.Level2VolumeScan;
 import ucar.nc2.jni.netcdf.Nc4Iosp;
 import ucar.nc2.ncml.Aggregation;
+import ucar.nc2.stream.HeaderSnapshot;
 import ucar.nc2.util.DiskCache;
 import ucar.nc2.util.DiskCache2;
 import ucar.nc2.util.cache.FileCache;
@@ -121,6 +127,12 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
   @Autowired
   private NcssDiskCache ncssDiskCache;
 
+  @Autowired
+  private CoverageMetadataCache coverageMetadataCache;
+
+  @Autowired
+  private WmsTileCache wmsTileCache;
+
   private Timer cdmDiskCacheTimer;
   private boolean wasInitialized;
 
@@ -233,6 +245,14 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
     allowedServices.setAllowService(StandardService.uddc, ThreddsConfig.getBoolean("NCISO.uddcAllow"));
     allowedServices.setAllowService(StandardService.iso, ThreddsConfig.getBoolean("NCISO.isoAllow"));
 
+    // large file downloads (fileServer, ncss grid) are sent without holding the request thread
+    long asyncMinSize = ThreddsConfig.getBytes("AsyncDownload.minSize", -1);
+    int asyncTimeout = ThreddsConfig.getSeconds("AsyncDownload.timeout", 0);
+    long asyncBufferSize = ThreddsConfig.getBytes("AsyncDownload.bufferSize", 60 * 1000);
+    boolean asyncSendfile = ThreddsConfig.getBoolean("AsyncDownload.useSendfile", true);
+    AsyncFileSender.setConfig(asyncMinSize, asyncTimeout * 1000L, (int) asyncBufferSize, asyncSendfile);
+    startupLog.info("TdsInit: AsyncFileSender minSize= " + asyncMinSize + " timeout= " + asyncTimeout + " bufferSize= " + asyncBufferSize + " useSendfile= " + asyncSendfile);
+
 
     // CDM configuration
 
@@ -290,9 +310,12 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
       }
     }
 
-    if (Nc4Iosp.isClibraryPresent()) {  // NetCDF-4 lib could be set as an environment variable or as a JVM parameter.
+    // if enabled and the NetCDF-4 C library is not present, the classic model is written in pure java by H5iospWriter
+    boolean useJavaWriter = ThreddsConfig.getBoolean("Netcdf4Clibrary.useJavaWriter", false);
+    if (Nc4Iosp.isClibraryPresent() || useJavaWriter) {  // NetCDF-4 lib could be set as an environment variable or as a JVM parameter.
       FormatsAvailabilityService.setFormatAvailability(SupportedFormat.NETCDF4, true);
-      // FormatsAvailabilityService.setFormatAvailability(SupportedFormat.NETCDF4EXT, true);
+      // the extended model needs the C library
+      // if (Nc4Iosp.isClibraryPresent()) FormatsAvailabilityService.setFormatAvailability(SupportedFormat.NETCDF4EXT, true);
     }
 
     // how to choose the typical dataset ?
@@ -320,6 +343,12 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
       cdmDiskCacheTimer.scheduleAtFixedRate(new CacheScourTask(maxSize), c.getTime(), (long) 1000 * scourSecs);
     }
 
+    // NEXRAD level II compressed files: decompress blocks in parallel into memory, instead of into the DiskCache
+    long nexradBlockCache = ThreddsConfig.getBytes("NexradLevel2.blockCacheSize", 0);
+    boolean nexradPersist = ThreddsConfig.getBoolean("NexradLevel2.persistUncompressed", true);
+    Level2VolumeScan.setBlockCache(nexradBlockCache, nexradPersist);
+    startupLog.info("TdsInit: NexradLevel2 blockCacheSize = " + nexradBlockCache + " persistUncompressed = " + nexradPersist);
+
     // persist joinExisting aggregations. default every 24 hours, delete stuff older than 90 days
     dir = ThreddsConfig.get("AggregationCache.dir", new File(tdsContext.getThreddsDirectory().getPath(), "/cache/agg/").getPath());
     scourSecs = ThreddsConfig.getSeconds("AggregationCache.scour", 24 * 60 * 60);
@@ -330,6 +359,28 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
     Aggregation.setPersistenceCache(aggCache);
     startupLog.info("TdsInit: AggregationCache= " + dir + " scour = " + scourSecs + " maxAgeSecs = " + maxAgeSecs);
 
+    // time and station index for CF DSG station files
+    if (ThreddsConfig.getBoolean("DsgStationIndex.use", false)) {
+      dir = ThreddsConfig.get("DsgStationIndex.dir", new File(tdsContext.getThreddsDirectory().getPath(), "/cache/dsg/").getPath());
+      scourSecs = ThreddsConfig.getSeconds("DsgStationIndex.scour", 24 * 60 * 60);
+      maxAgeSecs = ThreddsConfig.getSeconds("DsgStationIndex.maxAge", 90 * 24 * 60 * 60);
+      DiskCache2 dsgCache = new DiskCache2(dir, false, maxAgeSecs / 60, scourSecs / 60);
+      dsgCache.setAlwaysUseCache(true);
+      DsgStationIndex.setDiskCache(dsgCache);
+      startupLog.info("TdsInit: DsgStationIndex= " + dir + " scour = " + scourSecs + " maxAgeSecs = " + maxAgeSecs);
+    }
+
+    // persistent snapshots of dataset headers and coordinate systems
+    if (ThreddsConfig.getBoolean("HeaderSnapshot.use", false)) {
+      dir = ThreddsConfig.get("HeaderSnapshot.dir", new File(tdsContext.getThreddsDirectory().getPath(), "/cache/header/").getPath());
+      scourSecs = ThreddsConfig.getSeconds("HeaderSnapshot.scour", 24 * 60 * 60);
+      maxAgeSecs = ThreddsConfig.getSeconds("HeaderSnapshot.maxAge", 90 * 24 * 60 * 60);
+      DiskCache2 headerCache = new DiskCache2(dir, false, maxAgeSecs / 60, scourSecs / 60);
+      headerCache.setAlwaysUseCache(true);
+      HeaderSnapshot.setDiskCache(headerCache);
+      startupLog.info("TdsInit: HeaderSnapshot= " + dir + " scour = " + scourSecs + " maxAgeSecs = " + maxAgeSecs);
+    }
+
     /* 4.3.15: grib index file placement, using DiskCache2  */
     String gribIndexDir = ThreddsConfig.get("GribIndex.dir", new File(tdsContext.getThreddsDirectory(), "/cache/grib/").getPath());
     Boolean gribIndexAlwaysUse = ThreddsConfig.getBoolean("GribIndex.alwaysUse", false);
@@ -347,6 +398,16 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
     // LOOK just create the diskCache here and send it in
     ncssDiskCache.init();
 
+    long metadataCacheSize = ThreddsConfig.getBytes("CoverageMetadataCache.maxSize", (long) 20 * 1000 * 1000);
+    coverageMetadataCache.init(metadataCacheSize);
+    startupLog.info("TdsInit: CoverageMetadataCache maxSize = " + metadataCacheSize);
+
+    long wmsCacheSize = ThreddsConfig.getBytes("WmsTileCache.maxSize", (long) 50 * 1000 * 1000);
+    long wmsDiskSize = ThreddsConfig.getBytes("WmsTileCache.maxDiskSize", 0);
+    dir = ThreddsConfig.get("WmsTileCache.dir", new File(tdsContext.getThreddsDirectory().getPath(), "/cache/wms/").getPath());
+    wmsTileCache.init(wmsCacheSize, new File(dir), wmsDiskSize);
+    startupLog.info("TdsInit: WmsTileCache maxSize = " + wmsCacheSize + " dir = " + dir + " maxDiskSize = " + wmsDiskSize);
+
     // LOOK is this used ??
     // 4.3.16
     /* dir = ThreddsConfig.get("CdmRemote.dir", new File(tdsContext.getContentDirectory().getPath(), "/cache/cdmr/").getPath());
@@ -374,10 +435,16 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
     if (-1 == jvmPercent)
       jvmPercent = ThreddsConfig.getInt("FeatureCollection.jvmPercent", 2);
 
+    // "file" = one file per collection, read all at once (default); "bdb" = berkeley db
+    String fcStore = ThreddsConfig.get("FeatureCollectionCache.store", ThreddsConfig.get("FeatureCollection.store", "file"));
+
     try {
       thredds.inventory.bdb.MetadataManager.setCacheDirectory(fcCache, maxSizeBytes, jvmPercent);
-      thredds.inventory.CollectionManagerAbstract.setMetadataStore(thredds.inventory.bdb.MetadataManager.getFactory());  // LOOK
-      startupLog.info("TdsInit: CollectionManagerAbstract.setMetadataStore= " + fcCache);
+      if (fcStore.equalsIgnoreCase("bdb"))
+        thredds.inventory.CollectionManagerAbstract.setMetadataStore(thredds.inventory.bdb.MetadataManager.getFactory());  // LOOK
+      else
+        thredds.inventory.CollectionManagerAbstract.setMetadataStore(thredds.inventory.StoreKeyValueFile.getFactory(new File(fcCache, "store").getPath()));
+      startupLog.info("TdsInit: CollectionManagerAbstract.setMetadataStore= " + fcCache + " store= " + fcStore);
     } catch (Exception e) {
       startupLog.error("TdsInit: Failed to open CollectionManagerAbstract.setMetadataStore= " + fcCache, e);
     }
@@ -404,6 +471,11 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
       startupLog.info("TdsInit: NetcdfDataset.initNetcdfFileCache= [" + min + "," + max + "] scour = " + secs);
     }
 
+    // NetcdfDataset: build coordinate systems on first use, instead of when the dataset is opened
+    boolean deferCoordSystems = ThreddsConfig.getBoolean("NetcdfDataset.deferCoordSystems", false);
+    NetcdfDataset.setDeferCoordSystems(deferCoordSystems);
+    startupLog.info("TdsInit: NetcdfDataset.deferCoordSystems= " + deferCoordSystems);
+
     // GribCollection partitions: default is allow 100 - 150 objects, cleanup every 13 minutes
     min = ThreddsConfig.getInt("TimePartition.minFiles", 100);
     max = ThreddsConfig.getInt("TimePartition.maxFiles", 150);
@@ -412,6 +484,9 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
       GribCdmIndex.initDefaultCollectionCache(min, max, secs);
       startupLog.info("TdsInit: GribCdmIndex.initDefaultCollectionCache= [" + min + "," + max + "] scour = " + secs);
     }
+    boolean mapIndex = ThreddsConfig.getBoolean("TimePartition.mapIndex", false);
+    GribCdmIndex.setMapIndexFiles(mapIndex);
+    startupLog.info("TdsInit: GribCdmIndex.setMapIndexFiles= " + mapIndex);
 
     //RandomAccessFile.enableDefaultGlobalFileCache();
     //RandomAccessFile.setDebugLeaks(true);
@@ -431,6 +506,11 @@ public class TdsInit implements ApplicationListener<ContextRefreshedEvent>, Disp
     }
     configCatalogInitializer.setTrackerDir(trackerDir);
     configCatalogInitializer.setMaxDatasetToTrack(trackerMax);
+    int dataRootsOffHeap = ThreddsConfig.getInt("ConfigCatalog.maxDataRootsOffHeap", 0);
+    if (dataRootsOffHeap > 0) {
+      configCatalogInitializer.setMaxDataRootsOffHeap(dataRootsOffHeap);
+      startupLog.info("TdsInit: dataRoots kept off-heap, max = {}", dataRootsOffHeap);
+    }
   }
 
   static private class CacheScourTask extends TimerTask {
@@ -32,6 +32,7 @@
  */
 package thredds.server.ncss.controller;
 
+import org.jdom2.Document;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
@@ -40,6 +41,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 import thredds.core.AllowedServices;
+import thredds.core.CoverageMetadataCache;
 import thredds.core.StandardService;
 import thredds.core.TdsRequestedDataset;
 import thredds.server.config.ThreddsConfig;
@@ -51,6 +53,7 @@ import thredds.server.ncss.format.SupportedOperation;
 import thredds.server.ncss.params.NcssGridParamsBean;
 import thredds.server.ncss.view.dsg.DsgSubsetWriter;
 import thredds.server.ncss.view.dsg.DsgSubsetWriterFactory;
+import thredds.servlet.AsyncFileSender;
 import thredds.util.Constants;
 import thredds.util.ContentType;
 import thredds.util.TdsPathUtils;
@@ -59,6 +62,7 @@ import ucar.nc2.NetcdfFileWriter;
 import ucar.nc2.ft.FeatureDatasetPoint;
 import ucar.nc2.ft2.coverage.*;
 import ucar.nc2.ft2.coverage.writer.CFGridCoverageWriter2;
+import ucar.nc2.ft2.coverage.writer.CoverageBoundariesExtractor;
 import ucar.nc2.ft2.coverage.writer.CoverageAsPoint;
 import ucar.nc2.util.IO;
 import ucar.nc2.util.Optional;
@@ -89,6 +93,9 @@ public class NcssGridController extends AbstractNcssController {
   @Autowired
   private AllowedServices allowedServices;
 
+  @Autowired
+  private CoverageMetadataCache metadataCache;
+
   protected String getBase() {
     return StandardService.netcdfSubsetGrid.getBase();
   }
@@ -106,6 +113,7 @@ public class NcssGridController extends AbstractNcssController {
     String datasetPath = getDatasetPath(req);
     try (CoverageCollection gcd = TdsRequestedDataset.getCoverageCollection(req, res, datasetPath)) {
       if (gcd == null) return;
+      gcd.setSubsetCache(metadataCache.getSubsetCache(datasetPath));
 
       Formatter errs = new Formatter();
       if (!params.intersectsTime(gcd.getCalendarDateRange(), errs)) {
@@ -119,12 +127,12 @@ public class NcssGridController extends AbstractNcssController {
       if (params.hasLatLonPoint()) {
         handleRequestGridAsPoint(res, params, datasetPath, gcd);
       } else {
-        handleRequestGrid(res, params, datasetPath, gcd);
+        handleRequestGrid(req, res, params, datasetPath, gcd);
       }
     }
   }
 
-  private void handleRequestGrid(HttpServletResponse res, NcssGridParamsBean params, String datasetPath, CoverageCollection gcd)
+  private void handleRequestGrid(HttpServletRequest req, HttpServletResponse res, NcssGridParamsBean params, String datasetPath, CoverageCollection gcd)
           throws IOException, NcssException, ParseException, InvalidRangeException {
 
     // Supported formats are netcdf3 (default) and netcdf4 (if available)
@@ -154,10 +162,16 @@ public class NcssGridController extends AbstractNcssController {
     httpHeaders.set(Constants.Content_Disposition, Constants.setContentDispositionValue(filename));
     setResponseHeaders(res, httpHeaders);
 
+    // the file is already written, so the request thread can be released while it drains
+    long size = netcdfResult.length();
+    res.setContentLengthLong(size);
+    res.setStatus(HttpServletResponse.SC_OK);
+    if (AsyncFileSender.send(req, res, netcdfResult, 0, size))
+      return;
+
     IO.copyFileB(netcdfResult, res.getOutputStream(), 60000);
     res.flushBuffer();
     res.getOutputStream().close();
-    res.setStatus(HttpServletResponse.SC_OK);
   }
 
   File makeCFNetcdfFile(CoverageCollection gcd, String responseFilename, NcssGridParamsBean params, NetcdfFileWriter.Version version)
@@ -271,10 +285,32 @@ public class NcssGridController extends AbstractNcssController {
     boolean wantXML = path.endsWith("/dataset.xml") || path.endsWith("/pointDataset.xml");
     boolean showPointForm = path.endsWith("/pointDataset.html");
     String datasetPath = getDatasetPath(req);
+    String datasetUrl = buildDatasetUrl(datasetPath);
+
+    if (wantXML) {
+      // the capabilities document is cached; the form needs the open dataset
+      if (!TdsRequestedDataset.resourceControlOk(req, res, datasetPath)) return null;
+      CoverageMetadataCache.Key key = metadataCache.makeKey(datasetPath, "ncssDatasetXml", datasetUrl);
+      Document doc = metadataCache.get(key, Document.class);
+      if (doc == null) {
+        try (CoverageCollection gcd = TdsRequestedDataset.getCoverageCollection(req, res, datasetPath)) {
+          if (gcd == null) return null; // restricted dataset
+          doc = ncssShowDatasetInfo.makeGridDatasetDescription(gcd, datasetUrl);
+          metadataCache.put(key, doc);
+        }
+      }
+      return ncssShowDatasetInfo.showGridDatasetDescription(doc);
+    }
 
     try (CoverageCollection gcd = TdsRequestedDataset.getCoverageCollection(req, res, datasetPath)) {
       if (gcd == null) return null; // restricted dataset
-      return ncssShowDatasetInfo.showGridFormTh(gcd, buildDatasetUrl(datasetPath), wantXML);
+      CoverageMetadataCache.Key key = metadataCache.makeKey(datasetPath, "ncssGridWKT", null);
+      String gridWKT = metadataCache.get(key, String.class);
+      if (gridWKT == null) {
+        gridWKT = CoverageBoundariesExtractor.getDatasetBoundariesWKT(gcd);
+        metadataCache.put(key, gridWKT);
+      }
+      return ncssShowDatasetInfo.showGridFormTh(gcd, datasetUrl, gridWKT);
     }
   }
 
@@ -99,22 +99,34 @@ public class NcssShowFeatureDatasetInfo {
 
   // the NCSS grid from using thymeleaf template, called from NcssGridController
   public ModelAndView showGridFormTh(CoverageCollection gcd, String datasetUrlPath, boolean wantXml) throws IOException {
-    if (wantXml) {
-      CoverageDatasetCapabilities writer = new CoverageDatasetCapabilities(gcd, "path");
-      Document doc = writer.makeDatasetDescription();
-      Element root = doc.getRootElement();
-      root.setAttribute("location", datasetUrlPath);
-      root.addContent( makeAcceptXML(SupportedOperation.GRID_REQUEST));
-      return new ModelAndView("threddsXmlView", "Document", doc);
+    if (wantXml)
+      return showGridDatasetDescription(makeGridDatasetDescription(gcd, datasetUrlPath));
+    else
+      return showGridFormTh(gcd, datasetUrlPath, CoverageBoundariesExtractor.getDatasetBoundariesWKT(gcd));
+  }
 
-    } else {
-      Map<String, Object> model = new HashMap<>();
-      model.put("gcd", gcd);
-      model.put("datasetPath", datasetUrlPath);
-      model.put("gridWKT", CoverageBoundariesExtractor.getDatasetBoundariesWKT(gcd));
-      model.put("accept", makeAcceptList(SupportedOperation.GRID_REQUEST));
-      return new ModelAndView("templates/ncssGridth", model);
-    }
+  // gridWKT may be precomputed
+  public ModelAndView showGridFormTh(CoverageCollection gcd, String datasetUrlPath, String gridWKT) throws IOException {
+    Map<String, Object> model = new HashMap<>();
+    model.put("gcd", gcd);
+    model.put("datasetPath", datasetUrlPath);
+    model.put("gridWKT", gridWKT);
+    model.put("accept", makeAcceptList(SupportedOperation.GRID_REQUEST));
+    return new ModelAndView("templates/ncssGridth", model);
+  }
+
+  // the dataset.xml document
+  public Document makeGridDatasetDescription(CoverageCollection gcd, String datasetUrlPath) throws IOException {
+    CoverageDatasetCapabilities writer = new CoverageDatasetCapabilities(gcd, "path");
+    Document doc = writer.makeDatasetDescription();
+    Element root = doc.getRootElement();
+    root.setAttribute("location", datasetUrlPath);
+    root.addContent( makeAcceptXML(SupportedOperation.GRID_REQUEST));
+    return doc;
+  }
+
+  public ModelAndView showGridDatasetDescription(Document doc) {
+    return new ModelAndView("threddsXmlView", "Document", doc);
   }
 
   public ModelAndView showGridForm(CoverageCollection gcd, String datasetUrlPath, boolean wantXml, boolean isPoint) throws IOException {
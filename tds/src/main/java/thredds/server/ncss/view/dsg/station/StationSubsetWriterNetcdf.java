@@ -85,8 +85,13 @@ public class StationSubsetWriterNetcdf extends AbstractStationSubsetWriter {
         CalendarDateUnit timeUnit = fc.getTimeUnit();
         String altUnit = fc.getAltUnits();
 
+        // netcdf3 records are streamed to out as they are written, instead of copying the file in writeFooter()
+        CFPointWriterConfig config = new CFPointWriterConfig(version);
+        if (version == NetcdfFileWriter.Version.netcdf3)
+            config.setStreamOut(out);
+
         this.cfWriter = new WriterCFStationCollection( netcdfResult.getAbsolutePath(), attribs, wantedVariables,
-                timeUnit, altUnit, new CFPointWriterConfig(version) );
+                timeUnit, altUnit, config );
     }
 
     @Override
@@ -121,8 +126,10 @@ public class StationSubsetWriterNetcdf extends AbstractStationSubsetWriter {
 
     @Override
     protected void writeFooter() throws Exception {
-        cfWriter.finish();
-        IO.copyFileB(netcdfResult, out, 60000);  // Copy the file in to the OutputStream.
-        out.flush();
+        cfWriter.finish();  // netcdf3 has already been streamed to out
+        if (version != NetcdfFileWriter.Version.netcdf3) {
+            IO.copyFileB(netcdfResult, out, 60000);  // Copy the file in to the OutputStream.
+            out.flush();
+        }
     }
 }
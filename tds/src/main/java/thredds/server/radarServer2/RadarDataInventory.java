@@ -56,6 +56,8 @@ import java.util.*;
  */
 
 public class RadarDataInventory {
+    private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(RadarDataInventory.class);
+
     public enum DirType {
         Station, Variable, Date
     }
@@ -74,6 +76,7 @@ public class RadarDataInventory {
     private String name, description;
     private DateRange timeCoverage;
     private RadarServerConfig.RadarConfigEntry.GeoInfo geoCoverage;
+    private RadarFileIndex index;
 
     public RadarDataInventory(Path datasetRoot, int numCrawl) {
         items = new EnumMap<>(DirType.class);
@@ -140,7 +143,9 @@ public class RadarDataInventory {
     }
 
     public boolean needsVar() {
-        return items.containsKey(DirType.Variable);
+        for (DirectoryStructure.DirEntry entry : structure.order)
+            if (entry.type == DirType.Variable) return true;
+        return false;
     }
 
     public StationList getStationList() {
@@ -261,7 +266,7 @@ public class RadarDataInventory {
     // start time the same way will give a wider start point, the end
     // ends up going the wrong way. Adding this adjustment should correct for
     // this.
-    private CalendarPeriod findRangeAdjustment(String fmtString) {
+    static CalendarPeriod findRangeAdjustment(String fmtString) {
         if (fmtString.contains("H") || fmtString.contains("k"))
             return CalendarPeriod.of(1, CalendarPeriod.Field.Hour);
         else if (fmtString.contains("d"))
@@ -277,6 +282,34 @@ public class RadarDataInventory {
         fileTimeFmt = fmt;
     }
 
+    /**
+     * Use an on-disk index of the files, instead of listing directories for each query.
+     * Call after the directory structure and file time are set. Queries use the index
+     * once it has been read or built; call update() on it to build or update it.
+     *
+     * @param indexFile the index file
+     * @return the index
+     */
+    public RadarFileIndex useIndex(Path indexFile) {
+        List<DirType> levels = new ArrayList<>();
+        List<String> dateFmts = new ArrayList<>();
+        for (DirectoryStructure.DirEntry entry : structure.order) {
+            levels.add(entry.type);
+            dateFmts.add(entry.fmt);
+        }
+        index = new RadarFileIndex(collectionDir, levels, dateFmts, fileTimeRegex, fileTimeFmt, indexFile);
+        index.read();
+        return index;
+    }
+
+    public RadarFileIndex getIndex() {
+        return index;
+    }
+
+    private boolean useIndex() {
+        return index != null && index.isReady();
+    }
+
     private void findItems(Path start, int level) {
         // Add each entry from this level to the appropriate item box
         // and recurse
@@ -368,6 +401,8 @@ public class RadarDataInventory {
     }
 
     public List<String> listItems(DirType type) {
+        if (useIndex() && type != DirType.Date)
+            return listIndexItems(type);
         update();
         Set<String> vals = items.get(type);
         if (vals == null) {
@@ -377,8 +412,24 @@ public class RadarDataInventory {
         }
     }
 
+    // the station or variable names in the index keys
+    private List<String> listIndexItems(DirType type) {
+        int pos = 0;
+        for (DirectoryStructure.DirEntry entry : structure.order) {
+            if (entry.type == type) break;
+            if (entry.type != DirType.Date) pos++;
+        }
+        Set<String> vals = new TreeSet<>();
+        for (String key : index.getKeys()) {
+            String[] parts = key.split("/");
+            if (pos < parts.length) vals.add(parts[pos]);
+        }
+        return new ArrayList<>(vals);
+    }
+
     public Query newQuery() {
-        update();
+        if (!useIndex())
+            update();
         return new Query();
     }
 
@@ -446,6 +497,14 @@ public class RadarDataInventory {
         }
 
         public Collection<QueryResultItem> results() {
+            if (useIndex()) {
+                try {
+                    return indexResults();
+                } catch (IOException e) {
+                    logger.warn("results(): Error reading index, listing directories", e);
+                }
+            }
+
             List<Path> results = new ArrayList<>();
             DirectoryStructure.DirectoryDateMatcher matcher = structure.matcher();
             results.add(structure.base);
@@ -557,5 +616,51 @@ public class RadarDataInventory {
 
             return filteredFiles;
         }
+
+        // Same as results(), using the index
+        private Collection<QueryResultItem> indexResults() throws IOException {
+            List<Object> dates = q.get(DirType.Date);
+            CalendarDateRange range = (dates == null) ? null : (CalendarDateRange) dates.get(0);
+
+            Collection<QueryResultItem> filteredFiles = new ArrayList<>();
+            for (String key : findKeys()) {
+                if (range != null && range.isPoint()) {
+                    CalendarDate want = range.getStart();
+                    long window = want.add(nearestWindow).getDifferenceInMsecs(want);
+                    RadarFileIndex.Item item = index.findNearest(key, want, window);
+                    if (item != null)
+                        filteredFiles.add(makeItem(item));
+                } else {
+                    for (RadarFileIndex.Item item : index.findFiles(key, range))
+                        filteredFiles.add(makeItem(item));
+                }
+            }
+            return filteredFiles;
+        }
+
+        private QueryResultItem makeItem(RadarFileIndex.Item item) {
+            return new QueryResultItem(collectionDir.resolve(item.path), CalendarDate.of(item.time));
+        }
+
+        // the index keys that match the station and variable criteria
+        private List<String> findKeys() {
+            List<List<Object>> criteria = new ArrayList<>();
+            for (DirectoryStructure.DirEntry entry : structure.order) {
+                if (entry.type != DirType.Date)
+                    criteria.add(q.get(entry.type));
+            }
+
+            List<String> keys = new ArrayList<>();
+            for (String key : index.getKeys()) {
+                String[] parts = key.split("/");
+                boolean ok = parts.length == criteria.size();
+                for (int i = 0; ok && i < parts.length; i++) {
+                    List<Object> vals = criteria.get(i);
+                    if (vals != null && !vals.contains(parts[i])) ok = false;
+                }
+                if (ok) keys.add(key);
+            }
+            return keys;
+        }
     }
 }
@@ -0,0 +1,529 @@
+/* Copyright */
+package thredds.server.radarServer2;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ucar.nc2.time.CalendarDate;
+import ucar.nc2.time.CalendarDateRange;
+
+import java.io.*;
+import java.nio.file.*;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An on-disk index of the files in a RadarDataInventory: for each station (and variable), the time of each file,
+ * so that queries dont have to list directories.
+ * <p>
+ * The index file is a sequence of segments, one for each leaf directory: its key, path and time range, then the
+ * file times and names, sorted by time. Only the segment headers are kept in memory; queries binary search them,
+ * then read and binary search the segments they need. When a directory has changed, a new segment for it
+ * is appended, which replaces the old one.
+ * <p>
+ * update() is meant to be called in the background. It only lists the directories that may have files at or after
+ * the last indexed time of each key. Once a day it rescans everything and rewrites the index, which also
+ * picks up late files in older directories, and drops deleted ones.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class RadarFileIndex {
+    private static final Logger logger = LoggerFactory.getLogger(RadarFileIndex.class);
+    private static final int MAGIC = 0x52414458; // "RADX"
+    private static final int VERSION = 1;
+    static long fullScanIntervalMsec = 24 * 3600 * 1000L;
+
+    /**
+     * A file found by a query.
+     */
+    public static class Item {
+        public final String path;  // relative to the collection dir, '/' separated
+        public final long time;    // msecs
+
+        Item(String path, long time) {
+            this.path = path;
+            this.time = time;
+        }
+    }
+
+    // a leaf directory
+    private static class DirInfo {
+        final String dir;             // relative to the collection dir, '/' separated
+        final long minTime, maxTime;  // msecs
+        final int nfiles;
+        final long pos;               // start of the segment body in the index file
+        final int size;               // size of the segment body
+
+        DirInfo(String dir, long minTime, long maxTime, int nfiles, long pos, int size) {
+            this.dir = dir;
+            this.minTime = minTime;
+            this.maxTime = maxTime;
+            this.nfiles = nfiles;
+            this.pos = pos;
+            this.size = size;
+        }
+    }
+
+    // a scanned leaf directory, files sorted by time
+    private static class Segment {
+        final String key, dir;
+        final long[] times;
+        final String[] names;
+
+        Segment(String key, String dir, long[] times, String[] names) {
+            this.key = key;
+            this.dir = dir;
+            this.times = times;
+            this.names = names;
+        }
+    }
+
+    private final Path base;
+    private final List<RadarDataInventory.DirType> levels;
+    private final List<String> dateFmts;  // for Date levels, else null
+    private final Pattern fileTimeRegex;
+    private final String fileTimeFmt;
+    private final Path indexFile;
+
+    // key -> leaf directories sorted by time; null until the index is read or built
+    private volatile Map<String, DirInfo[]> dirs;
+    private long lastFullScan;
+    private final ReadWriteLock fileLock = new ReentrantReadWriteLock(); // write lock to replace the index file
+
+    /**
+     * Constructor.
+     *
+     * @param base          the collection directory
+     * @param levels        what each directory level under base is
+     * @param dateFmts      for Date levels, the SimpleDateFormat of the directory name, else null
+     * @param fileTimeRegex finds the time in the file path
+     * @param fileTimeFmt   SimpleDateFormat of the time found by fileTimeRegex
+     * @param indexFile     the index file
+     */
+    public RadarFileIndex(Path base, List<RadarDataInventory.DirType> levels, List<String> dateFmts,
+                          Pattern fileTimeRegex, String fileTimeFmt, Path indexFile) {
+        this.base = base;
+        this.levels = levels;
+        this.dateFmts = dateFmts;
+        this.fileTimeRegex = fileTimeRegex;
+        this.fileTimeFmt = fileTimeFmt;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Can queries use the index? Not until it has been read or built.
+     */
+    public boolean isReady() {
+        return dirs != null;
+    }
+
+    /**
+     * Read the index file, if it exists and is for this collection.
+     *
+     * @return true if the index was read
+     */
+    public synchronized boolean read() {
+        if (!Files.exists(indexFile)) return false;
+        Map<String, List<DirInfo>> result = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return false;
+            long fullScan = in.readLong();
+            if (!in.readUTF().equals(base.toString())) return false;
+            long pos = 4 + 4 + 8 + utfLength(base.toString());
+
+            while (true) {
+                String key;
+                try {
+                    key = in.readUTF();
+                } catch (EOFException e) {
+                    break;
+                }
+                String dir = in.readUTF();
+                long minTime = in.readLong();
+                long maxTime = in.readLong();
+                int nfiles = in.readInt();
+                int size = in.readInt();
+                pos += utfLength(key) + utfLength(dir) + 8 + 8 + 4 + 4;
+                addDir(result, key, new DirInfo(dir, minTime, maxTime, nfiles, pos, size));
+                if (in.skipBytes(size) != size) throw new EOFException("truncated segment for " + dir);
+                pos += size;
+            }
+            lastFullScan = fullScan;
+            dirs = makeDirs(result);
+            return true;
+
+        } catch (IOException e) {
+            logger.warn("Failed to read radar index {}: {}", indexFile, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Bring the index up to date. Rescans everything and rewrites the index file if it has not been built,
+     * or the last full scan was more than a day ago.
+     *
+     * @throws IOException on write error
+     */
+    public synchronized void update() throws IOException {
+        long now = System.currentTimeMillis();
+        boolean full = (dirs == null) || (now - lastFullScan > fullScanIntervalMsec);
+        Map<String, DirInfo[]> old = full ? Collections.<String, DirInfo[]>emptyMap() : dirs;
+
+        long start = System.nanoTime();
+        Scan scan = new Scan(old);
+        scan.scan(base, 0, "", "", "");
+
+        if (full) {
+            writeAll(scan.segments, now);
+        } else if (!scan.segments.isEmpty()) {
+            append(scan.segments);
+        }
+        logger.debug("Radar index {} {} scan: {} directories listed, {} changed, took {} msecs", indexFile,
+                full ? "full" : "incremental", scan.nlisted, scan.segments.size(), (System.nanoTime() - start) / 1000 / 1000);
+    }
+
+    /////////////////////////////////////////////////////////////////
+    // queries
+
+    /**
+     * @return the keys in the index: the station (and variable) names of each leaf directory, '/' separated
+     */
+    public Set<String> getKeys() {
+        Map<String, DirInfo[]> current = dirs;
+        return (current == null) ? Collections.<String>emptySet() : new TreeSet<>(current.keySet());
+    }
+
+    /**
+     * Find the files for a key in a date range, sorted by time.
+     *
+     * @param key   station (and variable) names, '/' separated
+     * @param range inclusive date range, or null for all
+     * @return the files found
+     * @throws IOException on read error
+     */
+    public List<Item> findFiles(String key, CalendarDateRange range) throws IOException {
+        long start = (range == null) ? Long.MIN_VALUE : range.getStart().getMillis();
+        long end = (range == null) ? Long.MAX_VALUE : range.getEnd().getMillis();
+
+        List<Item> result = new ArrayList<>();
+        fileLock.readLock().lock();
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile.toFile(), "r")) {
+            for (DirInfo info : findDirs(key, start, end)) {
+                Segment seg = readSegment(raf, key, info);
+                int first = lowerBound(seg.times, start);
+                for (int i = first; i < seg.times.length && seg.times[i] <= end; i++)
+                    result.add(new Item(info.dir + "/" + seg.names[i], seg.times[i]));
+            }
+        } finally {
+            fileLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Find the file for a key nearest to a time.
+     *
+     * @param key          station (and variable) names, '/' separated
+     * @param time         wanted time
+     * @param windowMsecs  only look this far before and after time
+     * @return the nearest file, or null if none in the window
+     * @throws IOException on read error
+     */
+    public Item findNearest(String key, CalendarDate time, long windowMsecs) throws IOException {
+        long want = time.getMillis();
+        Item best = null;
+        long bestDiff = Long.MAX_VALUE;
+
+        fileLock.readLock().lock();
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile.toFile(), "r")) {
+            for (DirInfo info : findDirs(key, want - windowMsecs, want + windowMsecs)) {
+                Segment seg = readSegment(raf, key, info);
+                int idx = lowerBound(seg.times, want);
+                for (int i = idx - 1; i <= idx; i++) { // the ones on either side of want
+                    if (i < 0 || i >= seg.times.length) continue;
+                    long diff = Math.abs(seg.times[i] - want);
+                    if (diff <= windowMsecs && diff < bestDiff) {
+                        bestDiff = diff;
+                        best = new Item(info.dir + "/" + seg.names[i], seg.times[i]);
+                    }
+                }
+            }
+        } finally {
+            fileLock.readLock().unlock();
+        }
+        return best;
+    }
+
+    // the leaf directories of key that may have files in [start, end]
+    private List<DirInfo> findDirs(String key, long start, long end) {
+        Map<String, DirInfo[]> current = dirs;
+        DirInfo[] infos = (current == null) ? null : current.get(key);
+        if (infos == null) return Collections.emptyList();
+
+        // directories partition time, so maxTime is sorted too
+        int lo = 0, hi = infos.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (infos[mid].maxTime < start) lo = mid + 1;
+            else hi = mid;
+        }
+
+        List<DirInfo> result = new ArrayList<>();
+        for (int i = lo; i < infos.length && infos[i].minTime <= end; i++) {
+            if (infos[i].maxTime >= start)
+                result.add(infos[i]);
+        }
+        return result;
+    }
+
+    // index of the first time >= want
+    private static int lowerBound(long[] times, long want) {
+        int lo = 0, hi = times.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] < want) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /////////////////////////////////////////////////////////////////
+    // scanning the directories
+
+    private class Scan {
+        final Map<String, DirInfo[]> old;
+        final long globalCutoff; // used before the key is known: the earliest last time of all keys
+        final List<Segment> segments = new ArrayList<>();
+        final SimpleDateFormat fileFmt;
+        int nlisted;
+
+        Scan(Map<String, DirInfo[]> old) {
+            this.old = old;
+            long cutoff = old.isEmpty() ? Long.MIN_VALUE : Long.MAX_VALUE;
+            for (DirInfo[] infos : old.values())
+                cutoff = Math.min(cutoff, lastTime(infos));
+            this.globalCutoff = cutoff;
+            this.fileFmt = makeFormat(fileTimeFmt);
+        }
+
+        void scan(Path dir, int level, String key, String dateString, String dateFmt) {
+            if (level == levels.size()) {
+                scanFiles(dir, key);
+                return;
+            }
+
+            RadarDataInventory.DirType type = levels.get(level);
+            boolean keyComplete = !levels.subList(level, levels.size()).contains(RadarDataInventory.DirType.Station) &&
+                    !levels.subList(level, levels.size()).contains(RadarDataInventory.DirType.Variable);
+            long cutoff = keyComplete ? lastTime(old.get(key)) : globalCutoff;
+
+            nlisted++;
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(dir)) {
+                for (Path sub : dirStream) {
+                    if (!Files.isDirectory(sub)) continue;
+                    String name = sub.getFileName().toString();
+
+                    if (type == RadarDataInventory.DirType.Date) {
+                        String subDateString = dateString + name;
+                        String subDateFmt = dateFmt + dateFmts.get(level);
+                        Date d = parse(makeFormat(subDateFmt), subDateString);
+                        if (d == null) continue;
+                        // skip directories whose files are all before the cutoff
+                        CalendarDate dirEnd = CalendarDate.of(d).add(RadarDataInventory.findRangeAdjustment(subDateFmt));
+                        if (dirEnd.getMillis() <= cutoff) continue;
+                        scan(sub, level + 1, key, subDateString, subDateFmt);
+
+                    } else {
+                        String subKey = key.isEmpty() ? name : key + "/" + name;
+                        scan(sub, level + 1, subKey, dateString, dateFmt);
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Radar index: error reading directory {}: {}", dir, e.getMessage());
+            }
+        }
+
+        void scanFiles(Path dir, String key) {
+            List<Item> files = new ArrayList<>();
+            nlisted++;
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(dir)) {
+                for (Path f : dirStream) {
+                    Matcher m = fileTimeRegex.matcher(f.toString());
+                    if (!m.find()) continue;
+                    Date d = parse(fileFmt, m.group());
+                    if (d != null)
+                        files.add(new Item(f.getFileName().toString(), d.getTime()));
+                }
+            } catch (IOException e) {
+                logger.warn("Radar index: error reading directory {}: {}", dir, e.getMessage());
+                return;
+            }
+            files.sort((a, b) -> (a.time != b.time) ? Long.compare(a.time, b.time) : a.path.compareTo(b.path));
+
+            long[] times = new long[files.size()];
+            String[] names = new String[files.size()];
+            for (int i = 0; i < files.size(); i++) {
+                times[i] = files.get(i).time;
+                names[i] = files.get(i).path;
+            }
+
+            String relDir = base.relativize(dir).toString().replace(File.separatorChar, '/');
+            DirInfo prev = findDir(old.get(key), relDir);
+            if (prev == null && times.length == 0) return;
+            if (prev != null && prev.nfiles == times.length && times.length > 0 &&
+                    prev.minTime == times[0] && prev.maxTime == times[times.length - 1]) return; // unchanged
+            segments.add(new Segment(key, relDir, times, names));
+        }
+    }
+
+    private static long lastTime(DirInfo[] infos) {
+        return (infos == null || infos.length == 0) ? Long.MIN_VALUE : infos[infos.length - 1].maxTime;
+    }
+
+    private static DirInfo findDir(DirInfo[] infos, String dir) {
+        if (infos == null) return null;
+        for (int i = infos.length - 1; i >= 0; i--) { // rescanned directories are usually the last ones
+            if (infos[i].dir.equals(dir)) return infos[i];
+        }
+        return null;
+    }
+
+    private static SimpleDateFormat makeFormat(String fmt) {
+        SimpleDateFormat sdf = new SimpleDateFormat(fmt);
+        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return sdf;
+    }
+
+    private static Date parse(SimpleDateFormat fmt, String s) {
+        try {
+            return fmt.parse(s);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /////////////////////////////////////////////////////////////////
+    // the index file
+
+    private void writeAll(List<Segment> segments, long fullScan) throws IOException {
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        Files.createDirectories(indexFile.getParent());
+
+        Map<String, List<DirInfo>> result = new HashMap<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(fullScan);
+            out.writeUTF(base.toString());
+            for (Segment seg : segments) {
+                DirInfo info = writeSegment(out, seg);
+                addDir(result, seg.key, info);
+            }
+        }
+
+        fileLock.writeLock().lock();
+        try {
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastFullScan = fullScan;
+            dirs = makeDirs(result);
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    private void append(List<Segment> segments) throws IOException {
+        Map<String, List<DirInfo>> result = new HashMap<>();
+        for (Map.Entry<String, DirInfo[]> entry : dirs.entrySet())
+            result.put(entry.getKey(), new ArrayList<>(Arrays.asList(entry.getValue())));
+
+        // appending doesnt move anything that readers are using
+        try (FileOutputStream fos = new FileOutputStream(indexFile.toFile(), true);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            long pos = fos.getChannel().size();
+            for (Segment seg : segments) {
+                DirInfo info = writeSegment(out, seg);
+                addDir(result, seg.key, new DirInfo(info.dir, info.minTime, info.maxTime, info.nfiles, pos + info.pos, info.size));
+            }
+        }
+        dirs = makeDirs(result);
+    }
+
+    // write a segment; the returned pos is relative to where out started
+    private DirInfo writeSegment(DataOutputStream out, Segment seg) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream(seg.times.length * 48);
+        DataOutputStream body = new DataOutputStream(bout);
+        for (long time : seg.times)
+            body.writeLong(time);
+        for (String name : seg.names)
+            body.writeUTF(name);
+        body.flush();
+
+        int n = seg.times.length;
+        long minTime = (n > 0) ? seg.times[0] : 0;
+        long maxTime = (n > 0) ? seg.times[n - 1] : 0;
+        out.writeUTF(seg.key);
+        out.writeUTF(seg.dir);
+        out.writeLong(minTime);
+        out.writeLong(maxTime);
+        out.writeInt(n);
+        out.writeInt(bout.size());
+        long pos = out.size();
+        bout.writeTo(out);
+        return new DirInfo(seg.dir, minTime, maxTime, n, pos, bout.size());
+    }
+
+    private Segment readSegment(RandomAccessFile raf, String key, DirInfo info) throws IOException {
+        byte[] b = new byte[info.size];
+        raf.seek(info.pos);
+        raf.readFully(b);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(b));
+        long[] times = new long[info.nfiles];
+        String[] names = new String[info.nfiles];
+        for (int i = 0; i < info.nfiles; i++)
+            times[i] = in.readLong();
+        for (int i = 0; i < info.nfiles; i++)
+            names[i] = in.readUTF();
+        return new Segment(key, info.dir, times, names);
+    }
+
+    // a later segment for the same directory replaces the earlier one
+    private static void addDir(Map<String, List<DirInfo>> result, String key, DirInfo info) {
+        List<DirInfo> infos = result.get(key);
+        if (infos == null) {
+            infos = new ArrayList<>();
+            result.put(key, infos);
+        }
+        for (int i = infos.size() - 1; i >= 0; i--) {
+            if (infos.get(i).dir.equals(info.dir)) {
+                infos.remove(i);
+                break;
+            }
+        }
+        infos.add(info);
+    }
+
+    private static Map<String, DirInfo[]> makeDirs(Map<String, List<DirInfo>> result) {
+        Map<String, DirInfo[]> map = new HashMap<>(2 * result.size());
+        for (Map.Entry<String, List<DirInfo>> entry : result.entrySet()) {
+            List<DirInfo> infos = new ArrayList<>();
+            for (DirInfo info : entry.getValue())
+                if (info.nfiles > 0) infos.add(info);
+            if (infos.isEmpty()) continue;
+            infos.sort((a, b) -> Long.compare(a.minTime, b.minTime));
+            map.put(entry.getKey(), infos.toArray(new DirInfo[infos.size()]));
+        }
+        return map;
+    }
+
+    // number of bytes writeUTF() uses
+    private static int utfLength(String s) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream(s.length() + 2);
+        new DataOutputStream(bout).writeUTF(s);
+        return bout.size();
+    }
+}
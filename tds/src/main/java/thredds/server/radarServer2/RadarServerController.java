@@ -43,6 +43,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -68,6 +69,7 @@ import ucar.nc2.units.DateType;
 import ucar.nc2.units.TimeDuration;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.servlet.http.HttpServletRequest;
 
 /**
@@ -82,12 +84,14 @@ import javax.servlet.http.HttpServletRequest;
 @Controller
 @RequestMapping("/radarServer")
 public class RadarServerController {
+    private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(RadarServerController.class);
     Map<String, RadarDataInventory> data;
     static final String appName = "/thredds/";
     static final String entryPoint = "radarServer/";
     static final String URLbase = appName + entryPoint;
     static Map<String, List<RadarServerConfig.RadarConfigEntry.VarInfo>> vars;
     boolean enabled = false;
+    Timer indexTimer;
 
     @Autowired
     TdsContext tdsContext;
@@ -127,6 +131,7 @@ public class RadarServerController {
                         }
                         e.pw.printf("Collection Dir: %s%n", di.getCollectionDir().toString());
                         e.pw.printf("Last Update: %s%n", di.getLastUpdate());
+                        e.pw.printf("Index: %s%n", di.getIndex() == null ? "none" : (di.getIndex().isReady() ? "ready" : "building"));
                         e.pw.println("Dates:");
                         for (String item : di.listItems(RadarDataInventory.DirType.Date)) {
                             e.pw.println("\t" + item);
@@ -159,6 +164,9 @@ public class RadarServerController {
         vars = new TreeMap<>();
         String contentPath = tdsContext.getThreddsDirectory().getPath();
         List<RadarServerConfig.RadarConfigEntry> configs = RadarServerConfig.readXML(contentPath + "/radar/radarCollections.xml");
+        boolean useIndex = ThreddsConfig.getBoolean("RadarServer.useIndex", false);
+        String indexDir = ThreddsConfig.get("RadarServer.indexDir", new File(contentPath, "/cache/radarServer/").getPath());
+        List<RadarFileIndex> indexes = new ArrayList<>();
         for (RadarServerConfig.RadarConfigEntry conf : configs) {
             RadarDataInventory di = new RadarDataInventory(conf.dataPath,
                     conf.crawlItems);
@@ -186,11 +194,48 @@ public class RadarServerController {
             di.setTimeCoverage(conf.timeCoverage);
             di.setGeoCoverage(conf.spatialCoverage);
 
+            if (useIndex) {
+                String indexName = conf.urlPath.replace('/', '_') + ".radx";
+                indexes.add(di.useIndex(new File(indexDir, indexName).toPath()));
+            }
+
             data.put(conf.urlPath, di);
             vars.put(conf.urlPath, conf.vars);
             StationList sl = di.getStationList();
             sl.loadFromXmlFile(contentPath + "/" + conf.stationFile);
         }
+
+        // keep the indexes up to date in the background, so queries dont have to list directories
+        if (!indexes.isEmpty()) {
+            int updateSecs = ThreddsConfig.getSeconds("RadarServer.indexUpdate", 10 * 60);
+            indexTimer = new Timer("RadarServerIndex", true);
+            indexTimer.schedule(new IndexUpdateTask(indexes), 0, (long) 1000 * updateSecs);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (indexTimer != null)
+            indexTimer.cancel();
+    }
+
+    private static class IndexUpdateTask extends TimerTask {
+        private final List<RadarFileIndex> indexes;
+
+        IndexUpdateTask(List<RadarFileIndex> indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public void run() {
+            for (RadarFileIndex index : indexes) {
+                try {
+                    index.update();
+                } catch (Throwable t) {
+                    logger.error("RadarServer: Error updating index", t);
+                }
+            }
+        }
     }
 
     @RequestMapping(value="catalog.xml")
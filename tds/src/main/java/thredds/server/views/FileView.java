@@ -40,6 +40,7 @@ import javax.servlet.ServletOutputStream;
 import java.util.Map;
 import java.io.File;
 
+import thredds.servlet.AsyncFileSender;
 import thredds.util.ContentType;
 import ucar.nc2.util.IO;
 import ucar.unidata.io.RandomAccessFile;
@@ -168,6 +169,8 @@ public class FileView extends AbstractView {
       // set before content is sent
       res.addHeader("Content-Range", "bytes " + startPos + "-" + (endPos - 1) + "/" + fileSize);
       res.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      if (AsyncFileSender.send(req, res, file, startPos, contentLength))
+        return;
 
       try (RandomAccessFile craf = RandomAccessFile.acquire(filename)) {
         IO.copyRafB(craf, startPos, contentLength, res.getOutputStream(), new byte[60000]);
@@ -176,6 +179,8 @@ public class FileView extends AbstractView {
     }
 
     // Return the file : let exceptions propagate and be caught
+    if (AsyncFileSender.send(req, res, file, 0, fileSize))
+      return;
     ServletOutputStream out = res.getOutputStream();
     IO.copyFileB(file, out, 60000);
     res.flushBuffer();
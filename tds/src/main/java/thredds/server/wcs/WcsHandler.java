@@ -106,6 +106,18 @@ public class WcsHandler {
         ((thredds.server.wcs.v1_0_0_1.DescribeCoverage) request).writeDescribeCoverageDoc(pw);
         pw.flush();
 
+      } else if (request.getOperation().equals(Request.Operation.GetCoverage)
+              && ((thredds.server.wcs.v1_0_0_1.GetCoverage) request).isGeotiff()) {
+        // GeoTIFF is tiled and streamed, no temporary file
+        thredds.server.wcs.v1_0_0_1.GetCoverage getCoverage = (thredds.server.wcs.v1_0_0_1.GetCoverage) request;
+        String resultFilename = request.getWcsDataset().getDatasetName(); // this is name browser will show
+        if (!resultFilename.endsWith(".tif"))
+          resultFilename = resultFilename + ".tif";
+        res.setContentType(getCoverage.getFormat().getMimeType());
+        res.setHeader("Content-Disposition", "attachment; filename=\"" + resultFilename + "\"");
+        res.setStatus(HttpServletResponse.SC_OK);
+        getCoverage.writeGeotiff(res.getOutputStream());
+
       } else if (request.getOperation().equals(Request.Operation.GetCoverage)) {
         File covFile = ((thredds.server.wcs.v1_0_0_1.GetCoverage) request).writeCoverageDataToFile();
         if (covFile != null && covFile.exists()) {
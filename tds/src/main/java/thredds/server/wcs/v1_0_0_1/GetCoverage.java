@@ -39,6 +39,7 @@ import ucar.unidata.geoloc.LatLonPointImpl;
 import ucar.unidata.geoloc.LatLonRect;
 
 import java.io.File;
+import java.io.OutputStream;
 
 public class GetCoverage extends WcsRequest {
   private static org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(GetCoverage.class);
@@ -151,6 +152,21 @@ public class GetCoverage extends WcsRequest {
     return format;
   }
 
+  public boolean isGeotiff() {
+    return format == Request.Format.GeoTIFF || format == Request.Format.GeoTIFF_Float;
+  }
+
+  /**
+   * Stream a GeoTIFF response.
+   */
+  public void writeGeotiff(OutputStream out) throws WcsException {
+    this.coverage.writeGeotiff(this.format,
+            this.bboxLatLonRect,
+            this.verticalRange,
+            this.timeRange,
+            out);
+  }
+
   public File writeCoverageDataToFile() throws WcsException {
     return this.coverage.writeCoverageDataToFile(this.format,
             this.bboxLatLonRect,
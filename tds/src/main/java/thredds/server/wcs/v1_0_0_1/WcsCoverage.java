@@ -37,6 +37,7 @@ import ucar.ma2.InvalidRangeException;
 import ucar.nc2.NetcdfFileWriter;
 import ucar.nc2.ft2.coverage.*;
 import ucar.nc2.ft2.coverage.writer.CFGridCoverageWriter2;
+import ucar.nc2.geotiff.GeotiffTiledWriter;
 import ucar.nc2.geotiff.GeotiffWriter;
 import ucar.nc2.time.CalendarDateRange;
 import ucar.nc2.util.DiskCache2;
@@ -49,6 +50,7 @@ import ucar.unidata.geoloc.ogc.EPSG_OGC_CF_Helper;
 import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -177,8 +179,38 @@ public class WcsCoverage {
     return diskCache;
   }
 
-  public File writeCoverageDataToFile(Request.Format format, LatLonRect bboxLatLonRect, VerticalRange verticalRange, CalendarDateRange timeRange) throws WcsException {
+  /**
+   * Write the coverage as a tiled, deflate compressed GeoTIFF with overviews.
+   * The data is read before anything is written, so a WcsException means nothing was written to out.
+   */
+  public void writeGeotiff(Request.Format format, LatLonRect bboxLatLonRect, VerticalRange verticalRange, CalendarDateRange timeRange, OutputStream out) throws WcsException {
+    SubsetParams params = makeSubsetParams(bboxLatLonRect, verticalRange, timeRange);
+    GeoReferencedArray array;
+    try {
+      array = coverage.readData(params);
+    } catch (InvalidRangeException e) {
+      log.error("writeGeotiff(): Failed to subset coverage <" + this.coverage.getName() + ">: " + e.getMessage());
+      throw new WcsException(WcsException.Code.CoverageNotDefined, "", "Failed to subset coverage [" + this.coverage.getName() + "].");
+    } catch (IOException e) {
+      log.error("writeGeotiff(): Failed to read requested coverage <" + this.coverage.getName() + ">: " + e.getMessage());
+      throw new WcsException(WcsException.Code.UNKNOWN, "", "Problem creating coverage [" + this.coverage.getName() + "].");
+    }
+
+    try (GeotiffTiledWriter writer = new GeotiffTiledWriter(out)) {
+      writer.writeGrid(array, format == Request.Format.GeoTIFF);
+      if (log.isDebugEnabled())
+        log.debug("writeGeotiff(): wrote " + writer.getBytesWritten() + " bytes");
+
+    } catch (IllegalArgumentException e) {
+      log.error("writeGeotiff(): Failed to write requested coverage <" + this.coverage.getName() + ">: ", e);
+      throw new WcsException(WcsException.Code.UNKNOWN, "", "Problem creating coverage [" + this.coverage.getName() + "].");
+
+    } catch (IOException e) {
+      log.info("writeGeotiff(): Failed to send requested coverage <" + this.coverage.getName() + ">: " + e.getMessage());
+    }
+  }
 
+  private SubsetParams makeSubsetParams(LatLonRect bboxLatLonRect, VerticalRange verticalRange, CalendarDateRange timeRange) {
     SubsetParams params = new SubsetParams();
     if (bboxLatLonRect != null)
       params.set(SubsetParams.latlonBB, bboxLatLonRect);
@@ -188,6 +220,12 @@ public class WcsCoverage {
       double[] vr = new double[] {verticalRange.min, verticalRange.max};
       params.set(SubsetParams.vertRange, vr);
     }
+    return params;
+  }
+
+  public File writeCoverageDataToFile(Request.Format format, LatLonRect bboxLatLonRect, VerticalRange verticalRange, CalendarDateRange timeRange) throws WcsException {
+
+    SubsetParams params = makeSubsetParams(bboxLatLonRect, verticalRange, timeRange);
 
     /////////
     try {
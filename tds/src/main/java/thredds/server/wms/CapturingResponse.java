@@ -0,0 +1,119 @@
+/* Copyright */
+package thredds.server.wms;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Holds the body of a response in memory, so it can be added to the WmsTileCache before it is sent.
+ * Nothing is written to the wrapped response until finish() is called, so if the request fails,
+ * the error can still be sent on the wrapped response.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+class CapturingResponse extends HttpServletResponseWrapper {
+  private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(20 * 1000);
+  private ServletOutputStream out;
+  private PrintWriter writer;
+  private int status = SC_OK;
+  private boolean errorSent;
+
+  CapturingResponse(HttpServletResponse response) {
+    super(response);
+  }
+
+  @Override
+  public void setStatus(int sc) {
+    status = sc;
+    super.setStatus(sc);
+  }
+
+  @Override
+  public void sendError(int sc) throws IOException {
+    status = sc;
+    errorSent = true;
+    super.sendError(sc);
+  }
+
+  @Override
+  public void sendError(int sc, String msg) throws IOException {
+    status = sc;
+    errorSent = true;
+    super.sendError(sc, msg);
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() {
+    if (writer != null) throw new IllegalStateException("getWriter() already called");
+    if (out == null) {
+      out = new ServletOutputStream() {
+        public boolean isReady() {
+          return true;
+        }
+
+        public void setWriteListener(WriteListener writeListener) {
+          throw new IllegalStateException("Async writes are not supported while capturing a WMS tile");
+        }
+
+        public void write(int b) {
+          bytes.write(b);
+        }
+
+        public void write(byte[] b, int off, int len) {
+          bytes.write(b, off, len);
+        }
+      };
+    }
+    return out;
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    if (out != null) throw new IllegalStateException("getOutputStream() already called");
+    if (writer == null)
+      writer = new PrintWriter(new OutputStreamWriter(bytes, getCharacterEncoding()));
+    return writer;
+  }
+
+  @Override
+  public void flushBuffer() {
+    // nothing is sent until finish()
+  }
+
+  @Override
+  public void setContentLength(int len) {
+    // set in finish()
+  }
+
+  @Override
+  public void setContentLengthLong(long len) {
+    // set in finish()
+  }
+
+  /**
+   * Send the captured body on the wrapped response.
+   * If it was a successful image, it is also added to the cache.
+   *
+   * @param cache add to this cache
+   * @param key   using this key
+   */
+  void finish(WmsTileCache cache, WmsTileCache.Key key) throws IOException {
+    if (writer != null) writer.flush();
+    byte[] result = bytes.toByteArray();
+    String contentType = getContentType();
+    if (status == SC_OK && contentType != null && contentType.startsWith("image/"))
+      cache.put(key, contentType, result);
+
+    if (errorSent) return;  // already sent
+    HttpServletResponse response = (HttpServletResponse) getResponse();
+    response.setContentLength(result.length);
+    response.getOutputStream().write(result);
+  }
+}
@@ -31,9 +31,13 @@ package thredds.server.wms;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.web.context.support.WebApplicationContextUtils;
+
 import thredds.core.TdsRequestedDataset;
 
 import uk.ac.rdg.resc.edal.graphics.exceptions.EdalLayerNotFoundException;
@@ -55,6 +59,14 @@ import uk.ac.rdg.resc.edal.wms.WmsServlet;
 @SuppressWarnings("serial")
 public class ThreddsWmsServlet extends WmsServlet {
     private Map<String, WmsCatalogue> catalogueCache = new HashMap<>();
+    private WmsTileCache tileCache;
+
+    @Override
+    public void init(ServletConfig config) throws ServletException {
+        super.init(config);
+        tileCache = WebApplicationContextUtils.getRequiredWebApplicationContext(getServletContext())
+                .getBean(WmsTileCache.class);
+    }
 
     @Override
     protected void dispatchWmsRequest(String request, RequestParams params,
@@ -75,6 +87,25 @@ public class ThreddsWmsServlet extends WmsServlet {
         // Look - is setting this to null the right thing to do??
         String removePrefix = null;
         TdsRequestedDataset tdsDataset = new TdsRequestedDataset(httpServletRequest, removePrefix);
+
+        /*
+         * Rendered GetMap images are cached, so a hit doesn't need the dataset
+         */
+        WmsTileCache.Key key = null;
+        if ("GetMap".equalsIgnoreCase(request)) {
+            key = tileCache.makeKey(tdsDataset.getPath(), httpServletRequest.getParameterMap());
+            WmsTileCache.Tile tile = tileCache.get(key);
+            if (tile != null) {
+                if (!TdsRequestedDataset.resourceControlOk(httpServletRequest, httpServletResponse,
+                        tdsDataset.getPath()))
+                    return;
+                httpServletResponse.setContentType(tile.getContentType());
+                httpServletResponse.setContentLength(tile.getBytes().length);
+                httpServletResponse.getOutputStream().write(tile.getBytes());
+                return;
+            }
+        }
+
         if(catalogueCache.containsKey(tdsDataset.getPath())) {
             catalogue = catalogueCache.get(tdsDataset.getPath());
         } else {
@@ -105,7 +136,13 @@ public class ThreddsWmsServlet extends WmsServlet {
          * Now that we've got a WmsCatalogue, we can pass this request to the
          * super implementation which will handle things from here.
          */
-        super.dispatchWmsRequest(request, params, httpServletRequest, httpServletResponse,
-                catalogue);
+        if (key == null) {
+            super.dispatchWmsRequest(request, params, httpServletRequest, httpServletResponse,
+                    catalogue);
+        } else {
+            CapturingResponse capture = new CapturingResponse(httpServletResponse);
+            super.dispatchWmsRequest(request, params, httpServletRequest, capture, catalogue);
+            capture.finish(tileCache, key);
+        }
     }
 }
@@ -0,0 +1,492 @@
+/* Copyright */
+package thredds.server.wms;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import net.jcip.annotations.Immutable;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import thredds.core.DataRootManager;
+import thredds.core.DatasetManager;
+import thredds.featurecollection.FeatureCollectionCache;
+import thredds.featurecollection.InvDatasetFeatureCollection;
+import thredds.inventory.CollectionUpdateEvent;
+import thredds.server.admin.DebugCommands;
+import thredds.server.catalog.FeatureCollectionRef;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of rendered WMS GetMap images, so clients repeatedly asking for the same tiles dont cause the dataset
+ * to be opened, read, reprojected and coloured each time.
+ * <p>
+ * There are two tiers: a memory bounded guava cache, and a size bounded directory, where the least recently used
+ * files are deleted when its full. A memory miss that is found on disk is moved back into memory.
+ * <p>
+ * The key is the request path, the dataset version, and the GetMap parameters that determine the image
+ * (layer, time, elevation, crs, bbox, size, style and palette, colour range, etc).
+ * The version is the last modified time of the file, or for a feature collection, the last time its inventory changed,
+ * so a changed dataset never matches an old entry. Entries for a feature collection are also removed on its
+ * CollectionUpdateEvent. NcML datasets and aggregations are not cached, since they depend on more than one file.
+ * Callers must check resource control before using a cached image.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Component
+public class WmsTileCache implements InitializingBean {
+  static private final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(WmsTileCache.class);
+  static private final long defaultMaxMemory = 50 * 1000 * 1000;
+
+  @Autowired
+  private DataRootManager dataRootManager;
+
+  @Autowired
+  private DatasetManager datasetManager;
+
+  @Autowired
+  private FeatureCollectionCache featureCollectionCache;
+
+  @Autowired
+  @Qualifier("fcTriggerEventBus")
+  private EventBus eventBus;
+
+  @Autowired
+  private DebugCommands debugCommands;
+
+  private volatile Cache<Key, Tile> cache; // null means turned off
+  private long maxMemory;
+
+  // disk tier
+  private volatile File dir;   // null means no disk tier
+  private long maxDisk;
+  private final Map<String, DiskEntry> diskIndex = new ConcurrentHashMap<>(); // key hash -> entry
+  private final AtomicLong diskBytes = new AtomicLong();
+
+  private final AtomicLong memoryHits = new AtomicLong();
+  private final AtomicLong diskHits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  @Override
+  public void afterPropertiesSet() {
+    init(defaultMaxMemory, null, 0);
+    eventBus.register(this);
+    makeDebugActions();
+  }
+
+  /**
+   * Set the size of the cache; any current memory entries are discarded.
+   *
+   * @param maxMemory approximate maximum memory used, 0 to turn the cache off
+   * @param diskDir   directory for the disk tier, may be null
+   * @param maxDisk   maximum bytes in diskDir, 0 for no disk tier
+   */
+  public void init(long maxMemory, File diskDir, long maxDisk) {
+    this.maxMemory = maxMemory;
+    resetStats();
+    if (maxMemory <= 0) {
+      cache = null;
+      dir = null;
+      return;
+    }
+    cache = CacheBuilder.newBuilder()
+            .maximumWeight(maxMemory)
+            .weigher((Weigher<Key, Tile>) (key, tile) -> key.weight() + tile.weight())
+            .recordStats()
+            .build();
+
+    this.maxDisk = maxDisk;
+    diskIndex.clear();
+    diskBytes.set(0);
+    if (diskDir == null || maxDisk <= 0) {
+      dir = null;
+      return;
+    }
+    if (!diskDir.exists() && !diskDir.mkdirs()) {
+      log.error("WmsTileCache cant make directory {}; no disk cache", diskDir);
+      dir = null;
+      return;
+    }
+    scanDisk(diskDir);
+    dir = diskDir;
+  }
+
+  // files from a previous run are kept; ones for changed datasets have a different hash, and are evicted as they age
+  private void scanDisk(File diskDir) {
+    File[] subdirs = diskDir.listFiles(File::isDirectory);
+    if (subdirs == null) return;
+    for (File subdir : subdirs) {
+      File[] files = subdir.listFiles();
+      if (files == null) continue;
+      for (File file : files) {
+        if (file.getName().endsWith(".tmp")) {
+          file.delete();
+          continue;
+        }
+        diskIndex.put(file.getName(), new DiskEntry(file.length(), file.lastModified(), null));
+        diskBytes.addAndGet(file.length());
+      }
+    }
+    evictDisk();
+  }
+
+  /**
+   * Make the key for a GetMap response.
+   *
+   * @param reqPath dataset request path
+   * @param params  GetMap parameters
+   * @return the key, or null if the response should not be cached
+   */
+  public Key makeKey(String reqPath, Map<String, String[]> params) {
+    if (cache == null || reqPath == null) return null;
+    if (reqPath.startsWith("/"))
+      reqPath = reqPath.substring(1);
+
+    DataRootManager.DataRootMatch match = dataRootManager.findDataRootMatch(reqPath);
+    if (match == null) return null;
+
+    FeatureCollectionRef fcr = match.dataRoot.getFeatureCollection();
+    if (fcr != null) {
+      try {
+        InvDatasetFeatureCollection fc = featureCollectionCache.get(fcr);
+        long lastChange = fc.getLastInvChange();
+        if (lastChange <= 0) return null; // not yet initialized
+        return new Key(reqPath, lastChange, fcr.getCollectionName(), canonicalParams(params));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    long lastModified = datasetManager.getFileLastModified(reqPath);
+    if (lastModified <= 0) return null;  // doesnt exist, or not a single file
+    return new Key(reqPath, lastModified, null, canonicalParams(params));
+  }
+
+  /**
+   * The parameters that determine the image, with lower case names, in sorted order.
+   * Parameters that dont change the image (eg request, service) are left out.
+   */
+  static String canonicalParams(Map<String, String[]> params) {
+    SortedMap<String, String> sorted = new TreeMap<>();
+    for (Map.Entry<String, String[]> entry : params.entrySet()) {
+      String name = entry.getKey().toLowerCase(Locale.ROOT);
+      if (name.equals("request") || name.equals("service") || name.equals("_"))
+        continue;
+      String[] values = entry.getValue();
+      sorted.put(name, (values == null || values.length == 0) ? "" : String.join(",", values));
+    }
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String, String> entry : sorted.entrySet()) {
+      if (sb.length() > 0) sb.append('&');
+      sb.append(entry.getKey()).append('=').append(entry.getValue());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Find a cached image.
+   *
+   * @param key from makeKey(), may be null
+   * @return cached image, or null if not found.
+   */
+  public Tile get(Key key) {
+    Cache<Key, Tile> local = cache;
+    if (key == null || local == null) return null;
+    Tile tile = local.getIfPresent(key);
+    if (tile != null) {
+      memoryHits.incrementAndGet();
+      return tile;
+    }
+
+    tile = readDisk(key);
+    if (tile != null) {
+      diskHits.incrementAndGet();
+      local.put(key, tile);
+      return tile;
+    }
+
+    misses.incrementAndGet();
+    return null;
+  }
+
+  /**
+   * Add an image to the cache.
+   *
+   * @param key         from makeKey(), may be null, in which case nothing is cached.
+   * @param contentType mime type of the image
+   * @param bytes       the image
+   */
+  public void put(Key key, String contentType, byte[] bytes) {
+    Cache<Key, Tile> local = cache;
+    if (key == null || contentType == null || bytes == null || local == null) return;
+    Tile tile = new Tile(contentType, bytes);
+    local.put(key, tile);
+    writeDisk(key, tile);
+  }
+
+  /**
+   * Remove all entries for this feature collection.
+   *
+   * @param collectionName name of the feature collection
+   */
+  public void invalidateCollection(String collectionName) {
+    Cache<Key, Tile> local = cache;
+    if (local == null) return;
+    local.asMap().keySet().removeIf(key -> collectionName.equals(key.collectionName));
+
+    for (Map.Entry<String, DiskEntry> entry : diskIndex.entrySet()) {
+      if (collectionName.equals(entry.getValue().collectionName))
+        deleteDisk(entry.getKey());
+    }
+  }
+
+  public void invalidateAll() {
+    Cache<Key, Tile> local = cache;
+    if (local != null) local.invalidateAll();
+    for (String hash : diskIndex.keySet())
+      deleteDisk(hash);
+  }
+
+  // called by eventBus
+  @Subscribe
+  public void processEvent(CollectionUpdateEvent event) {
+    invalidateCollection(event.getCollectionName());
+    if (log.isDebugEnabled()) log.debug("invalidated WMS tiles for collection {}", event.getCollectionName());
+  }
+
+  ////////////////////////////////////////////////////////////////
+  // disk tier: <dir>/<first 2 chars of hash>/<hash>, containing the content type, then the image
+
+  private File getDiskFile(File dir, String hash) {
+    return new File(new File(dir, hash.substring(0, 2)), hash);
+  }
+
+  private Tile readDisk(Key key) {
+    File local = dir;
+    if (local == null) return null;
+    String hash = key.hash();
+    DiskEntry entry = diskIndex.get(hash);
+    if (entry == null) return null;
+
+    File file = getDiskFile(local, hash);
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      String keyString = in.readUTF();
+      if (!keyString.equals(key.toString())) return null; // hash collision
+      String contentType = in.readUTF();
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      entry.lastAccess = System.currentTimeMillis();
+      return new Tile(contentType, bytes);
+
+    } catch (IOException e) {
+      log.warn("WmsTileCache failed to read {}: {}", file, e.getMessage());
+      deleteDisk(hash);
+      return null;
+    }
+  }
+
+  private void writeDisk(Key key, Tile tile) {
+    File local = dir;
+    if (local == null || tile.bytes.length > maxDisk / 10) return;
+    String hash = key.hash();
+    if (diskIndex.containsKey(hash)) return;
+
+    File file = getDiskFile(local, hash);
+    File tmp = new File(file.getPath() + ".tmp");
+    try {
+      Files.createDirectories(file.getParentFile().toPath());
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+        out.writeUTF(key.toString());
+        out.writeUTF(tile.contentType);
+        out.writeInt(tile.bytes.length);
+        out.write(tile.bytes);
+      }
+      if (!tmp.renameTo(file)) {
+        tmp.delete();
+        return;
+      }
+    } catch (IOException e) {
+      log.warn("WmsTileCache failed to write {}: {}", file, e.getMessage());
+      tmp.delete();
+      return;
+    }
+
+    if (diskIndex.putIfAbsent(hash, new DiskEntry(file.length(), System.currentTimeMillis(), key.collectionName)) == null)
+      diskBytes.addAndGet(file.length());
+    if (diskBytes.get() > maxDisk)
+      evictDisk();
+  }
+
+  private void deleteDisk(String hash) {
+    DiskEntry entry = diskIndex.remove(hash);
+    if (entry == null) return;
+    diskBytes.addAndGet(-entry.size);
+    File local = dir;
+    if (local != null)
+      getDiskFile(local, hash).delete();
+  }
+
+  // delete least recently used files until under 90% of maxDisk
+  private synchronized void evictDisk() {
+    if (diskBytes.get() <= maxDisk) return;
+    List<Map.Entry<String, DiskEntry>> entries = new ArrayList<>(diskIndex.entrySet());
+    entries.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+    long target = maxDisk * 9 / 10;
+    for (Map.Entry<String, DiskEntry> entry : entries) {
+      if (diskBytes.get() <= target) break;
+      deleteDisk(entry.getKey());
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////
+
+  public void resetStats() {
+    memoryHits.set(0);
+    diskHits.set(0);
+    misses.set(0);
+  }
+
+  public void showStats(Formatter f) {
+    Cache<Key, Tile> local = cache;
+    if (local == null) {
+      f.format("WmsTileCache : turned off%n");
+      return;
+    }
+    long bytes = 0;
+    for (Tile tile : local.asMap().values())
+      bytes += tile.weight();
+    long hits = memoryHits.get() + diskHits.get();
+    long total = hits + misses.get();
+    CacheStats stats = local.stats();
+    f.format("WmsTileCache: memory %d entries, %d / %d bytes; evictions=%d%n", local.size(), bytes, maxMemory, stats.evictionCount());
+    if (dir != null)
+      f.format("  disk %s: %d entries, %d / %d bytes%n", dir, diskIndex.size(), diskBytes.get(), maxDisk);
+    f.format("  memoryHits=%d diskHits=%d misses=%d hitRate=%5.3f%n", memoryHits.get(), diskHits.get(), misses.get(),
+            (total == 0) ? 1.0 : (double) hits / total);
+  }
+
+  private void makeDebugActions() {
+    DebugCommands.Category debugHandler = debugCommands.findCategory("Caches");
+    DebugCommands.Action act;
+
+    act = new DebugCommands.Action("showWmsTileCache", "Show WMS Tile Cache") {
+      public void doAction(DebugCommands.Event e) {
+        Formatter f = new Formatter();
+        showStats(f);
+        e.pw.printf("%s", f);
+      }
+    };
+    debugHandler.addAction(act);
+
+    act = new DebugCommands.Action("clearWmsTileCache", "Clear WMS Tile Cache") {
+      public void doAction(DebugCommands.Event e) {
+        invalidateAll();
+        resetStats();
+        e.pw.println("  WmsTileCache cleared");
+      }
+    };
+    debugHandler.addAction(act);
+  }
+
+  //////////////////////////////////////////////////////////
+
+  @Immutable
+  static public class Key {
+    private final String reqPath;
+    private final long version;           // lastModified or lastInvChange
+    private final String collectionName;  // if its part of a feature collection, else null
+    private final String params;
+
+    Key(String reqPath, long version, String collectionName, String params) {
+      this.reqPath = reqPath;
+      this.version = version;
+      this.collectionName = collectionName;
+      this.params = params;
+    }
+
+    private int weight() {
+      return 2 * (reqPath.length() + params.length()) + 64;
+    }
+
+    // file name in the disk tier
+    private String hash() {
+      try {
+        MessageDigest md = MessageDigest.getInstance("SHA-1");
+        byte[] digest = md.digest(toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest)
+          sb.append(String.format("%02x", b));
+        return sb.toString();
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return version == key.version && reqPath.equals(key.reqPath) && params.equals(key.params);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(reqPath, version, params);
+    }
+
+    @Override
+    public String toString() {
+      return reqPath + "?" + params + " (" + version + ")";
+    }
+  }
+
+  @Immutable
+  static public class Tile {
+    private final String contentType;
+    private final byte[] bytes;
+
+    Tile(String contentType, byte[] bytes) {
+      this.contentType = contentType;
+      this.bytes = bytes;
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+
+    public byte[] getBytes() {
+      return bytes;
+    }
+
+    private int weight() {
+      return bytes.length + 2 * contentType.length() + 64;
+    }
+  }
+
+  static private class DiskEntry {
+    final long size;
+    final String collectionName; // null if not known
+    volatile long lastAccess;
+
+    DiskEntry(long size, long lastAccess, String collectionName) {
+      this.size = size;
+      this.lastAccess = lastAccess;
+      this.collectionName = collectionName;
+    }
+  }
+
+}
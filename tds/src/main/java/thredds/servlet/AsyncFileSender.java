@@ -0,0 +1,202 @@
+/* Copyright */
+package thredds.servlet;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletRequestWrapper;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Send a file (or a byte range of it) without holding the request thread while the bytes drain to the client.
+ * <ol>
+ * <li>If the container supports sendfile (Tomcat NIO/APR connectors), the transfer is handed to the connector,
+ *  which uses FileChannel.transferTo(), so the bytes are never copied into the JVM.</li>
+ * <li>Otherwise the request is put into async mode, and a Servlet 3.1 WriteListener copies from a FileChannel
+ *  whenever the socket can take more bytes.</li>
+ * </ol>
+ * Files smaller than minSize, HEAD requests, and requests that dont support async return false,
+ * and the caller must send the file itself with a blocking copy.
+ * Static configuration is set by TdsInit; by default this is disabled.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class AsyncFileSender {
+  static private org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(AsyncFileSender.class);
+
+  static private final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+  static private final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  static private final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  static private final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  static private long minSize = -1;       // < 0 means disabled
+  static private long timeoutMsecs = 0;   // <= 0 means no timeout
+  static private int bufferSize = 60 * 1000;
+  static private boolean useSendfile = true;
+
+  /**
+   * Set the configuration.
+   *
+   * @param minFileSize  only send files at least this large asynchronously; < 0 to disable.
+   * @param timeout      async timeout in msecs, <= 0 for none.
+   * @param bufferBytes  size of the buffer used by the WriteListener
+   * @param sendfile     use container sendfile when available
+   */
+  static public void setConfig(long minFileSize, long timeout, int bufferBytes, boolean sendfile) {
+    minSize = minFileSize;
+    timeoutMsecs = timeout;
+    bufferSize = Math.max(bufferBytes, 1000);
+    useSendfile = sendfile;
+  }
+
+  static public boolean isEnabled() {
+    return minSize >= 0;
+  }
+
+  /**
+   * Send length bytes of file starting at start, without blocking this thread.
+   * Status and headers must already be set on the response.
+   *
+   * @param req    the request
+   * @param res    the response
+   * @param file   send this file
+   * @param start  starting byte
+   * @param length number of bytes
+   * @return true if the transfer was started, false if the caller must send the bytes itself.
+   * @throws IOException if the file cant be opened
+   */
+  static public boolean send(HttpServletRequest req, HttpServletResponse res, File file, long start, long length) throws IOException {
+    if (minSize < 0 || length < minSize) return false;
+    if (isHead(req)) return false; // HttpHeadFilter presents HEAD as GET, and discards the body
+
+    if (useSendfile && Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORTED))) {
+      req.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+      req.setAttribute(SENDFILE_START, start);
+      req.setAttribute(SENDFILE_END, start + length);
+      return true;
+    }
+
+    if (!req.isAsyncSupported()) return false;
+
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      AsyncContext ac = req.startAsync();
+      ac.setTimeout(Math.max(timeoutMsecs, 0));
+      Sender sender = new Sender(ac, res.getOutputStream(), channel, file.getPath(), start, start + length);
+      ac.addListener(sender);
+      sender.out.setWriteListener(sender); // calls onWritePossible() when the stream is ready
+      return true;
+
+    } catch (IllegalStateException e) {
+      channel.close();
+      log.warn("send(): cant start async for " + file.getPath() + " " + e.getMessage());
+      return false;
+    }
+  }
+
+  // the method of the request the container saw, not the one presented by a wrapper
+  static private boolean isHead(ServletRequest req) {
+    while (req instanceof ServletRequestWrapper)
+      req = ((ServletRequestWrapper) req).getRequest();
+    return (req instanceof HttpServletRequest) && "HEAD".equals(((HttpServletRequest) req).getMethod());
+  }
+
+  /////////////////////////////////////////////////////////////////
+
+  static private class Sender implements WriteListener, AsyncListener {
+    private final AsyncContext ac;
+    private final ServletOutputStream out;
+    private final FileChannel channel;
+    private final String filename;
+    private final ByteBuffer buffer;
+    private final long end;
+    private long pos;
+    private boolean done;
+
+    Sender(AsyncContext ac, ServletOutputStream out, FileChannel channel, String filename, long start, long end) {
+      this.ac = ac;
+      this.out = out;
+      this.channel = channel;
+      this.filename = filename;
+      this.buffer = ByteBuffer.allocate((int) Math.min(bufferSize, Math.max(end - start, 1)));
+      this.pos = start;
+      this.end = end;
+    }
+
+    // called by the container; only one thread at a time
+    @Override
+    public void onWritePossible() throws IOException {
+      while (out.isReady()) {
+        if (pos >= end) {
+          finish();
+          return;
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(buffer.capacity(), end - pos));
+        int n = channel.read(buffer, pos);
+        if (n < 0)
+          throw new EOFException("File transfer not complete: " + filename + " ended at " + pos + " expected " + end);
+        out.write(buffer.array(), 0, n);
+        pos += n;
+      }
+      // not ready: the container calls onWritePossible() again when the socket drains
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      String eName = t.getClass().getName(); // dont want compile time dependency on ClientAbortException
+      if (t instanceof EOFException || eName.equals("org.apache.catalina.connector.ClientAbortException"))
+        log.debug("Sender.onError(): " + filename + " " + t.getMessage());
+      else
+        log.info("Sender.onError(): " + filename + " at " + pos + " " + t.getMessage());
+      finish();
+    }
+
+    private synchronized void finish() {
+      if (done) return;
+      done = true;
+      close();
+      ac.complete();
+    }
+
+    private void close() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        log.warn("Sender.close(): " + filename, e);
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      log.info("Sender.onTimeout(): " + filename + " sent " + pos + " of " + end);
+      finish();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      onError(event.getThrowable());
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+
+}
@@ -0,0 +1,183 @@
+/* Copyright */
+package thredds.servlet;
+
+import net.jcip.annotations.Immutable;
+import ucar.unidata.io.RandomAccessFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A byte range of a file, from an HTTP Range header (RFC 7233).
+ * Also writes multipart/byteranges responses.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Immutable
+public class ByteRange {
+  // each part of a multipart response has about this much header, so ranges closer than this are sent as one part
+  static public final long COALESCE_GAP = 80;
+
+  /**
+   * Parse a Range header value, eg "bytes=0-499, 1000-, -500".
+   * Satisfiable ranges are sorted, and overlapping or nearly adjacent ones are merged.
+   *
+   * @param header   value of the Range header, may be null
+   * @param fileSize size of the file
+   * @return null if there is no Range header or its not a valid bytes range, and the whole file should be sent;
+   * else the ranges to send, empty if none are satisfiable.
+   */
+  static public List<ByteRange> parse(String header, long fileSize) {
+    if (header == null) return null;
+    header = header.trim();
+    if (!header.regionMatches(true, 0, "bytes=", 0, 6)) return null;
+
+    List<ByteRange> result = new ArrayList<>();
+    boolean any = false;
+    try {
+      for (String spec : header.substring(6).split(",")) {
+        spec = spec.trim();
+        if (spec.isEmpty()) continue;
+        int pos = spec.indexOf('-');
+        if (pos < 0) return null;
+        any = true;
+        String startS = spec.substring(0, pos).trim();
+        String endS = spec.substring(pos + 1).trim();
+
+        if (startS.isEmpty()) { // suffix: the last n bytes
+          long n = Long.parseLong(endS);
+          if (n < 0) return null;
+          if (n > 0 && fileSize > 0)
+            result.add(new ByteRange(Math.max(0, fileSize - n), fileSize));
+          continue;
+        }
+
+        long start = Long.parseLong(startS);
+        long last = endS.isEmpty() ? Long.MAX_VALUE - 1 : Long.parseLong(endS);
+        if (start < 0 || last < start) return null;
+        if (start < fileSize)
+          result.add(new ByteRange(start, Math.min(last + 1, fileSize)));
+      }
+    } catch (NumberFormatException e) {
+      return null;
+    }
+
+    return any ? coalesce(result) : null;
+  }
+
+  /**
+   * Sort the ranges, and merge those that overlap or are within COALESCE_GAP of each other.
+   *
+   * @param ranges the ranges
+   * @return the merged ranges
+   */
+  static public List<ByteRange> coalesce(List<ByteRange> ranges) {
+    if (ranges.size() < 2) return ranges;
+    List<ByteRange> sorted = new ArrayList<>(ranges);
+    Collections.sort(sorted, (r1, r2) -> Long.compare(r1.start, r2.start));
+
+    List<ByteRange> result = new ArrayList<>();
+    ByteRange current = sorted.get(0);
+    for (int i = 1; i < sorted.size(); i++) {
+      ByteRange next = sorted.get(i);
+      if (next.start <= current.end + COALESCE_GAP)
+        current = new ByteRange(current.start, Math.max(current.end, next.end));
+      else {
+        result.add(current);
+        current = next;
+      }
+    }
+    result.add(current);
+    return result;
+  }
+
+  static public String makeBoundary() {
+    return "THREDDS_" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * The exact size of a multipart/byteranges body.
+   */
+  static public long multipartLength(List<ByteRange> ranges, String boundary, String contentType, long fileSize) {
+    long total = 0;
+    for (ByteRange range : ranges)
+      total += partHeader(range, boundary, contentType, fileSize).length + range.length();
+    return total + closing(boundary).length;
+  }
+
+  /**
+   * Write a multipart/byteranges body. The file bytes go through raf.readToByteChannel(), ie FileChannel.transferTo().
+   *
+   * @param raf         read from this file
+   * @param ranges      the ranges, from parse()
+   * @param boundary    the boundary, also in the Content-Type header of the response
+   * @param contentType content type of the file
+   * @param out         write the part headers to this stream
+   * @param cout        write the file bytes to this channel, which must write through to out
+   * @throws IOException on read or write error
+   */
+  static public void writeMultipart(RandomAccessFile raf, List<ByteRange> ranges, String boundary, String contentType,
+                                    OutputStream out, WritableByteChannel cout) throws IOException {
+    long fileSize = raf.length();
+    for (ByteRange range : ranges) {
+      out.write(partHeader(range, boundary, contentType, fileSize));
+      raf.readToByteChannel(cout, range.start, range.length());
+    }
+    out.write(closing(boundary));
+  }
+
+  static private byte[] partHeader(ByteRange range, String boundary, String contentType, long fileSize) {
+    String s = "\r\n--" + boundary + "\r\nContent-Type: " + contentType + "\r\nContent-Range: " + range.getContentRange(fileSize) + "\r\n\r\n";
+    return s.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  static private byte[] closing(String boundary) {
+    return ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+  }
+
+  ///////////////////////////////////////////////////////
+
+  public final long start; // first byte
+  public final long end;   // exclusive
+
+  public ByteRange(long start, long end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  public long length() {
+    return end - start;
+  }
+
+  /**
+   * The value of the Content-Range header for this range.
+   */
+  public String getContentRange(long fileSize) {
+    return "bytes " + start + "-" + (end - 1) + "/" + fileSize;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ByteRange that = (ByteRange) o;
+    return start == that.start && end == that.end;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(start) + Long.hashCode(end);
+  }
+
+  @Override
+  public String toString() {
+    return start + "-" + end;
+  }
+}
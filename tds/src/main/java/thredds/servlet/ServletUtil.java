@@ -37,6 +37,8 @@ import java.io.*;
 import java.util.*;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import javax.servlet.*;
 import javax.servlet.http.*;
 
@@ -114,7 +116,8 @@ public class ServletUtil {
   }
 
   /**
-   * Write a file to the response stream. Handles Range requests.
+   * Write a file to the response stream. Handles Range requests, including multiple ranges (multipart/byteranges).
+   * Large files are sent asynchronously if AsyncFileSender is enabled.
    *
    * @param servlet     called from this servlet, may be null
    * @param req         the request
@@ -169,7 +172,8 @@ public class ServletUtil {
   }
 
   /**
-   * Write a file to the response stream. Handles Range requests.
+   * Write a file to the response stream. Handles Range requests, including multiple ranges (multipart/byteranges).
+   * Large files are sent asynchronously if AsyncFileSender is enabled.
    *
    * @param req         request
    * @param res         response
@@ -180,32 +184,29 @@ public class ServletUtil {
   public static void returnFile(HttpServletRequest req, HttpServletResponse res, File file, String contentType) throws IOException {
     res.setContentType(contentType);
     // res.setHeader("Content-Disposition", "attachment; filename=\"" + file.getName() + "\"");
+    String filename = file.getPath();
+    long fileSize = file.length();
 
-    // see if its a Range Request
-    boolean isRangeRequest = false;
-    long startPos = 0, endPos = Long.MAX_VALUE;
-    String rangeRequest = req.getHeader("Range");
-    if (rangeRequest != null) { // bytes=12-34 or bytes=12-
-      int pos = rangeRequest.indexOf("=");
-      if (pos > 0) {
-        int pos2 = rangeRequest.indexOf("-");
-        if (pos2 > 0) {
-          String startString = rangeRequest.substring(pos + 1, pos2);
-          String endString = rangeRequest.substring(pos2 + 1);
-          startPos = Long.parseLong(startString);
-          if (endString.length() > 0)
-            endPos = Long.parseLong(endString) + 1;
-          isRangeRequest = true;
-        }
-      }
+    // indicate we allow Range Requests
+    res.addHeader("Accept-Ranges", "bytes");
+
+    // see if its a Range Request: bytes=12-34 or bytes=12- or bytes=-34, possibly several
+    List<ByteRange> ranges = ByteRange.parse(req.getHeader("Range"), fileSize); // null means send the whole file
+    if (ranges != null && ranges.isEmpty()) {
+      res.addHeader("Content-Range", "bytes */" + fileSize);
+      res.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      return;
     }
 
     // set content length
-    long fileSize = file.length();
     long contentLength = fileSize;
-    if (isRangeRequest) {
-      endPos = Math.min(endPos, fileSize);
-      contentLength = endPos - startPos;
+    String boundary = null;
+    if (ranges != null && ranges.size() == 1) {
+      contentLength = ranges.get(0).length();
+    } else if (ranges != null) {
+      boundary = ByteRange.makeBoundary();
+      contentLength = ByteRange.multipartLength(ranges, boundary, contentType, fileSize);
+      res.setContentType("multipart/byteranges; boundary=" + boundary);
     }
 
     // when compression is turned on, ContentLength has to be overridden
@@ -215,28 +216,39 @@ public class ServletUtil {
     else
       res.setContentLength((int) contentLength);
 
-    String filename = file.getPath();
-    // indicate we allow Range Requests
-    res.addHeader("Accept-Ranges", "bytes");
-
     if (req.getMethod().equals("HEAD")) {
       return;
     }
 
     try {
 
-      if (isRangeRequest) {
+      if (ranges != null) {
         // set before content is sent
-        res.addHeader("Content-Range", "bytes " + startPos + "-" + (endPos - 1) + "/" + fileSize);
         res.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (boundary == null) {
+          ByteRange range = ranges.get(0);
+          res.addHeader("Content-Range", range.getContentRange(fileSize));
+          if (AsyncFileSender.send(req, res, file, range.start, range.length()))
+            return;
+        }
 
+        // acquire() reuses open files from the global RandomAccessFile cache;
+        // the bytes are sent with FileChannel.transferTo(), bypassing the raf buffer
         try (RandomAccessFile craf = RandomAccessFile.acquire(filename)) {
-          IO.copyRafB(craf, startPos, contentLength, res.getOutputStream(), new byte[60000]);
+          ServletOutputStream out = res.getOutputStream();
+          WritableByteChannel cout = Channels.newChannel(out); // dont close, that closes out
+          if (boundary == null)
+            craf.readToByteChannel(cout, ranges.get(0).start, contentLength);
+          else
+            ByteRange.writeMultipart(craf, ranges, boundary, contentType, out, cout);
+          out.flush();
           return;
         }
       }
 
       // Return the file
+      if (AsyncFileSender.send(req, res, file, 0, fileSize))
+        return;
       ServletOutputStream out = res.getOutputStream();
       IO.copyFileB(file, out, 60 * 1000);
       /* try (WritableByteChannel cOut = Channels.newChannel(out)) {
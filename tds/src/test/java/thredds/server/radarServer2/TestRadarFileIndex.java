@@ -0,0 +1,176 @@
+/* Copyright */
+package thredds.server.radarServer2;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ucar.nc2.time.CalendarDate;
+import ucar.nc2.time.CalendarDateRange;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Queries using the RadarFileIndex find the same files as listing the directories.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestRadarFileIndex {
+  static private final String[] vars = {"N0R", "N0V"};
+  static private final String[] stations = {"FTG", "GLD", "UDX"};
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private Path base, indexFile;
+
+  @Before
+  public void makeCollection() throws IOException {
+    base = tempFolder.newFolder("collection").toPath();
+    indexFile = tempFolder.getRoot().toPath().resolve("index/test.radx");
+    for (String var : vars)
+      for (String stn : stations)
+        for (int day = 1; day <= 3; day++)
+          for (int hour = 0; hour < 24; hour++)
+            addFile(var, stn, day, hour, 17);
+  }
+
+  private void addFile(String var, String stn, int day, int hour, int minute) throws IOException {
+    String date = String.format("201501%02d", day);
+    Path dir = base.resolve(var).resolve(stn).resolve(date);
+    Files.createDirectories(dir);
+    Files.createFile(dir.resolve(String.format("Level3_%s_%s_%s_%02d%02d.nids", stn, var, date, hour, minute)));
+  }
+
+  private RadarDataInventory makeInventory() {
+    RadarDataInventory inv = new RadarDataInventory(base, 1);
+    inv.addVariableDir();
+    inv.addStationDir();
+    inv.addDateDir("yyyyMMdd");
+    inv.addFileTime("\\d{8}_\\d{4}", "yyyyMMdd_HHmm");
+    return inv;
+  }
+
+  private Set<String> query(RadarDataInventory inv, String stn, String var, CalendarDateRange range) {
+    RadarDataInventory.Query q = inv.newQuery();
+    if (stn != null) q.addStation(stn);
+    q.addVariable(var);
+    q.addDateRange(range);
+    Set<String> result = new TreeSet<>();
+    for (RadarDataInventory.Query.QueryResultItem item : q.results())
+      result.add(base.relativize(item.file) + " " + item.time);
+    return result;
+  }
+
+  private void compare(RadarDataInventory listing, RadarDataInventory indexed, String stn, String var, CalendarDateRange range) {
+    Set<String> want = query(listing, stn, var, range);
+    Set<String> got = query(indexed, stn, var, range);
+    Assert.assertEquals(stn + " " + var + " " + range, want, got);
+  }
+
+  private CalendarDateRange range(String start, String end) {
+    return CalendarDateRange.of(CalendarDate.parseISOformat(null, start), CalendarDate.parseISOformat(null, end));
+  }
+
+  private CalendarDateRange point(String time) {
+    CalendarDate cd = CalendarDate.parseISOformat(null, time);
+    return CalendarDateRange.of(cd, cd);
+  }
+
+  @Test
+  public void testSameAsListing() throws IOException {
+    RadarDataInventory listing = makeInventory();
+    RadarDataInventory indexed = makeInventory();
+    RadarFileIndex index = indexed.useIndex(indexFile);
+    Assert.assertFalse(index.isReady());
+    index.update();
+    Assert.assertTrue(index.isReady());
+
+    compare(listing, indexed, "FTG", "N0R", range("2015-01-01T00:00:00Z", "2015-01-04T00:00:00Z"));
+    compare(listing, indexed, "FTG", "N0R", range("2015-01-01T12:17:00Z", "2015-01-02T03:17:00Z")); // inclusive
+    compare(listing, indexed, "GLD", "N0V", range("2015-01-02T23:00:00Z", "2015-01-03T01:00:00Z"));
+    compare(listing, indexed, "UDX", "N0V", range("2014-12-01T00:00:00Z", "2014-12-31T00:00:00Z"));
+    compare(listing, indexed, "XXX", "N0V", range("2015-01-01T00:00:00Z", "2015-01-04T00:00:00Z"));
+    compare(listing, indexed, "UDX", "N0R", point("2015-01-02T05:50:00Z"));
+    compare(listing, indexed, "UDX", "N0R", point("2015-01-03T23:59:00Z"));
+    compare(listing, indexed, "UDX", "N0R", point("2015-01-05T00:00:00Z"));
+
+    Assert.assertEquals(3, query(indexed, "FTG", "N0R", point("2015-01-02T05:50:00Z")).size() +
+            query(indexed, "GLD", "N0R", point("2015-01-02T05:50:00Z")).size() +
+            query(indexed, "UDX", "N0R", point("2015-01-02T05:50:00Z")).size());
+    Assert.assertEquals(24 * 3, query(indexed, "FTG", "N0V", null).size());
+    Assert.assertEquals(listing.listItems(RadarDataInventory.DirType.Station), indexed.listItems(RadarDataInventory.DirType.Station));
+    Assert.assertEquals(listing.listItems(RadarDataInventory.DirType.Variable), indexed.listItems(RadarDataInventory.DirType.Variable));
+  }
+
+  @Test
+  public void testUpdate() throws IOException {
+    RadarDataInventory indexed = makeInventory();
+    RadarFileIndex index = indexed.useIndex(indexFile);
+    index.update();
+    CalendarDateRange all = range("2015-01-01T00:00:00Z", "2015-01-31T00:00:00Z");
+    Assert.assertEquals(72, query(indexed, "FTG", "N0R", all).size());
+
+    // new files in the last directory, a new directory, and a new station
+    addFile("N0R", "FTG", 3, 23, 40);
+    addFile("N0R", "FTG", 4, 0, 10);
+    addFile("N0R", "FTG", 4, 1, 10);
+    addFile("N0R", "AMA", 4, 1, 10);
+    Assert.assertEquals(72, query(indexed, "FTG", "N0R", all).size()); // not until updated
+    index.update();
+    Assert.assertEquals(75, query(indexed, "FTG", "N0R", all).size());
+    Assert.assertEquals(1, query(indexed, "AMA", "N0R", all).size());
+    Assert.assertEquals(72, query(indexed, "GLD", "N0R", all).size());
+
+    // the index is read from disk
+    RadarDataInventory reopened = makeInventory();
+    RadarFileIndex index2 = reopened.useIndex(indexFile);
+    Assert.assertTrue(index2.isReady());
+    RadarDataInventory listing = makeInventory();
+    for (String var : vars)
+      for (String stn : new String[]{"AMA", "FTG", "GLD", "UDX"}) {
+        compare(listing, reopened, stn, var, all);
+        compare(listing, reopened, stn, var, point("2015-01-04T00:30:00Z"));
+      }
+  }
+
+  @Test
+  public void testFullScan() throws IOException {
+    RadarDataInventory indexed = makeInventory();
+    RadarFileIndex index = indexed.useIndex(indexFile);
+    index.update();
+    long size = Files.size(indexFile);
+
+    // late files in an old directory, and a deleted directory, are only seen by a full scan
+    addFile("N0V", "GLD", 1, 5, 30);
+    Path dir = base.resolve("N0V/UDX/20150102");
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+      for (Path f : files)
+        Files.delete(f);
+    }
+    Files.delete(dir);
+    index.update();
+    Assert.assertEquals(size, Files.size(indexFile));
+
+    long save = RadarFileIndex.fullScanIntervalMsec;
+    RadarFileIndex.fullScanIntervalMsec = -1;
+    try {
+      index.update();
+    } finally {
+      RadarFileIndex.fullScanIntervalMsec = save;
+    }
+
+    CalendarDateRange all = range("2015-01-01T00:00:00Z", "2015-01-31T00:00:00Z");
+    Assert.assertEquals(73, query(indexed, "GLD", "N0V", all).size());
+    Assert.assertEquals(48, query(indexed, "UDX", "N0V", all).size());
+    RadarDataInventory listing = makeInventory();
+    compare(listing, indexed, "GLD", "N0V", all);
+  }
+}
@@ -0,0 +1,135 @@
+/* Copyright */
+package thredds.server.wms;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
+import java.util.Formatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test WmsTileCache memory and disk tiers, without spring.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestWmsTileCache {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private byte[] makeImage(int n, int seed) {
+    byte[] b = new byte[n];
+    for (int i = 0; i < n; i++) b[i] = (byte) (i + seed);
+    return b;
+  }
+
+  @Test
+  public void testCanonicalParams() {
+    Map<String, String[]> params1 = new HashMap<>();
+    params1.put("REQUEST", new String[]{"GetMap"});
+    params1.put("LAYERS", new String[]{"temp"});
+    params1.put("BBOX", new String[]{"-180,-90,0,90"});
+    params1.put("STYLES", new String[]{"default-scalar/div-RdBu"});
+
+    Map<String, String[]> params2 = new HashMap<>();
+    params2.put("styles", new String[]{"default-scalar/div-RdBu"});
+    params2.put("bbox", new String[]{"-180,-90,0,90"});
+    params2.put("layers", new String[]{"temp"});
+    params2.put("request", new String[]{"getmap"});
+
+    Assert.assertEquals("bbox=-180,-90,0,90&layers=temp&styles=default-scalar/div-RdBu", WmsTileCache.canonicalParams(params1));
+    Assert.assertEquals(WmsTileCache.canonicalParams(params1), WmsTileCache.canonicalParams(params2));
+  }
+
+  @Test
+  public void testMemoryAndDisk() throws IOException {
+    File dir = tempFolder.newFolder();
+    WmsTileCache cache = new WmsTileCache();
+    cache.init(10 * 1000, dir, 100 * 1000);
+
+    WmsTileCache.Key key1 = new WmsTileCache.Key("testAll/test.nc", 1234, null, "layers=temp&width=256");
+    WmsTileCache.Key key2 = new WmsTileCache.Key("testAll/test.nc", 5678, null, "layers=temp&width=256"); // file changed
+    Assert.assertNull(cache.get(key1));
+
+    byte[] image = makeImage(3000, 1);
+    cache.put(key1, "image/png", image);
+    WmsTileCache.Tile tile = cache.get(key1);
+    Assert.assertNotNull(tile);
+    Assert.assertEquals("image/png", tile.getContentType());
+    Assert.assertArrayEquals(image, tile.getBytes());
+    Assert.assertNull(cache.get(key2));
+
+    // push key1 out of memory, then it comes from disk
+    for (int i = 0; i < 10; i++)
+      cache.put(new WmsTileCache.Key("testAll/test.nc", 1234, null, "layers=temp&width=" + i), "image/png", makeImage(3000, i));
+    tile = cache.get(key1);
+    Assert.assertNotNull(tile);
+    Assert.assertArrayEquals(image, tile.getBytes());
+
+    // a restart finds the disk entries
+    WmsTileCache cache2 = new WmsTileCache();
+    cache2.init(10 * 1000, dir, 100 * 1000);
+    tile = cache2.get(key1);
+    Assert.assertNotNull(tile);
+    Assert.assertArrayEquals(image, tile.getBytes());
+
+    Formatter f = new Formatter();
+    cache2.showStats(f);
+    Assert.assertTrue(f.toString(), f.toString().contains("diskHits=1"));
+
+    cache2.invalidateAll();
+    Assert.assertNull(cache2.get(key1));
+  }
+
+  @Test
+  public void testDiskEviction() throws IOException {
+    File dir = tempFolder.newFolder();
+    WmsTileCache cache = new WmsTileCache();
+    cache.init(1000, dir, 20 * 1000);
+
+    for (int i = 0; i < 20; i++)
+      cache.put(new WmsTileCache.Key("test.nc", 1, null, "width=" + i), "image/png", makeImage(1500, i));
+
+    long total = 0;
+    for (File subdir : dir.listFiles())
+      for (File file : subdir.listFiles())
+        total += file.length();
+    Assert.assertTrue("disk size = " + total, total <= 20 * 1000);
+    Assert.assertNotNull(cache.get(new WmsTileCache.Key("test.nc", 1, null, "width=19")));  // most recent survives
+  }
+
+  @Test
+  public void testCapturingResponse() throws IOException {
+    WmsTileCache cache = new WmsTileCache();
+    cache.init(100 * 1000, null, 0);
+    WmsTileCache.Key key = new WmsTileCache.Key("test.nc", 1, null, "width=256");
+
+    // an error is not cached
+    MockHttpServletResponse res = new MockHttpServletResponse();
+    CapturingResponse capture = new CapturingResponse(res);
+    capture.setContentType("image/png");
+    capture.sendError(HttpServletResponse.SC_BAD_REQUEST);
+    capture.finish(cache, key);
+    Assert.assertNull(cache.get(key));
+
+    // a successful image is cached and sent
+    res = new MockHttpServletResponse();
+    capture = new CapturingResponse(res);
+    capture.setContentType("image/png");
+    byte[] image = makeImage(5000, 3);
+    capture.getOutputStream().write(image);
+    Assert.assertEquals(0, res.getContentAsByteArray().length);
+    capture.finish(cache, key);
+    Assert.assertArrayEquals(image, res.getContentAsByteArray());
+    Assert.assertEquals(image.length, res.getContentLength());
+    Assert.assertArrayEquals(image, cache.get(key).getBytes());
+  }
+}
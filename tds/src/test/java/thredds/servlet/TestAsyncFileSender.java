@@ -0,0 +1,145 @@
+/* Copyright */
+package thredds.servlet;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Test AsyncFileSender with mock requests.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestAsyncFileSender {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @After
+  public void reset() {
+    AsyncFileSender.setConfig(-1, 0, 60 * 1000, true);
+  }
+
+  private File makeFile(int n) throws IOException {
+    byte[] b = new byte[n];
+    for (int i = 0; i < n; i++) b[i] = (byte) i;
+    File file = tempFolder.newFile();
+    Files.write(file.toPath(), b);
+    return file;
+  }
+
+  @Test
+  public void testNotSent() throws IOException {
+    File file = makeFile(1000);
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", "/thredds/fileServer/test.nc");
+    req.setAsyncSupported(true);
+    MockHttpServletResponse res = new MockHttpServletResponse();
+
+    // disabled by default
+    Assert.assertFalse(AsyncFileSender.send(req, res, file, 0, 1000));
+
+    // too small
+    AsyncFileSender.setConfig(2000, 0, 1000, true);
+    Assert.assertFalse(AsyncFileSender.send(req, res, file, 0, 1000));
+
+    // HEAD presented as GET
+    AsyncFileSender.setConfig(0, 0, 1000, true);
+    MockHttpServletRequest head = new MockHttpServletRequest("HEAD", "/thredds/fileServer/test.nc");
+    head.setAsyncSupported(true);
+    HttpServletRequestWrapper wrapper = new HttpServletRequestWrapper(head) {
+      public String getMethod() {
+        return "GET";
+      }
+    };
+    Assert.assertFalse(AsyncFileSender.send(wrapper, res, file, 0, 1000));
+    Assert.assertFalse(head.isAsyncStarted());
+  }
+
+  @Test
+  public void testSendfile() throws IOException {
+    File file = makeFile(1000);
+    AsyncFileSender.setConfig(0, 0, 1000, true);
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", "/thredds/fileServer/test.nc");
+    req.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+    Assert.assertTrue(AsyncFileSender.send(req, new MockHttpServletResponse(), file, 100, 500));
+    Assert.assertEquals(file.getCanonicalPath(), req.getAttribute("org.apache.tomcat.sendfile.filename"));
+    Assert.assertEquals(100L, req.getAttribute("org.apache.tomcat.sendfile.start"));
+    Assert.assertEquals(600L, req.getAttribute("org.apache.tomcat.sendfile.end"));
+    Assert.assertFalse(req.isAsyncStarted());
+  }
+
+  @Test
+  public void testWriteListener() throws IOException {
+    File file = makeFile(10 * 1000);
+    AsyncFileSender.setConfig(0, 0, 1000, false);
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", "/thredds/fileServer/test.nc");
+    req.setAsyncSupported(true);
+    final SlowOutputStream out = new SlowOutputStream(3);
+    HttpServletResponseWrapper res = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+      public ServletOutputStream getOutputStream() {
+        return out;
+      }
+    };
+
+    Assert.assertTrue(AsyncFileSender.send(req, res, file, 1234, 5678));
+    Assert.assertTrue(req.isAsyncStarted());
+    Assert.assertNotNull(out.listener);
+
+    // the container calls onWritePossible() each time the client can take more
+    int count = 0;
+    while (req.isAsyncStarted()) {
+      out.ready = 3;
+      out.listener.onWritePossible();
+      count++;
+    }
+    Assert.assertTrue(count > 1);
+
+    byte[] expect = new byte[5678];
+    System.arraycopy(Files.readAllBytes(file.toPath()), 1234, expect, 0, 5678);
+    Assert.assertArrayEquals(expect, out.bytes.toByteArray());
+  }
+
+  // only ready for a few writes at a time
+  static private class SlowOutputStream extends ServletOutputStream {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    WriteListener listener;
+    int ready;
+
+    SlowOutputStream(int ready) {
+      this.ready = ready;
+    }
+
+    public boolean isReady() {
+      return ready > 0;
+    }
+
+    public void setWriteListener(WriteListener writeListener) {
+      this.listener = writeListener;
+    }
+
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (ready <= 0) throw new IllegalStateException("not ready");
+      bytes.write(b, off, len);
+      ready--;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/* Copyright */
+package thredds.servlet;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test Range requests in ServletUtil.returnFile().
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestByteRange {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testParse() {
+    Assert.assertNull(ByteRange.parse(null, 1000));
+    Assert.assertNull(ByteRange.parse("lines=1-2", 1000));
+    Assert.assertNull(ByteRange.parse("bytes=abc-", 1000));
+    Assert.assertNull(ByteRange.parse("bytes=20-10", 1000));
+    Assert.assertNull(ByteRange.parse("bytes=", 1000));
+
+    Assert.assertEquals(Arrays.asList(new ByteRange(10, 21)), ByteRange.parse("bytes=10-20", 1000));
+    Assert.assertEquals(Arrays.asList(new ByteRange(10, 1000)), ByteRange.parse("bytes=10-", 1000));
+    Assert.assertEquals(Arrays.asList(new ByteRange(990, 1000)), ByteRange.parse("bytes=990-5000", 1000));
+    Assert.assertEquals(Arrays.asList(new ByteRange(900, 1000)), ByteRange.parse("bytes=-100", 1000));
+    Assert.assertEquals(Arrays.asList(new ByteRange(0, 1000)), ByteRange.parse("Bytes=-5000", 1000));
+
+    // not satisfiable
+    Assert.assertEquals(0, ByteRange.parse("bytes=1000-", 1000).size());
+    Assert.assertEquals(0, ByteRange.parse("bytes=-0", 1000).size());
+    Assert.assertEquals(0, ByteRange.parse("bytes=0-10", 0).size());
+  }
+
+  @Test
+  public void testCoalesce() {
+    List<ByteRange> ranges = ByteRange.parse("bytes=500-599, 0-9, 5-19, 200-299, 320-329", 1000);
+    Assert.assertEquals(Arrays.asList(new ByteRange(0, 20), new ByteRange(200, 330), new ByteRange(500, 600)), ranges);
+
+    ranges = ByteRange.parse("bytes=0-9,10-19,20-29", 1000);
+    Assert.assertEquals(Arrays.asList(new ByteRange(0, 30)), ranges);
+  }
+
+  private File makeFile(int n) throws IOException {
+    byte[] b = new byte[n];
+    for (int i = 0; i < n; i++) b[i] = (byte) (i % 251);
+    File file = tempFolder.newFile();
+    Files.write(file.toPath(), b);
+    return file;
+  }
+
+  private MockHttpServletResponse get(File file, String range) throws IOException {
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", "/thredds/fileServer/test.nc");
+    if (range != null) req.addHeader("Range", range);
+    MockHttpServletResponse res = new MockHttpServletResponse();
+    ServletUtil.returnFile(req, res, file, "application/x-netcdf");
+    return res;
+  }
+
+  @Test
+  public void testReturnFile() throws IOException {
+    File file = makeFile(10 * 1000);
+    byte[] all = Files.readAllBytes(file.toPath());
+
+    MockHttpServletResponse res = get(file, null);
+    Assert.assertEquals(HttpServletResponse.SC_OK, res.getStatus());
+    Assert.assertArrayEquals(all, res.getContentAsByteArray());
+
+    res = get(file, "bytes=100-199");
+    Assert.assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, res.getStatus());
+    Assert.assertEquals("bytes 100-199/10000", res.getHeader("Content-Range"));
+    Assert.assertEquals(100, res.getContentLength());
+    Assert.assertArrayEquals(Arrays.copyOfRange(all, 100, 200), res.getContentAsByteArray());
+
+    res = get(file, "bytes=20000-");
+    Assert.assertEquals(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE, res.getStatus());
+    Assert.assertEquals("bytes */10000", res.getHeader("Content-Range"));
+  }
+
+  @Test
+  public void testMultipart() throws IOException {
+    File file = makeFile(10 * 1000);
+    byte[] all = Files.readAllBytes(file.toPath());
+
+    MockHttpServletResponse res = get(file, "bytes=0-99,5000-5099,-10");
+    Assert.assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, res.getStatus());
+    Assert.assertNull(res.getHeader("Content-Range"));
+    String contentType = res.getContentType();
+    Assert.assertTrue(contentType, contentType.startsWith("multipart/byteranges; boundary="));
+    String boundary = contentType.substring(contentType.indexOf('=') + 1);
+
+    byte[] body = res.getContentAsByteArray();
+    Assert.assertEquals(res.getContentLength(), body.length);
+
+    // parse the parts back
+    String text = new String(body, StandardCharsets.ISO_8859_1);
+    String[] parts = text.split("\r\n--" + boundary);
+    Assert.assertEquals(5, parts.length); // empty preamble, 3 parts, closing
+    Assert.assertEquals("", parts[0]);
+    Assert.assertEquals("--\r\n", parts[4]);
+
+    int[][] expect = {{0, 100}, {5000, 5100}, {9990, 10000}};
+    for (int i = 0; i < 3; i++) {
+      String part = parts[i + 1];
+      int pos = part.indexOf("\r\n\r\n");
+      String headers = part.substring(0, pos);
+      Assert.assertTrue(headers, headers.contains("Content-Type: application/x-netcdf"));
+      Assert.assertTrue(headers, headers.contains("Content-Range: bytes " + expect[i][0] + "-" + (expect[i][1] - 1) + "/10000"));
+      byte[] data = part.substring(pos + 4).getBytes(StandardCharsets.ISO_8859_1);
+      Assert.assertArrayEquals(Arrays.copyOfRange(all, expect[i][0], expect[i][1]), data);
+    }
+  }
+
+}
@@ -2,6 +2,7 @@ package thredds.servlet;
 
 import org.junit.Test;
 import thredds.server.catalog.DataRootPathMatcher;
+import thredds.server.catalog.DataRootPathTrie;
 
 /**
  * Test PathMatcher
@@ -16,6 +17,43 @@ public class TestPathMatcher {
     assert (result != null) == hasMatch : s +" match " + result;
   }
 
+  private void doit( DataRootPathTrie m, String s, String expect) {
+    String result = m.findLongestPathMatch(s);
+    assert (expect == null) ? result == null : expect.equals(result) : s +" match " + result;
+  }
+
+  @Test
+  public void testTrie() {
+    DataRootPathTrie m = DataRootPathTrie.EMPTY;
+    m = m.add("/thredds/dods/test/longer");
+    m = m.add("/thredds/dods/test");
+    m = m.add("/thredds/dods/tester");
+    m = m.add("/thredds/dods/short");
+    m = m.add("/actionable");
+    m = m.add("myworld");
+    m = m.add("mynot");
+    m = m.add("ncmodels");
+    m = m.add("ncmodels/bzipped");
+    assert m.size() == 9;
+    assert m.add("mynot") == m;
+
+    doit(m, "nope", null);
+    doit(m, "/thredds/dods/test", "/thredds/dods/test");
+    doit(m, "/thredds/dods/test/lo", "/thredds/dods/test");
+    doit(m, "/thredds/dods/test/longer/donger", "/thredds/dods/test/longer");
+    doit(m, "/thredds/dods/testers", "/thredds/dods/tester");
+    doit(m, "/thredds/dods/", null);
+    doit(m, "myworldly", "myworld");
+    doit(m, "/my", null);
+    doit(m, "mysnot", null);
+    doit(m, "ncmodels/canonical", "ncmodels");
+    doit(m, "ncmodels/bzipped/file.nc", "ncmodels/bzipped");
+
+    assert m.contains("ncmodels");
+    assert !m.contains("ncmodel");
+    assert !m.contains("/thredds/dods/");
+  }
+
   /*
   @Test
   public void tester() {
@@ -0,0 +1,86 @@
+/* Copyright */
+package ucar.units;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A Converter of the form <code>output = scale * input + offset</code>, computed once from another Converter.
+ * This collapses the toDerivedUnit/fromDerivedUnit chain of scaled, offset and time-scale units
+ * into a single multiply-add per value.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@Immutable
+public final class AffineConverter extends ConverterImpl {
+  private static final double SAMPLE = 1.0e6;
+  private static final double TOLERANCE = 1.0e-12;
+
+  /**
+   * Compile a Converter into an AffineConverter, if it is affine.
+   *
+   * @param fromUnit  the unit converted from
+   * @param toUnit    the unit converted to
+   * @param converter the Converter between them
+   * @return AffineConverter, or the original converter if the conversion is not affine (eg between logarithmic and linear units)
+   * @throws ConversionException if the units are not compatible
+   */
+  public static Converter compile(Unit fromUnit, Unit toUnit, Converter converter) throws ConversionException {
+    if (converter instanceof AffineConverter) return converter;
+
+    double offset = converter.convert(0.0);
+    // central difference over a wide interval, so the scale is good to the last bit or two
+    double scale = (converter.convert(SAMPLE) - converter.convert(-SAMPLE)) / (2 * SAMPLE);
+    if (Double.isNaN(scale) || Double.isInfinite(scale) || Double.isNaN(offset) || Double.isInfinite(offset))
+      return converter;
+
+    for (double x : new double[]{1.0, -1.0, 0.5, 273.15, 1.0e4, -1.0e8}) {
+      double want = converter.convert(x);
+      double have = scale * x + offset;
+      double tol = TOLERANCE * Math.max(Math.max(Math.abs(want), Math.abs(offset)), Math.abs(scale * x));
+      if (!(Math.abs(want - have) <= tol)) return converter;  // also catches NaN
+    }
+    return new AffineConverter(fromUnit, toUnit, scale, offset);
+  }
+
+  private final double scale;
+  private final double offset;
+
+  private AffineConverter(Unit fromUnit, Unit toUnit, double scale, double offset) throws ConversionException {
+    super(fromUnit, toUnit);
+    this.scale = scale;
+    this.offset = offset;
+  }
+
+  public double getScale() {
+    return scale;
+  }
+
+  public double getOffset() {
+    return offset;
+  }
+
+  @Override
+  public double convert(double amount) {
+    return scale * amount + offset;
+  }
+
+  @Override
+  public float[] convert(float[] input, float[] output) {
+    for (int i = 0; i < input.length; i++)
+      output[i] = (float) (scale * input[i] + offset);
+    return output;
+  }
+
+  @Override
+  public double[] convert(double[] input, double[] output) {
+    for (int i = 0; i < input.length; i++)
+      output[i] = scale * input[i] + offset;
+    return output;
+  }
+
+  @Override
+  public String toString() {
+    return "AffineConverter{scale=" + scale + ", offset=" + offset + '}';
+  }
+}
@@ -0,0 +1,194 @@
+/* Copyright */
+package ucar.units;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, thread-safe caches of parsed units and of the converters between them.
+ * Parsing a unit string goes through the JavaCC parser under a global lock, and Unit.getConverterTo()
+ * builds a new conversion chain on each call, so callers that see the same unit strings over and over
+ * (opening datasets, building coordinate systems, checking compatibility) should use these instead.
+ * Units and converters are immutable, so sharing them is safe.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+@ThreadSafe
+public final class UnitCache {
+  public static final int DEFAULT_MAX_UNITS = 1000;
+  public static final int DEFAULT_MAX_CONVERTERS = 1000;
+
+  private static final Lru<String, Unit> units = new Lru<>(DEFAULT_MAX_UNITS);
+  private static final Lru<Pair, Converter> converters = new Lru<>(DEFAULT_MAX_CONVERTERS);
+  private static UnitFormat format; // the format the units cache was filled from
+
+  private UnitCache() {
+  }
+
+  /**
+   * Parse a unit specification with UnitFormatManager.instance(), using the cache.
+   * Failures are not cached.
+   *
+   * @param spec the unit specification, eg "m/s"
+   * @return the parsed Unit, possibly shared with other callers
+   * @throws UnitException if the spec cannot be parsed
+   */
+  public static Unit parse(String spec) throws UnitException {
+    UnitFormat current = UnitFormatManager.instance();
+    synchronized (units) {
+      if (current != format) { // the default format was replaced
+        units.clear();
+        format = current;
+      }
+      Unit result = units.get(spec);
+      if (result != null) return result;
+    }
+
+    Unit result = current.parse(spec); // dont hold the lock while parsing
+    synchronized (units) {
+      if (current == format)
+        units.put(spec, result);
+    }
+    return result;
+  }
+
+  /**
+   * Get a Converter between two units, using the cache.
+   * Affine conversions are compiled into an AffineConverter.
+   *
+   * @param fromUnit convert from this unit
+   * @param toUnit   convert to this unit
+   * @return Converter, possibly shared with other callers
+   * @throws ConversionException if the units are not compatible
+   */
+  public static Converter getConverter(Unit fromUnit, Unit toUnit) throws ConversionException {
+    Pair key = new Pair(fromUnit, toUnit);
+    synchronized (converters) {
+      Converter result = converters.get(key);
+      if (result != null) return result;
+    }
+
+    Converter result = AffineConverter.compile(fromUnit, toUnit, fromUnit.getConverterTo(toUnit));
+    synchronized (converters) {
+      converters.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Get a Converter between two unit specifications, using the caches.
+   *
+   * @param fromSpec convert from this unit
+   * @param toSpec   convert to this unit
+   * @return Converter, possibly shared with other callers
+   * @throws UnitException if either spec cannot be parsed, or the units are not compatible
+   */
+  public static Converter getConverter(String fromSpec, String toSpec) throws UnitException {
+    return getConverter(parse(fromSpec), parse(toSpec));
+  }
+
+  /**
+   * Convert values in place.
+   *
+   * @param fromSpec convert from this unit
+   * @param toSpec   convert to this unit
+   * @param values   values in fromSpec units; on return, in toSpec units
+   * @return values
+   * @throws UnitException if either spec cannot be parsed, or the units are not compatible
+   */
+  public static double[] convert(String fromSpec, String toSpec, double[] values) throws UnitException {
+    return getConverter(fromSpec, toSpec).convert(values, values);
+  }
+
+  /**
+   * Convert values in place.
+   *
+   * @param fromSpec convert from this unit
+   * @param toSpec   convert to this unit
+   * @param values   values in fromSpec units; on return, in toSpec units
+   * @return values
+   * @throws UnitException if either spec cannot be parsed, or the units are not compatible
+   */
+  public static float[] convert(String fromSpec, String toSpec, float[] values) throws UnitException {
+    return getConverter(fromSpec, toSpec).convert(values, values);
+  }
+
+  /**
+   * Discard everything in the caches.
+   */
+  public static void clear() {
+    synchronized (units) {
+      units.clear();
+    }
+    synchronized (converters) {
+      converters.clear();
+    }
+  }
+
+  /**
+   * Change the maximum sizes of the caches.
+   *
+   * @param maxUnits      maximum number of parsed units to keep
+   * @param maxConverters maximum number of converters to keep
+   */
+  public static void setMaxSize(int maxUnits, int maxConverters) {
+    synchronized (units) {
+      units.setMax(maxUnits);
+    }
+    synchronized (converters) {
+      converters.setMax(maxConverters);
+    }
+  }
+
+  static int getUnitCacheSize() {
+    synchronized (units) {
+      return units.size();
+    }
+  }
+
+  // least recently used map; caller synchronizes
+  private static class Lru<K, V> extends LinkedHashMap<K, V> {
+    private int max;
+
+    Lru(int max) {
+      super(16, 0.75f, true);
+      this.max = max;
+    }
+
+    void setMax(int max) {
+      this.max = max;
+      while (size() > max)
+        remove(keySet().iterator().next());
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > max;
+    }
+  }
+
+  private static class Pair {
+    private final Unit from, to;
+
+    Pair(Unit from, Unit to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Pair)) return false;
+      Pair that = (Pair) o;
+      return from.equals(that.from) && to.equals(that.to);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * from.hashCode() + to.hashCode();
+    }
+  }
+}
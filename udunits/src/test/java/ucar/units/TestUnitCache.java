@@ -0,0 +1,81 @@
+/* Copyright */
+package ucar.units;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test UnitCache and AffineConverter against the uncached conversions.
+ *
+ * @author caron
+ * @since 10/18/2026
+ */
+public class TestUnitCache {
+
+  private void compare(String from, String to, boolean affine) throws UnitException {
+    Unit fromUnit = UnitFormatManager.instance().parse(from);
+    Unit toUnit = UnitFormatManager.instance().parse(to);
+    Converter want = fromUnit.getConverterTo(toUnit);
+    Converter have = UnitCache.getConverter(from, to);
+    Assert.assertEquals(from + " -> " + to, affine, have instanceof AffineConverter);
+    Assert.assertSame(have, UnitCache.getConverter(from, to));
+
+    double[] values = new double[]{0.0, 1.0, -1.0, 17.5, 273.15, 1.0e5, 3.0e-3};
+    double[] inPlace = values.clone();
+    UnitCache.convert(from, to, inPlace);
+    for (int i = 0; i < values.length; i++) {
+      double expect = want.convert(values[i]);
+      Assert.assertEquals(from + " -> " + to, expect, have.convert(values[i]), 1.0e-12 * Math.max(1.0, Math.abs(expect)));
+      Assert.assertEquals(from + " -> " + to, expect, inPlace[i], 1.0e-12 * Math.max(1.0, Math.abs(expect)));
+    }
+
+    float[] fvalues = new float[]{0.0f, 1.0f, 17.5f, 300.0f};
+    float[] fexpect = want.convert(fvalues);
+    UnitCache.convert(from, to, fvalues);
+    for (int i = 0; i < fvalues.length; i++) {
+      float expect = fexpect[i];
+      Assert.assertEquals(from + " -> " + to, expect, fvalues[i], 1.0e-5 * Math.max(1.0, Math.abs(expect)));
+    }
+  }
+
+  @Test
+  public void testConverters() throws UnitException {
+    compare("m/s", "knot", true);
+    compare("celsius", "fahrenheit", true);
+    compare("K", "degC", true);
+    compare("hPa", "Pa", true);
+    compare("days since 1970-01-01", "hours since 2000-01-01 12:00", true);
+    compare("m", "m", true);
+  }
+
+  @Test
+  public void testParse() throws UnitException {
+    Unit u1 = UnitCache.parse("kg m-2 s-1");
+    Assert.assertSame(u1, UnitCache.parse("kg m-2 s-1"));
+    Assert.assertEquals(UnitFormatManager.instance().parse("kg m-2 s-1"), u1);
+
+    try {
+      UnitCache.parse("m/s/)(");
+      Assert.fail();
+    } catch (UnitException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testBounded() throws UnitException {
+    UnitCache.setMaxSize(10, 10);
+    try {
+      for (int i = 0; i < 50; i++)
+        UnitCache.parse((i + 1) + " m");
+      Assert.assertEquals(10, UnitCache.getUnitCacheSize());
+    } finally {
+      UnitCache.setMaxSize(UnitCache.DEFAULT_MAX_UNITS, UnitCache.DEFAULT_MAX_CONVERTERS);
+    }
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testIncompatible() throws UnitException {
+    UnitCache.getConverter("m", "s");
+  }
+}
@@ -67,6 +67,7 @@ import ucar.nc2.NetcdfFileWriter;
 import ucar.nc2.Structure;
 import ucar.nc2.Variable;
 import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.iosp.hdf5.H5iospWriter;
 import ucar.nc2.jni.netcdf.Nc4Iosp;
 import ucar.nc2.ncml.NcMLWriter;
 import ucar.nc2.stream.NcStreamWriter;
@@ -233,9 +234,13 @@ public class DatasetWriter extends JPanel {
     }
 
     if (data.version.isNetdf4format()) {
-      if (!Nc4Iosp.isClibraryPresent()) {
-        JOptionPane.showMessageDialog(this, "NetCDF-4 C library is not loaded");
-        return;
+      if (!Nc4Iosp.isClibraryPresent()) {  // pure java writer only does the classic model
+        for (Variable v : ds.getVariables()) {
+          if (!H5iospWriter.isSupported(v.getDataType())) {
+            JOptionPane.showMessageDialog(this, "NetCDF-4 C library is not loaded, cannot write " + v.getDataType() + " variable " + v.getFullName());
+            return;
+          }
+        }
       }
     }
 